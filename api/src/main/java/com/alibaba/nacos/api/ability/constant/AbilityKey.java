@@ -37,6 +37,18 @@ public enum AbilityKey {
     SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC("supportPersistentInstanceByGrpc",
             "support persistent instance by grpc", AbilityMode.SERVER),
     
+    /**
+     * Server support decode and encode the body of grpc payload with binary codec.
+     */
+    SERVER_SUPPORT_BINARY_PAYLOAD("supportBinaryPayload", "support binary codec for body of grpc payload",
+            AbilityMode.SERVER),
+    
+    /**
+     * Server support query the contents of a batch of configs in one request.
+     */
+    SERVER_SUPPORT_BATCH_CONFIG_QUERY("supportBatchConfigQuery", "support query a batch of configs in one request",
+            AbilityMode.SERVER),
+    
     /**
      * For Test temporarily.
      */
@@ -47,6 +59,24 @@ public enum AbilityKey {
      */
     SERVER_TEST_2("test_2", "just for junit test", AbilityMode.SERVER),
     
+    /**
+     * Sdk client support apply the delta (incremental) push of service instances.
+     */
+    SDK_CLIENT_SUPPORT_DELTA_PUSH("supportDeltaPush", "support apply delta push of service instances",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support decode and encode the body of grpc payload with binary codec.
+     */
+    SDK_CLIENT_SUPPORT_BINARY_PAYLOAD("supportBinaryPayload", "support binary codec for body of grpc payload",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support handle batched config change notify request.
+     */
+    SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY("supportBatchConfigChangeNotify",
+            "support handle batched config change notify request", AbilityMode.SDK_CLIENT),
+    
     /**
      * For Test temporarily.
      */
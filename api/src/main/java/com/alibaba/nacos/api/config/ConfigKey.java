@@ -0,0 +1,80 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Identity of a config in the namespace of a {@link ConfigService}, used by the bulk operations.
+ *
+ * @author Nacos
+ */
+public class ConfigKey implements Serializable {
+    
+    private static final long serialVersionUID = -3826164535018627465L;
+    
+    private String dataId;
+    
+    private String group;
+    
+    public ConfigKey() {
+    }
+    
+    public ConfigKey(String dataId, String group) {
+        this.dataId = dataId;
+        this.group = group;
+    }
+    
+    public String getDataId() {
+        return dataId;
+    }
+    
+    public void setDataId(String dataId) {
+        this.dataId = dataId;
+    }
+    
+    public String getGroup() {
+        return group;
+    }
+    
+    public void setGroup(String group) {
+        this.group = group;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ConfigKey configKey = (ConfigKey) o;
+        return Objects.equals(dataId, configKey.dataId) && Objects.equals(group, configKey.group);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(dataId, group);
+    }
+    
+    @Override
+    public String toString() {
+        return "ConfigKey{" + "dataId='" + dataId + '\'' + ", group='" + group + '\'' + '}';
+    }
+}
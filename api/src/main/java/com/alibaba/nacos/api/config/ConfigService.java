@@ -20,6 +20,10 @@ import com.alibaba.nacos.api.config.filter.IConfigFilter;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.exception.NacosException;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Config Service Interface.
  *
@@ -38,6 +42,36 @@ public interface ConfigService {
      */
     String getConfig(String dataId, String group, long timeoutMs) throws NacosException;
     
+    /**
+     * Get config asynchronously.
+     *
+     * <p>The same as {@link #getConfig(String, String, long)}, but the caller thread is not blocked while waiting for
+     * the server. The future is completed in the callback thread of the client, so the heavy work depending on it
+     * should be executed in other executors.
+     *
+     * @param dataId    dataId
+     * @param group     group
+     * @param timeoutMs read timeout
+     * @return future of config value, completed exceptionally with {@link NacosException} if failed
+     * @since 2.4.3
+     */
+    CompletableFuture<String> getConfigAsync(String dataId, String group, long timeoutMs);
+    
+    /**
+     * Get a batch of configs.
+     *
+     * <p>The configs in the same group are got from server by batch requests instead of one by one. As the same as
+     * {@link #getConfig(String, String, long)}, the failover content is used first if exists, and the snapshot is used
+     * if fail to get the config from server, so the failure of some configs doesn't affect the others.
+     *
+     * @param configKeys keys of configs
+     * @param timeoutMs  read timeout of each batch request
+     * @return config key -> config value, the value is null if the config does not exist
+     * @throws NacosException NacosException
+     * @since 2.4.3
+     */
+    Map<ConfigKey, String> getConfigs(Collection<ConfigKey> configKeys, long timeoutMs) throws NacosException;
+    
     /**
      * Get config and register Listener.
      *
@@ -56,6 +90,20 @@ public interface ConfigService {
     String getConfigAndSignListener(String dataId, String group, long timeoutMs, Listener listener)
             throws NacosException;
     
+    /**
+     * Get config and register Listener asynchronously, the same as {@link #getConfigAndSignListener(String, String,
+     * long, Listener)} but the caller thread is not blocked while waiting for the server.
+     *
+     * @param dataId    dataId
+     * @param group     group
+     * @param timeoutMs read timeout
+     * @param listener  {@link Listener}
+     * @return future of config value, completed exceptionally with {@link NacosException} if failed
+     * @since 2.4.3
+     */
+    CompletableFuture<String> getConfigAndSignListenerAsync(String dataId, String group, long timeoutMs,
+            Listener listener);
+    
     /**
      * Add a listener to the configuration, after the server modified the configuration, the client will use the
      * incoming listener callback. Recommended asynchronous processing, the application can implement the getExecutor
@@ -69,6 +117,17 @@ public interface ConfigService {
      */
     void addListener(String dataId, String group, Listener listener) throws NacosException;
     
+    /**
+     * Add listeners to a batch of configurations in one step, the same as calling {@link #addListener(String, String,
+     * Listener)} for each of them, but all the configurations are listened to the server in batch requests instead of
+     * one by one. Recommended when an application listens to a large number of configurations at startup.
+     *
+     * @param listeners listener of each config, the same listener can be used for multiple configs
+     * @throws NacosException NacosException
+     * @since 2.4.3
+     */
+    void addListeners(Map<ConfigKey, Listener> listeners) throws NacosException;
+    
     /**
      * Publish config.
      *
@@ -93,6 +152,18 @@ public interface ConfigService {
      */
     boolean publishConfig(String dataId, String group, String content, String type) throws NacosException;
     
+    /**
+     * Publish config asynchronously, the caller thread is not blocked while waiting for the server.
+     *
+     * @param dataId  dataId
+     * @param group   group
+     * @param content content
+     * @param type    config type {@link ConfigType}
+     * @return future of whether publish
+     * @since 2.4.3
+     */
+    CompletableFuture<Boolean> publishConfigAsync(String dataId, String group, String content, String type);
+    
     /**
      * Cas Publish config.
      *
@@ -129,6 +200,16 @@ public interface ConfigService {
      */
     boolean removeConfig(String dataId, String group) throws NacosException;
     
+    /**
+     * Remove config asynchronously, the caller thread is not blocked while waiting for the server.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @return future of whether remove, completed exceptionally with {@link NacosException} if failed
+     * @since 2.4.3
+     */
+    CompletableFuture<Boolean> removeConfigAsync(String dataId, String group);
+    
     /**
      * Remove listener.
      *
@@ -0,0 +1,57 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request to query the contents of a batch of configs in the same group.
+ *
+ * <p>The configs are queried one by one by the server with the same permission checks as {@link ConfigQueryRequest},
+ * so the configs are limited in one group to keep the security headers of the request valid for all of them.
+ *
+ * @author Nacos
+ */
+public class ConfigBatchQueryRequest extends AbstractConfigRequest {
+    
+    private List<String> dataIds = new ArrayList<>();
+    
+    /**
+     * request builder.
+     *
+     * @param dataIds dataIds
+     * @param group   group
+     * @param tenant  tenant
+     * @return ConfigBatchQueryRequest instance.
+     */
+    public static ConfigBatchQueryRequest build(List<String> dataIds, String group, String tenant) {
+        ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+        request.setDataIds(dataIds);
+        request.setGroup(group);
+        request.setTenant(tenant);
+        return request;
+    }
+    
+    public List<String> getDataIds() {
+        return dataIds;
+    }
+    
+    public void setDataIds(List<String> dataIds) {
+        this.dataIds = dataIds;
+    }
+}
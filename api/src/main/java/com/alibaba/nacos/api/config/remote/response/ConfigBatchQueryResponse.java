@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.response;
+
+import com.alibaba.nacos.api.remote.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response of {@link com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest}.
+ *
+ * <p>The query responses are in the same order as the dataIds of request. Each of them has its own result code, so
+ * the failure of some configs doesn't affect the others.
+ *
+ * @author Nacos
+ */
+public class ConfigBatchQueryResponse extends Response {
+    
+    private List<ConfigQueryResponse> configQueryResponses = new ArrayList<>();
+    
+    public ConfigBatchQueryResponse() {
+    }
+    
+    public void addConfigQueryResponse(ConfigQueryResponse configQueryResponse) {
+        configQueryResponses.add(configQueryResponse);
+    }
+    
+    public List<ConfigQueryResponse> getConfigQueryResponses() {
+        return configQueryResponses;
+    }
+    
+    public void setConfigQueryResponses(List<ConfigQueryResponse> configQueryResponses) {
+        this.configQueryResponses = configQueryResponses;
+    }
+}
@@ -16,9 +16,12 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 
+import java.util.List;
+
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 
 /**
@@ -36,6 +39,21 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    /**
+     * Revision of the pushed service data, {@code 0} means the server does not support revision.
+     */
+    private long revision;
+    
+    /**
+     * Whether this request is a delta push. If {@code true}, the hosts of {@link #serviceInfo} only contains the added
+     * and modified instances, and {@link #removedHosts} contains the removed instances since {@link #baseRevision}.
+     */
+    private boolean deltaPush;
+    
+    private long baseRevision;
+    
+    private List<Instance> removedHosts;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -52,6 +70,37 @@ public class NotifySubscriberRequest extends ServerRequest {
         return new NotifySubscriberRequest(serviceInfo);
     }
     
+    /**
+     * Build full push request with revision.
+     *
+     * @param serviceInfo full service info
+     * @param revision    revision of service info
+     * @return notify subscriber request
+     */
+    public static NotifySubscriberRequest buildNotifySubscriberRequest(ServiceInfo serviceInfo, long revision) {
+        NotifySubscriberRequest result = new NotifySubscriberRequest(serviceInfo);
+        result.setRevision(revision);
+        return result;
+    }
+    
+    /**
+     * Build delta push request.
+     *
+     * @param changedServiceInfo service info which only contains added and modified instances
+     * @param removedHosts       removed instances
+     * @param baseRevision       revision which the delta based on
+     * @param revision           revision after applying the delta
+     * @return notify subscriber request
+     */
+    public static NotifySubscriberRequest buildDeltaNotifySubscriberRequest(ServiceInfo changedServiceInfo,
+            List<Instance> removedHosts, long baseRevision, long revision) {
+        NotifySubscriberRequest result = buildNotifySubscriberRequest(changedServiceInfo, revision);
+        result.setDeltaPush(true);
+        result.setBaseRevision(baseRevision);
+        result.setRemovedHosts(removedHosts);
+        return result;
+    }
+    
     public ServiceInfo getServiceInfo() {
         return serviceInfo;
     }
@@ -84,4 +133,36 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.groupName = groupName;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public boolean isDeltaPush() {
+        return deltaPush;
+    }
+    
+    public void setDeltaPush(boolean deltaPush) {
+        this.deltaPush = deltaPush;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+    
+    public void setRemovedHosts(List<Instance> removedHosts) {
+        this.removedHosts = removedHosts;
+    }
+    
 }
@@ -33,4 +33,14 @@ class ServerAbilitiesTest {
     void testSupportPersistentInstanceByGrpcAbilities() {
         assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC));
     }
+    
+    @Test
+    void testSupportBinaryPayloadAbilities() {
+        assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_BINARY_PAYLOAD));
+    }
+    
+    @Test
+    void testSupportBatchConfigQueryAbilities() {
+        assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY));
+    }
 }
\ No newline at end of file
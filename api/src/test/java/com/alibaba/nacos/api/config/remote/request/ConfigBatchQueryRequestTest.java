@@ -0,0 +1,57 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigBatchQueryRequestTest extends BasedConfigRequestTest {
+    
+    @Override
+    @Test
+    public void testSerialize() throws JsonProcessingException {
+        ConfigBatchQueryRequest request = ConfigBatchQueryRequest.build(Arrays.asList(DATA_ID, "test_data2"), GROUP,
+                TENANT);
+        request.putAllHeader(HEADERS);
+        final String requestId = injectRequestUuId(request);
+        String json = mapper.writeValueAsString(request);
+        assertTrue(json.contains("\"dataIds\":[\"test_data\",\"test_data2\"]"));
+        assertTrue(json.contains("\"group\":\"" + GROUP));
+        assertTrue(json.contains("\"tenant\":\"" + TENANT));
+        assertTrue(json.contains("\"module\":\"" + Constants.Config.CONFIG_MODULE));
+        assertTrue(json.contains("\"requestId\":\"" + requestId));
+    }
+    
+    @Override
+    @Test
+    public void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{\"header1\":\"test_header1\"},\"dataIds\":[\"test_data\",\"test_data2\"],"
+                + "\"group\":\"group\",\"tenant\":\"test_tenant\",\"module\":\"config\"}";
+        ConfigBatchQueryRequest actual = mapper.readValue(json, ConfigBatchQueryRequest.class);
+        assertEquals(Arrays.asList(DATA_ID, "test_data2"), actual.getDataIds());
+        assertEquals(GROUP, actual.getGroup());
+        assertEquals(TENANT, actual.getTenant());
+        assertEquals(Constants.Config.CONFIG_MODULE, actual.getModule());
+        assertEquals(HEADER_VALUE, actual.getHeader(HEADER_KEY));
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -25,7 +26,10 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+import java.util.Collections;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NotifySubscriberRequestTest {
@@ -57,6 +61,30 @@ class NotifySubscriberRequestTest {
         assertTrue(json.contains("\"serviceInfo\":{"));
     }
     
+    @Test
+    void testSerializeDelta() throws JsonProcessingException {
+        ServiceInfo serviceInfo = new ServiceInfo(GROUP + "@@" + SERVICE);
+        Instance removed = new Instance();
+        removed.setIp("1.1.1.1");
+        removed.setPort(8848);
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(serviceInfo,
+                Collections.singletonList(removed), 1L, 2L);
+        request.setServiceName(SERVICE);
+        request.setGroupName(GROUP);
+        request.setNamespace(NAMESPACE);
+        String json = mapper.writeValueAsString(request);
+        checkSerializeBasedInfo(json);
+        assertTrue(json.contains("\"deltaPush\":true"));
+        assertTrue(json.contains("\"baseRevision\":1"));
+        assertTrue(json.contains("\"revision\":2"));
+        assertTrue(json.contains("\"removedHosts\":[{"));
+        NotifySubscriberRequest actual = mapper.readValue(json, NotifySubscriberRequest.class);
+        assertTrue(actual.isDeltaPush());
+        assertEquals(1L, actual.getBaseRevision());
+        assertEquals(2L, actual.getRevision());
+        assertEquals("1.1.1.1", actual.getRemovedHosts().get(0).getIp());
+    }
+    
     @Test
     void testDeserialize() throws JsonProcessingException {
         String json = "{\"headers\":{},\"namespace\":\"namespace\",\"serviceName\":\"service\",\"groupName\":\"group\","
@@ -66,6 +94,8 @@ class NotifySubscriberRequestTest {
         NotifySubscriberRequest actual = mapper.readValue(json, NotifySubscriberRequest.class);
         checkRequestBasedInfo(actual);
         assertEquals(GROUP + "@@" + SERVICE, actual.getServiceInfo().getKey());
+        assertFalse(actual.isDeltaPush());
+        assertEquals(0L, actual.getRevision());
     }
     
     private void checkRequestBasedInfo(NotifySubscriberRequest request) {
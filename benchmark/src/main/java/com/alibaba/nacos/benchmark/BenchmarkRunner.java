@@ -0,0 +1,63 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entrance of running the benchmarks, the results are written as json so that they can be compared between runs.
+ *
+ * <p>Usage: {@code BenchmarkRunner [include regex] [result file]}, runs all benchmarks into
+ * {@code target/jmh-result.json} by default.
+ *
+ * @author Nacos
+ */
+public class BenchmarkRunner {
+    
+    private static final String DEFAULT_INCLUDE = ".*";
+    
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+    
+    /**
+     * Run benchmarks which match the include regex and write the results to result file as json.
+     *
+     * @param include    regex of benchmarks to run
+     * @param resultFile result file path
+     * @throws RunnerException if running benchmark failed
+     */
+    public static void run(String include, String resultFile) throws RunnerException {
+        new Runner(new OptionsBuilder().include(include).resultFormat(ResultFormatType.JSON).result(resultFile)
+                .build()).run();
+    }
+    
+    /**
+     * Run benchmarks of the class and write the results to the default result file.
+     *
+     * @param benchmarkClass benchmark class
+     * @throws RunnerException if running benchmark failed
+     */
+    public static void run(Class<?> benchmarkClass) throws RunnerException {
+        run(benchmarkClass.getSimpleName(), DEFAULT_RESULT_FILE);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        run(args.length > 0 ? args[0] : DEFAULT_INCLUDE, args.length > 1 ? args[1] : DEFAULT_RESULT_FILE);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.benchmark.BenchmarkRunner;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of calculating md5 of config content by {@link MD5Utils#md5Hex}.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Md5UtilsBenchmark {
+    
+    @Param({"64", "1024", "16384"})
+    private int length;
+    
+    private String content;
+    
+    private byte[] bytes;
+    
+    /**
+     * Build the content with {@link #length} characters.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        content = builder.toString();
+        bytes = content.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    @Benchmark
+    public String md5HexString() {
+        return MD5Utils.md5Hex(content, Constants.ENCODE);
+    }
+    
+    @Benchmark
+    public String md5HexBytes() throws NoSuchAlgorithmException {
+        return MD5Utils.md5Hex(bytes);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.run(Md5UtilsBenchmark.class);
+    }
+}
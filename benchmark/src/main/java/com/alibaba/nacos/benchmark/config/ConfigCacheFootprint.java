@@ -0,0 +1,59 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memory footprint of the config cache, reports the retained bytes per config of the cache items.
+ *
+ * <p>Usage: {@code java -cp nacos-benchmark.jar com.alibaba.nacos.benchmark.config.ConfigCacheFootprint [count]}.
+ *
+ * @author Nacos
+ */
+public class ConfigCacheFootprint {
+    
+    private static final int DEFAULT_COUNT = 100000;
+    
+    /**
+     * Build the cache items the same as dumping formal configs, and measure the retained size of the cache.
+     *
+     * @param args the first arg is the count of configs, default is {@value DEFAULT_COUNT}
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+        Map<String, CacheItem> cache = new ConcurrentHashMap<>(count);
+        for (int i = 0; i < count; i++) {
+            String groupKey = GroupKey2.getKey("dataId-" + i, "DEFAULT_GROUP", "public");
+            CacheItem item = new CacheItem(groupKey);
+            item.getConfigCache().setMd5Utf8(MD5Utils.md5Hex("content-" + i, "UTF-8"));
+            item.getConfigCache().setLastModifiedTs(System.currentTimeMillis());
+            item.setType("text");
+            cache.put(item.getGroupKey(), item);
+        }
+        GraphLayout layout = GraphLayout.parseInstance(cache);
+        System.out.println(layout.toFootprint());
+        System.out.printf("configs: %d, total bytes: %d, bytes per config: %d%n", count, layout.totalSize(),
+                layout.totalSize() / count);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.benchmark.BenchmarkRunner;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of dumping configs into {@link ConfigCacheService} and checking whether the md5 of client is up to date.
+ *
+ * <p>{@code dumpUnchanged} dumps the same content again, which is the most case of the periodic full dump.
+ * {@code dumpChanged} dumps new content each time, which includes writing the disk and publishing the change event.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigCacheServiceBenchmark {
+    
+    private static final String GROUP = "DEFAULT_GROUP";
+    
+    private static final String TENANT = "public";
+    
+    private static final String TYPE = "properties";
+    
+    private static final String CONTENT = "key=value";
+    
+    @Param({"10000"})
+    private int count;
+    
+    private File nacosHome;
+    
+    private String[] dataIds;
+    
+    private String[] groupKeys;
+    
+    private String md5;
+    
+    private long lastModifiedTs;
+    
+    private int next;
+    
+    /**
+     * Dump {@link #count} configs into the cache.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        nacosHome = Files.createTempDirectory("nacos-cache-benchmark").toFile();
+        EnvUtil.setNacosHomePath(nacosHome.getPath());
+        NotifyCenter.registerToPublisher(LocalDataChangeEvent.class, NotifyCenter.ringBufferSize);
+        dataIds = new String[count];
+        groupKeys = new String[count];
+        md5 = MD5Utils.md5Hex(CONTENT, Constants.ENCODE);
+        lastModifiedTs = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            dataIds[i] = "dataId-" + i;
+            groupKeys[i] = GroupKey2.getKey(dataIds[i], GROUP, TENANT);
+            ConfigCacheService.dump(dataIds[i], GROUP, TENANT, CONTENT, lastModifiedTs, TYPE, null);
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        FileUtils.deleteQuietly(nacosHome);
+    }
+    
+    @Benchmark
+    public boolean dumpUnchanged() {
+        next = (next + 1) % count;
+        return ConfigCacheService.dump(dataIds[next], GROUP, TENANT, CONTENT, lastModifiedTs, TYPE, null);
+    }
+    
+    /**
+     * Dump the next config with new content and newer last modified time.
+     */
+    @Benchmark
+    public boolean dumpChanged() {
+        next = (next + 1) % count;
+        long timestamp = ++lastModifiedTs;
+        return ConfigCacheService.dump(dataIds[next], GROUP, TENANT, CONTENT + timestamp, timestamp, TYPE, null);
+    }
+    
+    @Benchmark
+    public boolean isUptodate() {
+        next = (next + 1) % count;
+        return ConfigCacheService.isUptodate(groupKeys[next], md5);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.run(ConfigCacheServiceBenchmark.class);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.benchmark.BenchmarkRunner;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigRawDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigSegmentDiskService;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of reading config content from the raw disk files and the segment files.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigDiskServiceBenchmark {
+    
+    private static final String GROUP = "DEFAULT_GROUP";
+    
+    private static final String TENANT = "public";
+    
+    private static final int CONTENT_LINES = 20;
+    
+    @Param({"rawdisk", "segment"})
+    private String type;
+    
+    @Param({"10000"})
+    private int count;
+    
+    private File nacosHome;
+    
+    private ConfigDiskService diskService;
+    
+    private int next;
+    
+    /**
+     * Save {@link #count} configs to the disk service of {@link #type}.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        nacosHome = Files.createTempDirectory("nacos-disk-benchmark").toFile();
+        EnvUtil.setNacosHomePath(nacosHome.getPath());
+        diskService = "segment".equals(type) ? new ConfigSegmentDiskService() : new ConfigRawDiskService();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < CONTENT_LINES; i++) {
+            content.append("key").append(i).append("=value").append(i).append('\n');
+        }
+        for (int i = 0; i < count; i++) {
+            diskService.saveToDisk("dataId-" + i, GROUP, TENANT, content.toString());
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        FileUtils.deleteQuietly(nacosHome);
+    }
+    
+    @Benchmark
+    public String getContent() throws IOException {
+        next = (next + 1) % count;
+        return diskService.getContent("dataId-" + next, GROUP, TENANT);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.run(ConfigDiskServiceBenchmark.class);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.benchmark.BenchmarkRunner;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of building and parsing the group key of config by {@link GroupKey2}.
+ *
+ * <p>The escaped case uses the data id with {@code +} and {@code %}, which need to be escaped in group key.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GroupKeyBenchmark {
+    
+    private static final String GROUP = "DEFAULT_GROUP";
+    
+    private static final String TENANT = "public";
+    
+    @Param({"false", "true"})
+    private boolean escaped;
+    
+    private String dataId;
+    
+    private String groupKey;
+    
+    /**
+     * Build the data id and group key according to {@link #escaped}.
+     */
+    @Setup
+    public void setUp() {
+        dataId = escaped ? "com.alibaba.nacos+benchmark%config.properties" : "com.alibaba.nacos.benchmark.properties";
+        groupKey = GroupKey2.getKey(dataId, GROUP, TENANT);
+    }
+    
+    @Benchmark
+    public String getKey() {
+        return GroupKey2.getKey(dataId, GROUP, TENANT);
+    }
+    
+    @Benchmark
+    public String[] parseKey() {
+        return GroupKey2.parseKey(groupKey);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.run(GroupKeyBenchmark.class);
+    }
+}
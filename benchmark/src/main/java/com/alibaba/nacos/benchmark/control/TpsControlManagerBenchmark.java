@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.control;
+
+import com.alibaba.nacos.benchmark.BenchmarkRunner;
+import com.alibaba.nacos.plugin.control.tps.DefaultTpsControlManager;
+import com.alibaba.nacos.plugin.control.tps.MonitorType;
+import com.alibaba.nacos.plugin.control.tps.barrier.TpsBarrier;
+import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
+import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
+import com.alibaba.nacos.plugin.control.tps.rule.RuleDetail;
+import com.alibaba.nacos.plugin.control.tps.rule.TpsControlRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of checking the tps of requests by {@link DefaultTpsControlManager}.
+ *
+ * <p>{@code check} is the check of the default no limit manager. {@code checkBarrier} checks by the tps barrier
+ * registered in the manager with a monitor rule, which is the same path of the tps control plugin implementations.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class TpsControlManagerBenchmark {
+    
+    private static final String POINT_NAME = "BenchmarkPoint";
+    
+    private DefaultTpsControlManager tpsControlManager;
+    
+    private TpsBarrier tpsBarrier;
+    
+    /**
+     * Register the tps point with a monitor rule, the rule is applied before registering to avoid loading rule from
+     * the local disk.
+     */
+    @Setup
+    public void setUp() {
+        tpsControlManager = new DefaultTpsControlManager();
+        RuleDetail ruleDetail = new RuleDetail();
+        ruleDetail.setMaxCount(Long.MAX_VALUE);
+        ruleDetail.setPeriod(TimeUnit.SECONDS);
+        ruleDetail.setMonitorType(MonitorType.MONITOR.getType());
+        TpsControlRule rule = new TpsControlRule();
+        rule.setPointName(POINT_NAME);
+        rule.setPointRule(ruleDetail);
+        tpsControlManager.applyTpsRule(POINT_NAME, rule);
+        tpsControlManager.registerTpsPoint(POINT_NAME);
+        tpsBarrier = tpsControlManager.getPoints().get(POINT_NAME);
+    }
+    
+    @Benchmark
+    public TpsCheckResponse check() {
+        return tpsControlManager.check(newRequest());
+    }
+    
+    @Benchmark
+    public TpsCheckResponse checkBarrier() {
+        return tpsBarrier.applyTps(newRequest());
+    }
+    
+    private TpsCheckRequest newRequest() {
+        TpsCheckRequest result = new TpsCheckRequest(POINT_NAME, "connectionId", "127.0.0.1");
+        result.setTimestamp(System.currentTimeMillis());
+        result.setCount(1);
+        return result;
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.run(TpsControlManagerBenchmark.class);
+    }
+}
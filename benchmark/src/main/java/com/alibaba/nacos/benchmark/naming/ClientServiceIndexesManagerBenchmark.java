@@ -0,0 +1,106 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.benchmark.BenchmarkRunner;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of handling the client operation events by {@link ClientServiceIndexesManager}.
+ *
+ * <p>Each invocation handles a pair of events, so that the size of indexes is stable during the benchmark. The
+ * registering and deregistering also publish the service changed event, which is included in the result.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientServiceIndexesManagerBenchmark {
+    
+    @Param({"1000"})
+    private int serviceCount;
+    
+    private Service[] services;
+    
+    private ClientServiceIndexesManager indexesManager;
+    
+    private int next;
+    
+    /**
+     * Build {@link #serviceCount} services and register each of them by one client.
+     */
+    @Setup
+    public void setUp() {
+        NotifyCenter.registerToPublisher(ServiceEvent.ServiceChangedEvent.class,
+                NamingEventPublisherFactory.getInstance(), NotifyCenter.ringBufferSize);
+        indexesManager = new ClientServiceIndexesManager();
+        services = new Service[serviceCount];
+        for (int i = 0; i < serviceCount; i++) {
+            services[i] = Service.newService("public", "DEFAULT_GROUP", "benchmark-service-" + i);
+            indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(services[i], "client-" + i));
+        }
+    }
+    
+    /**
+     * Register and deregister a new client for the next service.
+     */
+    @Benchmark
+    public void registerAndDeregister() {
+        next = (next + 1) % serviceCount;
+        Service service = services[next];
+        indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, "benchmark-client"));
+        indexesManager.onEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(service, "benchmark-client"));
+    }
+    
+    /**
+     * Subscribe and unsubscribe the next service by a new client.
+     */
+    @Benchmark
+    public void subscribeAndUnsubscribe() {
+        next = (next + 1) % serviceCount;
+        Service service = services[next];
+        indexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(service, "benchmark-client"));
+        indexesManager.onEvent(new ClientOperationEvent.ClientUnsubscribeServiceEvent(service, "benchmark-client"));
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.run(ClientServiceIndexesManagerBenchmark.class);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.benchmark.BenchmarkRunner;
+import com.alibaba.nacos.naming.constants.Constants;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.utils.InstanceUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of parsing the published instance into api instance by {@link InstanceUtil#parseToApiInstance}.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstanceUtilBenchmark {
+    
+    @Param({"0", "8", "32"})
+    private int metadataSize;
+    
+    private Service service;
+    
+    private InstancePublishInfo instance;
+    
+    /**
+     * Build the published instance with {@link #metadataSize} metadata.
+     */
+    @Setup
+    public void setUp() {
+        service = Service.newService("public", "DEFAULT_GROUP", "benchmark-service");
+        instance = new InstancePublishInfo("192.168.0.1", 8848);
+        instance.setCluster("DEFAULT");
+        instance.setHealthy(true);
+        instance.getExtendDatum().put(Constants.PUBLISH_INSTANCE_WEIGHT, 1.0D);
+        instance.getExtendDatum().put(Constants.PUBLISH_INSTANCE_ENABLE, true);
+        for (int i = 0; i < metadataSize; i++) {
+            instance.getExtendDatum().put("key" + i, "value" + i);
+        }
+    }
+    
+    @Benchmark
+    public Instance parseToApiInstance() {
+        return InstanceUtil.parseToApiInstance(service, instance);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.run(InstanceUtilBenchmark.class);
+    }
+}
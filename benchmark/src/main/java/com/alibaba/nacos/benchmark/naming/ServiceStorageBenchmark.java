@@ -0,0 +1,133 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.benchmark.BenchmarkRunner;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of generating the push data of one service by {@link ServiceStorage#getPushData(Service)}.
+ *
+ * <p>{@code getPushDataUnchanged} generates the push data without any instance changed, {@code getPushDataChanged}
+ * changes the health status of one instance before each generation.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceStorageBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    private int instanceCount;
+    
+    private final Map<String, Client> clients = new HashMap<>(16);
+    
+    private Client[] clientArray;
+    
+    private Service service;
+    
+    private ServiceStorage serviceStorage;
+    
+    private int next;
+    
+    /**
+     * Register {@link #instanceCount} instances of different clients into the service.
+     */
+    @Setup
+    public void setUp() {
+        service = ServiceManager.getInstance()
+                .getSingleton(Service.newService("public", "DEFAULT_GROUP", "benchmark-service"));
+        ClientServiceIndexesManager indexesManager = new ClientServiceIndexesManager();
+        ClientManagerDelegate clientManager = new ClientManagerDelegate(null, null, null) {
+            @Override
+            public Client getClient(String clientId) {
+                return clients.get(clientId);
+            }
+        };
+        serviceStorage = new ServiceStorage(indexesManager, clientManager, new SwitchDomain(),
+                new NamingMetadataManager());
+        clientArray = new Client[instanceCount];
+        for (int i = 0; i < instanceCount; i++) {
+            Client client = new ConnectionBasedClient("client-" + i, true, 0L);
+            client.addServiceInstance(service, newInstance(i, true));
+            clients.put(client.getClientId(), client);
+            clientArray[i] = client;
+            indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, client.getClientId()));
+        }
+        serviceStorage.getPushData(service);
+    }
+    
+    private InstancePublishInfo newInstance(int index, boolean healthy) {
+        InstancePublishInfo result = new InstancePublishInfo("192.168." + index / 256 + "." + index % 256, 8848);
+        result.setCluster("DEFAULT");
+        result.setHealthy(healthy);
+        result.getExtendDatum().put("version", "1.0.0");
+        return result;
+    }
+    
+    @Benchmark
+    public ServiceInfo getPushDataUnchanged() {
+        return serviceStorage.getPushData(service);
+    }
+    
+    /**
+     * Change the health status of the next instance, then generate the push data.
+     */
+    @Benchmark
+    public ServiceInfo getPushDataChanged() {
+        next = (next + 1) % instanceCount;
+        Client client = clientArray[next];
+        boolean healthy = !client.getInstancePublishInfo(service).isHealthy();
+        client.addServiceInstance(service, newInstance(next, healthy));
+        return serviceStorage.getPushData(service);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.run(ServiceStorageBenchmark.class);
+    }
+}
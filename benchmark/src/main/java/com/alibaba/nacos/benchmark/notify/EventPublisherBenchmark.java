@@ -0,0 +1,114 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.notify;
+
+import com.alibaba.nacos.benchmark.BenchmarkRunner;
+import com.alibaba.nacos.common.notify.DefaultPublisher;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.EventPublisher;
+import com.alibaba.nacos.common.notify.RingBufferPublisher;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmark of publishing events by multiple producer threads with {@link DefaultPublisher} and
+ * {@link RingBufferPublisher}.
+ *
+ * <p>The result is events published per second. The subscriber only counts the events, so the result is bounded by
+ * the hand-off cost of the publishers.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class EventPublisherBenchmark {
+    
+    @Param({"default", "ring-buffer"})
+    private String type;
+    
+    @Param({"16384"})
+    private int bufferSize;
+    
+    private EventPublisher publisher;
+    
+    private final LongAdder received = new LongAdder();
+    
+    /**
+     * Create the publisher of {@link #type} with a counting subscriber.
+     */
+    @Setup
+    public void setUp() {
+        publisher = "ring-buffer".equals(type) ? new RingBufferPublisher() : new DefaultPublisher();
+        publisher.init(BenchmarkEvent.class, bufferSize);
+        publisher.addSubscriber(new Subscriber<BenchmarkEvent>() {
+            @Override
+            public void onEvent(BenchmarkEvent event) {
+                received.increment();
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return BenchmarkEvent.class;
+            }
+            
+            @Override
+            public boolean scopeMatches(BenchmarkEvent event) {
+                return true;
+            }
+        });
+    }
+    
+    @TearDown
+    public void tearDown() throws Exception {
+        publisher.shutdown();
+    }
+    
+    @Benchmark
+    public boolean publish() {
+        return publisher.publish(new BenchmarkEvent());
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.run(EventPublisherBenchmark.class);
+    }
+    
+    public static class BenchmarkEvent extends Event {
+        
+        private static final long serialVersionUID = -6546412381536427571L;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.notify;
+
+import com.alibaba.nacos.benchmark.BenchmarkRunner;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.SlowEvent;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmark of publishing events by {@link NotifyCenter#publishEvent(Event)}.
+ *
+ * <p>Different from {@link EventPublisherBenchmark}, the result includes the cost of finding the publisher of the
+ * event in {@link NotifyCenter}, both for the normal event and the slow event which uses the share publisher.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotifyCenterBenchmark {
+    
+    private final LongAdder received = new LongAdder();
+    
+    private SmartSubscriber subscriber;
+    
+    /**
+     * Register a counting subscriber of the benchmark events.
+     */
+    @Setup
+    public void setUp() {
+        subscriber = new SmartSubscriber() {
+            @Override
+            public List<Class<? extends Event>> subscribeTypes() {
+                return Arrays.asList(BenchmarkEvent.class, BenchmarkSlowEvent.class);
+            }
+            
+            @Override
+            public void onEvent(Event event) {
+                received.increment();
+            }
+        };
+        NotifyCenter.registerSubscriber(subscriber);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        NotifyCenter.deregisterSubscriber(subscriber);
+    }
+    
+    @Benchmark
+    public boolean publishEvent() {
+        return NotifyCenter.publishEvent(new BenchmarkEvent());
+    }
+    
+    @Benchmark
+    public boolean publishSlowEvent() {
+        return NotifyCenter.publishEvent(new BenchmarkSlowEvent());
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.run(NotifyCenterBenchmark.class);
+    }
+    
+    public static class BenchmarkEvent extends Event {
+        
+        private static final long serialVersionUID = 3286491723452412587L;
+    }
+    
+    public static class BenchmarkSlowEvent extends SlowEvent {
+        
+        private static final long serialVersionUID = -1570253934527614352L;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.remote;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.benchmark.BenchmarkRunner;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of json and binary codec for the body of grpc payload.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrpcPayloadCodecBenchmark {
+    
+    @Param({"false", "true"})
+    private boolean binary;
+    
+    @Param({"10", "1000"})
+    private int size;
+    
+    private NotifySubscriberRequest notifySubscriberRequest;
+    
+    private ConfigBatchListenRequest configBatchListenRequest;
+    
+    private ConfigQueryResponse configQueryResponse;
+    
+    private Payload notifySubscriberPayload;
+    
+    private Payload configBatchListenPayload;
+    
+    private Payload configQueryPayload;
+    
+    /**
+     * Build the requests and encoded payloads with {@link #size} instances, listen contexts or content length.
+     */
+    @Setup
+    public void setUp() {
+        PayloadRegistry.init();
+        notifySubscriberRequest = NotifySubscriberRequest.buildNotifySubscriberRequest(buildServiceInfo(), 1L);
+        notifySubscriberRequest.setRequestId("1");
+        configBatchListenRequest = new ConfigBatchListenRequest();
+        configBatchListenRequest.setRequestId("2");
+        for (int i = 0; i < size; i++) {
+            configBatchListenRequest.addConfigListenContext("DEFAULT_GROUP", "dataId-" + i, "public",
+                    "d41d8cd98f00b204e9800998ecf8427e");
+        }
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            content.append("key").append(i).append("=value").append(i).append('\n');
+        }
+        configQueryResponse = ConfigQueryResponse.buildSuccessResponse(content.toString());
+        configQueryResponse.setRequestId("3");
+        configQueryResponse.setMd5("d41d8cd98f00b204e9800998ecf8427e");
+        configQueryResponse.setContentType("properties");
+        configQueryResponse.setLastModified(System.currentTimeMillis());
+        notifySubscriberPayload = GrpcUtils.convert(notifySubscriberRequest, binary);
+        configBatchListenPayload = GrpcUtils.convert(configBatchListenRequest, binary);
+        configQueryPayload = GrpcUtils.convert(configQueryResponse, binary);
+    }
+    
+    private ServiceInfo buildServiceInfo() {
+        ServiceInfo result = new ServiceInfo("DEFAULT_GROUP@@benchmark.service", "DEFAULT");
+        List<Instance> hosts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Instance instance = new Instance();
+            instance.setIp("10.0." + (i / 256) + "." + (i % 256));
+            instance.setPort(8080);
+            instance.setClusterName("DEFAULT");
+            instance.setServiceName("DEFAULT_GROUP@@benchmark.service");
+            Map<String, String> metadata = new HashMap<>(4);
+            metadata.put("version", "1.0.0");
+            metadata.put("zone", "zone-" + (i % 3));
+            instance.setMetadata(metadata);
+            hosts.add(instance);
+        }
+        result.setHosts(hosts);
+        result.setLastRefTime(System.currentTimeMillis());
+        return result;
+    }
+    
+    @Benchmark
+    public Payload encodeNotifySubscriberRequest() {
+        return GrpcUtils.convert(notifySubscriberRequest, binary);
+    }
+    
+    @Benchmark
+    public Object decodeNotifySubscriberRequest() {
+        return GrpcUtils.parse(notifySubscriberPayload);
+    }
+    
+    @Benchmark
+    public Payload encodeConfigBatchListenRequest() {
+        return GrpcUtils.convert(configBatchListenRequest, binary);
+    }
+    
+    @Benchmark
+    public Object decodeConfigBatchListenRequest() {
+        return GrpcUtils.parse(configBatchListenPayload);
+    }
+    
+    @Benchmark
+    public Payload encodeConfigQueryResponse() {
+        return GrpcUtils.convert(configQueryResponse, binary);
+    }
+    
+    @Benchmark
+    public Object decodeConfigQueryResponse() {
+        return GrpcUtils.parse(configQueryPayload);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkRunner.run(GrpcPayloadCodecBenchmark.class);
+    }
+}
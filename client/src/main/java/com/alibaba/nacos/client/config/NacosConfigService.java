@@ -18,6 +18,7 @@ package com.alibaba.nacos.client.config;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.ConfigKey;
 import com.alibaba.nacos.api.config.ConfigService;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.filter.IConfigFilter;
@@ -40,8 +41,16 @@ import com.alibaba.nacos.client.utils.ValidatorUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Config Impl.
@@ -99,12 +108,41 @@ public class NacosConfigService implements ConfigService {
         return getConfigInner(namespace, dataId, group, timeoutMs);
     }
     
+    @Override
+    public CompletableFuture<String> getConfigAsync(String dataId, String group, long timeoutMs) {
+        return getConfigInnerAsync(namespace, dataId, group, timeoutMs);
+    }
+    
+    @Override
+    public Map<ConfigKey, String> getConfigs(Collection<ConfigKey> configKeys, long timeoutMs) throws NacosException {
+        return getConfigsInner(namespace, configKeys, timeoutMs);
+    }
+    
     @Override
     public String getConfigAndSignListener(String dataId, String group, long timeoutMs, Listener listener)
             throws NacosException {
         group = StringUtils.isBlank(group) ? Constants.DEFAULT_GROUP : group.trim();
         ConfigResponse configResponse = worker.getAgent()
                 .queryConfig(dataId, group, worker.getAgent().getTenant(), timeoutMs, false);
+        return signListenerWithContent(dataId, group, configResponse, listener);
+    }
+    
+    @Override
+    public CompletableFuture<String> getConfigAndSignListenerAsync(String dataId, String group, long timeoutMs,
+            Listener listener) {
+        String finalGroup = blank2defaultGroup(group);
+        return worker.getServerConfigAsync(dataId, finalGroup, worker.getAgent().getTenant(), timeoutMs)
+                .thenApply(configResponse -> {
+                    try {
+                        return signListenerWithContent(dataId, finalGroup, configResponse, listener);
+                    } catch (NacosException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+    
+    private String signListenerWithContent(String dataId, String group, ConfigResponse configResponse,
+            Listener listener) throws NacosException {
         String content = configResponse.getContent();
         String encryptedDataKey = configResponse.getEncryptedDataKey();
         worker.addTenantListenersWithContent(dataId, group, content, encryptedDataKey,
@@ -125,6 +163,11 @@ public class NacosConfigService implements ConfigService {
         worker.addTenantListeners(dataId, group, Collections.singletonList(listener));
     }
     
+    @Override
+    public void addListeners(Map<ConfigKey, Listener> listeners) throws NacosException {
+        worker.addTenantListeners(listeners);
+    }
+    
     @Override
     public boolean publishConfig(String dataId, String group, String content) throws NacosException {
         return publishConfig(dataId, group, content, ConfigType.getDefaultType().getType());
@@ -135,6 +178,11 @@ public class NacosConfigService implements ConfigService {
         return publishConfigInner(namespace, dataId, group, null, null, null, content, type, null);
     }
     
+    @Override
+    public CompletableFuture<Boolean> publishConfigAsync(String dataId, String group, String content, String type) {
+        return publishConfigInnerAsync(namespace, dataId, group, content, type);
+    }
+    
     @Override
     public boolean publishConfigCas(String dataId, String group, String content, String casMd5) throws NacosException {
         return publishConfigInner(namespace, dataId, group, null, null, null, content,
@@ -152,6 +200,17 @@ public class NacosConfigService implements ConfigService {
         return removeConfigInner(namespace, dataId, group, null);
     }
     
+    @Override
+    public CompletableFuture<Boolean> removeConfigAsync(String dataId, String group) {
+        String finalGroup = blank2defaultGroup(group);
+        try {
+            ParamUtils.checkKeyParam(dataId, finalGroup);
+        } catch (NacosException e) {
+            return failedFuture(e);
+        }
+        return worker.removeConfigAsync(dataId, finalGroup, namespace, null);
+    }
+    
     @Override
     public void removeListener(String dataId, String group, Listener listener) {
         worker.removeTenantListener(dataId, group, listener);
@@ -160,38 +219,20 @@ public class NacosConfigService implements ConfigService {
     private String getConfigInner(String tenant, String dataId, String group, long timeoutMs) throws NacosException {
         group = blank2defaultGroup(group);
         ParamUtils.checkKeyParam(dataId, group);
-        ConfigResponse cr = new ConfigResponse();
-        
-        cr.setDataId(dataId);
-        cr.setTenant(tenant);
-        cr.setGroup(group);
         
         // We first try to use local failover content if exists.
         // A config content for failover is not created by client program automatically,
         // but is maintained by user.
         // This is designed for certain scenario like client emergency reboot,
         // changing config needed in the same time, while nacos server is down.
-        String content = LocalConfigInfoProcessor.getFailover(worker.getAgentName(), dataId, group, tenant);
+        String content = getFailoverConfig(tenant, dataId, group);
         if (content != null) {
-            LOGGER.warn("[{}] [get-config] get failover ok, dataId={}, group={}, tenant={}",
-                    worker.getAgentName(), dataId, group, tenant);
-            cr.setContent(content);
-            String encryptedDataKey = LocalEncryptedDataKeyProcessor
-                    .getEncryptDataKeyFailover(agent.getName(), dataId, group, tenant);
-            cr.setEncryptedDataKey(encryptedDataKey);
-            configFilterChainManager.doFilter(null, cr);
-            content = cr.getContent();
             return content;
         }
         
         try {
             ConfigResponse response = worker.getServerConfig(dataId, group, tenant, timeoutMs, false);
-            cr.setContent(response.getContent());
-            cr.setEncryptedDataKey(response.getEncryptedDataKey());
-            configFilterChainManager.doFilter(null, cr);
-            content = cr.getContent();
-            
-            return content;
+            return filterConfig(tenant, dataId, group, response.getContent(), response.getEncryptedDataKey());
         } catch (NacosException ioe) {
             if (NacosException.NO_RIGHT == ioe.getErrCode()) {
                 throw ioe;
@@ -199,19 +240,147 @@ public class NacosConfigService implements ConfigService {
             LOGGER.warn("[{}] [get-config] get from server error, dataId={}, group={}, tenant={}, msg={}",
                     worker.getAgentName(), dataId, group, tenant, ioe.toString());
         }
-
-        content = LocalConfigInfoProcessor.getSnapshot(worker.getAgentName(), dataId, group, tenant);
+        
+        return getSnapshotConfig(tenant, dataId, group);
+    }
+    
+    /**
+     * Get config asynchronously with the same failover and snapshot semantics as {@link #getConfigInner(String,
+     * String, String, long)}. The local failover and snapshot are read in the caller and callback thread, and only
+     * the server query is asynchronous.
+     */
+    private CompletableFuture<String> getConfigInnerAsync(String tenant, String dataId, String group,
+            long timeoutMs) {
+        String finalGroup = blank2defaultGroup(group);
+        try {
+            ParamUtils.checkKeyParam(dataId, finalGroup);
+            String content = getFailoverConfig(tenant, dataId, finalGroup);
+            if (content != null) {
+                return CompletableFuture.completedFuture(content);
+            }
+        } catch (NacosException e) {
+            return failedFuture(e);
+        }
+        return worker.getServerConfigAsync(dataId, finalGroup, tenant, timeoutMs).handle(
+                (response, throwable) -> getConfigFromServerResponse(tenant, dataId, finalGroup, response,
+                        throwable));
+    }
+    
+    private String getConfigFromServerResponse(String tenant, String dataId, String group, ConfigResponse response,
+            Throwable throwable) {
+        NacosException error = null == throwable ? null : toNacosException(throwable);
+        if (null == error) {
+            try {
+                return filterConfig(tenant, dataId, group, response.getContent(), response.getEncryptedDataKey());
+            } catch (NacosException e) {
+                error = e;
+            }
+        }
+        if (NacosException.NO_RIGHT == error.getErrCode()) {
+            throw new CompletionException(error);
+        }
+        LOGGER.warn("[{}] [get-config] get from server error, dataId={}, group={}, tenant={}, msg={}",
+                worker.getAgentName(), dataId, group, tenant, error.toString());
+        try {
+            return getSnapshotConfig(tenant, dataId, group);
+        } catch (NacosException e) {
+            throw new CompletionException(e);
+        }
+    }
+    
+    private static NacosException toNacosException(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && null != throwable.getCause()
+                ? throwable.getCause() : throwable;
+        return cause instanceof NacosException ? (NacosException) cause
+                : new NacosException(NacosException.SERVER_ERROR, cause);
+    }
+    
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+    
+    private Map<ConfigKey, String> getConfigsInner(String tenant, Collection<ConfigKey> configKeys, long timeoutMs)
+            throws NacosException {
+        Map<ConfigKey, String> result = new HashMap<>(configKeys.size());
+        // group -> dataIds of the configs which need to get from server.
+        Map<String, Set<String>> serverDataIds = new HashMap<>(16);
+        for (ConfigKey each : configKeys) {
+            String group = blank2defaultGroup(each.getGroup());
+            ParamUtils.checkKeyParam(each.getDataId(), group);
+            String content = getFailoverConfig(tenant, each.getDataId(), group);
+            if (content != null) {
+                result.put(each, content);
+            } else {
+                serverDataIds.computeIfAbsent(group, key -> new LinkedHashSet<>()).add(each.getDataId());
+            }
+        }
+        
+        // configs are got by group, for the security headers of a batch request are built by group.
+        Map<String, Map<String, ConfigResponse>> serverConfigs = new HashMap<>(serverDataIds.size());
+        for (Map.Entry<String, Set<String>> entry : serverDataIds.entrySet()) {
+            try {
+                serverConfigs.put(entry.getKey(),
+                        worker.getServerConfigs(new ArrayList<>(entry.getValue()), entry.getKey(), tenant, timeoutMs));
+            } catch (NacosException ioe) {
+                if (NacosException.NO_RIGHT == ioe.getErrCode()) {
+                    throw ioe;
+                }
+                LOGGER.warn("[{}] [get-configs] get from server error, group={}, tenant={}, msg={}",
+                        worker.getAgentName(), entry.getKey(), tenant, ioe.toString());
+            }
+        }
+        
+        for (ConfigKey each : configKeys) {
+            if (result.containsKey(each)) {
+                continue;
+            }
+            String group = blank2defaultGroup(each.getGroup());
+            ConfigResponse response = serverConfigs.getOrDefault(group, Collections.emptyMap()).get(each.getDataId());
+            if (null != response) {
+                result.put(each, filterConfig(tenant, each.getDataId(), group, response.getContent(),
+                        response.getEncryptedDataKey()));
+            } else {
+                result.put(each, getSnapshotConfig(tenant, each.getDataId(), group));
+            }
+        }
+        return result;
+    }
+    
+    private String getFailoverConfig(String tenant, String dataId, String group) throws NacosException {
+        String content = LocalConfigInfoProcessor.getFailover(worker.getAgentName(), dataId, group, tenant);
+        if (content == null) {
+            return null;
+        }
+        LOGGER.warn("[{}] [get-config] get failover ok, dataId={}, group={}, tenant={}", worker.getAgentName(), dataId,
+                group, tenant);
+        String encryptedDataKey = LocalEncryptedDataKeyProcessor
+                .getEncryptDataKeyFailover(agent.getName(), dataId, group, tenant);
+        return filterConfig(tenant, dataId, group, content, encryptedDataKey);
+    }
+    
+    private String getSnapshotConfig(String tenant, String dataId, String group) throws NacosException {
+        String content = LocalConfigInfoProcessor.getSnapshot(worker.getAgentName(), dataId, group, tenant);
         if (content != null) {
             LOGGER.warn("[{}] [get-config] get snapshot ok, dataId={}, group={}, tenant={}",
                     worker.getAgentName(), dataId, group, tenant);
         }
-        cr.setContent(content);
         String encryptedDataKey = LocalEncryptedDataKeyProcessor
                 .getEncryptDataKeySnapshot(agent.getName(), dataId, group, tenant);
+        return filterConfig(tenant, dataId, group, content, encryptedDataKey);
+    }
+    
+    private String filterConfig(String tenant, String dataId, String group, String content, String encryptedDataKey)
+            throws NacosException {
+        ConfigResponse cr = new ConfigResponse();
+        cr.setDataId(dataId);
+        cr.setTenant(tenant);
+        cr.setGroup(group);
+        cr.setContent(content);
         cr.setEncryptedDataKey(encryptedDataKey);
         configFilterChainManager.doFilter(null, cr);
-        content = cr.getContent();
-        return content;
+        return cr.getContent();
     }
     
     private String blank2defaultGroup(String group) {
@@ -229,6 +398,30 @@ public class NacosConfigService implements ConfigService {
         group = blank2defaultGroup(group);
         ParamUtils.checkParam(dataId, group, content);
         
+        ConfigRequest cr = filterPublishConfig(tenant, dataId, group, content, type);
+        content = cr.getContent();
+        String encryptedDataKey = cr.getEncryptedDataKey();
+        
+        return worker
+                .publishConfig(dataId, group, tenant, appName, tag, betaIps, content, encryptedDataKey, casMd5, type);
+    }
+    
+    private CompletableFuture<Boolean> publishConfigInnerAsync(String tenant, String dataId, String group,
+            String content, String type) {
+        String finalGroup = blank2defaultGroup(group);
+        ConfigRequest cr;
+        try {
+            ParamUtils.checkParam(dataId, finalGroup, content);
+            cr = filterPublishConfig(tenant, dataId, finalGroup, content, type);
+        } catch (NacosException e) {
+            return failedFuture(e);
+        }
+        return worker.publishConfigAsync(dataId, finalGroup, tenant, null, null, null, cr.getContent(),
+                cr.getEncryptedDataKey(), null, type);
+    }
+    
+    private ConfigRequest filterPublishConfig(String tenant, String dataId, String group, String content, String type)
+            throws NacosException {
         ConfigRequest cr = new ConfigRequest();
         cr.setDataId(dataId);
         cr.setTenant(tenant);
@@ -236,11 +429,7 @@ public class NacosConfigService implements ConfigService {
         cr.setContent(content);
         cr.setType(type);
         configFilterChainManager.doFilter(cr, null);
-        content = cr.getContent();
-        String encryptedDataKey = cr.getEncryptedDataKey();
-        
-        return worker
-                .publishConfig(dataId, group, tenant, appName, tag, betaIps, content, encryptedDataKey, casMd5, type);
+        return cr;
     }
     
     @Override
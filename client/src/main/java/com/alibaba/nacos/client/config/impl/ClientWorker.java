@@ -17,22 +17,30 @@
 package com.alibaba.nacos.client.config.impl;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.ConfigKey;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchChangeNotifyResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigRemoveResponse;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.AbstractRequestCallBack;
 import com.alibaba.nacos.api.remote.RemoteConstants;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
@@ -88,16 +96,20 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.api.common.Constants.APP_CONN_PREFIX;
 import static com.alibaba.nacos.api.common.Constants.ENCODE;
@@ -123,10 +135,12 @@ public class ClientWorker implements Closeable {
     
     private static final String ENCRYPTED_DATA_KEY_PARAM = "encryptedDataKey";
     
+    private static final long DEFAULT_ASYNC_REQUEST_TIMEOUT = 3000L;
+    
     /**
      * groupKey -> cacheData.
      */
-    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new HashMap<>());
+    private final Map<String, CacheData> cacheMap = new ConcurrentHashMap<>(16);
     
     private final DefaultLabelsCollectorManager defaultLabelsCollectorManager = new DefaultLabelsCollectorManager();
     
@@ -175,6 +189,7 @@ public class ClientWorker implements Closeable {
             if (getCache(dataId, group) != cache) {
                 putCache(GroupKey.getKey(dataId, group), cache);
             }
+            agent.markDirty(cache);
             agent.notifyListenConfig();
         }
     }
@@ -202,11 +217,41 @@ public class ClientWorker implements Closeable {
             if (getCache(dataId, group, tenant) != cache) {
                 putCache(GroupKey.getKeyTenant(dataId, group, tenant), cache);
             }
+            agent.markDirty(cache);
             agent.notifyListenConfig();
         }
         
     }
     
+    /**
+     * Add listeners for a batch of configs of tenant.
+     *
+     * <p>The listen loop is only notified once after all the caches are added, so the configs are listened to the
+     * server by the batch listen request of each task, instead of being checked one by one.
+     *
+     * @param listeners listener of each config
+     * @throws NacosException nacos exception
+     */
+    public void addTenantListeners(Map<ConfigKey, ? extends Listener> listeners) throws NacosException {
+        String tenant = agent.getTenant();
+        for (Map.Entry<ConfigKey, ? extends Listener> entry : listeners.entrySet()) {
+            String dataId = entry.getKey().getDataId();
+            String group = blank2defaultGroup(entry.getKey().getGroup());
+            CacheData cache = addCacheDataIfAbsent(dataId, group, tenant);
+            synchronized (cache) {
+                cache.addListener(entry.getValue());
+                cache.setDiscard(false);
+                cache.setConsistentWithServer(false);
+                // ensure cache present in cacheMap
+                if (getCache(dataId, group, tenant) != cache) {
+                    putCache(GroupKey.getKeyTenant(dataId, group, tenant), cache);
+                }
+                agent.markDirty(cache);
+            }
+        }
+        agent.notifyListenConfig();
+    }
+    
     /**
      * Add listeners for tenant with content.
      *
@@ -234,6 +279,7 @@ public class ClientWorker implements Closeable {
             if (getCache(dataId, group, tenant) != cache) {
                 putCache(GroupKey.getKeyTenant(dataId, group, tenant), cache);
             }
+            agent.markDirty(cache);
             agent.notifyListenConfig();
         }
         
@@ -255,6 +301,7 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    agent.markDirty(cache);
                     agent.removeCache(dataId, group);
                 }
             }
@@ -279,6 +326,7 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    agent.markDirty(cache);
                     agent.removeCache(dataId, group);
                 }
             }
@@ -288,16 +336,15 @@ public class ClientWorker implements Closeable {
     void removeCache(String dataId, String group, String tenant) {
         String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            CacheData remove = copy.remove(groupKey);
+            CacheData remove = cacheMap.remove(groupKey);
             if (remove != null) {
                 decreaseTaskIdCount(remove.getTaskId());
             }
-            cacheMap.set(copy);
         }
+        agent.failoverFileWatcher.unwatch(groupKey);
         LOGGER.info("[{}] [unsubscribe] {}", agent.getName(), groupKey);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
     }
     
     /**
@@ -314,6 +361,19 @@ public class ClientWorker implements Closeable {
         return agent.removeConfig(dataId, group, tenant, tag);
     }
     
+    /**
+     * remove config asynchronously.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     * @param tag    tag.
+     * @return future of success or not.
+     */
+    public CompletableFuture<Boolean> removeConfigAsync(String dataId, String group, String tenant, String tag) {
+        return agent.removeConfigAsync(dataId, group, tenant, tag);
+    }
+    
     /**
      * publish config.
      *
@@ -335,6 +395,26 @@ public class ClientWorker implements Closeable {
                 type);
     }
     
+    /**
+     * publish config asynchronously.
+     *
+     * @param dataId  dataId.
+     * @param group   group.
+     * @param tenant  tenant.
+     * @param appName appName.
+     * @param tag     tag.
+     * @param betaIps betaIps.
+     * @param content content.
+     * @param casMd5  casMd5.
+     * @param type    type.
+     * @return future of success or not.
+     */
+    public CompletableFuture<Boolean> publishConfigAsync(String dataId, String group, String tenant, String appName,
+            String tag, String betaIps, String content, String encryptedDataKey, String casMd5, String type) {
+        return agent.publishConfigAsync(dataId, group, tenant, appName, tag, betaIps, content, encryptedDataKey, casMd5,
+                type);
+    }
+    
     /**
      * Add cache data if absent.
      *
@@ -365,14 +445,12 @@ public class ClientWorker implements Closeable {
                 cache.setTaskId(taskId);
             }
             
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.put(key, cache);
         }
         
         LOGGER.info("[{}] [subscribe] {}", this.agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -413,13 +491,11 @@ public class ClientWorker implements Closeable {
                 }
             }
             
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.put(key, cache);
         }
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -431,11 +507,7 @@ public class ClientWorker implements Closeable {
      * @param cache cache
      */
     private void putCache(String key, CacheData cache) {
-        synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
-        }
+        cacheMap.put(key, cache);
     }
     
     private void increaseTaskIdCount(int taskId) {
@@ -465,7 +537,7 @@ public class ClientWorker implements Closeable {
         if (null == dataId || null == group) {
             throw new IllegalArgumentException();
         }
-        return cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+        return cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
     }
     
     public ConfigResponse getServerConfig(String dataId, String group, String tenant, long readTimeout, boolean notify)
@@ -476,6 +548,35 @@ public class ClientWorker implements Closeable {
         return this.agent.queryConfig(dataId, group, tenant, readTimeout, notify);
     }
     
+    /**
+     * Get config from server asynchronously, the caller thread is not blocked while waiting for the server.
+     *
+     * @param dataId      dataId of config
+     * @param group       group of config
+     * @param tenant      tenant of config
+     * @param readTimeout read timeout
+     * @return future of config response
+     */
+    public CompletableFuture<ConfigResponse> getServerConfigAsync(String dataId, String group, String tenant,
+            long readTimeout) {
+        return this.agent.queryConfigAsync(dataId, blank2defaultGroup(group), tenant, readTimeout);
+    }
+    
+    /**
+     * Get a batch of configs in the same group from server.
+     *
+     * @param dataIds     dataIds of configs
+     * @param group       group of configs
+     * @param tenant      tenant of configs
+     * @param readTimeout read timeout
+     * @return dataId -> config response of the configs got successfully or not existed
+     * @throws NacosException nacos exception
+     */
+    public Map<String, ConfigResponse> getServerConfigs(List<String> dataIds, String group, String tenant,
+            long readTimeout) throws NacosException {
+        return this.agent.queryConfigs(dataIds, blank2defaultGroup(group), tenant, readTimeout);
+    }
+    
     private String blank2defaultGroup(String group) {
         return StringUtils.isBlank(group) ? Constants.DEFAULT_GROUP : group.trim();
     }
@@ -527,7 +628,7 @@ public class ClientWorker implements Closeable {
     
     Map<String, Object> getMetrics(List<ClientConfigMetricRequest.MetricsKey> metricsKeys) {
         Map<String, Object> metric = new HashMap<>(16);
-        metric.put("listenConfigSize", String.valueOf(this.cacheMap.get().size()));
+        metric.put("listenConfigSize", String.valueOf(this.cacheMap.size()));
         metric.put("clientVersion", VersionUtils.getFullClientVersion());
         metric.put("snapshotDir", LocalConfigInfoProcessor.LOCAL_SNAPSHOT_PATH);
         boolean isFixServer = agent.serverListManager.isFixed;
@@ -550,7 +651,7 @@ public class ClientWorker implements Closeable {
         Map<ClientConfigMetricRequest.MetricsKey, Object> values = new HashMap<>(16);
         for (ClientConfigMetricRequest.MetricsKey metricsKey : metricsKeys) {
             if (ClientConfigMetricRequest.MetricsKey.CACHE_DATA.equals(metricsKey.getType())) {
-                CacheData cacheData = cacheMap.get().get(metricsKey.getKey());
+                CacheData cacheData = cacheMap.get(metricsKey.getKey());
                 values.putIfAbsent(metricsKey,
                         cacheData == null ? null : cacheData.getContent() + ":" + cacheData.getMd5());
             }
@@ -602,6 +703,19 @@ public class ClientWorker implements Closeable {
          */
         private static final long ALL_SYNC_INTERNAL = 3 * 60 * 1000L;
         
+        /**
+         * max count of configs in one batch query request.
+         */
+        private static final int BATCH_QUERY_SIZE = 100;
+        
+        /**
+         * groupKey -> cacheData, the caches whose state changed and need to be checked in next listen execution.
+         */
+        private final Map<String, CacheData> dirtyCaches = new ConcurrentHashMap<>(16);
+        
+        private final FailoverFileWatcher failoverFileWatcher = new FailoverFileWatcher(
+                LocalConfigInfoProcessor.LOCAL_SNAPSHOT_PATH);
+        
         public ConfigRpcTransportClient(NacosClientProperties properties, ServerListManager serverListManager) {
             super(properties, serverListManager);
         }
@@ -634,10 +748,10 @@ public class ClientWorker implements Closeable {
                 
                 LOGGER.info("Shutdown executor {}", executor);
                 executor.shutdown();
-                Map<String, CacheData> stringCacheDataMap = cacheMap.get();
-                for (Map.Entry<String, CacheData> entry : stringCacheDataMap.entrySet()) {
-                    entry.getValue().setConsistentWithServer(false);
+                for (CacheData each : cacheMap.values()) {
+                    each.setConsistentWithServer(false);
                 }
+                failoverFileWatcher.close();
                 if (subscriber != null) {
                     NotifyCenter.deregisterSubscriber(subscriber);
                 }
@@ -670,21 +784,43 @@ public class ClientWorker implements Closeable {
             LOGGER.info("[{}] [server-push] config changed. dataId={}, group={},tenant={}", clientName,
                     configChangeNotifyRequest.getDataId(), configChangeNotifyRequest.getGroup(),
                     configChangeNotifyRequest.getTenant());
-            String groupKey = GroupKey.getKeyTenant(configChangeNotifyRequest.getDataId(),
-                    configChangeNotifyRequest.getGroup(), configChangeNotifyRequest.getTenant());
-            
-            CacheData cacheData = cacheMap.get().get(groupKey);
-            if (cacheData != null) {
-                synchronized (cacheData) {
-                    cacheData.getReceiveNotifyChanged().set(true);
-                    cacheData.setConsistentWithServer(false);
-                    notifyListenConfig();
-                }
-                
+            if (markReceiveNotifyChanged(configChangeNotifyRequest.getDataId(), configChangeNotifyRequest.getGroup(),
+                    configChangeNotifyRequest.getTenant())) {
+                notifyListenConfig();
             }
             return new ConfigChangeNotifyResponse();
         }
         
+        ConfigBatchChangeNotifyResponse handleConfigBatchChangeNotifyRequest(
+                ConfigBatchChangeNotifyRequest configBatchChangeNotifyRequest, String clientName) {
+            LOGGER.info("[{}] [server-push] batch config changed. changedConfigs={}", clientName,
+                    configBatchChangeNotifyRequest.getChangedConfigs());
+            boolean changed = false;
+            for (ConfigBatchChangeNotifyRequest.ConfigContext each : configBatchChangeNotifyRequest
+                    .getChangedConfigs()) {
+                changed |= markReceiveNotifyChanged(each.getDataId(), each.getGroup(), each.getTenant());
+            }
+            // notify listen config only once for the whole batch.
+            if (changed) {
+                notifyListenConfig();
+            }
+            return new ConfigBatchChangeNotifyResponse();
+        }
+        
+        private boolean markReceiveNotifyChanged(String dataId, String group, String tenant) {
+            String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
+            CacheData cacheData = cacheMap.get(groupKey);
+            if (cacheData == null) {
+                return false;
+            }
+            synchronized (cacheData) {
+                cacheData.getReceiveNotifyChanged().set(true);
+                cacheData.setConsistentWithServer(false);
+                dirtyCaches.put(groupKey, cacheData);
+            }
+            return true;
+        }
+        
         ClientConfigMetricResponse handleClientMetricsRequest(ClientConfigMetricRequest configMetricRequest) {
             ClientConfigMetricResponse response = new ClientConfigMetricResponse();
             response.setMetrics(getMetrics(configMetricRequest.getMetricsKeys()));
@@ -700,6 +836,10 @@ public class ClientWorker implements Closeable {
                     return handleConfigChangeNotifyRequest((ConfigChangeNotifyRequest) request,
                             rpcClientInner.getName());
                 }
+                if (request instanceof ConfigBatchChangeNotifyRequest) {
+                    return handleConfigBatchChangeNotifyRequest((ConfigBatchChangeNotifyRequest) request,
+                            rpcClientInner.getName());
+                }
                 return null;
             });
             
@@ -722,15 +862,17 @@ public class ClientWorker implements Closeable {
                 public void onDisConnect(Connection connection) {
                     String taskId = rpcClientInner.getLabels().get("taskId");
                     LOGGER.info("[{}] DisConnected,clear listen context...", rpcClientInner.getName());
-                    Collection<CacheData> values = cacheMap.get().values();
+                    Collection<CacheData> values = cacheMap.values();
                     
                     for (CacheData cacheData : values) {
                         if (StringUtils.isNotBlank(taskId)) {
                             if (Integer.valueOf(taskId).equals(cacheData.getTaskId())) {
                                 cacheData.setConsistentWithServer(false);
+                                markDirty(cacheData);
                             }
                         } else {
                             cacheData.setConsistentWithServer(false);
+                            markDirty(cacheData);
                         }
                     }
                 }
@@ -805,14 +947,79 @@ public class ClientWorker implements Closeable {
             listenExecutebell.offer(bellItem);
         }
         
+        /**
+         * Mark the cache as dirty, only the dirty caches are checked in the listen execution except the all sync.
+         *
+         * @param cacheData cache whose state changed, such as new listener, server notify or reconnect
+         */
+        void markDirty(CacheData cacheData) {
+            dirtyCaches.put(GroupKey.getKeyTenant(cacheData.dataId, cacheData.group, cacheData.tenant), cacheData);
+        }
+        
         @Override
         public void executeConfigListen() throws NacosException {
             
-            Map<String, List<CacheData>> listenCachesMap = new HashMap<>(16);
-            Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
             long now = System.currentTimeMillis();
             boolean needAllSync = now - lastAllSyncTime >= ALL_SYNC_INTERNAL;
-            for (CacheData cache : cacheMap.get().values()) {
+            Collection<CacheData> checkCaches = getCachesToCheck(needAllSync);
+            boolean hasChangedKeys;
+            try {
+                hasChangedKeys = checkCaches(checkCaches, needAllSync);
+            } finally {
+                // the caches which are not consistent with server yet should be checked again, such as the changed
+                // caches and the caches failed to listen or remove.
+                for (CacheData cache : checkCaches) {
+                    if (!cache.isConsistentWithServer() && !cache.isUseLocalConfigInfo()) {
+                        markDirty(cache);
+                    }
+                }
+            }
+            
+            if (needAllSync) {
+                lastAllSyncTime = now;
+            }
+            //If has changed keys,notify re sync md5.
+            if (hasChangedKeys) {
+                notifyListenConfig();
+            }
+        }
+        
+        /**
+         * Get the caches to check in this listen execution. All caches are checked for the all sync or when the
+         * failover files can't be watched, otherwise only the dirty caches and the caches whose failover file changed.
+         */
+        private Collection<CacheData> getCachesToCheck(boolean needAllSync) {
+            Map<String, CacheData> dirty = new HashMap<>(16);
+            Iterator<Map.Entry<String, CacheData>> iterator = dirtyCaches.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, CacheData> entry = iterator.next();
+                dirty.put(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+            if (needAllSync || !failoverFileWatcher.isAvailable()) {
+                return cacheMap.values();
+            }
+            for (String each : failoverFileWatcher.pollChangedKeys()) {
+                CacheData cache = cacheMap.get(each);
+                if (null != cache) {
+                    dirty.put(each, cache);
+                }
+            }
+            List<CacheData> result = new ArrayList<>(dirty.size());
+            for (Map.Entry<String, CacheData> entry : dirty.entrySet()) {
+                // ignore the caches which have been removed.
+                if (cacheMap.get(entry.getKey()) == entry.getValue()) {
+                    result.add(entry.getValue());
+                }
+            }
+            return result;
+        }
+        
+        private boolean checkCaches(Collection<CacheData> caches, boolean needAllSync) throws NacosException {
+            
+            Map<String, List<CacheData>> listenCachesMap = new HashMap<>(16);
+            Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
+            for (CacheData cache : caches) {
                 
                 synchronized (cache) {
                     
@@ -850,14 +1057,7 @@ public class ClientWorker implements Closeable {
             //execute check remove listen.
             checkRemoveListenCache(removeListenCachesMap);
             
-            if (needAllSync) {
-                lastAllSyncTime = now;
-            }
-            //If has changed keys,notify re sync md5.
-            if (hasChangedKeys) {
-                notifyListenConfig();
-            }
-            
+            return hasChangedKeys;
         }
         
         /**
@@ -874,6 +1074,7 @@ public class ClientWorker implements Closeable {
             
             // Check if a failover file exists for the specified dataId, group, and tenant.
             File file = LocalConfigInfoProcessor.getFailoverFile(envName, dataId, group, tenant);
+            failoverFileWatcher.watch(GroupKey.getKeyTenant(dataId, group, tenant), file);
             
             // If not using local config info and a failover file exists, load and use it.
             if (!cacheData.isUseLocalConfigInfo() && file.exists()) {
@@ -921,8 +1122,8 @@ public class ClientWorker implements Closeable {
         }
         
         private void refreshContentAndCheck(RpcClient rpcClient, String groupKey, boolean notify) {
-            if (cacheMap.get() != null && cacheMap.get().containsKey(groupKey)) {
-                CacheData cache = cacheMap.get().get(groupKey);
+            CacheData cache = cacheMap.get(groupKey);
+            if (null != cache) {
                 refreshContentAndCheck(rpcClient, cache, notify);
             }
         }
@@ -1031,7 +1232,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(changeConfig.getDataId(),
                                                 changeConfig.getGroup(), changeConfig.getTenant());
                                         changeKeys.add(changeKey);
-                                        boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                        boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                         refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                     }
                                     
@@ -1042,7 +1243,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(cacheData.dataId, cacheData.group,
                                                 cacheData.getTenant());
                                         if (!changeKeys.contains(changeKey)) {
-                                            boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                            boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                             refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                         }
                                     }
@@ -1090,13 +1291,7 @@ public class ClientWorker implements Closeable {
         
         private RpcClient ensureRpcClient(String taskId) throws NacosException {
             synchronized (ClientWorker.this) {
-                Map<String, String> labels = getLabels();
-                Map<String, String> newLabels = new HashMap<>(labels);
-                newLabels.put("taskId", taskId);
-                RpcClientTlsConfig clientTlsConfig = RpcClientTlsConfigFactory.getInstance()
-                        .createSdkConfig(properties);
-                RpcClient rpcClient = RpcClientFactory.createClient(uuid + "_config-" + taskId, getConnectionType(),
-                        newLabels, clientTlsConfig);
+                RpcClient rpcClient = createRpcClient(taskId);
                 if (rpcClient.isWaitInitiated()) {
                     initRpcClientHandler(rpcClient);
                     rpcClient.setTenant(getTenant());
@@ -1108,6 +1303,18 @@ public class ClientWorker implements Closeable {
             
         }
         
+        /**
+         * Create the rpc client of task if absent, the rpc client is not started.
+         */
+        private RpcClient createRpcClient(String taskId) {
+            Map<String, String> labels = getLabels();
+            Map<String, String> newLabels = new HashMap<>(labels);
+            newLabels.put("taskId", taskId);
+            RpcClientTlsConfig clientTlsConfig = RpcClientTlsConfigFactory.getInstance().createSdkConfig(properties);
+            return RpcClientFactory.createClient(uuid + "_config-" + taskId, getConnectionType(), newLabels,
+                    clientTlsConfig);
+        }
+        
         /**
          * build config string.
          *
@@ -1148,7 +1355,7 @@ public class ClientWorker implements Closeable {
                 throws NacosException {
             RpcClient rpcClient = getOneRunningClient();
             if (notify) {
-                CacheData cacheData = cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+                CacheData cacheData = cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
                 if (cacheData != null) {
                     rpcClient = ensureRpcClient(String.valueOf(cacheData.getTaskId()));
                 }
@@ -1164,7 +1371,114 @@ public class ClientWorker implements Closeable {
             request.putHeader(NOTIFY_HEADER, String.valueOf(notify));
             
             ConfigQueryResponse response = (ConfigQueryResponse) requestProxy(rpcClient, request, readTimeouts);
-            
+            return parseQueryResponse(dataId, group, tenant, response);
+        }
+        
+        /**
+         * Query config from server asynchronously, the snapshot is saved as the same as {@link #queryConfig(String,
+         * String, String, long, boolean)} when the response is received.
+         *
+         * @param dataId       dataId of config
+         * @param group        group of config
+         * @param tenant       tenant of config
+         * @param readTimeouts read timeout
+         * @return future of config response
+         */
+        public CompletableFuture<ConfigResponse> queryConfigAsync(String dataId, String group, String tenant,
+                long readTimeouts) {
+            ConfigQueryRequest request = ConfigQueryRequest.build(dataId, group, tenant);
+            request.putHeader(NOTIFY_HEADER, String.valueOf(false));
+            return requestProxyAsync(request, readTimeouts).thenApply(response -> {
+                try {
+                    return parseQueryResponse(dataId, group, tenant, (ConfigQueryResponse) response);
+                } catch (NacosException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+        
+        /**
+         * Query a batch of configs in the same group from server.
+         *
+         * <p>The configs are queried by batch query requests if the server supports, otherwise one by one. The configs
+         * failed to query are not contained in the result, except that the no right failure is thrown as the same as
+         * {@link #queryConfig(String, String, String, long, boolean)}.
+         *
+         * @param dataIds      dataIds of configs
+         * @param group        group of configs
+         * @param tenant       tenant of configs
+         * @param readTimeouts read timeout of each request
+         * @return dataId -> config response of the configs queried successfully or not existed
+         * @throws NacosException nacos exception
+         */
+        public Map<String, ConfigResponse> queryConfigs(List<String> dataIds, String group, String tenant,
+                long readTimeouts) throws NacosException {
+            RpcClient rpcClient = getOneRunningClient();
+            Map<String, ConfigResponse> result = new HashMap<>(dataIds.size());
+            if (rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY)
+                    != AbilityStatus.SUPPORTED) {
+                queryConfigsOneByOne(rpcClient, dataIds, group, tenant, readTimeouts, result);
+                return result;
+            }
+            for (int start = 0; start < dataIds.size(); start += BATCH_QUERY_SIZE) {
+                List<String> batch = new ArrayList<>(
+                        dataIds.subList(start, Math.min(start + BATCH_QUERY_SIZE, dataIds.size())));
+                ConfigBatchQueryResponse response;
+                try {
+                    response = (ConfigBatchQueryResponse) requestProxy(rpcClient,
+                            ConfigBatchQueryRequest.build(batch, group, tenant), readTimeouts);
+                } catch (NacosException e) {
+                    if (NacosException.NO_RIGHT == e.getErrCode()) {
+                        // permission may be granted to each config but not to the whole group.
+                        queryConfigsOneByOne(rpcClient, batch, group, tenant, readTimeouts, result);
+                    } else {
+                        // only the configs of this batch are not queried, keep the results of other batches.
+                        LOGGER.warn("[{}] [sub-server-error] batch query configs failed, group={}, tenant={}, msg={}",
+                                this.getName(), group, tenant, e.toString());
+                    }
+                    continue;
+                }
+                List<ConfigQueryResponse> queryResponses = response.getConfigQueryResponses();
+                if (null == queryResponses || queryResponses.size() != batch.size()) {
+                    LOGGER.warn("[{}] [sub-server-error] batch query configs got {} responses for {} configs, "
+                                    + "query one by one, group={}, tenant={}", this.getName(),
+                            null == queryResponses ? 0 : queryResponses.size(), batch.size(), group, tenant);
+                    queryConfigsOneByOne(rpcClient, batch, group, tenant, readTimeouts, result);
+                    continue;
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    if (null == queryResponses.get(i)) {
+                        continue;
+                    }
+                    try {
+                        result.put(batch.get(i), parseQueryResponse(batch.get(i), group, tenant, queryResponses.get(i)));
+                    } catch (NacosException e) {
+                        if (NacosException.NO_RIGHT == e.getErrCode()) {
+                            throw e;
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+        
+        private void queryConfigsOneByOne(RpcClient rpcClient, List<String> dataIds, String group, String tenant,
+                long readTimeouts, Map<String, ConfigResponse> result) throws NacosException {
+            for (String each : dataIds) {
+                try {
+                    result.put(each, queryConfigInner(rpcClient, each, group, tenant, readTimeouts, false));
+                } catch (NacosException e) {
+                    if (NacosException.NO_RIGHT == e.getErrCode()) {
+                        throw e;
+                    }
+                    LOGGER.warn("[{}] [sub-server-error] query config failed, dataId={}, group={}, tenant={}, msg={}",
+                            this.getName(), each, group, tenant, e.toString());
+                }
+            }
+        }
+        
+        private ConfigResponse parseQueryResponse(String dataId, String group, String tenant,
+                ConfigQueryResponse response) throws NacosException {
             ConfigResponse configResponse = new ConfigResponse();
             if (response.isSuccess()) {
                 LocalConfigInfoProcessor.saveSnapshot(this.getName(), dataId, group, tenant, response.getContent());
@@ -1207,6 +1521,58 @@ public class ClientWorker implements Closeable {
         
         private Response requestProxy(RpcClient rpcClientInner, Request request, long timeoutMills)
                 throws NacosException {
+            prepareRequest(request);
+            if (timeoutMills < 0) {
+                return rpcClientInner.request(request);
+            }
+            return rpcClientInner.request(request, timeoutMills);
+        }
+        
+        /**
+         * Send request asynchronously by the running rpc client, the future is completed in the worker executor of
+         * this client when the response is received, so the caller thread is not parked while waiting for the server,
+         * and the dependent actions such as snapshot writing don't occupy the shared rpc callback executor. The
+         * future fails immediately if the rpc client is not connected instead of waiting for reconnecting.
+         *
+         * <p>The rpc client connects to server synchronously when it is started, so if it is not started yet, it is
+         * started in the worker executor and the request is sent after that.
+         */
+        private CompletableFuture<Response> requestProxyAsync(Request request, long timeoutMills) {
+            CompletableFuture<Response> future = new CompletableFuture<>();
+            RpcClient rpcClient = createRpcClient("0");
+            if (!rpcClient.isWaitInitiated()) {
+                requestAsync(rpcClient, request, timeoutMills, future);
+                return future;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        requestAsync(getOneRunningClient(), request, timeoutMills, future);
+                    } catch (NacosException e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(
+                        new NacosException(NacosException.CLIENT_DISCONNECT, "Client is shutdown."));
+            }
+            return future;
+        }
+        
+        private void requestAsync(RpcClient rpcClient, Request request, long timeoutMills,
+                CompletableFuture<Response> future) {
+            try {
+                if (!rpcClient.isRunning()) {
+                    throw new NacosException(NacosException.CLIENT_DISCONNECT, "Client not connected.");
+                }
+                prepareRequest(request);
+                rpcClient.asyncRequest(request, new ConfigRequestCallBack(future, timeoutMills, executor));
+            } catch (NacosException e) {
+                future.completeExceptionally(e);
+            }
+        }
+        
+        private void prepareRequest(Request request) throws NacosException {
             try {
                 request.putAllHeader(super.getSecurityHeaders(resourceBuild(request)));
                 request.putAllHeader(super.getCommonHeader());
@@ -1221,10 +1587,6 @@ public class ClientWorker implements Closeable {
                 throw new NacosException(NacosException.CLIENT_OVER_THRESHOLD,
                         "More than client-side current limit threshold");
             }
-            if (timeoutMills < 0) {
-                return rpcClientInner.request(request);
-            }
-            return rpcClientInner.request(request, timeoutMills);
         }
         
         private RequestResource resourceBuild(Request request) {
@@ -1247,6 +1609,12 @@ public class ClientWorker implements Closeable {
                 String dataId = ((ConfigRemoveRequest) request).getDataId();
                 return buildResource(tenant, group, dataId);
             }
+            
+            if (request instanceof ConfigBatchQueryRequest) {
+                String tenant = ((ConfigBatchQueryRequest) request).getTenant();
+                String group = ((ConfigBatchQueryRequest) request).getGroup();
+                return buildResource(tenant, group, null);
+            }
             return RequestResource.configBuilder().build();
         }
         
@@ -1290,6 +1658,53 @@ public class ClientWorker implements Closeable {
             return response.isSuccess();
         }
         
+        /**
+         * Publish config asynchronously, the future is completed with false if failed as the same as {@link
+         * #publishConfig(String, String, String, String, String, String, String, String, String, String)}.
+         *
+         * @return future of whether publish successfully
+         */
+        public CompletableFuture<Boolean> publishConfigAsync(String dataId, String group, String tenant,
+                String appName, String tag, String betaIps, String content, String encryptedDataKey, String casMd5,
+                String type) {
+            ConfigPublishRequest request = new ConfigPublishRequest(dataId, group, tenant, content);
+            request.setCasMd5(casMd5);
+            request.putAdditionalParam(TAG_PARAM, tag);
+            request.putAdditionalParam(APP_NAME_PARAM, appName);
+            request.putAdditionalParam(BETAIPS_PARAM, betaIps);
+            request.putAdditionalParam(TYPE_PARAM, type);
+            request.putAdditionalParam(ENCRYPTED_DATA_KEY_PARAM, encryptedDataKey == null ? "" : encryptedDataKey);
+            return requestProxyAsync(request, requestTimeout).handle((response, throwable) -> {
+                if (null != throwable) {
+                    LOGGER.warn("[{}] [publish-single] error, dataId={}, group={}, tenant={}, code={}, msg={}",
+                            this.getName(), dataId, group, tenant, "unknown", throwable.getMessage());
+                    return false;
+                }
+                if (!response.isSuccess()) {
+                    LOGGER.warn("[{}] [publish-single] fail, dataId={}, group={}, tenant={}, code={}, msg={}",
+                            this.getName(), dataId, group, tenant, response.getErrorCode(), response.getMessage());
+                    return false;
+                }
+                LOGGER.info("[{}] [publish-single] ok, dataId={}, group={}, tenant={}", getName(), dataId, group,
+                        tenant);
+                return true;
+            });
+        }
+        
+        /**
+         * Remove config asynchronously.
+         *
+         * @param dataId dataId of config
+         * @param group  group of config
+         * @param tenant tenant of config
+         * @param tag    tag of config
+         * @return future of whether remove successfully
+         */
+        public CompletableFuture<Boolean> removeConfigAsync(String dataId, String group, String tenant, String tag) {
+            ConfigRemoveRequest request = new ConfigRemoveRequest(dataId, group, tenant, tag);
+            return requestProxyAsync(request, requestTimeout).thenApply(Response::isSuccess);
+        }
+        
         /**
          * check server is health.
          *
@@ -1313,4 +1728,37 @@ public class ClientWorker implements Closeable {
         return this.agent;
     }
     
+    /**
+     * Complete the future by the response of async request, the error responses are converted to {@link
+     * NacosException} by the rpc connection, and other failures are wrapped as {@link NacosException} as the same as
+     * the sync request.
+     */
+    private static class ConfigRequestCallBack extends AbstractRequestCallBack {
+        
+        private final CompletableFuture<Response> future;
+        
+        private final Executor executor;
+        
+        private ConfigRequestCallBack(CompletableFuture<Response> future, long timeoutMills, Executor executor) {
+            super(timeoutMills < 0 ? DEFAULT_ASYNC_REQUEST_TIMEOUT : timeoutMills);
+            this.future = future;
+            this.executor = executor;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return executor;
+        }
+        
+        @Override
+        public void onResponse(Response response) {
+            future.complete(response);
+        }
+        
+        @Override
+        public void onException(Throwable e) {
+            future.completeExceptionally(
+                    e instanceof NacosException ? e : new NacosException(NacosException.SERVER_ERROR, e));
+        }
+    }
 }
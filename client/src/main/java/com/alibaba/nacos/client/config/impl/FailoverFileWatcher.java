@@ -0,0 +1,245 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.client.utils.LogUtils;
+import org.slf4j.Logger;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Watch the failover files of listened configs by {@link WatchService}, so that the listen task doesn't need to check
+ * the failover file of each config in each execution.
+ *
+ * <p>The directory of failover file might not exist, in that case the nearest existing parent directory is watched,
+ * and the config is watched by the deeper directory again after it is created. The watcher never creates directories
+ * itself.
+ *
+ * @author Nacos
+ */
+class FailoverFileWatcher implements Closeable {
+    
+    private static final Logger LOGGER = LogUtils.logger(FailoverFileWatcher.class);
+    
+    private final Path rootPath;
+    
+    private final WatchService watchService;
+    
+    /**
+     * groupKey -> failover file.
+     */
+    private final Map<String, Path> watchedFiles = new HashMap<>(16);
+    
+    /**
+     * groupKey -> watched directory.
+     */
+    private final Map<String, Path> watchedDirs = new HashMap<>(16);
+    
+    /**
+     * watched directory -> groupKeys.
+     */
+    private final Map<Path, Set<String>> dirWatchers = new HashMap<>(16);
+    
+    private final Map<Path, WatchKey> watchKeys = new HashMap<>(16);
+    
+    /**
+     * The configs failed to be watched, they are regarded as changed in each poll.
+     */
+    private final Set<String> unwatchedKeys = new HashSet<>();
+    
+    private volatile boolean closed;
+    
+    FailoverFileWatcher(String rootPath) {
+        this.rootPath = Paths.get(rootPath).toAbsolutePath().normalize();
+        this.watchService = createWatchService();
+    }
+    
+    private static WatchService createWatchService() {
+        try {
+            return FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("[failover-watch] watch service is unavailable, the failover file of each config is checked.",
+                    e);
+            return null;
+        }
+    }
+    
+    /**
+     * Whether the failover files can be watched. If not, the failover file of each config should be checked.
+     *
+     * @return {@code true} if the failover files can be watched
+     */
+    boolean isAvailable() {
+        return null != watchService && !closed;
+    }
+    
+    /**
+     * Watch the failover file of config, do nothing if it is watched.
+     *
+     * @param groupKey     group key of config
+     * @param failoverFile failover file of config
+     */
+    synchronized void watch(String groupKey, File failoverFile) {
+        if (!isAvailable() || watchedFiles.containsKey(groupKey)) {
+            return;
+        }
+        Path file = failoverFile.toPath().toAbsolutePath().normalize();
+        watchedFiles.put(groupKey, file);
+        register(groupKey, file);
+    }
+    
+    /**
+     * Stop watching the failover file of config.
+     *
+     * @param groupKey group key of config
+     */
+    synchronized void unwatch(String groupKey) {
+        if (null != watchedFiles.remove(groupKey)) {
+            deregister(groupKey);
+            unwatchedKeys.remove(groupKey);
+        }
+    }
+    
+    /**
+     * Poll the configs whose failover file might be created, changed or deleted since last poll.
+     *
+     * @return group keys of configs whose failover file might be changed
+     */
+    synchronized Set<String> pollChangedKeys() {
+        if (!isAvailable()) {
+            return Collections.emptySet();
+        }
+        Set<String> result = new HashSet<>(unwatchedKeys);
+        for (String each : result) {
+            unwatchedKeys.remove(each);
+            register(each, watchedFiles.get(each));
+        }
+        WatchKey watchKey;
+        while (null != (watchKey = watchService.poll())) {
+            Path dir = (Path) watchKey.watchable();
+            Set<Path> changedChildren = new HashSet<>();
+            boolean overflow = false;
+            for (WatchEvent<?> event : watchKey.pollEvents()) {
+                if (StandardWatchEventKinds.OVERFLOW == event.kind()) {
+                    overflow = true;
+                } else {
+                    changedChildren.add((Path) event.context());
+                }
+            }
+            boolean valid = watchKey.reset();
+            Set<String> groupKeys = dirWatchers.get(dir);
+            if (null == groupKeys) {
+                continue;
+            }
+            for (String each : new ArrayList<>(groupKeys)) {
+                Path file = watchedFiles.get(each);
+                Path child = dir.relativize(file).getName(0);
+                if (valid && !overflow && !changedChildren.contains(child)) {
+                    continue;
+                }
+                result.add(each);
+                // the deeper directory might be created or the watched directory might be deleted.
+                Path childPath = dir.resolve(child);
+                boolean deeperDirCreated = !childPath.equals(file) && Files.isDirectory(childPath);
+                if (!valid || deeperDirCreated) {
+                    deregister(each);
+                    register(each, file);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private void register(String groupKey, Path file) {
+        try {
+            Path dir = findWatchableDir(file);
+            WatchKey watchKey = watchKeys.get(dir);
+            if (null == watchKey) {
+                watchKey = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+                watchKeys.put(dir, watchKey);
+            }
+            dirWatchers.computeIfAbsent(dir, key -> new HashSet<>()).add(groupKey);
+            watchedDirs.put(groupKey, dir);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("[failover-watch] watch failover file {} failed, will retry in next poll.", file, e);
+            unwatchedKeys.add(groupKey);
+        }
+    }
+    
+    private void deregister(String groupKey) {
+        Path dir = watchedDirs.remove(groupKey);
+        if (null == dir) {
+            return;
+        }
+        Set<String> groupKeys = dirWatchers.get(dir);
+        groupKeys.remove(groupKey);
+        if (groupKeys.isEmpty()) {
+            dirWatchers.remove(dir);
+            watchKeys.remove(dir).cancel();
+        }
+    }
+    
+    /**
+     * Find the nearest existing parent directory of the failover file, which might be beyond the root path if the root
+     * path is not created yet.
+     */
+    private Path findWatchableDir(Path file) throws IOException {
+        if (!file.startsWith(rootPath)) {
+            throw new IOException("failover file " + file + " is not under " + rootPath);
+        }
+        Path result = file.getParent();
+        while (null != result && !Files.isDirectory(result)) {
+            result = result.getParent();
+        }
+        if (null == result) {
+            throw new IOException("no existing parent directory of failover file " + file);
+        }
+        return result;
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (null != watchService) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.warn("[failover-watch] close watch service failed.", e);
+            }
+        }
+    }
+}
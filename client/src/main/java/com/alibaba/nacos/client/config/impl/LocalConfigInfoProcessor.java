@@ -30,6 +30,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.alibaba.nacos.client.utils.ParamUtil.simplyEnvNameIfOverLimit;
 
@@ -58,11 +60,34 @@ public class LocalConfigInfoProcessor {
     
     private static final String SNAPSHOT_FILE_CHILD_2 = "snapshot-tenant";
     
+    private static final String SNAPSHOT_STORE_FILE = "snapshot.log";
+    
+    private static final String SNAPSHOT_STORE_TYPE_FILE = "file";
+    
+    private static final String SNAPSHOT_STORE_TYPE_INDEXED = "indexed";
+    
+    /**
+     * Whether to keep the snapshots of each env in a single indexed file instead of one file per config, enabled by
+     * {@code JM.SNAPSHOT.STORE=indexed}. The failover files are always one file per config.
+     */
+    private static final boolean INDEXED_SNAPSHOT;
+    
+    private static final Map<String, LocalSnapshotStore> SNAPSHOT_STORES = new ConcurrentHashMap<>(4);
+    
     static {
         LOCAL_SNAPSHOT_PATH = NacosClientProperties.PROTOTYPE.getProperty(com.alibaba.nacos.client.constant.Constants.SysEnv.JM_SNAPSHOT_PATH,
                 NacosClientProperties.PROTOTYPE.getProperty(com.alibaba.nacos.client.constant.Constants.SysEnv.USER_HOME)) + File.separator
                 + "nacos" + File.separator + "config";
         LOGGER.info("LOCAL_SNAPSHOT_PATH:{}", LOCAL_SNAPSHOT_PATH);
+        String snapshotStoreType = NacosClientProperties.PROTOTYPE.getProperty(
+                com.alibaba.nacos.client.constant.Constants.SysEnv.JM_SNAPSHOT_STORE, SNAPSHOT_STORE_TYPE_FILE);
+        boolean indexedSnapshot = SNAPSHOT_STORE_TYPE_INDEXED.equalsIgnoreCase(snapshotStoreType);
+        if (indexedSnapshot && JvmUtil.isMultiInstance()) {
+            LOGGER.warn("indexed snapshot store can't be shared by multi instances, use snapshot file instead");
+            indexedSnapshot = false;
+        }
+        INDEXED_SNAPSHOT = indexedSnapshot;
+        LOGGER.info("INDEXED_SNAPSHOT:{}", INDEXED_SNAPSHOT);
     }
     
     public static String getFailover(String serverName, String dataId, String group, String tenant) {
@@ -87,12 +112,8 @@ public class LocalConfigInfoProcessor {
             return null;
         }
         File file = getSnapshotFile(name, dataId, group, tenant);
-        if (!file.exists() || !file.isFile()) {
-            return null;
-        }
-        
         try {
-            return readFile(file);
+            return readSnapshot(name, file);
         } catch (IOException ioe) {
             LOGGER.error("[" + name + "]+get snapshot error, " + file, ioe);
             return null;
@@ -127,37 +148,99 @@ public class LocalConfigInfoProcessor {
             return;
         }
         File file = getSnapshotFile(envName, dataId, group, tenant);
-        if (null == config) {
-            try {
+        try {
+            writeSnapshot(envName, file, config);
+        } catch (IOException ioe) {
+            LOGGER.error("[" + envName + "] " + (null == config ? "delete" : "save") + " snapshot error, " + file,
+                    ioe);
+        }
+    }
+    
+    /**
+     * Read the content of snapshot file, from the indexed snapshot store of env if enabled. The snapshot file written
+     * before the indexed snapshot store enabled is read if the store has no such snapshot.
+     *
+     * @param envName env name
+     * @param file    snapshot file
+     * @return snapshot content, null if not exist
+     * @throws IOException read failed
+     */
+    protected static String readSnapshot(String envName, File file) throws IOException {
+        LocalSnapshotStore store = getSnapshotStore(envName);
+        if (null != store) {
+            String content = store.get(getSnapshotKey(envName, file));
+            if (null != content) {
+                return content;
+            }
+        }
+        return readFile(file);
+    }
+    
+    /**
+     * Write the content of snapshot file, to the indexed snapshot store of env if enabled. If the content is NULL,
+     * delete the snapshot. The snapshot file written before the indexed snapshot store enabled is deleted once the
+     * snapshot is written to the store, so it won't be read again.
+     *
+     * @param envName env name
+     * @param file    snapshot file
+     * @param content snapshot content
+     * @throws IOException write failed
+     */
+    protected static void writeSnapshot(String envName, File file, String content) throws IOException {
+        LocalSnapshotStore store = getSnapshotStore(envName);
+        if (null != store) {
+            store.put(getSnapshotKey(envName, file), content);
+            if (file.exists()) {
                 IoUtils.delete(file);
-            } catch (IOException ioe) {
-                LOGGER.error("[" + envName + "] delete snapshot error, " + file, ioe);
             }
-        } else {
-            try {
-                File parentFile = file.getParentFile();
-                if (!parentFile.exists()) {
-                    boolean isMdOk = parentFile.mkdirs();
-                    if (!isMdOk) {
-                        LOGGER.error("[{}] save snapshot error", envName);
-                    }
-                }
-                
-                if (JvmUtil.isMultiInstance()) {
-                    ConcurrentDiskUtil.writeFileContent(file, config, Constants.ENCODE);
-                } else {
-                    IoUtils.writeStringToFile(file, config, Constants.ENCODE);
-                }
-            } catch (IOException ioe) {
-                LOGGER.error("[" + envName + "] save snapshot error, " + file, ioe);
+            return;
+        }
+        if (null == content) {
+            IoUtils.delete(file);
+            return;
+        }
+        File parentFile = file.getParentFile();
+        if (!parentFile.exists()) {
+            boolean isMdOk = parentFile.mkdirs();
+            if (!isMdOk) {
+                LOGGER.error("[{}] save snapshot error", envName);
             }
         }
+        if (JvmUtil.isMultiInstance()) {
+            ConcurrentDiskUtil.writeFileContent(file, content, Constants.ENCODE);
+        } else {
+            IoUtils.writeStringToFile(file, content, Constants.ENCODE);
+        }
+    }
+    
+    /**
+     * Get the indexed snapshot store of env, null if not enabled or the store is used by other process.
+     */
+    private static LocalSnapshotStore getSnapshotStore(String envName) throws IOException {
+        if (!INDEXED_SNAPSHOT) {
+            return null;
+        }
+        LocalSnapshotStore store = SNAPSHOT_STORES.computeIfAbsent(simplyEnvNameIfOverLimit(envName),
+                name -> new LocalSnapshotStore(new File(getEnvDir(name), SNAPSHOT_STORE_FILE)));
+        return store.isAvailable() ? store : null;
+    }
+    
+    /**
+     * The key of snapshot in the indexed snapshot store is the path of snapshot file relative to the env directory.
+     */
+    private static String getSnapshotKey(String envName, File file) {
+        return getEnvDir(simplyEnvNameIfOverLimit(envName)).toPath().relativize(file.toPath()).toString();
+    }
+    
+    private static File getEnvDir(String envName) {
+        return new File(LOCAL_SNAPSHOT_PATH, envName + SUFFIX);
     }
     
     /**
      * clear the cache files under snapshot directory.
      */
     public static void cleanAllSnapshot() {
+        SNAPSHOT_STORES.values().forEach(LocalSnapshotStore::clear);
         try {
             File rootFile = new File(LOCAL_SNAPSHOT_PATH);
             File[] files = rootFile.listFiles();
@@ -180,6 +263,10 @@ public class LocalConfigInfoProcessor {
      * @param envName env name
      */
     public static void cleanEnvSnapshot(String envName) {
+        LocalSnapshotStore store = SNAPSHOT_STORES.get(simplyEnvNameIfOverLimit(envName));
+        if (null != store) {
+            store.clear();
+        }
         File tmp = new File(LOCAL_SNAPSHOT_PATH, envName + SUFFIX);
         tmp = new File(tmp, ENV_CHILD);
         try {
@@ -16,13 +16,9 @@
 
 package com.alibaba.nacos.client.config.impl;
 
-import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.utils.StringUtils;
-import com.alibaba.nacos.client.utils.ConcurrentDiskUtil;
-import com.alibaba.nacos.client.config.utils.JvmUtil;
 import com.alibaba.nacos.client.config.utils.SnapShotSwitch;
 import com.alibaba.nacos.client.utils.LogUtils;
-import com.alibaba.nacos.common.utils.IoUtils;
 import org.slf4j.Logger;
 
 import java.io.File;
@@ -82,12 +78,8 @@ public class LocalEncryptedDataKeyProcessor extends LocalConfigInfoProcessor {
             return null;
         }
         File file = getEncryptDataKeySnapshotFile(envName, dataId, group, tenant);
-        if (!file.exists() || !file.isFile()) {
-            return null;
-        }
-        
         try {
-            return readFile(file);
+            return readSnapshot(envName, file);
         } catch (IOException ioe) {
             LOGGER.error("[" + envName + "] get snapshot error, " + file, ioe);
             return null;
@@ -104,26 +96,7 @@ public class LocalEncryptedDataKeyProcessor extends LocalConfigInfoProcessor {
         }
         File file = getEncryptDataKeySnapshotFile(envName, dataId, group, tenant);
         try {
-            if (null == encryptDataKey) {
-                try {
-                    IoUtils.delete(file);
-                } catch (IOException ioe) {
-                    LOGGER.error("[" + envName + "] delete snapshot error, " + file, ioe);
-                }
-            } else {
-                File parentFile = file.getParentFile();
-                if (!parentFile.exists()) {
-                    boolean isMdOk = parentFile.mkdirs();
-                    if (!isMdOk) {
-                        LOGGER.error("[{}] save snapshot error", envName);
-                    }
-                }
-                if (JvmUtil.isMultiInstance()) {
-                    ConcurrentDiskUtil.writeFileContent(file, encryptDataKey, Constants.ENCODE);
-                } else {
-                    IoUtils.writeStringToFile(file, encryptDataKey, Constants.ENCODE);
-                }
-            }
+            writeSnapshot(envName, file, encryptDataKey);
         } catch (IOException ioe) {
             LOGGER.error("[" + envName + "] save snapshot error, " + file, ioe);
         }
@@ -0,0 +1,432 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.client.utils.LogUtils;
+import org.slf4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Local snapshot store which keeps all snapshots of one env in a single append-only file.
+ *
+ * <p>Each save appends a record to the end of the file, and an in-memory index records the position of the latest
+ * value of each key, so the whole file is read sequentially only once when the store is first used. The file is
+ * compacted by rewriting the live records when the overwritten and deleted records take up most of it.
+ *
+ * <p>Record layout: {@code crc32(4) | type(1) | keyLength(4) | valueLength(4) | key | value}, a torn or corrupted
+ * tail record is truncated when loading, and the record is checked again when reading the value of key.
+ *
+ * <p>The store file can't be shared by processes, so an exclusive lock of a sibling lock file is held while the store
+ * is open. If the lock is held by other process, the store is not available and the snapshot files should be used.
+ *
+ * @author Nacos
+ */
+final class LocalSnapshotStore {
+    
+    private static final Logger LOGGER = LogUtils.logger(LocalSnapshotStore.class);
+    
+    private static final byte TYPE_PUT = 1;
+    
+    private static final byte TYPE_DELETE = 2;
+    
+    private static final int CRC_LENGTH = 4;
+    
+    private static final int HEADER_LENGTH = CRC_LENGTH + 1 + 4 + 4;
+    
+    private static final long DEFAULT_COMPACT_THRESHOLD = 1024 * 1024;
+    
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    
+    private static final String COMPACT_SUFFIX = ".compact";
+    
+    private static final String LOCK_SUFFIX = ".lock";
+    
+    private static final String READ_WRITE = "rw";
+    
+    private static final byte[] EMPTY = new byte[0];
+    
+    private final File file;
+    
+    private final long compactThreshold;
+    
+    private final Map<String, Position> index = new HashMap<>(64);
+    
+    private RandomAccessFile storeFile;
+    
+    private FileChannel lockChannel;
+    
+    private FileLock lock;
+    
+    private boolean lockedByOthers;
+    
+    private long garbageBytes;
+    
+    LocalSnapshotStore(File file) {
+        this(file, DEFAULT_COMPACT_THRESHOLD);
+    }
+    
+    LocalSnapshotStore(File file, long compactThreshold) {
+        this.file = file;
+        this.compactThreshold = compactThreshold;
+    }
+    
+    /**
+     * Whether the store is available for this process, the store file is opened if the lock is acquired.
+     *
+     * <p>Once the lock is found held by other process, the store is never available in this process, so that the
+     * snapshots are always kept in snapshot files.
+     *
+     * @return {@code true} if the store file is opened and locked by this store
+     * @throws IOException open store file failed
+     */
+    synchronized boolean isAvailable() throws IOException {
+        if (null != storeFile) {
+            return true;
+        }
+        if (!tryLock()) {
+            return false;
+        }
+        long validLength = file.exists() ? load() : 0L;
+        storeFile = new RandomAccessFile(file, READ_WRITE);
+        if (storeFile.length() > validLength) {
+            LOGGER.warn("snapshot store {} has broken tail, truncate from {} to {}", file, storeFile.length(),
+                    validLength);
+            storeFile.setLength(validLength);
+        }
+        LOGGER.info("load snapshot store {}, snapshot count: {}", file, index.size());
+        compactIfNecessary();
+        return true;
+    }
+    
+    /**
+     * Get the snapshot content of key.
+     *
+     * @param key snapshot key
+     * @return snapshot content, null if not exist or the record doesn't match the key
+     * @throws IOException read failed
+     */
+    synchronized String get(String key) throws IOException {
+        ensureOpened();
+        Position position = index.get(key);
+        if (null == position) {
+            return null;
+        }
+        byte[] record = new byte[position.recordLength];
+        storeFile.seek(position.recordOffset);
+        storeFile.readFully(record);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (!isRecordOf(record, keyBytes, position)) {
+            LOGGER.warn("snapshot store {} has broken record of {} at {}, ignore it", file, key,
+                    position.recordOffset);
+            index.remove(key);
+            garbageBytes += position.recordLength;
+            return null;
+        }
+        return new String(record, HEADER_LENGTH + keyBytes.length, position.valueLength, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Save the snapshot content of key, the snapshot is deleted if the content is null.
+     *
+     * @param key     snapshot key
+     * @param content snapshot content
+     * @throws IOException write failed
+     */
+    synchronized void put(String key, String content) throws IOException {
+        ensureOpened();
+        if (null == content) {
+            Position removed = index.remove(key);
+            if (null == removed) {
+                return;
+            }
+            byte[] record = encode(TYPE_DELETE, key.getBytes(StandardCharsets.UTF_8), EMPTY);
+            append(record);
+            garbageBytes += removed.recordLength + record.length;
+        } else {
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            byte[] value = content.getBytes(StandardCharsets.UTF_8);
+            long offset = append(encode(TYPE_PUT, keyBytes, value));
+            Position replaced = index.put(key, new Position(offset, keyBytes.length, value.length));
+            if (null != replaced) {
+                garbageBytes += replaced.recordLength;
+            }
+        }
+        compactIfNecessary();
+    }
+    
+    /**
+     * Remove all snapshots and the store file. The store file is kept if it is used by other process.
+     */
+    synchronized void clear() {
+        try {
+            tryLock();
+        } catch (IOException e) {
+            LOGGER.warn("lock snapshot store {} failed", file, e);
+        }
+        if (null == lock) {
+            return;
+        }
+        closeStoreFile();
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            LOGGER.warn("delete snapshot store {} failed", file, e);
+        }
+        releaseLock();
+    }
+    
+    /**
+     * Close the store file and release the lock, it will be loaded again when the store is used next time.
+     */
+    synchronized void close() {
+        closeStoreFile();
+        releaseLock();
+    }
+    
+    synchronized int size() {
+        return index.size();
+    }
+    
+    synchronized long getGarbageBytes() {
+        return garbageBytes;
+    }
+    
+    private void closeStoreFile() {
+        index.clear();
+        garbageBytes = 0;
+        if (null == storeFile) {
+            return;
+        }
+        try {
+            storeFile.close();
+        } catch (IOException e) {
+            LOGGER.warn("close snapshot store {} failed", file, e);
+        }
+        storeFile = null;
+    }
+    
+    private void ensureOpened() throws IOException {
+        if (!isAvailable()) {
+            throw new IOException("snapshot store " + file + " is used by other process");
+        }
+    }
+    
+    private boolean tryLock() throws IOException {
+        if (null != lock) {
+            return true;
+        }
+        if (lockedByOthers) {
+            return false;
+        }
+        File parentFile = file.getParentFile();
+        if (!parentFile.exists() && !parentFile.mkdirs()) {
+            throw new IOException("create snapshot store directory failed, " + parentFile);
+        }
+        FileChannel channel = FileChannel.open(new File(file.getPath() + LOCK_SUFFIX).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock fileLock = null;
+        try {
+            fileLock = channel.tryLock();
+        } catch (OverlappingFileLockException ignored) {
+            // the lock is held by other store of this process.
+        } finally {
+            if (null == fileLock) {
+                channel.close();
+            }
+        }
+        if (null == fileLock) {
+            lockedByOthers = true;
+            LOGGER.warn("snapshot store {} is used by other process, use snapshot files instead", file);
+            return false;
+        }
+        lockChannel = channel;
+        lock = fileLock;
+        return true;
+    }
+    
+    private void releaseLock() {
+        if (null == lock) {
+            return;
+        }
+        try {
+            lock.release();
+            lockChannel.close();
+        } catch (IOException e) {
+            LOGGER.warn("release lock of snapshot store {} failed", file, e);
+        }
+        lock = null;
+        lockChannel = null;
+    }
+    
+    /**
+     * Rebuild the index by one sequential read of the store file.
+     *
+     * @return length of the valid records
+     */
+    private long load() throws IOException {
+        long fileLength = file.length();
+        long offset = 0L;
+        byte[] header = new byte[HEADER_LENGTH];
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file), READ_BUFFER_SIZE))) {
+            while (fileLength - offset >= HEADER_LENGTH) {
+                in.readFully(header);
+                ByteBuffer buffer = ByteBuffer.wrap(header);
+                final int crc = buffer.getInt();
+                final byte type = buffer.get();
+                int keyLength = buffer.getInt();
+                int valueLength = buffer.getInt();
+                long bodyLength = (long) keyLength + valueLength;
+                boolean broken = keyLength < 0 || valueLength < 0 || fileLength - offset - HEADER_LENGTH < bodyLength;
+                if (broken) {
+                    break;
+                }
+                byte[] body = new byte[(int) bodyLength];
+                in.readFully(body);
+                CRC32 checksum = new CRC32();
+                checksum.update(header, CRC_LENGTH, HEADER_LENGTH - CRC_LENGTH);
+                checksum.update(body);
+                if ((int) checksum.getValue() != crc) {
+                    break;
+                }
+                String key = new String(body, 0, keyLength, StandardCharsets.UTF_8);
+                if (TYPE_PUT == type) {
+                    Position replaced = index.put(key, new Position(offset, keyLength, valueLength));
+                    garbageBytes += null == replaced ? 0 : replaced.recordLength;
+                } else if (TYPE_DELETE == type) {
+                    Position removed = index.remove(key);
+                    garbageBytes += HEADER_LENGTH + bodyLength + (null == removed ? 0 : removed.recordLength);
+                } else {
+                    break;
+                }
+                offset += HEADER_LENGTH + bodyLength;
+            }
+        } catch (EOFException ignored) {
+            // the file is truncated by others while loading, keep the records loaded.
+        }
+        return offset;
+    }
+    
+    private long append(byte[] record) throws IOException {
+        long offset = storeFile.length();
+        storeFile.seek(offset);
+        storeFile.write(record);
+        return offset;
+    }
+    
+    /**
+     * Rewrite the live records to a new file when the garbage records take up most of the store file.
+     */
+    private void compactIfNecessary() throws IOException {
+        boolean needCompact = garbageBytes >= compactThreshold && garbageBytes >= storeFile.length() - garbageBytes;
+        if (!needCompact) {
+            return;
+        }
+        final long startTime = System.currentTimeMillis();
+        File compactFile = new File(file.getPath() + COMPACT_SUFFIX);
+        Map<String, Position> compactIndex = new HashMap<>(index.size() * 2 + 1);
+        long offset = 0L;
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(compactFile))) {
+            for (Map.Entry<String, Position> entry : index.entrySet()) {
+                Position position = entry.getValue();
+                byte[] record = new byte[position.recordLength];
+                storeFile.seek(position.recordOffset);
+                storeFile.readFully(record);
+                out.write(record);
+                compactIndex.put(entry.getKey(), new Position(offset, position.keyLength, position.valueLength));
+                offset += record.length;
+            }
+        }
+        // the index is rebuilt from the store file next time if failed to replace it.
+        closeStoreFile();
+        Files.move(compactFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        storeFile = new RandomAccessFile(file, READ_WRITE);
+        index.putAll(compactIndex);
+        LOGGER.info("compact snapshot store {}, snapshot count: {}, cost {} ms", file, index.size(),
+                System.currentTimeMillis() - startTime);
+    }
+    
+    private static boolean isRecordOf(byte[] record, byte[] key, Position position) {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        int crc = buffer.getInt();
+        CRC32 checksum = new CRC32();
+        checksum.update(record, CRC_LENGTH, record.length - CRC_LENGTH);
+        if ((int) checksum.getValue() != crc || TYPE_PUT != buffer.get() || key.length != buffer.getInt()
+                || position.valueLength != buffer.getInt()) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != record[HEADER_LENGTH + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static byte[] encode(byte type, byte[] key, byte[] value) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + key.length + value.length);
+        buffer.position(CRC_LENGTH);
+        buffer.put(type).putInt(key.length).putInt(value.length).put(key).put(value);
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), CRC_LENGTH, buffer.capacity() - CRC_LENGTH);
+        buffer.putInt(0, (int) checksum.getValue());
+        return buffer.array();
+    }
+    
+    private static class Position {
+        
+        private final long recordOffset;
+        
+        private final long valueOffset;
+        
+        private final int keyLength;
+        
+        private final int valueLength;
+        
+        private final int recordLength;
+        
+        private Position(long recordOffset, int keyLength, int valueLength) {
+            this.recordOffset = recordOffset;
+            this.valueOffset = recordOffset + HEADER_LENGTH + keyLength;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+            this.recordLength = HEADER_LENGTH + keyLength + valueLength;
+        }
+    }
+}
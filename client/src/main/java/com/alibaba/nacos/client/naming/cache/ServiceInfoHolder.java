@@ -18,6 +18,7 @@ package com.alibaba.nacos.client.naming.cache;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
@@ -32,7 +33,11 @@ import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -47,6 +52,11 @@ public class ServiceInfoHolder implements Closeable {
     
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    /**
+     * The revision of service info pushed by server, used to check whether delta push can be applied.
+     */
+    private final ConcurrentMap<String, Long> pushedRevisionMap;
+    
     private final FailoverReactor failoverReactor;
     
     private final boolean pushEmptyProtection;
@@ -65,6 +75,7 @@ public class ServiceInfoHolder implements Closeable {
         } else {
             this.serviceInfoMap = new ConcurrentHashMap<>(16);
         }
+        this.pushedRevisionMap = new ConcurrentHashMap<>(16);
         this.failoverReactor = new FailoverReactor(this, notifierEventScope);
         this.pushEmptyProtection = isPushEmptyProtect(properties);
         this.notifierEventScope = notifierEventScope;
@@ -112,6 +123,22 @@ public class ServiceInfoHolder implements Closeable {
         return processServiceInfo(serviceInfo);
     }
     
+    /**
+     * Process service info pushed by server with revision.
+     *
+     * @param serviceInfo new service info
+     * @param revision    revision of service info, {@code 0} means server does not support revision
+     * @return service info
+     */
+    public ServiceInfo processServiceInfo(ServiceInfo serviceInfo, long revision) {
+        ServiceInfo result = processServiceInfo(serviceInfo);
+        // If the pushed service info is ignored, the local service info is not the pushed revision.
+        if (revision > 0 && result == serviceInfo) {
+            pushedRevisionMap.put(serviceInfo.getKey(), revision);
+        }
+        return result;
+    }
+    
     /**
      * Process service info.
      *
@@ -133,6 +160,8 @@ public class ServiceInfoHolder implements Closeable {
             return oldService;
         }
         serviceInfoMap.put(serviceInfo.getKey(), serviceInfo);
+        // The revision is unknown until the service info pushed by server with revision.
+        pushedRevisionMap.remove(serviceInfo.getKey());
         InstancesDiff diff = getServiceInfoDiff(oldService, serviceInfo);
         if (StringUtils.isBlank(serviceInfo.getJsonFromServer())) {
             serviceInfo.setJsonFromServer(JacksonUtils.toJson(serviceInfo));
@@ -152,6 +181,44 @@ public class ServiceInfoHolder implements Closeable {
         return serviceInfo;
     }
     
+    /**
+     * Process delta service info pushed by server.
+     *
+     * <p>The delta can only be applied when local service info is the base revision of the delta, otherwise return
+     * {@code null} and server should push the full service info.
+     *
+     * @param changedServiceInfo service info which only contains added and modified instances
+     * @param removedHosts       removed instances
+     * @param baseRevision       revision which the delta based on
+     * @param revision           revision after applying the delta
+     * @return service info after applying the delta, or {@code null} if the delta can't be applied
+     */
+    public ServiceInfo processDeltaServiceInfo(ServiceInfo changedServiceInfo, List<Instance> removedHosts,
+            long baseRevision, long revision) {
+        String serviceKey = changedServiceInfo.getKey();
+        ServiceInfo oldService = null == serviceKey ? null : serviceInfoMap.get(serviceKey);
+        Long localRevision = null == serviceKey ? null : pushedRevisionMap.get(serviceKey);
+        if (null == oldService || null == localRevision || localRevision != baseRevision) {
+            NAMING_LOGGER.warn("can't apply delta push for service {}, local revision: {}, base revision: {}",
+                    serviceKey, localRevision, baseRevision);
+            return null;
+        }
+        Set<String> staleHosts = new HashSet<>();
+        if (null != removedHosts) {
+            removedHosts.forEach(each -> staleHosts.add(each.toInetAddr()));
+        }
+        changedServiceInfo.getHosts().forEach(each -> staleHosts.add(each.toInetAddr()));
+        List<Instance> hosts = new ArrayList<>(oldService.getHosts().size() + changedServiceInfo.getHosts().size());
+        for (Instance each : oldService.getHosts()) {
+            if (!staleHosts.contains(each.toInetAddr())) {
+                hosts.add(each);
+            }
+        }
+        hosts.addAll(changedServiceInfo.getHosts());
+        changedServiceInfo.setHosts(hosts);
+        return processServiceInfo(changedServiceInfo, revision);
+    }
+    
     private boolean isEmptyOrErrorPush(ServiceInfo serviceInfo) {
         return null == serviceInfo.getHosts() || (pushEmptyProtection && !serviceInfo.validate());
     }
@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
 import com.alibaba.nacos.common.remote.client.Connection;
 import com.alibaba.nacos.common.remote.client.ServerRequestHandler;
@@ -41,8 +42,17 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request, Connection connection) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
-            return new NotifySubscriberResponse();
+            if (!notifyRequest.isDeltaPush()) {
+                serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo(), notifyRequest.getRevision());
+                return new NotifySubscriberResponse();
+            }
+            NotifySubscriberResponse response = new NotifySubscriberResponse();
+            if (null == serviceInfoHolder.processDeltaServiceInfo(notifyRequest.getServiceInfo(),
+                    notifyRequest.getRemovedHosts(), notifyRequest.getBaseRevision(), notifyRequest.getRevision())) {
+                // Make server push full service info again.
+                response.setErrorInfo(ResponseCode.FAIL.getCode(), "Base revision of delta push mismatch");
+            }
+            return response;
         }
         return null;
     }
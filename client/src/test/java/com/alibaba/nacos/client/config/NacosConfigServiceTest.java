@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.client.config;
 
+import com.alibaba.nacos.api.config.ConfigKey;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.exception.NacosException;
@@ -36,10 +37,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -135,6 +142,55 @@ class NacosConfigServiceTest {
         
     }
     
+    @Test
+    void testGetConfigAsync() throws Exception {
+        final String dataId = "1";
+        final String group = "2";
+        final int timeout = 3000;
+        ConfigResponse response = new ConfigResponse();
+        response.setContent("aa");
+        Mockito.when(mockWoker.getServerConfigAsync(dataId, group, "", timeout))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        assertEquals("aa", nacosConfigService.getConfigAsync(dataId, group, timeout).get());
+        Mockito.verify(mockWoker, Mockito.never()).getServerConfig(dataId, group, "", timeout, false);
+    }
+    
+    @Test
+    void testGetConfigAsyncFromLocalCache() throws Exception {
+        final String dataId = "1localcache";
+        final String group = "2";
+        final String tenant = "";
+        
+        MockedStatic<LocalConfigInfoProcessor> localConfigInfoProcessorMockedStatic = Mockito.mockStatic(LocalConfigInfoProcessor.class);
+        try {
+            String contentFailOver = "localCacheContent" + System.currentTimeMillis();
+            localConfigInfoProcessorMockedStatic.when(() -> LocalConfigInfoProcessor.getSnapshot(any(), eq(dataId), eq(group), eq(tenant)))
+                    .thenReturn(contentFailOver);
+            final int timeout = 3000;
+            CompletableFuture<ConfigResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new NacosException(NacosException.SERVER_ERROR, "error"));
+            Mockito.when(mockWoker.getServerConfigAsync(dataId, group, "", timeout)).thenReturn(failed);
+            
+            assertEquals(contentFailOver, nacosConfigService.getConfigAsync(dataId, group, timeout).get());
+        } finally {
+            localConfigInfoProcessorMockedStatic.close();
+        }
+    }
+    
+    @Test
+    void testGetConfigAsync403() {
+        final String dataId = "1localcache403";
+        final String group = "2";
+        final int timeout = 3000;
+        CompletableFuture<ConfigResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new NacosException(NacosException.NO_RIGHT, "no right"));
+        Mockito.when(mockWoker.getServerConfigAsync(dataId, group, "", timeout)).thenReturn(failed);
+        
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> nacosConfigService.getConfigAsync(dataId, group, timeout).get());
+        assertEquals(NacosException.NO_RIGHT, ((NacosException) exception.getCause()).getErrCode());
+    }
+    
     @Test
     void testGetConfig403() throws NacosException {
         final String dataId = "1localcache403";
@@ -162,6 +218,49 @@ class NacosConfigServiceTest {
         }
     }
     
+    @Test
+    void testGetConfigs() throws NacosException {
+        final String group = "2";
+        final String tenant = "";
+        final int timeout = 3000;
+        
+        MockedStatic<LocalConfigInfoProcessor> localConfigInfoProcessorMockedStatic = Mockito.mockStatic(LocalConfigInfoProcessor.class);
+        try {
+            localConfigInfoProcessorMockedStatic.when(() -> LocalConfigInfoProcessor.getFailover(any(), eq("failover"), eq(group), eq(tenant)))
+                    .thenReturn("failoverContent");
+            localConfigInfoProcessorMockedStatic.when(() -> LocalConfigInfoProcessor.getSnapshot(any(), eq("snapshot"), eq(group), eq(tenant)))
+                    .thenReturn("snapshotContent");
+            ConfigResponse response = new ConfigResponse();
+            response.setContent("serverContent");
+            Map<String, ConfigResponse> serverConfigs = new HashMap<>(2);
+            serverConfigs.put("server", response);
+            serverConfigs.put("notExist", new ConfigResponse());
+            Mockito.when(mockWoker.getServerConfigs(Arrays.asList("server", "notExist", "snapshot"), group, tenant, timeout))
+                    .thenReturn(serverConfigs);
+            
+            Map<ConfigKey, String> configs = nacosConfigService.getConfigs(Arrays.asList(new ConfigKey("failover", group),
+                    new ConfigKey("server", group), new ConfigKey("notExist", group), new ConfigKey("snapshot", group)), timeout);
+            assertEquals(4, configs.size());
+            assertEquals("failoverContent", configs.get(new ConfigKey("failover", group)));
+            assertEquals("serverContent", configs.get(new ConfigKey("server", group)));
+            assertNull(configs.get(new ConfigKey("notExist", group)));
+            assertEquals("snapshotContent", configs.get(new ConfigKey("snapshot", group)));
+        } finally {
+            localConfigInfoProcessorMockedStatic.close();
+        }
+    }
+    
+    @Test
+    void testGetConfigs403() throws NacosException {
+        final String group = "2";
+        final int timeout = 3000;
+        Mockito.when(mockWoker.getServerConfigs(Arrays.asList("1"), group, "", timeout))
+                .thenThrow(new NacosException(NacosException.NO_RIGHT, "no right"));
+        NacosException exception = Assertions.assertThrows(NacosException.class,
+                () -> nacosConfigService.getConfigs(Arrays.asList(new ConfigKey("1", group)), timeout));
+        assertEquals(NacosException.NO_RIGHT, exception.getErrCode());
+    }
+    
     @Test
     void testGetConfigAndSignListener() throws NacosException {
         final String dataId = "1";
@@ -257,6 +356,17 @@ class NacosConfigServiceTest {
         Mockito.verify(mockWoker, Mockito.times(1)).addTenantListeners(dataId, group, Arrays.asList(listener));
     }
     
+    @Test
+    void testAddListeners() throws NacosException {
+        Listener listener = Mockito.mock(Listener.class);
+        Map<ConfigKey, Listener> listeners = new HashMap<>(2);
+        listeners.put(new ConfigKey("1", "2"), listener);
+        listeners.put(new ConfigKey("3", "2"), listener);
+        
+        nacosConfigService.addListeners(listeners);
+        Mockito.verify(mockWoker, Mockito.times(1)).addTenantListeners(listeners);
+    }
+    
     @Test
     void testPublishConfig() throws NacosException {
         String dataId = "1";
@@ -336,6 +446,25 @@ class NacosConfigServiceTest {
         Mockito.verify(mockWoker, Mockito.times(1)).removeConfig(dataId, group, tenant, null);
     }
     
+    @Test
+    void testPublishAndRemoveConfigAsync() throws Exception {
+        String dataId = "1";
+        String group = "2";
+        String content = "123";
+        String namespace = "";
+        String type = ConfigType.PROPERTIES.getType();
+        Mockito.when(mockWoker.publishConfigAsync(dataId, group, namespace, null, null, null, content, "", null, type))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        Mockito.when(mockWoker.removeConfigAsync(dataId, group, namespace, null))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        
+        assertTrue(nacosConfigService.publishConfigAsync(dataId, group, content, type).get());
+        assertTrue(nacosConfigService.removeConfigAsync(dataId, group).get());
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> nacosConfigService.publishConfigAsync(dataId, group, "", type).get());
+        assertEquals(NacosException.CLIENT_INVALID_PARAM, ((NacosException) exception.getCause()).getErrCode());
+    }
+    
     @Test
     void testRemoveListener() {
         String dataId = "1";
@@ -17,20 +17,28 @@
 package com.alibaba.nacos.client.config.impl;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.ConfigKey;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.client.config.common.GroupKey;
 import com.alibaba.nacos.client.config.filter.impl.ConfigFilterChainManager;
 import com.alibaba.nacos.client.config.filter.impl.ConfigResponse;
@@ -39,6 +47,7 @@ import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import com.alibaba.nacos.common.remote.client.RpcClientFactory;
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfig;
+import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -46,6 +55,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -54,13 +64,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -69,6 +85,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -315,7 +332,7 @@ class ClientWorkerTest {
         try {
             Mockito.when(rpcClient.request(any(ConfigRemoveRequest.class)))
                     .thenThrow(new NacosException(503, "overlimit"));
-            
+                    
             clientWorker.removeConfig(dataId, group, tenant, tag);
             fail();
         } catch (NacosException e) {
@@ -340,7 +357,7 @@ class ClientWorkerTest {
         
         Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong()))
                 .thenReturn(ConfigQueryResponse.buildSuccessResponse(content));
-        
+                
         ConfigResponse configResponse = clientWorker.getServerConfig(dataId, group, tenant, 100, true);
         assertEquals(content, configResponse.getContent());
         localConfigInfoProcessorMockedStatic.verify(
@@ -348,6 +365,168 @@ class ClientWorkerTest {
                         eq(tenant), eq(content)), times(1));
     }
     
+    @Test
+    void testGetServerConfigsInBatch() throws NacosException {
+        Mockito.when(rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY))
+                .thenReturn(AbilityStatus.SUPPORTED);
+        ConfigBatchQueryResponse response = new ConfigBatchQueryResponse();
+        response.addConfigQueryResponse(ConfigQueryResponse.buildSuccessResponse("content"));
+        response.addConfigQueryResponse(
+                ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND, "config data not exist"));
+        response.addConfigQueryResponse(ConfigQueryResponse.buildFailResponse(500, "error"));
+        Mockito.when(rpcClient.request(any(ConfigBatchQueryRequest.class), anyLong())).thenReturn(response);
+        
+        Map<String, ConfigResponse> actual = clientWorker.getServerConfigs(Arrays.asList("a", "b", "c"), "group",
+                TEST_NAMESPACE, 100);
+        assertEquals(2, actual.size());
+        assertEquals("content", actual.get("a").getContent());
+        assertNull(actual.get("b").getContent());
+        assertFalse(actual.containsKey("c"));
+        ArgumentCaptor<ConfigBatchQueryRequest> captor = ArgumentCaptor.forClass(ConfigBatchQueryRequest.class);
+        Mockito.verify(rpcClient).request(captor.capture(), anyLong());
+        assertEquals(Arrays.asList("a", "b", "c"), captor.getValue().getDataIds());
+        assertEquals("group", captor.getValue().getGroup());
+        assertEquals(TEST_NAMESPACE, captor.getValue().getTenant());
+    }
+    
+    @Test
+    void testGetServerConfigsInBatchWithShortResponse() throws NacosException {
+        Mockito.when(rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY))
+                .thenReturn(AbilityStatus.SUPPORTED);
+        ConfigBatchQueryResponse response = new ConfigBatchQueryResponse();
+        response.addConfigQueryResponse(ConfigQueryResponse.buildSuccessResponse("content"));
+        Mockito.when(rpcClient.request(any(ConfigBatchQueryRequest.class), anyLong())).thenReturn(response);
+        Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong()))
+                .thenReturn(ConfigQueryResponse.buildSuccessResponse("content"));
+        
+        Map<String, ConfigResponse> actual = clientWorker.getServerConfigs(Arrays.asList("a", "b"), "group",
+                TEST_NAMESPACE, 100);
+        assertEquals(2, actual.size());
+        assertEquals("content", actual.get("b").getContent());
+        Mockito.verify(rpcClient, times(2)).request(any(ConfigQueryRequest.class), anyLong());
+    }
+    
+    @Test
+    void testGetServerConfigsInBatchWithFailedBatch() throws NacosException {
+        Mockito.when(rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY))
+                .thenReturn(AbilityStatus.SUPPORTED);
+        List<String> dataIds = new ArrayList<>();
+        ConfigBatchQueryResponse response = new ConfigBatchQueryResponse();
+        for (int i = 0; i < 100; i++) {
+            dataIds.add("dataId" + i);
+            response.addConfigQueryResponse(ConfigQueryResponse.buildSuccessResponse("content" + i));
+        }
+        dataIds.add("dataId100");
+        Mockito.when(rpcClient.request(any(ConfigBatchQueryRequest.class), anyLong())).thenReturn(response)
+                .thenThrow(new NacosException(NacosException.SERVER_ERROR, "error"));
+        
+        Map<String, ConfigResponse> actual = clientWorker.getServerConfigs(dataIds, "group", TEST_NAMESPACE, 100);
+        assertEquals(100, actual.size());
+        assertEquals("content99", actual.get("dataId99").getContent());
+        assertFalse(actual.containsKey("dataId100"));
+        Mockito.verify(rpcClient, times(0)).request(any(ConfigQueryRequest.class), anyLong());
+    }
+    
+    @Test
+    void testGetServerConfigsOneByOne() throws NacosException {
+        Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong()))
+                .thenReturn(ConfigQueryResponse.buildSuccessResponse("content"))
+                .thenReturn(ConfigQueryResponse.buildFailResponse(500, "error"));
+        
+        Map<String, ConfigResponse> actual = clientWorker.getServerConfigs(Arrays.asList("a", "b"), "group",
+                TEST_NAMESPACE, 100);
+        assertEquals(1, actual.size());
+        assertEquals("content", actual.get("a").getContent());
+        Mockito.verify(rpcClient, times(2)).request(any(ConfigQueryRequest.class), anyLong());
+        Mockito.verify(rpcClient, times(0)).request(any(ConfigBatchQueryRequest.class), anyLong());
+    }
+    
+    @Test
+    void testGetServerConfigAsync() throws Exception {
+        Mockito.when(rpcClient.isRunning()).thenReturn(true);
+        Mockito.doAnswer(invocation -> {
+            RequestCallBack callBack = invocation.getArgument(1);
+            assertEquals(100L, callBack.getTimeout());
+            callBack.onResponse(ConfigQueryResponse.buildSuccessResponse("content"));
+            return null;
+        }).when(rpcClient).asyncRequest(any(ConfigQueryRequest.class), any(RequestCallBack.class));
+        
+        CompletableFuture<ConfigResponse> future = clientWorker.getServerConfigAsync("a", "", TEST_NAMESPACE, 100);
+        assertEquals("content", future.get().getContent());
+        ArgumentCaptor<ConfigQueryRequest> captor = ArgumentCaptor.forClass(ConfigQueryRequest.class);
+        Mockito.verify(rpcClient).asyncRequest(captor.capture(), any(RequestCallBack.class));
+        assertEquals(Constants.DEFAULT_GROUP, captor.getValue().getGroup());
+        Mockito.verify(rpcClient, times(0)).request(any(ConfigQueryRequest.class), anyLong());
+    }
+    
+    @Test
+    void testGetServerConfigAsyncFail() throws Exception {
+        Mockito.when(rpcClient.isRunning()).thenReturn(true);
+        Mockito.doAnswer(invocation -> {
+            RequestCallBack callBack = invocation.getArgument(1);
+            callBack.onException(new TimeoutException("timeout"));
+            return null;
+        }).when(rpcClient).asyncRequest(any(ConfigQueryRequest.class), any(RequestCallBack.class));
+        
+        CompletableFuture<ConfigResponse> future = clientWorker.getServerConfigAsync("a", "b", TEST_NAMESPACE, 100);
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertEquals(NacosException.SERVER_ERROR, ((NacosException) exception.getCause()).getErrCode());
+    }
+    
+    @Test
+    void testGetServerConfigAsyncWhenDisconnected() throws Exception {
+        Mockito.when(rpcClient.isRunning()).thenReturn(false);
+        CompletableFuture<ConfigResponse> future = clientWorker.getServerConfigAsync("a", "b", TEST_NAMESPACE, 100);
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertEquals(NacosException.CLIENT_DISCONNECT, ((NacosException) exception.getCause()).getErrCode());
+        Mockito.verify(rpcClient, times(0)).asyncRequest(any(ConfigQueryRequest.class), any(RequestCallBack.class));
+    }
+    
+    @Test
+    void testGetServerConfigAsyncWhenClientNotStarted() throws Exception {
+        Field agentField = ClientWorker.class.getDeclaredField("agent");
+        agentField.setAccessible(true);
+        ConfigTransportClient agent = (ConfigTransportClient) agentField.get(clientWorker);
+        ScheduledExecutorService executor = Mockito.mock(ScheduledExecutorService.class);
+        agent.setExecutor(executor);
+        Mockito.when(rpcClient.isWaitInitiated()).thenReturn(true);
+        
+        CompletableFuture<ConfigResponse> future = clientWorker.getServerConfigAsync("a", "b", TEST_NAMESPACE, 100);
+        // the rpc client is not started in the caller thread.
+        assertFalse(future.isDone());
+        Mockito.verify(rpcClient, times(0)).start();
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(executor).execute(captor.capture());
+        
+        // no server is reachable, so the rpc client is not running after started.
+        captor.getValue().run();
+        Mockito.verify(rpcClient).start();
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertEquals(NacosException.CLIENT_DISCONNECT, ((NacosException) exception.getCause()).getErrCode());
+        Mockito.verify(rpcClient, times(0)).asyncRequest(any(ConfigQueryRequest.class), any(RequestCallBack.class));
+    }
+    
+    @Test
+    void testPublishAndRemoveConfigAsync() throws Exception {
+        Mockito.when(rpcClient.isRunning()).thenReturn(true);
+        Mockito.doAnswer(invocation -> {
+            RequestCallBack callBack = invocation.getArgument(1);
+            callBack.onResponse(new ConfigPublishResponse());
+            return null;
+        }).when(rpcClient).asyncRequest(any(ConfigPublishRequest.class), any(RequestCallBack.class));
+        Mockito.doAnswer(invocation -> {
+            RequestCallBack callBack = invocation.getArgument(1);
+            callBack.onException(new NacosException(NacosException.NO_RIGHT, "no right"));
+            return null;
+        }).when(rpcClient).asyncRequest(any(ConfigRemoveRequest.class), any(RequestCallBack.class));
+        
+        assertTrue(clientWorker.publishConfigAsync("a", "b", TEST_NAMESPACE, null, null, null, "c", null, null,
+                "text").get());
+        CompletableFuture<Boolean> future = clientWorker.removeConfigAsync("a", "b", TEST_NAMESPACE, null);
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertEquals(NacosException.NO_RIGHT, ((NacosException) exception.getCause()).getErrCode());
+    }
+    
     @Test
     void testHandleConfigChangeReqeust() throws Exception {
         
@@ -359,12 +538,10 @@ class ClientWorkerTest {
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
         ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         AtomicBoolean atomicBoolean = Mockito.mock(AtomicBoolean.class);
         Mockito.when(cacheDataMocked.getReceiveNotifyChanged()).thenReturn(atomicBoolean);
@@ -378,6 +555,32 @@ class ClientWorkerTest {
         Mockito.verify(atomicBoolean, times(1)).set(true);
     }
     
+    @Test
+    void testHandleConfigBatchChangeRequest() throws Exception {
+        Properties prop = new Properties();
+        String tenant = "c";
+        prop.put(NAMESPACE, tenant);
+        ServerListManager agent = Mockito.mock(ServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
+        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
+        cacheMap.setAccessible(true);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
+        CacheData cacheDataMocked = Mockito.mock(CacheData.class);
+        AtomicBoolean atomicBoolean = Mockito.mock(AtomicBoolean.class);
+        Mockito.when(cacheDataMocked.getReceiveNotifyChanged()).thenReturn(atomicBoolean);
+        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant("a", "b", tenant))).thenReturn(cacheDataMocked);
+        ConfigBatchChangeNotifyRequest request = new ConfigBatchChangeNotifyRequest();
+        request.addChangeConfig("a", "b", tenant);
+        request.addChangeConfig("notListened", "b", tenant);
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleConfigBatchChangeNotifyRequest(request,
+                "testname");
+        Mockito.verify(cacheDataMocked, times(1)).setConsistentWithServer(false);
+        Mockito.verify(atomicBoolean, times(1)).set(true);
+    }
+    
     @Test
     void testHandleClientMetricsReqeust() throws Exception {
         
@@ -389,12 +592,10 @@ class ClientWorkerTest {
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
         ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         String content = "content1324567";
         String md5 = MD5Utils.md5Hex(content, "UTF-8");
@@ -413,14 +614,14 @@ class ClientWorkerTest {
                         GroupKey.getKeyTenant(dataId, group, tenant)),
                 ClientConfigMetricRequest.MetricsKey.build(ClientConfigMetricRequest.MetricsKey.SNAPSHOT_DATA,
                         GroupKey.getKeyTenant(dataId, group, tenant))));
-        
+                        
         ClientConfigMetricResponse metricResponse = ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleClientMetricsRequest(
                 configMetricsRequest);
         JsonNode jsonNode = JacksonUtils.toObj(metricResponse.getMetrics().get(uuid).toString());
         String metricValues = jsonNode.get("metricValues")
                 .get(ClientConfigMetricRequest.MetricsKey.build(ClientConfigMetricRequest.MetricsKey.CACHE_DATA,
                         GroupKey.getKeyTenant(dataId, group, tenant)).toString()).textValue();
-        
+                        
         int colonIndex = metricValues.lastIndexOf(":");
         assertEquals(content, metricValues.substring(0, colonIndex));
         assertEquals(md5, metricValues.substring(colonIndex + 1, metricValues.length()));
@@ -447,7 +648,7 @@ class ClientWorkerTest {
         localConfigInfoProcessorMockedStatic.verify(
                 () -> LocalConfigInfoProcessor.saveSnapshot(eq(clientWorker.getAgentName()), eq(dataId), eq(group),
                         eq(tenant), eq(null)), times(1));
-        
+                        
     }
     
     @Test
@@ -538,15 +739,11 @@ class ClientWorkerTest {
         Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
         Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant(dataIdNormal, group, tenant)))
                 .thenReturn(cacheNormal);
-        Mockito.when(cacheDataMapMocked.containsKey(GroupKey.getKeyTenant(dataIdNormal, group, tenant)))
-                .thenReturn(true);
-        
+                
         Mockito.when(cacheDataMapMocked.values()).thenReturn(cacheDatas);
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         
         //mock request
         ConfigChangeBatchListenResponse.ConfigContext configContext = new ConfigChangeBatchListenResponse.ConfigContext();
@@ -574,12 +771,74 @@ class ClientWorkerTest {
         //use local cache.
         assertTrue(cacheUseLocalCache.isUseLocalConfigInfo());
         //discard cache to be deleted.
-        assertFalse(cacheMapMocked.get().containsKey(GroupKey.getKeyTenant(dataIdDiscard, group, tenant)));
+        assertFalse(cacheDataMapMocked.containsKey(GroupKey.getKeyTenant(dataIdDiscard, group, tenant)));
         //normal cache listener be notified.
         assertEquals(configQueryResponse.getContent(), normalContent.get());
         
     }
     
+    @Test
+    void testExecuteConfigListenOnlyDirtyCaches() throws Exception {
+        clientWorker.shutdown();
+        ClientWorker.ConfigRpcTransportClient agent = (ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent();
+        File root = Files.createTempDirectory("nacos-failover-watch").toFile();
+        Field watcherField = ClientWorker.ConfigRpcTransportClient.class.getDeclaredField("failoverFileWatcher");
+        watcherField.setAccessible(true);
+        watcherField.set(agent, new FailoverFileWatcher(root.getPath()));
+        localConfigInfoProcessorMockedStatic.when(
+                () -> LocalConfigInfoProcessor.getFailoverFile(any(), anyString(), anyString(), anyString()))
+                .thenReturn(new File(root, "failover"));
+        try {
+            String group = "group";
+            CacheData dirtyCache = clientWorker.addCacheDataIfAbsent("dirty", group, TEST_NAMESPACE);
+            CacheData cleanCache = clientWorker.addCacheDataIfAbsent("clean", group, TEST_NAMESPACE);
+            cleanCache.setConsistentWithServer(true);
+            agent.markDirty(dirtyCache);
+            Mockito.when(rpcClient.request(any(ConfigBatchListenRequest.class)))
+                    .thenReturn(new ConfigChangeBatchListenResponse());
+                    
+            agent.executeConfigListen();
+            ArgumentCaptor<ConfigBatchListenRequest> captor = ArgumentCaptor.forClass(ConfigBatchListenRequest.class);
+            Mockito.verify(rpcClient).request(captor.capture());
+            assertEquals(1, captor.getValue().getConfigListenContexts().size());
+            assertEquals("dirty", captor.getValue().getConfigListenContexts().get(0).getDataId());
+            assertTrue(dirtyCache.isConsistentWithServer());
+            
+            // no cache is dirty, nothing to listen.
+            agent.executeConfigListen();
+            Mockito.verify(rpcClient).request(any(ConfigBatchListenRequest.class));
+        } finally {
+            IoUtils.delete(root);
+        }
+    }
+    
+    @Test
+    void testAddTenantListenersInBatch() throws Exception {
+        clientWorker.shutdown();
+        final ClientWorker.ConfigRpcTransportClient agent = (ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent();
+        localConfigInfoProcessorMockedStatic.when(
+                () -> LocalConfigInfoProcessor.getFailoverFile(any(), anyString(), anyString(), anyString()))
+                .thenReturn(new File("non-exist-failover"));
+        Listener listener = Mockito.mock(Listener.class);
+        Map<ConfigKey, Listener> listeners = new HashMap<>(4);
+        listeners.put(new ConfigKey("a", "group"), listener);
+        listeners.put(new ConfigKey("b", "group"), listener);
+        listeners.put(new ConfigKey("c", null), listener);
+        clientWorker.addTenantListeners(listeners);
+        assertNotNull(clientWorker.getCache("a", "group", TEST_NAMESPACE));
+        assertNotNull(clientWorker.getCache("b", "group", TEST_NAMESPACE));
+        CacheData defaultGroupCache = clientWorker.getCache("c", Constants.DEFAULT_GROUP, TEST_NAMESPACE);
+        assertNotNull(defaultGroupCache);
+        assertEquals(1, defaultGroupCache.getListeners().size());
+        
+        Mockito.when(rpcClient.request(any(ConfigBatchListenRequest.class)))
+                .thenReturn(new ConfigChangeBatchListenResponse());
+        agent.executeConfigListen();
+        ArgumentCaptor<ConfigBatchListenRequest> captor = ArgumentCaptor.forClass(ConfigBatchListenRequest.class);
+        Mockito.verify(rpcClient).request(captor.capture());
+        assertEquals(3, captor.getValue().getConfigListenContexts().size());
+    }
+    
     private CacheData discardCache(ConfigFilterChainManager filter, String envName, String dataId, String group,
             String tenant) {
         CacheData cacheData = new CacheData(filter, envName, dataId, group, tenant);
@@ -653,16 +912,15 @@ class ClientWorkerTest {
         putCacheMethod.invoke(clientWorker, key, cacheData);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMap = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         // 检查cacheMap是否包含特定的key
-        assertNotNull(cacheMapRef.get().get(key));
-        assertEquals(cacheData, cacheMapRef.get().get(key));
+        assertNotNull(cacheMap.get(key));
+        assertEquals(cacheData, cacheMap.get(key));
         // 测试再次插入相同的key将覆盖原始的值
         CacheData newCacheData = new CacheData(filter, "newEnv", "newDataId", "newGroup");
         putCacheMethod.invoke(clientWorker, key, newCacheData);
         // 检查key对应的value是否改变为newCacheData
-        assertEquals(newCacheData, cacheMapRef.get().get(key));
+        assertEquals(newCacheData, cacheMap.get(key));
     }
     
     @Test
@@ -673,10 +931,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMap = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKey(dataId, group);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMap.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy).addCacheDataIfAbsent(anyString(), anyString());
@@ -705,10 +962,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMap = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMap.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
@@ -738,10 +994,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMap = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMap.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
@@ -0,0 +1,130 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FailoverFileWatcherTest {
+    
+    private static final String GROUP_KEY = "dataId+group+tenant";
+    
+    private static final long WAIT_MILLIS = 10000L;
+    
+    private File root;
+    
+    private File failoverFile;
+    
+    private FailoverFileWatcher watcher;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        root = Files.createTempDirectory("nacos-failover-watch").toFile();
+        failoverFile = new File(new File(new File(root, "env_nacos"), "group"), "dataId");
+        watcher = new FailoverFileWatcher(root.getPath());
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        watcher.close();
+        IoUtils.delete(root);
+    }
+    
+    @Test
+    void testPollChangedKeys() throws Exception {
+        assertTrue(watcher.isAvailable());
+        watcher.watch(GROUP_KEY, failoverFile);
+        assertTrue(watcher.pollChangedKeys().isEmpty());
+        // the parent directories of failover file are created.
+        assertTrue(failoverFile.getParentFile().mkdirs());
+        assertTrue(waitChangedKeys().contains(GROUP_KEY));
+        // the failover file is created in the deeper directory.
+        IoUtils.writeStringToFile(failoverFile, "content", "UTF-8");
+        assertTrue(waitChangedKeys().contains(GROUP_KEY));
+        // the failover file is deleted.
+        IoUtils.delete(failoverFile);
+        assertTrue(waitChangedKeys().contains(GROUP_KEY));
+    }
+    
+    @Test
+    void testWatchWithoutRootPath() throws Exception {
+        File snapshotRoot = new File(root, "snapshot");
+        File file = new File(new File(new File(snapshotRoot, "env_nacos"), "group"), "dataId");
+        FailoverFileWatcher rootWatcher = new FailoverFileWatcher(snapshotRoot.getPath());
+        try {
+            rootWatcher.watch(GROUP_KEY, file);
+            assertTrue(rootWatcher.pollChangedKeys().isEmpty());
+            // the root path should not be created by watcher.
+            assertFalse(snapshotRoot.exists());
+            assertTrue(file.getParentFile().mkdirs());
+            assertTrue(waitChangedKeys(rootWatcher).contains(GROUP_KEY));
+        } finally {
+            rootWatcher.close();
+        }
+    }
+    
+    @Test
+    void testIgnoreOtherFiles() throws Exception {
+        watcher.watch(GROUP_KEY, failoverFile);
+        IoUtils.writeStringToFile(new File(root, "other"), "content", "UTF-8");
+        Thread.sleep(500L);
+        assertTrue(watcher.pollChangedKeys().isEmpty());
+    }
+    
+    @Test
+    void testUnwatch() throws Exception {
+        watcher.watch(GROUP_KEY, failoverFile);
+        watcher.unwatch(GROUP_KEY);
+        assertTrue(failoverFile.getParentFile().mkdirs());
+        Thread.sleep(500L);
+        assertTrue(watcher.pollChangedKeys().isEmpty());
+    }
+    
+    @Test
+    void testClose() {
+        watcher.watch(GROUP_KEY, failoverFile);
+        watcher.close();
+        assertFalse(watcher.isAvailable());
+        assertEquals(0, watcher.pollChangedKeys().size());
+    }
+    
+    private Set<String> waitChangedKeys() throws InterruptedException {
+        return waitChangedKeys(watcher);
+    }
+    
+    private Set<String> waitChangedKeys(FailoverFileWatcher target) throws InterruptedException {
+        Set<String> result = new HashSet<>();
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (result.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+            result.addAll(target.pollChangedKeys());
+        }
+        return result;
+    }
+}
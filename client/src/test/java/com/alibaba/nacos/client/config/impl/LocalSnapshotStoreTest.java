@@ -0,0 +1,166 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalSnapshotStoreTest {
+    
+    private File root;
+    
+    private File storeFile;
+    
+    private LocalSnapshotStore store;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        root = Files.createTempDirectory("nacos-snapshot-store").toFile();
+        storeFile = new File(new File(root, "env_nacos"), "snapshot.log");
+        store = new LocalSnapshotStore(storeFile, 128L);
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+        IoUtils.delete(root);
+    }
+    
+    @Test
+    void testPutAndGet() throws IOException {
+        assertNull(store.get("snapshot/group/dataId"));
+        store.put("snapshot/group/dataId", "content");
+        store.put("snapshot-tenant/tenant/group/dataId", "内容");
+        assertEquals("content", store.get("snapshot/group/dataId"));
+        assertEquals("内容", store.get("snapshot-tenant/tenant/group/dataId"));
+        store.put("snapshot/group/dataId", "");
+        assertEquals("", store.get("snapshot/group/dataId"));
+        store.put("snapshot/group/dataId", null);
+        assertNull(store.get("snapshot/group/dataId"));
+        assertEquals(1, store.size());
+    }
+    
+    @Test
+    void testReload() throws IOException {
+        store.put("dataId1", "content1");
+        store.put("dataId2", "content2");
+        store.put("dataId1", "content1-new");
+        store.put("dataId2", null);
+        store.close();
+        
+        LocalSnapshotStore reloaded = new LocalSnapshotStore(storeFile);
+        try {
+            assertEquals("content1-new", reloaded.get("dataId1"));
+            assertNull(reloaded.get("dataId2"));
+            assertEquals(1, reloaded.size());
+            assertTrue(reloaded.getGarbageBytes() > 0);
+        } finally {
+            reloaded.close();
+        }
+    }
+    
+    @Test
+    void testCompact() throws IOException {
+        store.put("dataId2", "content2");
+        for (int i = 0; i < 20; i++) {
+            store.put("dataId1", "content" + i);
+        }
+        assertTrue(store.getGarbageBytes() < 128L);
+        assertTrue(storeFile.length() < 20 * "dataId1content".length());
+        assertFalse(new File(storeFile.getPath() + ".compact").exists());
+        assertEquals("content19", store.get("dataId1"));
+        assertEquals("content2", store.get("dataId2"));
+        store.close();
+        assertEquals("content19", store.get("dataId1"));
+        assertEquals("content2", store.get("dataId2"));
+    }
+    
+    @Test
+    void testTruncateBrokenTail() throws IOException {
+        store.put("dataId1", "content1");
+        store.put("dataId2", "content2");
+        store.close();
+        long validLength = storeFile.length();
+        try (RandomAccessFile file = new RandomAccessFile(storeFile, "rw")) {
+            file.setLength(validLength - 1);
+        }
+        
+        assertEquals("content1", store.get("dataId1"));
+        assertNull(store.get("dataId2"));
+        store.put("dataId3", "content3");
+        store.close();
+        assertEquals("content1", store.get("dataId1"));
+        assertEquals("content3", store.get("dataId3"));
+    }
+    
+    @Test
+    void testClear() throws IOException {
+        store.put("dataId1", "content1");
+        store.clear();
+        assertFalse(storeFile.exists());
+        assertNull(store.get("dataId1"));
+        assertEquals(0, store.size());
+    }
+    
+    @Test
+    void testOpenTwoStoresOnSameFile() throws IOException {
+        store.put("dataId1", "content1");
+        LocalSnapshotStore other = new LocalSnapshotStore(storeFile);
+        try {
+            assertTrue(store.isAvailable());
+            assertFalse(other.isAvailable());
+            assertThrows(IOException.class, () -> other.get("dataId1"));
+            assertThrows(IOException.class, () -> other.put("dataId2", "content2"));
+            other.clear();
+            assertTrue(storeFile.exists());
+            assertEquals("content1", store.get("dataId1"));
+            
+            store.close();
+            assertFalse(other.isAvailable());
+        } finally {
+            other.close();
+        }
+        assertTrue(store.isAvailable());
+        assertEquals("content1", store.get("dataId1"));
+    }
+    
+    @Test
+    void testGetBrokenRecord() throws IOException {
+        store.put("dataId1", "content1");
+        store.put("dataId2", "content2");
+        try (RandomAccessFile file = new RandomAccessFile(storeFile, "rw")) {
+            file.seek(file.length() - 1);
+            file.write('X');
+        }
+        assertNull(store.get("dataId2"));
+        assertEquals("content1", store.get("dataId1"));
+        assertEquals(1, store.size());
+    }
+}
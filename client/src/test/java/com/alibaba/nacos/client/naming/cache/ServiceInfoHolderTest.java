@@ -108,6 +108,43 @@ class ServiceInfoHolderTest {
         assertEquals(expect.getKey(), actual.getKey());
     }
     
+    @Test
+    void testProcessDeltaServiceInfo() {
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        hosts.add(createInstance("1.1.1.3", 3));
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(hosts);
+        holder.processServiceInfo(info, 1L);
+        
+        Instance modified = createInstance("1.1.1.1", 1);
+        modified.setWeight(2.0);
+        ServiceInfo delta = new ServiceInfo("a@@b@@c");
+        List<Instance> changedHosts = new ArrayList<>();
+        changedHosts.add(modified);
+        changedHosts.add(createInstance("1.1.1.4", 4));
+        delta.setHosts(changedHosts);
+        List<Instance> removedHosts = new ArrayList<>();
+        removedHosts.add(createInstance("1.1.1.2", 2));
+        ServiceInfo actual = holder.processDeltaServiceInfo(delta, removedHosts, 1L, 2L);
+        assertEquals(3, actual.getHosts().size());
+        assertTrue(actual.getHosts().contains(modified));
+        assertTrue(actual.getHosts().contains(createInstance("1.1.1.3", 3)));
+        assertTrue(actual.getHosts().contains(createInstance("1.1.1.4", 4)));
+        assertEquals(actual, holder.getServiceInfoMap().get("a@@b@@c"));
+        
+        // base revision mismatch, can't apply.
+        ServiceInfo delta2 = new ServiceInfo("a@@b@@c");
+        delta2.setHosts(new ArrayList<>());
+        assertNull(holder.processDeltaServiceInfo(delta2, removedHosts, 1L, 3L));
+        // revision unknown after service info updated without revision.
+        ServiceInfo info2 = new ServiceInfo("a@@b@@c");
+        info2.setHosts(new ArrayList<>(hosts));
+        holder.processServiceInfo(info2);
+        assertNull(holder.processDeltaServiceInfo(delta2, removedHosts, 2L, 3L));
+    }
+    
     @Test
     void testProcessServiceInfoWithPushEmpty() throws NacosException {
         ServiceInfo oldInfo = new ServiceInfo("a@@b@@c");
@@ -29,11 +29,15 @@ import com.alibaba.nacos.client.naming.remote.TestConnection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class NamingPushRequestHandlerTest {
     
@@ -48,7 +52,23 @@ class NamingPushRequestHandlerTest {
         Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
         //then
         assertTrue(response instanceof NotifySubscriberResponse);
-        verify(holder, times(1)).processServiceInfo(info);
+        verify(holder, times(1)).processServiceInfo(info, 0L);
+    }
+    
+    @Test
+    void testRequestReplyForDelta() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        Request req = NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(info, Collections.emptyList(), 1L,
+                2L);
+        when(holder.processDeltaServiceInfo(info, Collections.emptyList(), 1L, 2L)).thenReturn(info);
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response.isSuccess());
+        // base revision mismatch, should response fail to make server push full data.
+        when(holder.processDeltaServiceInfo(info, Collections.emptyList(), 1L, 2L)).thenReturn(null);
+        response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertFalse(response.isSuccess());
     }
     
     @Test
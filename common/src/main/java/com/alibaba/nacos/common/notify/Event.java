@@ -61,5 +61,15 @@ public abstract class Event implements Serializable {
     public boolean isPluginEvent() {
         return false;
     }
+    
+    /**
+     * Event partition key. Events with the same partition key are handled in order by {@link PartitionedEventPublisher},
+     * events with different partition keys may be handled in parallel.
+     *
+     * @return partition key, return null if the event has no partition, which will be handled in the first partition
+     */
+    public Object partitionKey() {
+        return null;
+    }
 }
 
@@ -50,6 +50,8 @@ public class NotifyCenter {
     
     public static int shareBufferSize;
     
+    public static boolean ringBufferPublisherEnabled;
+    
     private static final AtomicBoolean CLOSED = new AtomicBoolean(false);
     
     private static final EventPublisherFactory DEFAULT_PUBLISHER_FACTORY;
@@ -78,13 +80,19 @@ public class NotifyCenter {
         final Collection<EventPublisher> publishers = NacosServiceLoader.load(EventPublisher.class);
         Iterator<EventPublisher> iterator = publishers.iterator();
         
+        // Whether to use the lock-free ring buffer publisher as default publisher, default value is false
+        String ringBufferPublisherProperty = "nacos.core.notify.ring-buffer-publisher.enabled";
+        ringBufferPublisherEnabled = Boolean.getBoolean(ringBufferPublisherProperty);
+        
         if (iterator.hasNext()) {
             clazz = iterator.next().getClass();
+        } else if (ringBufferPublisherEnabled) {
+            clazz = RingBufferPublisher.class;
         } else {
             clazz = DefaultPublisher.class;
         }
         
-        DEFAULT_PUBLISHER_FACTORY = (cls, buffer) -> {
+        final EventPublisherFactory singlePublisherFactory = (cls, buffer) -> {
             try {
                 EventPublisher publisher = clazz.newInstance();
                 publisher.init(cls, buffer);
@@ -95,6 +103,17 @@ public class NotifyCenter {
             }
         };
         
+        // The event types which set partition count will be published by several publishers with partition key.
+        DEFAULT_PUBLISHER_FACTORY = (cls, buffer) -> {
+            int partitionCount = PartitionedEventPublisher.getPartitionCount(cls);
+            if (partitionCount <= 1) {
+                return singlePublisherFactory.apply(cls, buffer);
+            }
+            EventPublisher publisher = new PartitionedEventPublisher(partitionCount, singlePublisherFactory);
+            publisher.init(cls, buffer);
+            return publisher;
+        };
+        
         try {
             
             // Create and init DefaultSharePublisher instance.
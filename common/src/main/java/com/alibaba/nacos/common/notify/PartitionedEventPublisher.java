@@ -0,0 +1,152 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The event publisher which dispatches events to several partition publishers by {@link Event#partitionKey()}.
+ *
+ * <p>Each partition is an independent publisher with its own thread, so events with the same partition key are handled
+ * in order, and events with different partition keys can be handled in parallel. The partition count of one event type
+ * can be set by system property {@code nacos.core.notify.partitions.${eventType simple name}}, default is 1, which means
+ * not partitioned.
+ *
+ * @author Nacos
+ */
+public class PartitionedEventPublisher implements ShardedEventPublisher {
+    
+    public static final String PARTITIONS_PROPERTY_PREFIX = "nacos.core.notify.partitions.";
+    
+    private final int partitionCount;
+    
+    private final EventPublisherFactory partitionFactory;
+    
+    private List<EventPublisher> partitions = Collections.emptyList();
+    
+    public PartitionedEventPublisher(int partitionCount, EventPublisherFactory partitionFactory) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("partition count should be positive, but was " + partitionCount);
+        }
+        this.partitionCount = partitionCount;
+        this.partitionFactory = partitionFactory;
+    }
+    
+    /**
+     * Get the configured partition count of the event type.
+     *
+     * @param eventType event type
+     * @return partition count, 1 if not configured
+     */
+    public static int getPartitionCount(Class<? extends Event> eventType) {
+        return Math.max(Integer.getInteger(PARTITIONS_PROPERTY_PREFIX + eventType.getSimpleName(), 1), 1);
+    }
+    
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        List<EventPublisher> result = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            result.add(partitionFactory.apply(type, bufferSize));
+        }
+        this.partitions = Collections.unmodifiableList(result);
+    }
+    
+    public List<EventPublisher> getPartitions() {
+        return partitions;
+    }
+    
+    @Override
+    public long currentEventSize() {
+        long result = 0;
+        for (EventPublisher each : partitions) {
+            result += each.currentEventSize();
+        }
+        return result;
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        for (EventPublisher each : partitions) {
+            each.addSubscriber(subscriber);
+        }
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        for (EventPublisher each : partitions) {
+            if (each instanceof ShardedEventPublisher) {
+                ((ShardedEventPublisher) each).addSubscriber(subscriber, subscribeType);
+            } else {
+                each.addSubscriber(subscriber);
+            }
+        }
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        for (EventPublisher each : partitions) {
+            each.removeSubscriber(subscriber);
+        }
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        for (EventPublisher each : partitions) {
+            if (each instanceof ShardedEventPublisher) {
+                ((ShardedEventPublisher) each).removeSubscriber(subscriber, subscribeType);
+            } else {
+                each.removeSubscriber(subscriber);
+            }
+        }
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        if (partitions.isEmpty()) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+        return partitions.get(partitionOf(event)).publish(event);
+    }
+    
+    int partitionOf(Event event) {
+        Object key = event.partitionKey();
+        if (null == key) {
+            return 0;
+        }
+        int hash = key.hashCode();
+        // Spread the high bits to lower, same as HashMap.
+        hash ^= hash >>> 16;
+        return (hash & Integer.MAX_VALUE) % partitionCount;
+    }
+    
+    @Override
+    public void notifySubscriber(Subscriber subscriber, Event event) {
+        partitions.get(partitionOf(event)).notifySubscriber(subscriber, event);
+    }
+    
+    @Override
+    public void shutdown() throws NacosException {
+        for (EventPublisher each : partitions) {
+            each.shutdown();
+        }
+    }
+}
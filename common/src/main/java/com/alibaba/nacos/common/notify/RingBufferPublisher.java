@@ -0,0 +1,304 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.alibaba.nacos.common.notify.NotifyCenter.ringBufferSize;
+
+/**
+ * The event publisher implementation based on a preallocated lock-free ring buffer.
+ *
+ * <p>Producers claim a slot by CAS on the producer sequence and mark it published after the event is stored, the single
+ * consumer thread drains all published slots in one batch before it parks again. Compared with
+ * {@link DefaultPublisher}, publishing an event does not need any lock and does not wake the consumer thread if it is
+ * still draining. If the ring buffer is full, the event is handled in the caller thread, same as
+ * {@link DefaultPublisher}.
+ *
+ * @author Nacos
+ */
+public class RingBufferPublisher extends Thread implements EventPublisher {
+    
+    protected static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    private static final long UNPUBLISHED = -1L;
+    
+    private static final int SPIN_TRIES = 100;
+    
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    /**
+     * Whether the consumer thread is going to park, producers need to unpark it after publishing.
+     */
+    private volatile boolean waiting = false;
+    
+    protected final ConcurrentHashSet<Subscriber> subscribers = new ConcurrentHashSet<>();
+    
+    protected volatile long lastEventSequence = -1L;
+    
+    private Event[] entries;
+    
+    private AtomicLongArray published;
+    
+    private int mask;
+    
+    /**
+     * The next sequence to be claimed by producers.
+     */
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    /**
+     * The next sequence to be consumed, only written by the consumer thread.
+     */
+    private final AtomicLong consumerSequence = new AtomicLong();
+    
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        setDaemon(true);
+        setName("nacos.publisher-" + type.getName());
+        int capacity = tableSizeFor(bufferSize == -1 ? ringBufferSize : bufferSize);
+        this.entries = new Event[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.lazySet(i, UNPUBLISHED);
+        }
+        this.mask = capacity - 1;
+        start();
+    }
+    
+    private static int tableSizeFor(int size) {
+        int capacity = 1;
+        while (capacity < size && capacity > 0) {
+            capacity <<= 1;
+        }
+        return capacity > 0 ? capacity : 1 << 30;
+    }
+    
+    public ConcurrentHashSet<Subscriber> getSubscribers() {
+        return subscribers;
+    }
+    
+    public int getCapacity() {
+        return entries.length;
+    }
+    
+    @Override
+    public synchronized void start() {
+        if (!initialized) {
+            // start just called once
+            super.start();
+            initialized = true;
+        }
+    }
+    
+    @Override
+    public long currentEventSize() {
+        return producerSequence.get() - consumerSequence.get();
+    }
+    
+    @Override
+    public void run() {
+        openEventHandler();
+    }
+    
+    void openEventHandler() {
+        try {
+            // To ensure that messages are not lost, enable EventHandler when
+            // waiting for the first Subscriber to register
+            int waitTimes = 60;
+            while (!shutdown && !hasSubscriber() && waitTimes > 0) {
+                ThreadUtils.sleep(1000L);
+                waitTimes--;
+            }
+            long next = consumerSequence.get();
+            while (!shutdown) {
+                long drained = drain(next);
+                if (drained == next) {
+                    waitForEvent(next);
+                }
+                next = drained;
+            }
+        } catch (Throwable ex) {
+            LOGGER.error("Event listener exception : ", ex);
+        }
+    }
+    
+    /**
+     * Drain all the published events from the sequence.
+     *
+     * @param sequence the first sequence to drain
+     * @return the next sequence to drain
+     */
+    private long drain(long sequence) {
+        long next = sequence;
+        int index = (int) next & mask;
+        while (!shutdown && published.get(index) == next) {
+            Event event = entries[index];
+            entries[index] = null;
+            // Release the slot before notifying subscribers, so producers will not be blocked by slow subscribers.
+            consumerSequence.lazySet(++next);
+            receiveEvent(event);
+            lastEventSequence = Math.max(lastEventSequence, event.sequence());
+            index = (int) next & mask;
+        }
+        return next;
+    }
+    
+    private void waitForEvent(long sequence) {
+        int index = (int) sequence & mask;
+        for (int i = 0; i < SPIN_TRIES; i++) {
+            if (shutdown || published.get(index) == sequence) {
+                return;
+            }
+            Thread.yield();
+        }
+        waiting = true;
+        try {
+            // Check again after marking waiting to avoid missing the wake-up from producers.
+            if (!shutdown && published.get(index) != sequence) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        } finally {
+            waiting = false;
+        }
+    }
+    
+    protected boolean hasSubscriber() {
+        return CollectionUtils.isNotEmpty(subscribers);
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        if (!offer(event)) {
+            LOGGER.warn("Unable to plug in due to ring buffer full, synchronize sending time, event : {}", event);
+            receiveEvent(event);
+            return true;
+        }
+        if (waiting) {
+            LockSupport.unpark(this);
+        }
+        return true;
+    }
+    
+    private boolean offer(Event event) {
+        final int capacity = entries.length;
+        long sequence;
+        do {
+            sequence = producerSequence.get();
+            if (shutdown || sequence - consumerSequence.get() >= capacity) {
+                return false;
+            }
+        } while (!producerSequence.compareAndSet(sequence, sequence + 1));
+        int index = (int) sequence & mask;
+        entries[index] = event;
+        published.set(index, sequence);
+        return true;
+    }
+    
+    void checkIsStart() {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        LockSupport.unpark(this);
+    }
+    
+    public boolean isInitialized() {
+        return initialized;
+    }
+    
+    public boolean isShutdown() {
+        return shutdown;
+    }
+    
+    /**
+     * Receive and notifySubscriber to process the event.
+     *
+     * @param event {@link Event}.
+     */
+    protected void receiveEvent(Event event) {
+        final long currentEventSequence = event.sequence();
+        
+        if (!hasSubscriber()) {
+            LOGGER.warn("[NotifyCenter] the {} is lost, because there is no subscriber.", event);
+            return;
+        }
+        
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.scopeMatches(event)) {
+                continue;
+            }
+            
+            // Whether to ignore expiration events
+            if (subscriber.ignoreExpireEvent() && lastEventSequence > currentEventSequence) {
+                LOGGER.debug("[NotifyCenter] the {} is unacceptable to this subscriber, because had expire",
+                        event.getClass());
+                continue;
+            }
+            notifySubscriber(subscriber, event);
+        }
+    }
+    
+    @Override
+    public void notifySubscriber(final Subscriber subscriber, final Event event) {
+        
+        LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        
+        final Runnable job = () -> subscriber.onEvent(event);
+        final Executor executor = subscriber.executor();
+        
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+}
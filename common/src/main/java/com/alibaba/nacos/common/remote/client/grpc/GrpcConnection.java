@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.common.remote.client.grpc;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.grpc.auto.RequestGrpc;
@@ -67,9 +69,18 @@ public class GrpcConnection extends Connection {
         this.executor = executor;
     }
     
+    /**
+     * Whether the server of this connection supports binary codec for the body of grpc payload.
+     *
+     * @return {@code true} if supported, otherwise json is used
+     */
+    private boolean isBinaryPayloadSupported() {
+        return AbilityStatus.SUPPORTED == getConnectionAbility(AbilityKey.SERVER_SUPPORT_BINARY_PAYLOAD);
+    }
+    
     @Override
     public Response request(Request request, long timeouts) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, isBinaryPayloadSupported());
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         Payload grpcResponse;
         try {
@@ -87,7 +98,7 @@ public class GrpcConnection extends Connection {
     
     @Override
     public RequestFuture requestFuture(Request request) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, isBinaryPayloadSupported());
         
         final ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         return new RequestFuture() {
@@ -120,18 +131,18 @@ public class GrpcConnection extends Connection {
     }
     
     public void sendResponse(Response response) {
-        Payload convert = GrpcUtils.convert(response);
+        Payload convert = GrpcUtils.convert(response, isBinaryPayloadSupported());
         payloadStreamObserver.onNext(convert);
     }
     
     public void sendRequest(Request request) {
-        Payload convert = GrpcUtils.convert(request);
+        Payload convert = GrpcUtils.convert(request, isBinaryPayloadSupported());
         payloadStreamObserver.onNext(convert);
     }
     
     @Override
     public void asyncRequest(Request request, final RequestCallBack requestCallBack) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, isBinaryPayloadSupported());
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         
         //set callback .
@@ -24,14 +24,20 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.AbstractRequestCodec;
+import com.alibaba.nacos.common.remote.codec.BinaryPayloadCodecRegistry;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.UnsafeByteOperations;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -43,6 +49,11 @@ import java.util.Map;
  */
 public class GrpcUtils {
     
+    /**
+     * The type url of {@link Any} body which is encoded by binary codec, the body without type url is encoded by json.
+     */
+    public static final String BINARY_BODY_TYPE_URL = "nacos/binary";
+    
     /**
      * convert request to payload.
      *
@@ -73,17 +84,59 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, false);
+    }
+    
+    /**
+     * convert request to payload, the body will be encoded by binary codec if {@code binary} is {@code true} and the
+     * request type is supported by {@link BinaryPayloadCodecRegistry}.
+     *
+     * @param request request.
+     * @param binary  whether use binary codec.
+     * @return payload.
+     */
+    public static Payload convert(Request request, boolean binary) {
         
         Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
                 .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
         
-        byte[] jsonBytes = convertRequestToByte(request);
+        Any body;
+        if (binary && BinaryPayloadCodecRegistry.isSupported(request)) {
+            body = buildBinaryBody(BinaryPayloadCodecRegistry.encode(request));
+        } else {
+            byte[] jsonBytes = convertRequestToByte(request);
+            body = Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)).build();
+        }
         
-        Payload.Builder builder = Payload.newBuilder();
+        return Payload.newBuilder().setBody(body).setMetadata(newMeta).build();
         
-        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(newMeta).build();
+    }
+    
+    /**
+     * convert request to payload with pre-serialized request body.
+     *
+     * <p>The pre-serialized body should be created by {@link #convertRequestBodyToByte(Request, boolean)}, so that it
+     * can be shared by the requests with the same content but different request id. The codec of body is recognized by
+     * the first byte, json body always starts with <code>'{'</code>.
+     *
+     * @param request        request.
+     * @param serializedBody pre-serialized request body without headers and request id.
+     * @return payload.
+     */
+    public static Payload convert(Request request, byte[] serializedBody) {
         
+        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
+                .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
+        
+        Any body;
+        if (isJsonBody(serializedBody)) {
+            byte[] jsonBytes = injectRequestId(serializedBody, request.getRequestId());
+            body = Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)).build();
+        } else {
+            body = buildBinaryBody(appendRequestId(serializedBody, request.getRequestId()));
+        }
+        
+        return Payload.newBuilder().setBody(body).setMetadata(newMeta).build();
     }
     
     /**
@@ -93,11 +146,100 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Response response) {
-        byte[] jsonBytes = JacksonUtils.toJsonBytes(response);
+        return convert(response, false);
+    }
+    
+    /**
+     * convert response to payload, the body will be encoded by binary codec if {@code binary} is {@code true} and the
+     * response type is supported by {@link BinaryPayloadCodecRegistry}.
+     *
+     * @param response response.
+     * @param binary   whether use binary codec.
+     * @return payload.
+     */
+    public static Payload convert(Response response, boolean binary) {
+        Any body;
+        if (binary && BinaryPayloadCodecRegistry.isSupported(response)) {
+            body = buildBinaryBody(BinaryPayloadCodecRegistry.encode(response));
+        } else {
+            byte[] jsonBytes = JacksonUtils.toJsonBytes(response);
+            body = Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)).build();
+        }
         
         Metadata.Builder metaBuilder = Metadata.newBuilder().setType(response.getClass().getSimpleName());
-        return Payload.newBuilder().setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(metaBuilder.build()).build();
+        return Payload.newBuilder().setBody(body).setMetadata(metaBuilder.build()).build();
+    }
+    
+    /**
+     * Serialize request body without headers and request id by json, the result can be shared by requests with the
+     * same content and used by {@link #convert(Request, byte[])}.
+     *
+     * @param request request.
+     * @return serialized request body.
+     */
+    public static byte[] convertRequestBodyToByte(Request request) {
+        return convertRequestBodyToByte(request, false);
+    }
+    
+    /**
+     * Serialize request body without headers and request id, the result can be shared by requests with the same
+     * content and used by {@link #convert(Request, byte[])}.
+     *
+     * @param request request.
+     * @param binary  whether use binary codec if the request type is supported.
+     * @return serialized request body.
+     */
+    public static byte[] convertRequestBodyToByte(Request request, boolean binary) {
+        String requestId = request.getRequestId();
+        request.setRequestId(null);
+        try {
+            if (binary && BinaryPayloadCodecRegistry.isSupported(request)) {
+                return BinaryPayloadCodecRegistry.encode(request).toByteArray();
+            }
+            return convertRequestToByte(request);
+        } finally {
+            request.setRequestId(requestId);
+        }
+    }
+    
+    private static boolean isJsonBody(byte[] serializedBody) {
+        return serializedBody.length > 0 && serializedBody[0] == '{';
+    }
+    
+    private static Any buildBinaryBody(ByteString body) {
+        return Any.newBuilder().setTypeUrl(BINARY_BODY_TYPE_URL).setValue(body).build();
+    }
+    
+    private static ByteString appendRequestId(byte[] serializedBody, String requestId) {
+        ByteString body = UnsafeByteOperations.unsafeWrap(serializedBody);
+        if (StringUtils.isEmpty(requestId)) {
+            return body;
+        }
+        // the latter field overrides the former one in protobuf wire format, so request id can be appended directly.
+        ByteString.Output buffer = ByteString.newOutput(requestId.length() + 2);
+        CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+        try {
+            output.writeString(AbstractRequestCodec.REQUEST_ID, requestId);
+            output.flush();
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+        return body.concat(buffer.toByteString());
+    }
+    
+    private static byte[] injectRequestId(byte[] serializedBody, String requestId) {
+        if (StringUtils.isEmpty(requestId)) {
+            return serializedBody;
+        }
+        // serialized body is a json object, so insert the request id as the first field.
+        boolean emptyBody = serializedBody.length <= 2;
+        byte[] requestIdField = ("\"requestId\":\"" + requestId + (emptyBody ? "\"" : "\","))
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] result = new byte[serializedBody.length + requestIdField.length];
+        result[0] = serializedBody[0];
+        System.arraycopy(requestIdField, 0, result, 1, requestIdField.length);
+        System.arraycopy(serializedBody, 1, result, requestIdField.length + 1, serializedBody.length - 1);
+        return result;
     }
     
     private static byte[] convertRequestToByte(Request request) {
@@ -118,8 +260,13 @@ public class GrpcUtils {
         Class classType = PayloadRegistry.getClassByType(payload.getMetadata().getType());
         if (classType != null) {
             ByteString byteString = payload.getBody().getValue();
-            ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            Object obj;
+            if (BINARY_BODY_TYPE_URL.equals(payload.getBody().getTypeUrl())) {
+                obj = BinaryPayloadCodecRegistry.decode(payload.getMetadata().getType(), byteString);
+            } else {
+                ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
+                obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            }
             if (obj instanceof Request) {
                 ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
             }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.remote.request.Request;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+/**
+ * Abstract binary codec for request, the field number {@code 1} is reserved for request id.
+ *
+ * <p>The request id is always encoded at the end, so the pre-serialized body without request id can be appended with
+ * request id directly.
+ *
+ * @param <T> type of request
+ * @author Nacos
+ */
+public abstract class AbstractRequestCodec<T extends Request> implements BinaryPayloadCodec<T> {
+    
+    public static final int REQUEST_ID = 1;
+    
+    @Override
+    public void encode(T payload, CodedOutputStream output) throws IOException {
+        encodeBody(payload, output);
+        BinaryCodecUtils.writeString(output, REQUEST_ID, payload.getRequestId());
+    }
+    
+    @Override
+    public T decode(CodedInputStream input) throws IOException {
+        T result = newPayload();
+        int tag;
+        while (0 != (tag = input.readTag())) {
+            int fieldNumber = WireFormat.getTagFieldNumber(tag);
+            if (REQUEST_ID == fieldNumber) {
+                result.setRequestId(input.readString());
+            } else if (!decodeField(result, fieldNumber, input)) {
+                input.skipField(tag);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Create new empty request.
+     *
+     * @return new request
+     */
+    protected abstract T newPayload();
+    
+    /**
+     * Encode fields of request except request id.
+     *
+     * @param payload request
+     * @param output  output stream
+     * @throws IOException if encode failed
+     */
+    protected abstract void encodeBody(T payload, CodedOutputStream output) throws IOException;
+    
+    /**
+     * Decode one field of request.
+     *
+     * @param payload     request to fill
+     * @param fieldNumber field number
+     * @param input       input stream
+     * @return {@code true} if field is known, otherwise the field will be skipped
+     * @throws IOException if decode failed
+     */
+    protected abstract boolean decodeField(T payload, int fieldNumber, CodedInputStream input) throws IOException;
+}
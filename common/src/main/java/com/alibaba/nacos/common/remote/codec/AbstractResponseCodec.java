@@ -0,0 +1,106 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.remote.response.Response;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+/**
+ * Abstract binary codec for response, the field numbers from {@code 1} to {@code 4} are reserved for common fields of
+ * response.
+ *
+ * @param <T> type of response
+ * @author Nacos
+ */
+public abstract class AbstractResponseCodec<T extends Response> implements BinaryPayloadCodec<T> {
+    
+    public static final int RESULT_CODE = 1;
+    
+    public static final int ERROR_CODE = 2;
+    
+    public static final int MESSAGE = 3;
+    
+    public static final int REQUEST_ID = 4;
+    
+    @Override
+    public void encode(T payload, CodedOutputStream output) throws IOException {
+        output.writeInt32(RESULT_CODE, payload.getResultCode());
+        output.writeInt32(ERROR_CODE, payload.getErrorCode());
+        BinaryCodecUtils.writeString(output, MESSAGE, payload.getMessage());
+        BinaryCodecUtils.writeString(output, REQUEST_ID, payload.getRequestId());
+        encodeBody(payload, output);
+    }
+    
+    @Override
+    public T decode(CodedInputStream input) throws IOException {
+        T result = newPayload();
+        int tag;
+        while (0 != (tag = input.readTag())) {
+            int fieldNumber = WireFormat.getTagFieldNumber(tag);
+            switch (fieldNumber) {
+                case RESULT_CODE:
+                    result.setResultCode(input.readInt32());
+                    break;
+                case ERROR_CODE:
+                    result.setErrorCode(input.readInt32());
+                    break;
+                case MESSAGE:
+                    result.setMessage(input.readString());
+                    break;
+                case REQUEST_ID:
+                    result.setRequestId(input.readString());
+                    break;
+                default:
+                    if (!decodeField(result, fieldNumber, input)) {
+                        input.skipField(tag);
+                    }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Create new empty response.
+     *
+     * @return new response
+     */
+    protected abstract T newPayload();
+    
+    /**
+     * Encode fields of response except common fields.
+     *
+     * @param payload response
+     * @param output  output stream
+     * @throws IOException if encode failed
+     */
+    protected abstract void encodeBody(T payload, CodedOutputStream output) throws IOException;
+    
+    /**
+     * Decode one field of response.
+     *
+     * @param payload     response to fill
+     * @param fieldNumber field number
+     * @param input       input stream
+     * @return {@code true} if field is known, otherwise the field will be skipped
+     * @throws IOException if decode failed
+     */
+    protected abstract boolean decodeField(T payload, int fieldNumber, CodedInputStream input) throws IOException;
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Utils for binary payload codec.
+ *
+ * @author Nacos
+ */
+public class BinaryCodecUtils {
+    
+    private static final int MAP_KEY = 1;
+    
+    private static final int MAP_VALUE = 2;
+    
+    private static final int INITIAL_SCRATCH_SIZE = 256;
+    
+    private static final ThreadLocal<NestedScratch> SCRATCH = ThreadLocal.withInitial(NestedScratch::new);
+    
+    /**
+     * Write string field, null value will be skipped.
+     *
+     * @param output      output stream
+     * @param fieldNumber field number
+     * @param value       value
+     * @throws IOException if write failed
+     */
+    public static void writeString(CodedOutputStream output, int fieldNumber, String value) throws IOException {
+        if (null != value) {
+            output.writeString(fieldNumber, value);
+        }
+    }
+    
+    /**
+     * Write nested message field, null value will be skipped.
+     *
+     * @param output      output stream
+     * @param fieldNumber field number
+     * @param value       value
+     * @param encoder     encoder of value
+     * @param <T>         type of value
+     * @throws IOException if write failed
+     */
+    public static <T> void writeMessage(CodedOutputStream output, int fieldNumber, T value, MessageEncoder<T> encoder)
+            throws IOException {
+        if (null == value) {
+            return;
+        }
+        NestedScratch scratch = SCRATCH.get();
+        int depth = scratch.depth++;
+        try {
+            while (true) {
+                byte[] buffer = scratch.buffer(depth);
+                CodedOutputStream nestedOutput = CodedOutputStream.newInstance(buffer);
+                try {
+                    encoder.encode(value, nestedOutput);
+                } catch (CodedOutputStream.OutOfSpaceException e) {
+                    scratch.grow(depth);
+                    continue;
+                }
+                output.writeByteArray(fieldNumber, buffer, 0, nestedOutput.getTotalBytesWritten());
+                return;
+            }
+        } finally {
+            scratch.depth = depth;
+        }
+    }
+    
+    /**
+     * Write repeated nested message field, null collection and null elements will be skipped.
+     *
+     * @param output      output stream
+     * @param fieldNumber field number
+     * @param values      values
+     * @param encoder     encoder of value
+     * @param <T>         type of value
+     * @throws IOException if write failed
+     */
+    public static <T> void writeMessages(CodedOutputStream output, int fieldNumber, Collection<T> values,
+            MessageEncoder<T> encoder) throws IOException {
+        if (null == values) {
+            return;
+        }
+        for (T each : values) {
+            writeMessage(output, fieldNumber, each, encoder);
+        }
+    }
+    
+    /**
+     * Write map field as repeated entry messages, null map will be skipped.
+     *
+     * @param output      output stream
+     * @param fieldNumber field number
+     * @param map         map
+     * @throws IOException if write failed
+     */
+    public static void writeStringMap(CodedOutputStream output, int fieldNumber, Map<String, String> map)
+            throws IOException {
+        if (null == map) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeMessage(output, fieldNumber, entry, (value, nestedOutput) -> {
+                writeString(nestedOutput, MAP_KEY, value.getKey());
+                writeString(nestedOutput, MAP_VALUE, value.getValue());
+            });
+        }
+    }
+    
+    /**
+     * Read nested message field.
+     *
+     * @param input   input stream
+     * @param decoder decoder of value
+     * @param <T>     type of value
+     * @return decoded value
+     * @throws IOException if read failed
+     */
+    public static <T> T readMessage(CodedInputStream input, MessageDecoder<T> decoder) throws IOException {
+        int length = input.readRawVarint32();
+        int oldLimit = input.pushLimit(length);
+        T result = decoder.decode(input);
+        input.checkLastTagWas(0);
+        input.popLimit(oldLimit);
+        return result;
+    }
+    
+    /**
+     * Read one entry of map field and put it into map.
+     *
+     * @param input input stream
+     * @param map   map to put entry
+     * @throws IOException if read failed
+     */
+    public static void readStringMapEntry(CodedInputStream input, Map<String, String> map) throws IOException {
+        readMessage(input, nestedInput -> {
+            String key = null;
+            String value = null;
+            int tag;
+            while (0 != (tag = nestedInput.readTag())) {
+                int fieldNumber = WireFormat.getTagFieldNumber(tag);
+                if (MAP_KEY == fieldNumber) {
+                    key = nestedInput.readString();
+                } else if (MAP_VALUE == fieldNumber) {
+                    value = nestedInput.readString();
+                } else {
+                    nestedInput.skipField(tag);
+                }
+            }
+            map.put(key, value);
+            return null;
+        });
+    }
+    
+    /**
+     * Reusable buffers to encode nested messages, one buffer for each nested depth.
+     *
+     * <p>The length of nested message is unknown before encoding, so nested messages are encoded into the buffer
+     * first, and the buffer will be doubled and the nested message will be encoded again if it is out of space.
+     */
+    private static class NestedScratch {
+        
+        private byte[][] buffers = new byte[4][];
+        
+        private int depth;
+        
+        private byte[] buffer(int depth) {
+            if (depth >= buffers.length) {
+                buffers = Arrays.copyOf(buffers, buffers.length * 2);
+            }
+            if (null == buffers[depth]) {
+                buffers[depth] = new byte[INITIAL_SCRATCH_SIZE];
+            }
+            return buffers[depth];
+        }
+        
+        private void grow(int depth) {
+            buffers[depth] = new byte[buffers[depth].length * 2];
+        }
+    }
+    
+    /**
+     * Encoder of nested message.
+     *
+     * @param <T> type of message
+     */
+    @FunctionalInterface
+    public interface MessageEncoder<T> {
+        
+        /**
+         * Encode message.
+         *
+         * @param value  message
+         * @param output output stream
+         * @throws IOException if encode failed
+         */
+        void encode(T value, CodedOutputStream output) throws IOException;
+    }
+    
+    /**
+     * Decoder of nested message.
+     *
+     * @param <T> type of message
+     */
+    @FunctionalInterface
+    public interface MessageDecoder<T> {
+        
+        /**
+         * Decode message, the input is limited to the length of message.
+         *
+         * @param input input stream
+         * @return message
+         * @throws IOException if decode failed
+         */
+        T decode(CodedInputStream input) throws IOException;
+    }
+}
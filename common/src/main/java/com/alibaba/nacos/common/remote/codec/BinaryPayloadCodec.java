@@ -0,0 +1,61 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.remote.Payload;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec for the body of grpc payload, which encodes the payload in protobuf wire format.
+ *
+ * <p>Headers are not part of the body, they are transferred by the metadata of grpc payload. The field numbers used by
+ * codec should be less than 15 and the group wire type should not be used, so that the first byte of encoded body is
+ * always different from the json body.
+ *
+ * @param <T> type of payload
+ * @author Nacos
+ */
+public interface BinaryPayloadCodec<T extends Payload> {
+    
+    /**
+     * Get the type of payload which this codec supports.
+     *
+     * @return type of payload
+     */
+    Class<T> getPayloadType();
+    
+    /**
+     * Encode payload into output.
+     *
+     * @param payload payload to encode
+     * @param output  output stream
+     * @throws IOException if encode failed
+     */
+    void encode(T payload, CodedOutputStream output) throws IOException;
+    
+    /**
+     * Decode payload from input.
+     *
+     * @param input input stream
+     * @return decoded payload
+     * @throws IOException if decode failed
+     */
+    T decode(CodedInputStream input) throws IOException;
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.Payload;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of binary payload codecs, only the payloads in hot paths are supported, others are still encoded by json.
+ *
+ * @author Nacos
+ */
+public class BinaryPayloadCodecRegistry {
+    
+    private static final Map<String, BinaryPayloadCodec<? extends Payload>> CODECS = new HashMap<>(8);
+    
+    static {
+        register(new ConfigBatchListenRequestCodec());
+        register(new ConfigQueryResponseCodec());
+        register(new NotifySubscriberRequestCodec());
+        register(new InstanceRequestCodec());
+        register(new SubscribeServiceRequestCodec());
+    }
+    
+    private static void register(BinaryPayloadCodec<? extends Payload> codec) {
+        CODECS.put(codec.getPayloadType().getSimpleName(), codec);
+    }
+    
+    /**
+     * Whether the payload can be encoded by binary codec.
+     *
+     * <p>Only the exact registered type is supported, the sub types should be encoded by json to avoid losing fields.
+     *
+     * @param payload payload
+     * @return {@code true} if the payload can be encoded by binary codec
+     */
+    public static boolean isSupported(Payload payload) {
+        BinaryPayloadCodec<? extends Payload> codec = CODECS.get(payload.getClass().getSimpleName());
+        return null != codec && codec.getPayloadType() == payload.getClass();
+    }
+    
+    /**
+     * Encode payload by binary codec.
+     *
+     * @param payload payload, should be supported by {@link #isSupported(Payload)}
+     * @return encoded body
+     */
+    @SuppressWarnings("unchecked")
+    public static ByteString encode(Payload payload) {
+        BinaryPayloadCodec<Payload> codec = (BinaryPayloadCodec<Payload>) CODECS.get(payload.getClass().getSimpleName());
+        ByteString.Output buffer = ByteString.newOutput();
+        CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+        try {
+            codec.encode(payload, output);
+            output.flush();
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+        return buffer.toByteString();
+    }
+    
+    /**
+     * Decode payload by binary codec.
+     *
+     * @param type type of payload
+     * @param body encoded body
+     * @return payload
+     */
+    public static Payload decode(String type, ByteString body) {
+        BinaryPayloadCodec<? extends Payload> codec = CODECS.get(type);
+        if (null == codec) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Unknown binary payload type:" + type);
+        }
+        try {
+            return codec.decode(CodedInputStream.newInstance(body.asReadOnlyByteBuffer()));
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+/**
+ * Binary codec for {@link ConfigBatchListenRequest}.
+ *
+ * @author Nacos
+ */
+public class ConfigBatchListenRequestCodec extends AbstractRequestCodec<ConfigBatchListenRequest> {
+    
+    private static final int DATA_ID = 2;
+    
+    private static final int GROUP = 3;
+    
+    private static final int TENANT = 4;
+    
+    private static final int LISTEN = 5;
+    
+    private static final int CONFIG_LISTEN_CONTEXTS = 6;
+    
+    private static final int CONTEXT_GROUP = 1;
+    
+    private static final int CONTEXT_MD5 = 2;
+    
+    private static final int CONTEXT_DATA_ID = 3;
+    
+    private static final int CONTEXT_TENANT = 4;
+    
+    @Override
+    public Class<ConfigBatchListenRequest> getPayloadType() {
+        return ConfigBatchListenRequest.class;
+    }
+    
+    @Override
+    protected ConfigBatchListenRequest newPayload() {
+        return new ConfigBatchListenRequest();
+    }
+    
+    @Override
+    protected void encodeBody(ConfigBatchListenRequest payload, CodedOutputStream output) throws IOException {
+        BinaryCodecUtils.writeString(output, DATA_ID, payload.getDataId());
+        BinaryCodecUtils.writeString(output, GROUP, payload.getGroup());
+        BinaryCodecUtils.writeString(output, TENANT, payload.getTenant());
+        output.writeBool(LISTEN, payload.isListen());
+        BinaryCodecUtils.writeMessages(output, CONFIG_LISTEN_CONTEXTS, payload.getConfigListenContexts(),
+                ConfigBatchListenRequestCodec::encodeContext);
+    }
+    
+    @Override
+    protected boolean decodeField(ConfigBatchListenRequest payload, int fieldNumber, CodedInputStream input)
+            throws IOException {
+        switch (fieldNumber) {
+            case DATA_ID:
+                payload.setDataId(input.readString());
+                return true;
+            case GROUP:
+                payload.setGroup(input.readString());
+                return true;
+            case TENANT:
+                payload.setTenant(input.readString());
+                return true;
+            case LISTEN:
+                payload.setListen(input.readBool());
+                return true;
+            case CONFIG_LISTEN_CONTEXTS:
+                payload.getConfigListenContexts()
+                        .add(BinaryCodecUtils.readMessage(input, ConfigBatchListenRequestCodec::decodeContext));
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static void encodeContext(ConfigBatchListenRequest.ConfigListenContext context, CodedOutputStream output)
+            throws IOException {
+        BinaryCodecUtils.writeString(output, CONTEXT_GROUP, context.getGroup());
+        BinaryCodecUtils.writeString(output, CONTEXT_MD5, context.getMd5());
+        BinaryCodecUtils.writeString(output, CONTEXT_DATA_ID, context.getDataId());
+        BinaryCodecUtils.writeString(output, CONTEXT_TENANT, context.getTenant());
+    }
+    
+    private static ConfigBatchListenRequest.ConfigListenContext decodeContext(CodedInputStream input)
+            throws IOException {
+        ConfigBatchListenRequest.ConfigListenContext result = new ConfigBatchListenRequest.ConfigListenContext();
+        int tag;
+        while (0 != (tag = input.readTag())) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case CONTEXT_GROUP:
+                    result.setGroup(input.readString());
+                    break;
+                case CONTEXT_MD5:
+                    result.setMd5(input.readString());
+                    break;
+                case CONTEXT_DATA_ID:
+                    result.setDataId(input.readString());
+                    break;
+                case CONTEXT_TENANT:
+                    result.setTenant(input.readString());
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec for {@link ConfigQueryResponse}.
+ *
+ * @author Nacos
+ */
+public class ConfigQueryResponseCodec extends AbstractResponseCodec<ConfigQueryResponse> {
+    
+    private static final int CONTENT = 5;
+    
+    private static final int ENCRYPTED_DATA_KEY = 6;
+    
+    private static final int CONTENT_TYPE = 7;
+    
+    private static final int MD5 = 8;
+    
+    private static final int LAST_MODIFIED = 9;
+    
+    private static final int BETA = 10;
+    
+    private static final int TAG = 11;
+    
+    @Override
+    public Class<ConfigQueryResponse> getPayloadType() {
+        return ConfigQueryResponse.class;
+    }
+    
+    @Override
+    protected ConfigQueryResponse newPayload() {
+        return new ConfigQueryResponse();
+    }
+    
+    @Override
+    protected void encodeBody(ConfigQueryResponse payload, CodedOutputStream output) throws IOException {
+        BinaryCodecUtils.writeString(output, CONTENT, payload.getContent());
+        BinaryCodecUtils.writeString(output, ENCRYPTED_DATA_KEY, payload.getEncryptedDataKey());
+        BinaryCodecUtils.writeString(output, CONTENT_TYPE, payload.getContentType());
+        BinaryCodecUtils.writeString(output, MD5, payload.getMd5());
+        output.writeInt64(LAST_MODIFIED, payload.getLastModified());
+        output.writeBool(BETA, payload.isBeta());
+        BinaryCodecUtils.writeString(output, TAG, payload.getTag());
+    }
+    
+    @Override
+    protected boolean decodeField(ConfigQueryResponse payload, int fieldNumber, CodedInputStream input)
+            throws IOException {
+        switch (fieldNumber) {
+            case CONTENT:
+                payload.setContent(input.readString());
+                return true;
+            case ENCRYPTED_DATA_KEY:
+                payload.setEncryptedDataKey(input.readString());
+                return true;
+            case CONTENT_TYPE:
+                payload.setContentType(input.readString());
+                return true;
+            case MD5:
+                payload.setMd5(input.readString());
+                return true;
+            case LAST_MODIFIED:
+                payload.setLastModified(input.readInt64());
+                return true;
+            case BETA:
+                payload.setBeta(input.readBool());
+                return true;
+            case TAG:
+                payload.setTag(input.readString());
+                return true;
+            default:
+                return false;
+        }
+    }
+}
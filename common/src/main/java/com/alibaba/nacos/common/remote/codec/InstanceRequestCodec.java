@@ -0,0 +1,84 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec for {@link InstanceRequest}.
+ *
+ * @author Nacos
+ */
+public class InstanceRequestCodec extends AbstractRequestCodec<InstanceRequest> {
+    
+    private static final int NAMESPACE = 2;
+    
+    private static final int SERVICE_NAME = 3;
+    
+    private static final int GROUP_NAME = 4;
+    
+    private static final int TYPE = 5;
+    
+    private static final int INSTANCE = 6;
+    
+    @Override
+    public Class<InstanceRequest> getPayloadType() {
+        return InstanceRequest.class;
+    }
+    
+    @Override
+    protected InstanceRequest newPayload() {
+        return new InstanceRequest();
+    }
+    
+    @Override
+    protected void encodeBody(InstanceRequest payload, CodedOutputStream output) throws IOException {
+        BinaryCodecUtils.writeString(output, NAMESPACE, payload.getNamespace());
+        BinaryCodecUtils.writeString(output, SERVICE_NAME, payload.getServiceName());
+        BinaryCodecUtils.writeString(output, GROUP_NAME, payload.getGroupName());
+        BinaryCodecUtils.writeString(output, TYPE, payload.getType());
+        BinaryCodecUtils.writeMessage(output, INSTANCE, payload.getInstance(), NamingBinaryCodecUtils::encodeInstance);
+    }
+    
+    @Override
+    protected boolean decodeField(InstanceRequest payload, int fieldNumber, CodedInputStream input)
+            throws IOException {
+        switch (fieldNumber) {
+            case NAMESPACE:
+                payload.setNamespace(input.readString());
+                return true;
+            case SERVICE_NAME:
+                payload.setServiceName(input.readString());
+                return true;
+            case GROUP_NAME:
+                payload.setGroupName(input.readString());
+                return true;
+            case TYPE:
+                payload.setType(input.readString());
+                return true;
+            case INSTANCE:
+                payload.setInstance(BinaryCodecUtils.readMessage(input, NamingBinaryCodecUtils::decodeInstance));
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Binary codec utils for naming objects, such as {@link Instance} and {@link ServiceInfo}.
+ *
+ * @author Nacos
+ */
+public class NamingBinaryCodecUtils {
+    
+    private static final int INSTANCE_ID = 1;
+    
+    private static final int INSTANCE_IP = 2;
+    
+    private static final int INSTANCE_PORT = 3;
+    
+    private static final int INSTANCE_WEIGHT = 4;
+    
+    private static final int INSTANCE_HEALTHY = 5;
+    
+    private static final int INSTANCE_ENABLED = 6;
+    
+    private static final int INSTANCE_EPHEMERAL = 7;
+    
+    private static final int INSTANCE_CLUSTER_NAME = 8;
+    
+    private static final int INSTANCE_SERVICE_NAME = 9;
+    
+    private static final int INSTANCE_METADATA = 10;
+    
+    private static final int SERVICE_NAME = 1;
+    
+    private static final int SERVICE_GROUP_NAME = 2;
+    
+    private static final int SERVICE_CLUSTERS = 3;
+    
+    private static final int SERVICE_CACHE_MILLIS = 4;
+    
+    private static final int SERVICE_HOSTS = 5;
+    
+    private static final int SERVICE_LAST_REF_TIME = 6;
+    
+    private static final int SERVICE_CHECKSUM = 7;
+    
+    private static final int SERVICE_ALL_IPS = 8;
+    
+    private static final int SERVICE_REACH_PROTECTION_THRESHOLD = 9;
+    
+    /**
+     * Encode instance.
+     *
+     * @param instance instance
+     * @param output   output stream
+     * @throws IOException if encode failed
+     */
+    public static void encodeInstance(Instance instance, CodedOutputStream output) throws IOException {
+        BinaryCodecUtils.writeString(output, INSTANCE_ID, instance.getInstanceId());
+        BinaryCodecUtils.writeString(output, INSTANCE_IP, instance.getIp());
+        output.writeInt32(INSTANCE_PORT, instance.getPort());
+        output.writeDouble(INSTANCE_WEIGHT, instance.getWeight());
+        output.writeBool(INSTANCE_HEALTHY, instance.isHealthy());
+        output.writeBool(INSTANCE_ENABLED, instance.isEnabled());
+        output.writeBool(INSTANCE_EPHEMERAL, instance.isEphemeral());
+        BinaryCodecUtils.writeString(output, INSTANCE_CLUSTER_NAME, instance.getClusterName());
+        BinaryCodecUtils.writeString(output, INSTANCE_SERVICE_NAME, instance.getServiceName());
+        BinaryCodecUtils.writeStringMap(output, INSTANCE_METADATA, instance.getMetadata());
+    }
+    
+    /**
+     * Decode instance.
+     *
+     * @param input input stream
+     * @return instance
+     * @throws IOException if decode failed
+     */
+    public static Instance decodeInstance(CodedInputStream input) throws IOException {
+        Instance result = new Instance();
+        result.setMetadata(new HashMap<>(8));
+        int tag;
+        while (0 != (tag = input.readTag())) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case INSTANCE_ID:
+                    result.setInstanceId(input.readString());
+                    break;
+                case INSTANCE_IP:
+                    result.setIp(input.readString());
+                    break;
+                case INSTANCE_PORT:
+                    result.setPort(input.readInt32());
+                    break;
+                case INSTANCE_WEIGHT:
+                    result.setWeight(input.readDouble());
+                    break;
+                case INSTANCE_HEALTHY:
+                    result.setHealthy(input.readBool());
+                    break;
+                case INSTANCE_ENABLED:
+                    result.setEnabled(input.readBool());
+                    break;
+                case INSTANCE_EPHEMERAL:
+                    result.setEphemeral(input.readBool());
+                    break;
+                case INSTANCE_CLUSTER_NAME:
+                    result.setClusterName(input.readString());
+                    break;
+                case INSTANCE_SERVICE_NAME:
+                    result.setServiceName(input.readString());
+                    break;
+                case INSTANCE_METADATA:
+                    BinaryCodecUtils.readStringMapEntry(input, result.getMetadata());
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Encode service info.
+     *
+     * @param serviceInfo service info
+     * @param output      output stream
+     * @throws IOException if encode failed
+     */
+    public static void encodeServiceInfo(ServiceInfo serviceInfo, CodedOutputStream output) throws IOException {
+        BinaryCodecUtils.writeString(output, SERVICE_NAME, serviceInfo.getName());
+        BinaryCodecUtils.writeString(output, SERVICE_GROUP_NAME, serviceInfo.getGroupName());
+        BinaryCodecUtils.writeString(output, SERVICE_CLUSTERS, serviceInfo.getClusters());
+        output.writeInt64(SERVICE_CACHE_MILLIS, serviceInfo.getCacheMillis());
+        BinaryCodecUtils.writeMessages(output, SERVICE_HOSTS, serviceInfo.getHosts(),
+                NamingBinaryCodecUtils::encodeInstance);
+        output.writeInt64(SERVICE_LAST_REF_TIME, serviceInfo.getLastRefTime());
+        BinaryCodecUtils.writeString(output, SERVICE_CHECKSUM, serviceInfo.getChecksum());
+        output.writeBool(SERVICE_ALL_IPS, serviceInfo.isAllIPs());
+        output.writeBool(SERVICE_REACH_PROTECTION_THRESHOLD, serviceInfo.isReachProtectionThreshold());
+    }
+    
+    /**
+     * Decode service info.
+     *
+     * @param input input stream
+     * @return service info
+     * @throws IOException if decode failed
+     */
+    public static ServiceInfo decodeServiceInfo(CodedInputStream input) throws IOException {
+        ServiceInfo result = new ServiceInfo();
+        List<Instance> hosts = new ArrayList<>();
+        int tag;
+        while (0 != (tag = input.readTag())) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case SERVICE_NAME:
+                    result.setName(input.readString());
+                    break;
+                case SERVICE_GROUP_NAME:
+                    result.setGroupName(input.readString());
+                    break;
+                case SERVICE_CLUSTERS:
+                    result.setClusters(input.readString());
+                    break;
+                case SERVICE_CACHE_MILLIS:
+                    result.setCacheMillis(input.readInt64());
+                    break;
+                case SERVICE_HOSTS:
+                    hosts.add(BinaryCodecUtils.readMessage(input, NamingBinaryCodecUtils::decodeInstance));
+                    break;
+                case SERVICE_LAST_REF_TIME:
+                    result.setLastRefTime(input.readInt64());
+                    break;
+                case SERVICE_CHECKSUM:
+                    result.setChecksum(input.readString());
+                    break;
+                case SERVICE_ALL_IPS:
+                    result.setAllIPs(input.readBool());
+                    break;
+                case SERVICE_REACH_PROTECTION_THRESHOLD:
+                    result.setReachProtectionThreshold(input.readBool());
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Binary codec for {@link NotifySubscriberRequest}.
+ *
+ * @author Nacos
+ */
+public class NotifySubscriberRequestCodec extends AbstractRequestCodec<NotifySubscriberRequest> {
+    
+    private static final int NAMESPACE = 2;
+    
+    private static final int SERVICE_NAME = 3;
+    
+    private static final int GROUP_NAME = 4;
+    
+    private static final int SERVICE_INFO = 5;
+    
+    private static final int REVISION = 6;
+    
+    private static final int DELTA_PUSH = 7;
+    
+    private static final int BASE_REVISION = 8;
+    
+    private static final int REMOVED_HOSTS = 9;
+    
+    @Override
+    public Class<NotifySubscriberRequest> getPayloadType() {
+        return NotifySubscriberRequest.class;
+    }
+    
+    @Override
+    protected NotifySubscriberRequest newPayload() {
+        return new NotifySubscriberRequest();
+    }
+    
+    @Override
+    protected void encodeBody(NotifySubscriberRequest payload, CodedOutputStream output) throws IOException {
+        BinaryCodecUtils.writeString(output, NAMESPACE, payload.getNamespace());
+        BinaryCodecUtils.writeString(output, SERVICE_NAME, payload.getServiceName());
+        BinaryCodecUtils.writeString(output, GROUP_NAME, payload.getGroupName());
+        BinaryCodecUtils.writeMessage(output, SERVICE_INFO, payload.getServiceInfo(),
+                NamingBinaryCodecUtils::encodeServiceInfo);
+        output.writeInt64(REVISION, payload.getRevision());
+        output.writeBool(DELTA_PUSH, payload.isDeltaPush());
+        output.writeInt64(BASE_REVISION, payload.getBaseRevision());
+        BinaryCodecUtils.writeMessages(output, REMOVED_HOSTS, payload.getRemovedHosts(),
+                NamingBinaryCodecUtils::encodeInstance);
+    }
+    
+    @Override
+    protected boolean decodeField(NotifySubscriberRequest payload, int fieldNumber, CodedInputStream input)
+            throws IOException {
+        switch (fieldNumber) {
+            case NAMESPACE:
+                payload.setNamespace(input.readString());
+                return true;
+            case SERVICE_NAME:
+                payload.setServiceName(input.readString());
+                return true;
+            case GROUP_NAME:
+                payload.setGroupName(input.readString());
+                return true;
+            case SERVICE_INFO:
+                payload.setServiceInfo(BinaryCodecUtils.readMessage(input, NamingBinaryCodecUtils::decodeServiceInfo));
+                return true;
+            case REVISION:
+                payload.setRevision(input.readInt64());
+                return true;
+            case DELTA_PUSH:
+                payload.setDeltaPush(input.readBool());
+                return true;
+            case BASE_REVISION:
+                payload.setBaseRevision(input.readInt64());
+                return true;
+            case REMOVED_HOSTS:
+                if (null == payload.getRemovedHosts()) {
+                    payload.setRemovedHosts(new ArrayList<>());
+                }
+                Instance removedHost = BinaryCodecUtils.readMessage(input, NamingBinaryCodecUtils::decodeInstance);
+                payload.getRemovedHosts().add(removedHost);
+                return true;
+            default:
+                return false;
+        }
+    }
+}
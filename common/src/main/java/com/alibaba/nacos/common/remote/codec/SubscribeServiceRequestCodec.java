@@ -0,0 +1,84 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec for {@link SubscribeServiceRequest}.
+ *
+ * @author Nacos
+ */
+public class SubscribeServiceRequestCodec extends AbstractRequestCodec<SubscribeServiceRequest> {
+    
+    private static final int NAMESPACE = 2;
+    
+    private static final int SERVICE_NAME = 3;
+    
+    private static final int GROUP_NAME = 4;
+    
+    private static final int SUBSCRIBE = 5;
+    
+    private static final int CLUSTERS = 6;
+    
+    @Override
+    public Class<SubscribeServiceRequest> getPayloadType() {
+        return SubscribeServiceRequest.class;
+    }
+    
+    @Override
+    protected SubscribeServiceRequest newPayload() {
+        return new SubscribeServiceRequest();
+    }
+    
+    @Override
+    protected void encodeBody(SubscribeServiceRequest payload, CodedOutputStream output) throws IOException {
+        BinaryCodecUtils.writeString(output, NAMESPACE, payload.getNamespace());
+        BinaryCodecUtils.writeString(output, SERVICE_NAME, payload.getServiceName());
+        BinaryCodecUtils.writeString(output, GROUP_NAME, payload.getGroupName());
+        output.writeBool(SUBSCRIBE, payload.isSubscribe());
+        BinaryCodecUtils.writeString(output, CLUSTERS, payload.getClusters());
+    }
+    
+    @Override
+    protected boolean decodeField(SubscribeServiceRequest payload, int fieldNumber, CodedInputStream input)
+            throws IOException {
+        switch (fieldNumber) {
+            case NAMESPACE:
+                payload.setNamespace(input.readString());
+                return true;
+            case SERVICE_NAME:
+                payload.setServiceName(input.readString());
+                return true;
+            case GROUP_NAME:
+                payload.setGroupName(input.readString());
+                return true;
+            case SUBSCRIBE:
+                payload.setSubscribe(input.readBool());
+                return true;
+            case CLUSTERS:
+                payload.setClusters(input.readString());
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel of delay task keys.
+ *
+ * <p>Each key is put into the bucket of the tick which its deadline belongs to, so each tick only touches the keys in
+ * one bucket instead of all the keys. The keys whose deadline is more than one round later stay in the bucket and are
+ * skipped until their round comes.
+ *
+ * <p>One key is only scheduled once at its earliest deadline, scheduling a key at later deadline is ignored, the caller
+ * should check whether the expired key is really expired and reschedule it if not.
+ *
+ * <p>This class is not thread safe, it should be used with lock, such as {@link NacosDelayTaskExecuteEngine#lock}.
+ *
+ * @author Nacos
+ */
+public class DelayTaskTimingWheel {
+    
+    private final long tickMillis;
+    
+    private final long startTime;
+    
+    private final List<Entry>[] buckets;
+    
+    private final int mask;
+    
+    private final Map<Object, Entry> scheduled;
+    
+    /**
+     * The next tick to expire.
+     */
+    private long currentTick;
+    
+    @SuppressWarnings("unchecked")
+    public DelayTaskTimingWheel(long tickMillis, int wheelSize, long startTime) {
+        if (tickMillis <= 0 || wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException(
+                    "tickMillis should be positive and wheelSize should be power of 2, but was " + tickMillis + ", "
+                            + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.startTime = startTime;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.mask = wheelSize - 1;
+        this.scheduled = new HashMap<>(wheelSize);
+    }
+    
+    /**
+     * Schedule the key to expire at deadline.
+     *
+     * @param key      task key
+     * @param deadline expire time in millisecond
+     */
+    public void schedule(Object key, long deadline) {
+        Entry existed = scheduled.get(key);
+        if (null != existed && existed.deadline <= deadline) {
+            return;
+        }
+        // Ceil the deadline to the tick, the key expires when the tick time reaches its deadline.
+        long tick = Math.max(Math.floorDiv(deadline - startTime + tickMillis - 1, tickMillis), currentTick);
+        Entry entry = new Entry(key, deadline, tick);
+        // The old entry is left in its bucket and dropped when it expires, because it isn't the scheduled one.
+        scheduled.put(key, entry);
+        buckets[(int) tick & mask].add(entry);
+    }
+    
+    /**
+     * Advance the wheel to the time, and collect the expired keys.
+     *
+     * @param now     current time in millisecond
+     * @param expired collection to add expired keys
+     */
+    public void advance(long now, Collection<Object> expired) {
+        while (getTickTime(currentTick) <= now) {
+            int index = (int) currentTick & mask;
+            List<Entry> bucket = buckets[index];
+            currentTick++;
+            if (bucket.isEmpty()) {
+                continue;
+            }
+            buckets[index] = new ArrayList<>();
+            for (Entry entry : bucket) {
+                if (entry.tick >= currentTick) {
+                    // Not in this round.
+                    buckets[index].add(entry);
+                    continue;
+                }
+                if (scheduled.get(entry.key) == entry) {
+                    scheduled.remove(entry.key);
+                    expired.add(entry.key);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Get the lag between now and the time of the next tick to expire, 0 if the wheel is not behind the time.
+     *
+     * @param now current time in millisecond
+     * @return lag in millisecond
+     */
+    public long getLag(long now) {
+        return Math.max(now - getTickTime(currentTick), 0L);
+    }
+    
+    private long getTickTime(long tick) {
+        return startTime + tick * tickMillis;
+    }
+    
+    public int size() {
+        return scheduled.size();
+    }
+    
+    /**
+     * Remove all scheduled keys.
+     */
+    public void clear() {
+        for (List<Entry> each : buckets) {
+            each.clear();
+        }
+        scheduled.clear();
+    }
+    
+    private static class Entry {
+        
+        private final Object key;
+        
+        private final long deadline;
+        
+        private final long tick;
+        
+        private Entry(Object key, long deadline, long tick) {
+            this.key = key;
+            this.deadline = deadline;
+            this.tick = tick;
+        }
+    }
+}
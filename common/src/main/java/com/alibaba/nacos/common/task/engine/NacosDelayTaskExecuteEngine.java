@@ -23,26 +23,50 @@ import com.alibaba.nacos.common.task.AbstractDelayTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Nacos delay task execute engine.
  *
+ * <p>By default, all tasks are scanned every process interval to find the tasks which should be processed. If timing
+ * wheel is enabled, the task keys are also scheduled into a {@link DelayTaskTimingWheel} by their deadline, so each
+ * process interval only checks the tasks which may expire. The default mode can be changed by system property
+ * {@code nacos.core.task.delay.timing-wheel.enabled}.
+ *
  * @author xiweng.yy
  */
 public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<AbstractDelayTask> {
     
+    private static final boolean TIMING_WHEEL_ENABLED = Boolean.getBoolean(
+            "nacos.core.task.delay.timing-wheel.enabled");
+            
+    private static final int WHEEL_SIZE = 512;
+    
     private final ScheduledExecutorService processingExecutor;
     
     protected final ConcurrentHashMap<Object, AbstractDelayTask> tasks;
     
     protected final ReentrantLock lock = new ReentrantLock();
     
+    /**
+     * The timing wheel of task keys, null if timing wheel is disabled.
+     */
+    private final DelayTaskTimingWheel timingWheel;
+    
+    private final AtomicLong addedTaskCount = new AtomicLong();
+    
+    private final AtomicLong mergedTaskCount = new AtomicLong();
+    
+    private volatile long tickLag;
+    
     public NacosDelayTaskExecuteEngine(String name) {
         this(name, null);
     }
@@ -52,8 +76,15 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     }
     
     public NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval) {
+        this(name, initCapacity, logger, processInterval, TIMING_WHEEL_ENABLED);
+    }
+    
+    public NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval,
+            boolean timingWheelEnabled) {
         super(logger);
         tasks = new ConcurrentHashMap<>(initCapacity);
+        timingWheel = timingWheelEnabled ? new DelayTaskTimingWheel(processInterval, WHEEL_SIZE,
+                System.currentTimeMillis()) : null;
         processingExecutor = ExecutorFactory.newSingleScheduledExecutorService(new NameThreadFactory(name));
         processingExecutor
                 .scheduleWithFixedDelay(new ProcessRunnable(), processInterval, processInterval, TimeUnit.MILLISECONDS);
@@ -108,7 +139,15 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     
     @Override
     public void shutdown() throws NacosException {
-        tasks.clear();
+        lock.lock();
+        try {
+            tasks.clear();
+            if (null != timingWheel) {
+                timingWheel.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
         processingExecutor.shutdown();
     }
     
@@ -116,21 +155,97 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     public void addTask(Object key, AbstractDelayTask newTask) {
         lock.lock();
         try {
+            addedTaskCount.incrementAndGet();
             AbstractDelayTask existTask = tasks.get(key);
             if (null != existTask) {
                 newTask.merge(existTask);
+                mergedTaskCount.incrementAndGet();
             }
             tasks.put(key, newTask);
+            if (null != timingWheel) {
+                timingWheel.schedule(key, getDeadline(newTask));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private long getDeadline(AbstractDelayTask task) {
+        return task.getLastProcessTime() + task.getTaskInterval();
+    }
+    
+    public boolean isTimingWheelEnabled() {
+        return null != timingWheel;
+    }
+    
+    public long getAddedTaskCount() {
+        return addedTaskCount.get();
+    }
+    
+    public long getMergedTaskCount() {
+        return mergedTaskCount.get();
+    }
+    
+    /**
+     * Get the ratio of added tasks which are merged into existed tasks.
+     *
+     * @return merge ratio, 0 if no task added
+     */
+    public double getMergeRatio() {
+        long added = addedTaskCount.get();
+        return 0 == added ? 0D : (double) mergedTaskCount.get() / added;
+    }
+    
+    /**
+     * Get the lag between the last processing and the time it should be processed, only available with timing wheel.
+     *
+     * @return tick lag in millisecond
+     */
+    public long getTickLag() {
+        return tickLag;
+    }
+    
+    /**
+     * Get the keys of tasks which should be processed now.
+     *
+     * <p>With timing wheel, only the expired keys are checked, and the keys which are not expired because the task has
+     * been changed are rescheduled. Otherwise, all task keys are returned and checked by {@link #removeTask(Object)}.
+     *
+     * @return task keys which might be processed
+     */
+    protected Collection<Object> getProcessableTaskKeys() {
+        if (null == timingWheel) {
+            return getAllTaskKeys();
+        }
+        List<Object> expiredKeys = new ArrayList<>();
+        List<Object> result = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            tickLag = timingWheel.getLag(now);
+            timingWheel.advance(now, expiredKeys);
+            for (Object each : expiredKeys) {
+                AbstractDelayTask task = tasks.get(each);
+                if (null == task) {
+                    continue;
+                }
+                if (task.shouldProcess()) {
+                    result.add(each);
+                } else {
+                    timingWheel.schedule(each, getDeadline(task));
+                }
+            }
         } finally {
             lock.unlock();
         }
+        return result;
     }
     
     /**
      * process tasks in execute engine.
      */
     protected void processTasks() {
-        Collection<Object> keys = getAllTaskKeys();
+        Collection<Object> keys = getProcessableTaskKeys();
         for (Object taskKey : keys) {
             AbstractDelayTask task = removeTask(taskKey);
             if (null == task) {
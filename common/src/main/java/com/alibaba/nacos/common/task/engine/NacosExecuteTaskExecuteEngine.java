@@ -27,26 +27,66 @@ import java.util.Collection;
 /**
  * Nacos execute task execute engine.
  *
+ * <p>By default, each task tag is bound to one {@link TaskExecuteWorker}. If work stealing is enabled, tasks are executed
+ * by {@link TaskExecuteWorkStealingPool}, which keeps the order of tasks with the same tag but lets idle threads execute
+ * tasks of other tags. The default mode can be changed by system property
+ * {@code nacos.core.task.execute.work-stealing.enabled}.
+ *
  * @author xiweng.yy
  */
 public class NacosExecuteTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<AbstractExecuteTask> {
     
+    private static final boolean WORK_STEALING_ENABLED = Boolean.getBoolean(
+            "nacos.core.task.execute.work-stealing.enabled");
+            
     private final TaskExecuteWorker[] executeWorkers;
     
+    /**
+     * The work stealing pool, null if work stealing is disabled.
+     */
+    private final TaskExecuteWorkStealingPool workStealingPool;
+    
     public NacosExecuteTaskExecuteEngine(String name, Logger logger) {
         this(name, logger, ThreadUtils.getSuitableThreadCount(1));
     }
     
     public NacosExecuteTaskExecuteEngine(String name, Logger logger, int dispatchWorkerCount) {
+        this(name, logger, dispatchWorkerCount, WORK_STEALING_ENABLED);
+    }
+    
+    public NacosExecuteTaskExecuteEngine(String name, Logger logger, int dispatchWorkerCount,
+            boolean workStealingEnabled) {
         super(logger);
+        if (workStealingEnabled) {
+            executeWorkers = new TaskExecuteWorker[0];
+            workStealingPool = new TaskExecuteWorkStealingPool(name, dispatchWorkerCount, getEngineLog());
+            return;
+        }
+        workStealingPool = null;
         executeWorkers = new TaskExecuteWorker[dispatchWorkerCount];
         for (int mod = 0; mod < dispatchWorkerCount; ++mod) {
             executeWorkers[mod] = new TaskExecuteWorker(name, mod, dispatchWorkerCount, getEngineLog());
         }
     }
     
+    public boolean isWorkStealingEnabled() {
+        return null != workStealingPool;
+    }
+    
+    /**
+     * Get the count of tasks stolen by idle threads, only available with work stealing.
+     *
+     * @return steal count, 0 if work stealing is disabled
+     */
+    public long getStealCount() {
+        return null == workStealingPool ? 0L : workStealingPool.getStealCount();
+    }
+    
     @Override
     public int size() {
+        if (null != workStealingPool) {
+            return workStealingPool.pendingTaskCount();
+        }
         int result = 0;
         for (TaskExecuteWorker each : executeWorkers) {
             result += each.pendingTaskCount();
@@ -66,6 +106,10 @@ public class NacosExecuteTaskExecuteEngine extends AbstractNacosTaskExecuteEngin
             processor.process(task);
             return;
         }
+        if (null != workStealingPool) {
+            workStealingPool.execute(tag, task);
+            return;
+        }
         TaskExecuteWorker worker = getWorker(tag);
         worker.process(task);
     }
@@ -91,6 +135,9 @@ public class NacosExecuteTaskExecuteEngine extends AbstractNacosTaskExecuteEngin
     
     @Override
     public void shutdown() throws NacosException {
+        if (null != workStealingPool) {
+            workStealingPool.shutdown();
+        }
         for (TaskExecuteWorker each : executeWorkers) {
             each.shutdown();
         }
@@ -103,6 +150,9 @@ public class NacosExecuteTaskExecuteEngine extends AbstractNacosTaskExecuteEngin
      */
     public String workersStatus() {
         StringBuilder sb = new StringBuilder();
+        if (null != workStealingPool) {
+            sb.append(workStealingPool.status()).append('\n');
+        }
         for (TaskExecuteWorker worker : executeWorkers) {
             sb.append(worker.status()).append('\n');
         }
@@ -0,0 +1,236 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Nacos execute task work stealing pool.
+ *
+ * <p>Tasks are dispatched by tag to a fixed number of sequencers, each sequencer executes its tasks one by one in a
+ * {@link ForkJoinPool}, so the tasks with the same tag are still executed serially. Different from
+ * {@link TaskExecuteWorker}, a sequencer is not bound to one thread, any idle thread of the pool can execute or steal
+ * it, so one hot tag won't make the tasks of other tags waiting in the same worker queue.
+ *
+ * <p>Same as the bounded queue of {@link TaskExecuteWorker}, the pending tasks are limited, and the caller is blocked
+ * when the limit is reached until some pending tasks are executed.
+ *
+ * @author Nacos
+ */
+public final class TaskExecuteWorkStealingPool implements Closeable {
+    
+    /**
+     * Sequencer count for each thread, more sequencers make less different tags share one sequencer.
+     */
+    private static final int SEQUENCERS_PER_THREAD = 64;
+    
+    /**
+     * Max tasks executed by a sequencer each time, then the sequencer is resubmitted to let other sequencers run.
+     */
+    private static final int MAX_BATCH_SIZE = 64;
+    
+    /**
+     * Max pending task count for each thread 32768, same as the queue capacity of {@link TaskExecuteWorker}.
+     */
+    private static final int QUEUE_CAPACITY_PER_THREAD = 1 << 15;
+    
+    private static final long SLOW_TASK_MILLIS = 1000L;
+    
+    private final Logger log;
+    
+    private final String name;
+    
+    private final ForkJoinPool pool;
+    
+    private final TagSequencer[] sequencers;
+    
+    private final AtomicInteger pendingTaskCount = new AtomicInteger();
+    
+    private final Semaphore queuePermits;
+    
+    public TaskExecuteWorkStealingPool(final String name, final int threadCount, final Logger logger) {
+        this(name, threadCount, threadCount * QUEUE_CAPACITY_PER_THREAD, logger);
+    }
+    
+    TaskExecuteWorkStealingPool(final String name, final int threadCount, final int queueCapacity,
+            final Logger logger) {
+        this.name = name + "_ws";
+        this.queuePermits = new Semaphore(queueCapacity);
+        this.log = null == logger ? LoggerFactory.getLogger(TaskExecuteWorkStealingPool.class) : logger;
+        this.pool = new ForkJoinPool(threadCount, new WorkerThreadFactory(this.name),
+                (thread, e) -> log.error("[TASK-FAILED] " + e, e), true);
+        this.sequencers = new TagSequencer[threadCount * SEQUENCERS_PER_THREAD];
+        for (int i = 0; i < sequencers.length; i++) {
+            sequencers[i] = new TagSequencer();
+        }
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Execute task after the previous tasks with the same tag, the caller is blocked if the pending tasks reach the
+     * capacity.
+     *
+     * @param tag  task tag
+     * @param task task
+     */
+    public void execute(Object tag, Runnable task) {
+        if (pool.isShutdown()) {
+            log.warn("{} has been shutdown, task can't be executed", getName());
+            return;
+        }
+        try {
+            queuePermits.acquire();
+        } catch (InterruptedException ire) {
+            log.error(ire.toString(), ire);
+            Thread.currentThread().interrupt();
+            return;
+        }
+        int idx = (tag.hashCode() & Integer.MAX_VALUE) % sequencers.length;
+        sequencers[idx].add(task);
+    }
+    
+    public int pendingTaskCount() {
+        return pendingTaskCount.get();
+    }
+    
+    public long getStealCount() {
+        return pool.getStealCount();
+    }
+    
+    /**
+     * Pool status.
+     */
+    public String status() {
+        int maxSequencerPending = 0;
+        for (TagSequencer each : sequencers) {
+            maxSequencerPending = Math.max(maxSequencerPending, each.pending.get());
+        }
+        return getName() + ", threads: " + pool.getParallelism() + ", active threads: " + pool.getActiveThreadCount()
+                + ", steals: " + pool.getStealCount() + ", queued sequencers: " + (pool.getQueuedTaskCount()
+                + pool.getQueuedSubmissionCount()) + ", pending tasks: " + pendingTaskCount()
+                + ", max pending tasks of one sequencer: " + maxSequencerPending;
+    }
+    
+    @Override
+    public void shutdown() {
+        pool.shutdownNow();
+        for (TagSequencer each : sequencers) {
+            while (null != each.queue.poll()) {
+                each.pending.decrementAndGet();
+                pendingTaskCount.decrementAndGet();
+                queuePermits.release();
+            }
+        }
+    }
+    
+    private void runTask(Runnable task) {
+        try {
+            long begin = System.currentTimeMillis();
+            task.run();
+            long duration = System.currentTimeMillis() - begin;
+            if (duration > SLOW_TASK_MILLIS) {
+                log.warn("task {} takes {}ms", task, duration);
+            }
+        } catch (Throwable e) {
+            log.error("[TASK-FAILED] " + e, e);
+        }
+    }
+    
+    /**
+     * Executes the tasks of the same sequencer serially, at most one thread runs a sequencer at the same time.
+     */
+    private class TagSequencer implements Runnable {
+        
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicInteger pending = new AtomicInteger();
+        
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        
+        private void add(Runnable task) {
+            queue.offer(task);
+            pending.incrementAndGet();
+            pendingTaskCount.incrementAndGet();
+            trySchedule();
+        }
+        
+        private void trySchedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    pool.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    log.warn("{} has been shutdown, task can't be executed", getName());
+                }
+            }
+        }
+        
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+                    Runnable task = queue.poll();
+                    if (null == task) {
+                        break;
+                    }
+                    pending.decrementAndGet();
+                    pendingTaskCount.decrementAndGet();
+                    queuePermits.release();
+                    runTask(task);
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            // Check again to avoid missing the tasks added after polling null.
+            if (!queue.isEmpty() && !pool.isShutdown()) {
+                trySchedule();
+            }
+        }
+    }
+    
+    private static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        
+        private final String name;
+        
+        private final AtomicInteger index = new AtomicInteger();
+        
+        private WorkerThreadFactory(String name) {
+            this.name = name;
+        }
+        
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread result = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            result.setName(name + "_" + index.getAndIncrement());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedEventPublisherTest {
+    
+    private static final int PARTITION_COUNT = 4;
+    
+    private final List<EventPublisher> createdPublishers = new ArrayList<>();
+    
+    @Mock
+    private Subscriber<MockEvent> subscriber;
+    
+    private PartitionedEventPublisher publisher;
+    
+    @BeforeEach
+    void setUp() {
+        publisher = new PartitionedEventPublisher(PARTITION_COUNT, (type, size) -> {
+            EventPublisher result = mock(ShardedEventPublisher.class);
+            createdPublishers.add(result);
+            return result;
+        });
+        publisher.init(MockEvent.class, 16);
+    }
+    
+    @AfterEach
+    void tearDown() throws NacosException {
+        publisher.shutdown();
+    }
+    
+    @Test
+    void testIllegalPartitionCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PartitionedEventPublisher(0, (type, size) -> mock(EventPublisher.class)));
+    }
+    
+    @Test
+    void testInit() {
+        assertEquals(PARTITION_COUNT, publisher.getPartitions().size());
+        assertEquals(createdPublishers, publisher.getPartitions());
+    }
+    
+    @Test
+    void testPublishWithoutInit() {
+        PartitionedEventPublisher notStarted = new PartitionedEventPublisher(2, (type, size) -> mock(EventPublisher.class));
+        assertThrows(IllegalStateException.class, () -> notStarted.publish(new MockEvent("key")));
+    }
+    
+    @Test
+    void testPublishSameKeyToSamePartition() {
+        MockEvent event1 = new MockEvent("key");
+        MockEvent event2 = new MockEvent("key");
+        int partition = publisher.partitionOf(event1);
+        assertEquals(partition, publisher.partitionOf(event2));
+        publisher.publish(event1);
+        publisher.publish(event2);
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            if (i == partition) {
+                verify(createdPublishers.get(i)).publish(event1);
+                verify(createdPublishers.get(i)).publish(event2);
+            } else {
+                verify(createdPublishers.get(i), never()).publish(event1);
+            }
+        }
+    }
+    
+    @Test
+    void testPublishWithoutKeyToFirstPartition() {
+        MockEvent event = new MockEvent(null);
+        assertEquals(0, publisher.partitionOf(event));
+        publisher.publish(event);
+        verify(createdPublishers.get(0)).publish(event);
+    }
+    
+    @Test
+    void testPartitionDistribution() {
+        int[] counts = new int[PARTITION_COUNT];
+        for (int i = 0; i < 1000; i++) {
+            counts[publisher.partitionOf(new MockEvent("key-" + i))]++;
+        }
+        for (int each : counts) {
+            assertEquals(250, each, 100);
+        }
+    }
+    
+    @Test
+    void testAddAndRemoveSubscriber() {
+        publisher.addSubscriber(subscriber);
+        publisher.addSubscriber(subscriber, MockEvent.class);
+        publisher.removeSubscriber(subscriber);
+        publisher.removeSubscriber(subscriber, MockEvent.class);
+        for (EventPublisher each : createdPublishers) {
+            verify(each).addSubscriber(subscriber);
+            verify((ShardedEventPublisher) each).addSubscriber(subscriber, MockEvent.class);
+            verify(each).removeSubscriber(subscriber);
+            verify((ShardedEventPublisher) each).removeSubscriber(subscriber, MockEvent.class);
+        }
+    }
+    
+    @Test
+    void testCurrentEventSize() {
+        when(createdPublishers.get(0).currentEventSize()).thenReturn(1L);
+        when(createdPublishers.get(1).currentEventSize()).thenReturn(2L);
+        assertEquals(3L, publisher.currentEventSize());
+    }
+    
+    @Test
+    void testGetPartitionCount() {
+        String property = PartitionedEventPublisher.PARTITIONS_PROPERTY_PREFIX + MockEvent.class.getSimpleName();
+        assertEquals(1, PartitionedEventPublisher.getPartitionCount(MockEvent.class));
+        System.setProperty(property, "8");
+        try {
+            assertEquals(8, PartitionedEventPublisher.getPartitionCount(MockEvent.class));
+        } finally {
+            System.clearProperty(property);
+        }
+    }
+    
+    private static class MockEvent extends Event {
+        
+        private static final long serialVersionUID = 3936291716452451585L;
+        
+        private final String key;
+        
+        MockEvent(String key) {
+            this.key = key;
+        }
+        
+        @Override
+        public Object partitionKey() {
+            return key;
+        }
+    }
+}
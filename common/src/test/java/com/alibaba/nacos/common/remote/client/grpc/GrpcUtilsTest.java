@@ -19,9 +19,11 @@
 package com.alibaba.nacos.common.remote.client.grpc;
 
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
@@ -32,6 +34,7 @@ import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -92,6 +95,66 @@ class GrpcUtilsTest {
         assertEquals("v3", convert.getMetadata().getHeadersMap().get("h3"));
     }
     
+    @Test
+    void testConvertRequestWithSerializedBody() {
+        request.setRequestId("1");
+        byte[] serializedBody = GrpcUtils.convertRequestBodyToByte(request);
+        assertEquals("1", request.getRequestId());
+        request.setRequestId("2");
+        Payload convert = GrpcUtils.convert(request, serializedBody);
+        assertEquals(request.getClass().getSimpleName(), convert.getMetadata().getType());
+        assertEquals("v1", convert.getMetadata().getHeadersMap().get("h1"));
+        ServiceQueryRequest actual = (ServiceQueryRequest) GrpcUtils.parse(convert);
+        assertEquals("2", actual.getRequestId());
+        assertEquals(request.getCluster(), actual.getCluster());
+        assertEquals(request.isHealthyOnly(), actual.isHealthyOnly());
+        assertEquals(request.getNamespace(), actual.getNamespace());
+    }
+    
+    @Test
+    void testConvertRequestWithBinaryCodec() {
+        SubscribeServiceRequest subscribeRequest = new SubscribeServiceRequest("namespace", "group", "service", "c",
+                true);
+        subscribeRequest.setRequestId("1");
+        subscribeRequest.putHeader("h1", "v1");
+        Payload convert = GrpcUtils.convert(subscribeRequest, true);
+        assertEquals(GrpcUtils.BINARY_BODY_TYPE_URL, convert.getBody().getTypeUrl());
+        SubscribeServiceRequest actual = (SubscribeServiceRequest) GrpcUtils.parse(convert);
+        assertEquals("1", actual.getRequestId());
+        assertEquals("v1", actual.getHeader("h1"));
+        assertEquals("service", actual.getServiceName());
+        assertTrue(actual.isSubscribe());
+        // unsupported type still use json.
+        Payload jsonPayload = GrpcUtils.convert(request, true);
+        assertEquals("", jsonPayload.getBody().getTypeUrl());
+        assertEquals(request.getCluster(), ((ServiceQueryRequest) GrpcUtils.parse(jsonPayload)).getCluster());
+    }
+    
+    @Test
+    void testConvertRequestWithBinarySerializedBody() {
+        SubscribeServiceRequest subscribeRequest = new SubscribeServiceRequest("namespace", "group", "service", "c",
+                true);
+        subscribeRequest.setRequestId("1");
+        byte[] serializedBody = GrpcUtils.convertRequestBodyToByte(subscribeRequest, true);
+        assertEquals("1", subscribeRequest.getRequestId());
+        subscribeRequest.setRequestId("2");
+        Payload convert = GrpcUtils.convert(subscribeRequest, serializedBody);
+        assertEquals(GrpcUtils.BINARY_BODY_TYPE_URL, convert.getBody().getTypeUrl());
+        SubscribeServiceRequest actual = (SubscribeServiceRequest) GrpcUtils.parse(convert);
+        assertEquals("2", actual.getRequestId());
+        assertEquals("c", actual.getClusters());
+    }
+    
+    @Test
+    void testConvertResponseWithBinaryCodec() {
+        ConfigQueryResponse queryResponse = ConfigQueryResponse.buildSuccessResponse("content");
+        Payload convert = GrpcUtils.convert(queryResponse, true);
+        assertEquals(GrpcUtils.BINARY_BODY_TYPE_URL, convert.getBody().getTypeUrl());
+        assertEquals("content", ((ConfigQueryResponse) GrpcUtils.parse(convert)).getContent());
+        Payload jsonPayload = GrpcUtils.convert(response, true);
+        assertEquals(response.getMetrics(), ((ClientConfigMetricResponse) GrpcUtils.parse(jsonPayload)).getMetrics());
+    }
+    
     @Test
     void testConvertResponse() {
         Payload convert = GrpcUtils.convert(response);
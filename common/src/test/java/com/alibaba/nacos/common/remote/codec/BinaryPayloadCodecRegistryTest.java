@@ -0,0 +1,184 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.PersistentInstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryPayloadCodecRegistryTest {
+    
+    @Test
+    void testIsSupported() {
+        assertTrue(BinaryPayloadCodecRegistry.isSupported(new ConfigBatchListenRequest()));
+        assertTrue(BinaryPayloadCodecRegistry.isSupported(new ConfigQueryResponse()));
+        assertTrue(BinaryPayloadCodecRegistry.isSupported(new NotifySubscriberRequest()));
+        assertTrue(BinaryPayloadCodecRegistry.isSupported(new InstanceRequest()));
+        assertTrue(BinaryPayloadCodecRegistry.isSupported(new SubscribeServiceRequest()));
+        assertFalse(BinaryPayloadCodecRegistry.isSupported(new ConfigQueryRequest()));
+        assertFalse(BinaryPayloadCodecRegistry.isSupported(new PersistentInstanceRequest()));
+    }
+    
+    @Test
+    void testConfigBatchListenRequest() {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        request.setRequestId("1");
+        request.setListen(false);
+        request.addConfigListenContext("group", "dataId", "tenant", "md5");
+        request.addConfigListenContext("group2", "dataId2", null, "md52");
+        ConfigBatchListenRequest actual = roundTrip(request);
+        assertEquals("1", actual.getRequestId());
+        assertFalse(actual.isListen());
+        assertEquals(2, actual.getConfigListenContexts().size());
+        assertEquals(request.getConfigListenContexts().get(0).toString(),
+                actual.getConfigListenContexts().get(0).toString());
+        assertNull(actual.getConfigListenContexts().get(1).getTenant());
+        assertEquals("md52", actual.getConfigListenContexts().get(1).getMd5());
+    }
+    
+    @Test
+    void testConfigQueryResponse() {
+        ConfigQueryResponse response = ConfigQueryResponse.buildSuccessResponse("content");
+        response.setRequestId("2");
+        response.setMd5("md5");
+        response.setContentType("yaml");
+        response.setLastModified(100L);
+        response.setBeta(true);
+        ConfigQueryResponse actual = roundTrip(response);
+        assertEquals("2", actual.getRequestId());
+        assertTrue(actual.isSuccess());
+        assertEquals("content", actual.getContent());
+        assertEquals("md5", actual.getMd5());
+        assertEquals("yaml", actual.getContentType());
+        assertEquals(100L, actual.getLastModified());
+        assertTrue(actual.isBeta());
+        assertNull(actual.getTag());
+        
+        ConfigQueryResponse failResponse = roundTrip(
+                ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND, "not found"));
+        assertFalse(failResponse.isSuccess());
+        assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, failResponse.getErrorCode());
+        assertEquals("not found", failResponse.getMessage());
+    }
+    
+    @Test
+    void testNotifySubscriberRequest() {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S@@C");
+        serviceInfo.setCacheMillis(3000L);
+        serviceInfo.setLastRefTime(100L);
+        serviceInfo.setReachProtectionThreshold(true);
+        serviceInfo.setHosts(Collections.singletonList(buildInstance()));
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(serviceInfo,
+                Collections.singletonList(buildInstance()), 1L, 2L);
+        request.setNamespace("namespace");
+        NotifySubscriberRequest actual = roundTrip(request);
+        assertEquals("namespace", actual.getNamespace());
+        assertTrue(actual.isDeltaPush());
+        assertEquals(1L, actual.getBaseRevision());
+        assertEquals(2L, actual.getRevision());
+        assertEquals(serviceInfo.getKey(), actual.getServiceInfo().getKey());
+        assertEquals(3000L, actual.getServiceInfo().getCacheMillis());
+        assertEquals(100L, actual.getServiceInfo().getLastRefTime());
+        assertTrue(actual.getServiceInfo().isReachProtectionThreshold());
+        assertEquals(serviceInfo.getHosts(), actual.getServiceInfo().getHosts());
+        assertEquals(request.getRemovedHosts(), actual.getRemovedHosts());
+    }
+    
+    @Test
+    void testNotifySubscriberRequestWithLargeInstances() {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Instance instance = buildInstance();
+            instance.setIp("1.1.1." + i);
+            StringBuilder value = new StringBuilder();
+            for (int j = 0; j < 1000; j++) {
+                value.append(j);
+            }
+            instance.getMetadata().put("large", value.toString());
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        NotifySubscriberRequest actual = roundTrip(NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo));
+        assertEquals(hosts, actual.getServiceInfo().getHosts());
+    }
+    
+    @Test
+    void testInstanceRequest() {
+        InstanceRequest request = new InstanceRequest("namespace", "service", "group", "registerInstance",
+                buildInstance());
+        InstanceRequest actual = roundTrip(request);
+        assertEquals("namespace", actual.getNamespace());
+        assertEquals("service", actual.getServiceName());
+        assertEquals("group", actual.getGroupName());
+        assertEquals("registerInstance", actual.getType());
+        assertEquals(request.getInstance(), actual.getInstance());
+    }
+    
+    @Test
+    void testSubscribeServiceRequest() {
+        SubscribeServiceRequest request = new SubscribeServiceRequest("namespace", "group", "service", "c1,c2", true);
+        SubscribeServiceRequest actual = roundTrip(request);
+        assertEquals("namespace", actual.getNamespace());
+        assertEquals("service", actual.getServiceName());
+        assertEquals("group", actual.getGroupName());
+        assertEquals("c1,c2", actual.getClusters());
+        assertTrue(actual.isSubscribe());
+    }
+    
+    @Test
+    void testDecodeUnknownType() {
+        assertThrows(RemoteException.class, () -> BinaryPayloadCodecRegistry.decode("Unknown", ByteString.EMPTY));
+    }
+    
+    private Instance buildInstance() {
+        Instance result = new Instance();
+        result.setIp("1.1.1.1");
+        result.setPort(8848);
+        result.setWeight(2.0D);
+        result.setEnabled(false);
+        result.setClusterName("C");
+        result.setServiceName("G@@S");
+        result.getMetadata().put("key", "value");
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <T extends com.alibaba.nacos.api.remote.Payload> T roundTrip(T payload) {
+        ByteString body = BinaryPayloadCodecRegistry.encode(payload);
+        return (T) BinaryPayloadCodecRegistry.decode(payload.getClass().getSimpleName(), body);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DelayTaskTimingWheelTest {
+    
+    private static final long START = 1000L;
+    
+    private static final long TICK = 100L;
+    
+    private DelayTaskTimingWheel wheel;
+    
+    @BeforeEach
+    void setUp() {
+        wheel = new DelayTaskTimingWheel(TICK, 8, START);
+    }
+    
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DelayTaskTimingWheel(0, 8, START));
+        assertThrows(IllegalArgumentException.class, () -> new DelayTaskTimingWheel(TICK, 6, START));
+    }
+    
+    @Test
+    void testExpireAtDeadline() {
+        wheel.schedule("a", START + 250);
+        wheel.schedule("b", START + 350);
+        assertEquals(Collections.emptyList(), advance(START + 200));
+        assertEquals(Collections.singletonList("a"), advance(START + 300));
+        assertEquals(Collections.emptyList(), advance(START + 399));
+        assertEquals(Collections.singletonList("b"), advance(START + 400));
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    void testExpiredDeadline() {
+        advance(START + 500);
+        wheel.schedule("a", START);
+        assertEquals(Collections.singletonList("a"), advance(START + 600));
+    }
+    
+    @Test
+    void testExpireAfterRounds() {
+        // 8 ticks per round, the key should skip the first 2 rounds.
+        wheel.schedule("a", START + 2050);
+        for (long now = START; now < START + 2100; now += TICK) {
+            assertTrue(advance(now).isEmpty());
+        }
+        assertEquals(Collections.singletonList("a"), advance(START + 2100));
+    }
+    
+    @Test
+    void testScheduleEarlierDeadline() {
+        wheel.schedule("a", START + 500);
+        wheel.schedule("a", START + 200);
+        assertEquals(1, wheel.size());
+        assertEquals(Collections.singletonList("a"), advance(START + 200));
+        // The old entry should be dropped.
+        assertEquals(Collections.emptyList(), advance(START + 1000));
+    }
+    
+    @Test
+    void testScheduleLaterDeadlineIgnored() {
+        wheel.schedule("a", START + 200);
+        wheel.schedule("a", START + 500);
+        assertEquals(Collections.singletonList("a"), advance(START + 200));
+        assertEquals(Collections.emptyList(), advance(START + 1000));
+    }
+    
+    @Test
+    void testGetLag() {
+        advance(START + 200);
+        assertEquals(0L, wheel.getLag(START + 250));
+        assertEquals(150L, wheel.getLag(START + 450));
+    }
+    
+    @Test
+    void testClear() {
+        wheel.schedule("a", START + 100);
+        wheel.schedule("b", START + 100);
+        wheel.clear();
+        assertEquals(0, wheel.size());
+        assertEquals(Collections.emptyList(), advance(START + 1000));
+    }
+    
+    @Test
+    void testMultiKeysInOneTick() {
+        wheel.schedule("a", START + 110);
+        wheel.schedule("b", START + 150);
+        wheel.schedule("c", START + 200);
+        List<Object> expired = advance(START + 200);
+        Collections.sort(expired, (o1, o2) -> o1.toString().compareTo(o2.toString()));
+        assertEquals(Arrays.asList("a", "b", "c"), expired);
+    }
+    
+    private List<Object> advance(long now) {
+        List<Object> result = new ArrayList<>();
+        wheel.advance(now, result);
+        return result;
+    }
+}
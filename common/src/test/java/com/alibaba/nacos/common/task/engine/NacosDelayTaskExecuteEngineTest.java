@@ -146,4 +146,49 @@ class NacosDelayTaskExecuteEngineTest {
         });
         assertEquals(1, nacosDelayTaskExecuteEngine.size());
     }
+    
+    @Test
+    void testTimingWheelProcessTask() throws Exception {
+        nacosDelayTaskExecuteEngine.shutdown();
+        nacosDelayTaskExecuteEngine = new NacosDelayTaskExecuteEngine(NacosDelayTaskExecuteEngineTest.class.getName(),
+                32, null, 20L, true);
+        nacosDelayTaskExecuteEngine.setDefaultTaskProcessor(taskProcessor);
+        assertTrue(nacosDelayTaskExecuteEngine.isTimingWheelEnabled());
+        when(taskProcessor.process(abstractTask)).thenReturn(false, true);
+        abstractTask.setTaskInterval(100L);
+        abstractTask.setLastProcessTime(System.currentTimeMillis());
+        nacosDelayTaskExecuteEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(50);
+        verify(taskProcessor, never()).process(abstractTask);
+        // Processed once after interval, failed and retried after another interval.
+        TimeUnit.MILLISECONDS.sleep(300);
+        verify(taskProcessor, new Times(2)).process(abstractTask);
+        assertTrue(nacosDelayTaskExecuteEngine.isEmpty());
+    }
+    
+    @Test
+    void testTimingWheelTaskChangedAfterAdded() throws Exception {
+        nacosDelayTaskExecuteEngine.shutdown();
+        nacosDelayTaskExecuteEngine = new NacosDelayTaskExecuteEngine(NacosDelayTaskExecuteEngineTest.class.getName(),
+                32, null, 20L, true);
+        nacosDelayTaskExecuteEngine.setDefaultTaskProcessor(taskProcessor);
+        nacosDelayTaskExecuteEngine.addTask("test", abstractTask);
+        abstractTask.setTaskInterval(10000L);
+        abstractTask.setLastProcessTime(System.currentTimeMillis());
+        TimeUnit.MILLISECONDS.sleep(100);
+        verify(taskProcessor, never()).process(abstractTask);
+        assertEquals(1, nacosDelayTaskExecuteEngine.size());
+    }
+    
+    @Test
+    void testMergeMetrics() {
+        assertEquals(0D, nacosDelayTaskExecuteEngine.getMergeRatio());
+        abstractTask.setTaskInterval(10000L);
+        abstractTask.setLastProcessTime(System.currentTimeMillis());
+        nacosDelayTaskExecuteEngine.addTask("test", abstractTask);
+        nacosDelayTaskExecuteEngine.addTask("test", abstractTask);
+        assertEquals(2L, nacosDelayTaskExecuteEngine.getAddedTaskCount());
+        assertEquals(1L, nacosDelayTaskExecuteEngine.getMergedTaskCount());
+        assertEquals(0.5D, nacosDelayTaskExecuteEngine.getMergeRatio());
+    }
 }
@@ -95,4 +95,16 @@ class NacosExecuteTaskExecuteEngineTest {
     void testWorkersStatus() {
         assertEquals("TEST_0%1, pending tasks: 0\n", executeTaskExecuteEngine.workersStatus());
     }
+    
+    @Test
+    void testAddTaskWithWorkStealing() throws Exception {
+        executeTaskExecuteEngine.shutdown();
+        executeTaskExecuteEngine = new NacosExecuteTaskExecuteEngine("TEST", null, 2, true);
+        assertTrue(executeTaskExecuteEngine.isWorkStealingEnabled());
+        executeTaskExecuteEngine.addTask("test", task);
+        TimeUnit.SECONDS.sleep(1);
+        verify(task).run();
+        assertTrue(executeTaskExecuteEngine.isEmpty());
+        assertTrue(executeTaskExecuteEngine.workersStatus().startsWith("TEST_ws"));
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskExecuteWorkStealingPoolTest {
+    
+    private TaskExecuteWorkStealingPool pool;
+    
+    @BeforeEach
+    void setUp() {
+        pool = new TaskExecuteWorkStealingPool("TEST", 4, null);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+    
+    @Test
+    void testExecuteInOrderForSameTag() throws InterruptedException {
+        final int tags = 8;
+        final int tasksPerTag = 2000;
+        final List<List<Integer>> results = new ArrayList<>(tags);
+        for (int i = 0; i < tags; i++) {
+            results.add(Collections.synchronizedList(new ArrayList<>(tasksPerTag)));
+        }
+        CountDownLatch latch = new CountDownLatch(tags * tasksPerTag);
+        for (int j = 0; j < tasksPerTag; j++) {
+            for (int i = 0; i < tags; i++) {
+                final List<Integer> result = results.get(i);
+                final int index = j;
+                pool.execute("tag-" + i, () -> {
+                    result.add(index);
+                    latch.countDown();
+                });
+            }
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (List<Integer> each : results) {
+            for (int j = 0; j < tasksPerTag; j++) {
+                assertEquals(j, each.get(j));
+            }
+        }
+        assertEquals(0, pool.pendingTaskCount());
+    }
+    
+    @Test
+    void testHotTagNotBlockOtherTags() throws InterruptedException {
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch otherExecuted = new CountDownLatch(1);
+        pool.execute("hot", () -> {
+            try {
+                blocking.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+            }
+        });
+        pool.execute("hot", () -> {
+        });
+        pool.execute("other", otherExecuted::countDown);
+        assertTrue(otherExecuted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, pool.pendingTaskCount());
+        blocking.countDown();
+    }
+    
+    @Test
+    void testTaskWithException() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        pool.execute("test", () -> {
+            throw new RuntimeException("test");
+        });
+        pool.execute("test", latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testExecuteBlockedWhenFull() throws InterruptedException {
+        TaskExecuteWorkStealingPool boundedPool = new TaskExecuteWorkStealingPool("BOUNDED", 1, 1, null);
+        try {
+            CountDownLatch blocking = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            boundedPool.execute("test", () -> {
+                started.countDown();
+                try {
+                    blocking.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ignored) {
+                }
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            boundedPool.execute("test", () -> {
+            });
+            CountDownLatch added = new CountDownLatch(1);
+            Thread producer = new Thread(() -> {
+                boundedPool.execute("test", () -> {
+                });
+                added.countDown();
+            });
+            producer.start();
+            // the pending tasks reach the capacity, so the producer is blocked.
+            assertFalse(added.await(200, TimeUnit.MILLISECONDS));
+            blocking.countDown();
+            assertTrue(added.await(5, TimeUnit.SECONDS));
+        } finally {
+            boundedPool.shutdown();
+        }
+    }
+    
+    @Test
+    void testExecuteAfterShutdown() {
+        pool.shutdown();
+        pool.execute("test", () -> {
+        });
+        assertTrue(pool.status().startsWith("TEST_ws"));
+    }
+}
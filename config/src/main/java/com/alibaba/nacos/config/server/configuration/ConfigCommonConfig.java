@@ -35,6 +35,16 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     
     private boolean derbyOpsEnabled = false;
     
+    private boolean batchPushEnabled = true;
+    
+    private long batchPushDelayMs = 50L;
+    
+    private int batchPushMaxSize = 500;
+    
+    private boolean contentCacheEnabled = false;
+    
+    private long contentCacheMaxBytes = 64 * 1024 * 1024L;
+    
     private ConfigCommonConfig() {
         super(CONFIG_COMMON);
         resetConfig();
@@ -60,10 +70,56 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         this.derbyOpsEnabled = derbyOpsEnabled;
     }
     
+    public boolean isBatchPushEnabled() {
+        return batchPushEnabled;
+    }
+    
+    public void setBatchPushEnabled(boolean batchPushEnabled) {
+        this.batchPushEnabled = batchPushEnabled;
+    }
+    
+    public long getBatchPushDelayMs() {
+        return batchPushDelayMs;
+    }
+    
+    public void setBatchPushDelayMs(long batchPushDelayMs) {
+        this.batchPushDelayMs = batchPushDelayMs;
+    }
+    
+    public int getBatchPushMaxSize() {
+        return batchPushMaxSize;
+    }
+    
+    public void setBatchPushMaxSize(int batchPushMaxSize) {
+        this.batchPushMaxSize = batchPushMaxSize;
+    }
+    
+    public boolean isContentCacheEnabled() {
+        return contentCacheEnabled;
+    }
+    
+    public void setContentCacheEnabled(boolean contentCacheEnabled) {
+        this.contentCacheEnabled = contentCacheEnabled;
+    }
+    
+    public long getContentCacheMaxBytes() {
+        return contentCacheMaxBytes;
+    }
+    
+    public void setContentCacheMaxBytes(long contentCacheMaxBytes) {
+        this.contentCacheMaxBytes = contentCacheMaxBytes;
+    }
+    
     @Override
     protected void getConfigFromEnv() {
         maxPushRetryTimes = EnvUtil.getProperty("nacos.config.push.maxRetryTime", Integer.class, 50);
         derbyOpsEnabled = EnvUtil.getProperty("nacos.config.derby.ops.enabled", Boolean.class, false);
+        batchPushEnabled = EnvUtil.getProperty("nacos.config.push.batch.enabled", Boolean.class, true);
+        batchPushDelayMs = EnvUtil.getProperty("nacos.config.push.batch.delayMs", Long.class, 50L);
+        batchPushMaxSize = EnvUtil.getProperty("nacos.config.push.batch.maxSize", Integer.class, 500);
+        contentCacheEnabled = EnvUtil.getProperty("nacos.config.cache.content.enabled", Boolean.class, false);
+        contentCacheMaxBytes = EnvUtil.getProperty("nacos.config.cache.content.maxBytes", Long.class,
+                64 * 1024 * 1024L);
     }
     
     @Override
@@ -74,6 +130,8 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     @Override
     public String toString() {
         return "ConfigCommonConfig{" + "maxPushRetryTimes=" + maxPushRetryTimes + ", derbyOpsEnabled=" + derbyOpsEnabled
-                + '}';
+                + ", batchPushEnabled=" + batchPushEnabled + ", batchPushDelayMs=" + batchPushDelayMs
+                + ", batchPushMaxSize=" + batchPushMaxSize + ", contentCacheEnabled=" + contentCacheEnabled
+                + ", contentCacheMaxBytes=" + contentCacheMaxBytes + '}';
     }
 }
@@ -62,6 +62,10 @@ public class PropertiesConstant {
     public static final String DUMP_CHANGE_ON = "dumpChangeOn";
     
     public static final String DUMP_CHANGE_WORKER_INTERVAL = "dumpChangeWorkerInterval";
+    
+    public static final String DUMP_ALL_PAGE_SIZE = "nacos.config.dump.all.pageSize";
+    
+    public static final String DUMP_ALL_PARALLELISM = "nacos.config.dump.all.parallelism";
 
     public static final String CONFIG_RENTENTION_DAYS = "nacos.config.retention.days";
 
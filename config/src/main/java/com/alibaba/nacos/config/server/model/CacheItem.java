@@ -27,38 +27,20 @@ import java.util.Map;
 /**
  * Cache item.
  *
+ * <p>Most configs have no beta, batch or tag, so these sub-structures are allocated lazily in {@link GrayCache} only
+ * when used, which keeps the cache item of formal config small.
+ *
  * @author Nacos
  */
 public class CacheItem {
     
     final String groupKey;
     
-    public String type;
+    private volatile String type;
     
     ConfigCache configCache = new ConfigCache();
     
-    /**
-     * Use for beta.
-     */
-    public volatile boolean isBeta = false;
-    
-    public volatile List<String> ips4Beta;
-    
-    ConfigCache configCacheBeta = null;
-    
-    /**
-     * Use for batch.
-     */
-    public volatile boolean isBatch = false;
-    
-    public volatile int delimiter = 0;
-    
-    ConfigCache configCacheBatch = null;
-    
-    /**
-     * Use for tag.
-     */
-    private volatile Map<String, ConfigCache> configCacheTags = null;
+    private volatile GrayCache grayCache;
     
     private final SimpleReadWriteLock rwLock = new SimpleReadWriteLock();
     
@@ -75,29 +57,53 @@ public class CacheItem {
         return configCache;
     }
     
+    private GrayCache getOrCreateGrayCache() {
+        GrayCache result = grayCache;
+        if (null == result) {
+            synchronized (this) {
+                result = grayCache;
+                if (null == result) {
+                    result = new GrayCache();
+                    grayCache = result;
+                }
+            }
+        }
+        return result;
+    }
+    
     public boolean isBeta() {
-        return isBeta;
+        GrayCache gray = grayCache;
+        return null != gray && gray.isBeta;
     }
     
     public void setBeta(boolean isBeta) {
-        this.isBeta = isBeta;
+        if (isBeta || null != grayCache) {
+            getOrCreateGrayCache().isBeta = isBeta;
+        }
     }
     
     /**
      * remove beta.
      */
     public void removeBeta() {
-        this.isBeta = false;
-        this.ips4Beta = null;
-        configCacheBeta = null;
+        GrayCache gray = grayCache;
+        if (null == gray) {
+            return;
+        }
+        gray.isBeta = false;
+        gray.ips4Beta = null;
+        gray.configCacheBeta = null;
     }
     
     public List<String> getIps4Beta() {
-        return ips4Beta;
+        GrayCache gray = grayCache;
+        return null == gray ? null : gray.ips4Beta;
     }
     
     public void setIps4Beta(List<String> ips4Beta) {
-        this.ips4Beta = ips4Beta;
+        if (null != ips4Beta || null != grayCache) {
+            getOrCreateGrayCache().ips4Beta = ips4Beta;
+        }
     }
     
     public SimpleReadWriteLock getRwLock() {
@@ -109,7 +115,7 @@ public class CacheItem {
     }
     
     public void setType(String type) {
-        this.type = type;
+        this.type = StringPool.get(type);
     }
     
     public String getGroupKey() {
@@ -120,11 +126,12 @@ public class CacheItem {
      * init beta cache if empty.
      */
     public void initBetaCacheIfEmpty() {
-        if (this.configCacheBeta == null) {
-            this.configCacheBeta = new ConfigCache();
+        GrayCache gray = getOrCreateGrayCache();
+        if (gray.configCacheBeta == null) {
+            gray.configCacheBeta = new ConfigCache();
         }
-        if (this.ips4Beta == null) {
-            this.ips4Beta = new ArrayList<>();
+        if (gray.ips4Beta == null) {
+            gray.ips4Beta = new ArrayList<>();
         }
     }
     
@@ -134,36 +141,44 @@ public class CacheItem {
      * @return
      */
     public ConfigCache getConfigCacheBeta() {
-        return configCacheBeta;
+        GrayCache gray = grayCache;
+        return null == gray ? null : gray.configCacheBeta;
     }
     
     /**
      * init batch cache if empty.
      */
     public void initBatchCacheIfEmpty() {
-        if (this.configCacheBatch == null) {
-            this.configCacheBatch = new ConfigCache();
+        GrayCache gray = getOrCreateGrayCache();
+        if (gray.configCacheBatch == null) {
+            gray.configCacheBatch = new ConfigCache();
         }
     }
     
     public ConfigCache getConfigCacheBatch() {
-        return configCacheBatch;
+        GrayCache gray = grayCache;
+        return null == gray ? null : gray.configCacheBatch;
     }
     
     /**
      * remove batch.
      */
     public void removeBatch() {
-        this.configCacheBatch = null;
-        this.isBatch = false;
+        GrayCache gray = grayCache;
+        if (null == gray) {
+            return;
+        }
+        gray.configCacheBatch = null;
+        gray.isBatch = false;
     }
     
     /**
      * init config tags if empty.
      */
     public void initConfigTagsIfEmpty() {
-        if (this.getConfigCacheTags() == null) {
-            this.configCacheTags = new HashMap<>(16);
+        GrayCache gray = getOrCreateGrayCache();
+        if (gray.configCacheTags == null) {
+            gray.configCacheTags = new HashMap<>(16);
         }
     }
     
@@ -174,36 +189,51 @@ public class CacheItem {
      */
     public void initConfigTagsIfEmpty(String tag) {
         initConfigTagsIfEmpty();
-        if (!this.configCacheTags.containsKey(tag)) {
-            this.configCacheTags.put(tag, new ConfigCache());
+        Map<String, ConfigCache> configCacheTags = getConfigCacheTags();
+        if (!configCacheTags.containsKey(tag)) {
+            configCacheTags.put(tag, new ConfigCache());
         }
     }
     
+    /**
+     * clear config tags.
+     */
     public void clearConfigTags() {
-        this.configCacheTags = null;
+        GrayCache gray = grayCache;
+        if (null != gray) {
+            gray.configCacheTags = null;
+        }
     }
     
     public Map<String, ConfigCache> getConfigCacheTags() {
-        return configCacheTags;
+        GrayCache gray = grayCache;
+        return null == gray ? null : gray.configCacheTags;
     }
     
     public boolean isBatch() {
-        return isBatch;
+        GrayCache gray = grayCache;
+        return null != gray && gray.isBatch;
     }
     
     public void setBatch(boolean batch) {
-        isBatch = batch;
+        if (batch || null != grayCache) {
+            getOrCreateGrayCache().isBatch = batch;
+        }
     }
     
     public int getDelimiter() {
-        return delimiter;
+        GrayCache gray = grayCache;
+        return null == gray ? 0 : gray.delimiter;
     }
     
     public void setDelimiter(int delimiter) {
-        this.delimiter = delimiter;
+        if (0 != delimiter || null != grayCache) {
+            getOrCreateGrayCache().delimiter = delimiter;
+        }
     }
     
     public long getTagLastModified(String tag) {
+        Map<String, ConfigCache> configCacheTags = getConfigCacheTags();
         if (configCacheTags == null || !configCacheTags.containsKey(tag)) {
             return -1L;
         }
@@ -211,6 +241,7 @@ public class CacheItem {
     }
     
     public String getTagEncryptedDataKey(String tag) {
+        Map<String, ConfigCache> configCacheTags = getConfigCacheTags();
         if (configCacheTags == null || !configCacheTags.containsKey(tag)) {
             return null;
         }
@@ -218,10 +249,39 @@ public class CacheItem {
     }
     
     public String getTagMd5(String tag, String encode) {
+        Map<String, ConfigCache> configCacheTags = getConfigCacheTags();
         if (configCacheTags == null || !configCacheTags.containsKey(tag)) {
             return null;
         }
         return configCacheTags.get(tag).getMd5(encode);
     }
     
+    /**
+     * The caches of beta, batch and tag.
+     */
+    private static class GrayCache {
+        
+        /**
+         * Use for beta.
+         */
+        volatile boolean isBeta = false;
+        
+        volatile List<String> ips4Beta;
+        
+        volatile ConfigCache configCacheBeta;
+        
+        /**
+         * Use for batch.
+         */
+        volatile boolean isBatch = false;
+        
+        volatile int delimiter = 0;
+        
+        volatile ConfigCache configCacheBatch;
+        
+        /**
+         * Use for tag.
+         */
+        volatile Map<String, ConfigCache> configCacheTags;
+    }
 }
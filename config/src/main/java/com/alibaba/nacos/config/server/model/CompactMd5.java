@@ -0,0 +1,148 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+import java.io.Serializable;
+
+/**
+ * Compact md5 of config content, the lowercase hex md5 is stored as two longs instead of a 32 chars string.
+ *
+ * <p>The value which is not a lowercase hex md5 is kept as it is, so the origin value can always be restored.
+ *
+ * @author Nacos
+ */
+public final class CompactMd5 implements Serializable {
+    
+    private static final long serialVersionUID = -3489271950383862914L;
+    
+    private static final int HEX_LENGTH = 32;
+    
+    private static final int HALF_HEX_LENGTH = 16;
+    
+    private static final int HEX_RADIX = 16;
+    
+    private static final char[] DIGITS_LOWER = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd',
+            'e', 'f'};
+            
+    private final long high;
+    
+    private final long low;
+    
+    private final String raw;
+    
+    private CompactMd5(long high, long low, String raw) {
+        this.high = high;
+        this.low = low;
+        this.raw = raw;
+    }
+    
+    /**
+     * Create compact md5 from md5 string.
+     *
+     * @param md5 md5 string
+     * @return compact md5, {@code null} if md5 is null or empty
+     */
+    public static CompactMd5 valueOf(String md5) {
+        if (null == md5 || md5.isEmpty()) {
+            return null;
+        }
+        if (!isLowerHex(md5)) {
+            return new CompactMd5(0L, 0L, md5);
+        }
+        return new CompactMd5(parseHex(md5, 0), parseHex(md5, HALF_HEX_LENGTH), null);
+    }
+    
+    /**
+     * Whether this md5 is the same as the md5 string, without creating the md5 string.
+     *
+     * @param md5 md5 string
+     * @return {@code true} if same
+     */
+    public boolean isSame(String md5) {
+        if (null != raw) {
+            return raw.equals(md5);
+        }
+        return null != md5 && isLowerHex(md5) && parseHex(md5, 0) == high && parseHex(md5, HALF_HEX_LENGTH) == low;
+    }
+    
+    private static boolean isLowerHex(String md5) {
+        if (HEX_LENGTH != md5.length()) {
+            return false;
+        }
+        for (int i = 0; i < HEX_LENGTH; i++) {
+            if (digit(md5.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int digit(char c) {
+        int digit = Character.digit(c, HEX_RADIX);
+        return digit >= 0 && DIGITS_LOWER[digit] == c ? digit : -1;
+    }
+    
+    private static long parseHex(String md5, int offset) {
+        long result = 0L;
+        for (int i = offset; i < offset + HALF_HEX_LENGTH; i++) {
+            result = (result << 4) | digit(md5.charAt(i));
+        }
+        return result;
+    }
+    
+    private static void formatHex(long value, char[] dest, int offset) {
+        for (int i = 0; i < HALF_HEX_LENGTH; i++) {
+            dest[offset + i] = DIGITS_LOWER[(int) (value >>> ((HALF_HEX_LENGTH - 1 - i) << 2)) & 0xF];
+        }
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CompactMd5 that = (CompactMd5) o;
+        return high == that.high && low == that.low && (null == raw ? null == that.raw : raw.equals(that.raw));
+    }
+    
+    @Override
+    public int hashCode() {
+        if (null != raw) {
+            return raw.hashCode();
+        }
+        return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+    
+    /**
+     * Restore the md5 string.
+     *
+     * @return md5 string
+     */
+    @Override
+    public String toString() {
+        if (null != raw) {
+            return raw;
+        }
+        char[] result = new char[HEX_LENGTH];
+        formatHex(high, result, 0);
+        formatHex(low, result, HALF_HEX_LENGTH);
+        return new String(result);
+    }
+}
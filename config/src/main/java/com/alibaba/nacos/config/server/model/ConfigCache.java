@@ -17,7 +17,6 @@
 package com.alibaba.nacos.config.server.model;
 
 import com.alibaba.nacos.config.server.constant.Constants;
-import com.alibaba.nacos.core.utils.StringPool;
 
 import java.io.Serializable;
 
@@ -26,13 +25,15 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 /**
  * config cache .
  *
+ * <p>The md5 values are stored as {@link CompactMd5}, and {@code null} means {@link Constants#NULL}.
+ *
  * @author shiyiyue1102
  */
 public class ConfigCache implements Serializable {
     
-    volatile String md5Gbk = Constants.NULL;
+    volatile CompactMd5 md5Gbk;
     
-    volatile String md5Utf8 = Constants.NULL;
+    volatile CompactMd5 md5Utf8;
     
     volatile String encryptedDataKey;
     
@@ -42,8 +43,8 @@ public class ConfigCache implements Serializable {
      * clear cache.
      */
     public void clear() {
-        this.md5Gbk = Constants.NULL;
-        this.md5Utf8 = Constants.NULL;
+        this.md5Gbk = null;
+        this.md5Utf8 = null;
         this.encryptedDataKey = null;
         this.lastModifiedTs = -1L;
     }
@@ -52,11 +53,27 @@ public class ConfigCache implements Serializable {
     }
     
     public String getMd5(String encode) {
-        if (UTF_8.name().equalsIgnoreCase(encode)) {
-            return md5Utf8;
-        } else {
-            return md5Gbk;
-        }
+        return toMd5String(isUtf8(encode) ? md5Utf8 : md5Gbk);
+    }
+    
+    /**
+     * Whether the md5 of encode is the same as the md5 string, without creating the md5 string.
+     *
+     * @param md5    md5 string
+     * @param encode encode
+     * @return {@code true} if same
+     */
+    public boolean isSameMd5(String md5, String encode) {
+        CompactMd5 current = isUtf8(encode) ? md5Utf8 : md5Gbk;
+        return null == current ? Constants.NULL.equals(md5) : current.isSame(md5);
+    }
+    
+    private static boolean isUtf8(String encode) {
+        return UTF_8.name().equalsIgnoreCase(encode);
+    }
+    
+    private static String toMd5String(CompactMd5 md5) {
+        return null == md5 ? Constants.NULL : md5.toString();
     }
     
     public String getEncryptedDataKey() {
@@ -68,25 +85,33 @@ public class ConfigCache implements Serializable {
     }
     
     public ConfigCache(String md5Gbk, String md5Utf8, long lastModifiedTs) {
-        this.md5Gbk = StringPool.get(md5Gbk);
-        this.md5Utf8 = StringPool.get(md5Utf8);
+        this.md5Utf8 = CompactMd5.valueOf(md5Utf8);
+        this.md5Gbk = compactGbk(md5Gbk);
         this.lastModifiedTs = lastModifiedTs;
     }
     
+    /**
+     * The md5 of gbk is the same as utf8 for most ascii contents, so share the same instance.
+     */
+    private CompactMd5 compactGbk(String md5Gbk) {
+        CompactMd5 utf8 = this.md5Utf8;
+        return null != utf8 && utf8.isSame(md5Gbk) ? utf8 : CompactMd5.valueOf(md5Gbk);
+    }
+    
     public String getMd5Gbk() {
-        return md5Gbk;
+        return toMd5String(md5Gbk);
     }
     
     public void setMd5Gbk(String md5Gbk) {
-        this.md5Gbk = StringPool.get(md5Gbk);
+        this.md5Gbk = compactGbk(md5Gbk);
     }
     
     public String getMd5Utf8() {
-        return md5Utf8;
+        return toMd5String(md5Utf8);
     }
     
     public void setMd5Utf8(String md5Utf8) {
-        this.md5Utf8 = StringPool.get(md5Utf8);
+        this.md5Utf8 = CompactMd5.valueOf(md5Utf8);
     }
     
     public long getLastModifiedTs() {
@@ -96,4 +121,4 @@ public class ConfigCache implements Serializable {
     public void setLastModifiedTs(long lastModifiedTs) {
         this.lastModifiedTs = lastModifiedTs;
     }
-}
\ No newline at end of file
+}
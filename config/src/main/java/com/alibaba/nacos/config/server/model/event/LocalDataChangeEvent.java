@@ -74,4 +74,9 @@ public class LocalDataChangeEvent extends Event {
         this.isBatch = isBatch;
         this.delimiter = delimiter;
     }
+    
+    @Override
+    public Object partitionKey() {
+        return groupKey;
+    }
 }
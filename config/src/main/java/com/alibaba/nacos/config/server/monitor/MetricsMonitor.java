@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Metrics Monitor.
@@ -65,6 +66,25 @@ public class MetricsMonitor {
      */
     private static AtomicInteger fuzzySearch = new AtomicInteger();
     
+    /**
+     * hit, miss and eviction count of config content cache.
+     */
+    private static AtomicLong contentCacheHit = new AtomicLong();
+    
+    private static AtomicLong contentCacheMiss = new AtomicLong();
+    
+    private static AtomicLong contentCacheEviction = new AtomicLong();
+    
+    /**
+     * estimated bytes held by config content cache.
+     */
+    private static AtomicLong contentCacheBytes = new AtomicLong();
+    
+    /**
+     * configs dumped per second of the last dump all.
+     */
+    private static AtomicLong dumpAllThroughput = new AtomicLong();
+    
     /**
      * version -> client config subscriber count.
      */
@@ -118,6 +138,31 @@ public class MetricsMonitor {
         tags.add(new ImmutableTag("name", "fuzzySearch"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, fuzzySearch);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheHit"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, contentCacheHit);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheMiss"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, contentCacheMiss);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheEviction"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, contentCacheEviction);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheBytes"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, contentCacheBytes);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllThroughput"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpAllThroughput);
+        
         configSubscriber.put("v1", new AtomicInteger(0));
         configSubscriber.put("v2", new AtomicInteger(0));
         
@@ -162,6 +207,26 @@ public class MetricsMonitor {
         return fuzzySearch;
     }
     
+    public static AtomicLong getContentCacheHitMonitor() {
+        return contentCacheHit;
+    }
+    
+    public static AtomicLong getContentCacheMissMonitor() {
+        return contentCacheMiss;
+    }
+    
+    public static AtomicLong getContentCacheEvictionMonitor() {
+        return contentCacheEviction;
+    }
+    
+    public static AtomicLong getContentCacheBytesMonitor() {
+        return contentCacheBytes;
+    }
+    
+    public static AtomicLong getDumpAllThroughputMonitor() {
+        return dumpAllThroughput;
+    }
+    
     public static AtomicInteger getConfigSubscriberMonitor(String version) {
         return configSubscriber.get(version);
     }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.paramcheck.ExtractorManager;
+import com.alibaba.nacos.core.paramcheck.impl.ConfigRequestParamExtractor;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
+import com.alibaba.nacos.plugin.auth.constant.SignType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Request handler to query a batch of configs.
+ *
+ * <p>Each config is handled by {@link ConfigQueryRequestHandler} with its own request filters, so the permission and
+ * tps control of each config are the same as querying it alone, and the failure of one config is only returned in its
+ * own query response.
+ *
+ * @author Nacos
+ */
+@Component
+public class ConfigBatchQueryRequestHandler extends RequestHandler<ConfigBatchQueryRequest, ConfigBatchQueryResponse> {
+    
+    private final ConfigQueryRequestHandler configQueryRequestHandler;
+    
+    public ConfigBatchQueryRequestHandler(ConfigQueryRequestHandler configQueryRequestHandler) {
+        this.configQueryRequestHandler = configQueryRequestHandler;
+    }
+    
+    @Override
+    @TpsControl(pointName = "ConfigBatchQuery")
+    @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
+    @ExtractorManager.Extractor(rpcExtractor = ConfigRequestParamExtractor.class)
+    public ConfigBatchQueryResponse handle(ConfigBatchQueryRequest request, RequestMeta meta) throws NacosException {
+        ConfigBatchQueryResponse response = new ConfigBatchQueryResponse();
+        for (String each : request.getDataIds()) {
+            ConfigQueryRequest queryRequest = ConfigQueryRequest.build(each, request.getGroup(), request.getTenant());
+            queryRequest.putAllHeader(request.getHeaders());
+            response.addConfigQueryResponse(query(queryRequest, meta));
+        }
+        return response;
+    }
+    
+    private ConfigQueryResponse query(ConfigQueryRequest queryRequest, RequestMeta meta) {
+        try {
+            Response result = configQueryRequestHandler.handleRequest(queryRequest, meta);
+            if (result instanceof ConfigQueryResponse) {
+                return (ConfigQueryResponse) result;
+            }
+            return ConfigQueryResponse.buildFailResponse(result.getErrorCode(), result.getMessage());
+        } catch (NacosException e) {
+            return ConfigQueryResponse.buildFailResponse(e.getErrCode(), e.getErrMsg());
+        } catch (Exception e) {
+            return ConfigQueryResponse.buildFailResponse(ResponseCode.FAIL.getCode(), e.getMessage());
+        }
+    }
+}
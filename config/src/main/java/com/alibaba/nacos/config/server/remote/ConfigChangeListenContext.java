@@ -16,13 +16,10 @@
 
 package com.alibaba.nacos.config.server.remote;
 
-import com.alibaba.nacos.common.utils.CollectionUtils;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,21 +27,31 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * config change listen context.
  *
+ * <p>The updates of one group key are serialized by {@link ConcurrentHashMap#compute}, which only locks the bin of the
+ * group key, so the updates of different group keys never block each other, and the reads need no lock at all.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeListenContext.java, v 0.1 2020年07月20日 1:37 PM liuzunfei Exp $
  */
 @Component
 public class ConfigChangeListenContext {
     
+    /**
+     * The placeholder of null md5, because {@link ConcurrentHashMap} doesn't accept null value. It is never a valid md5
+     * and is converted back to null when read.
+     */
+    private static final String NULL_MD5 = "@null";
+    
     /**
      * groupKey-> connection set.
      */
-    private ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> groupKeyContext = new ConcurrentHashMap<>();
     
     /**
      * connectionId-> group key set.
      */
-    private ConcurrentHashMap<String, HashMap<String, String>> connectionIdContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, String>> connectionIdContext =
+            new ConcurrentHashMap<>();
     
     /**
      * add listen.
@@ -52,11 +59,16 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connectionId.
      */
-    public synchronized void addListen(String groupKey, String md5, String connectionId) {
+    public void addListen(String groupKey, String md5, String connectionId) {
         // 1.add groupKeyContext
-        groupKeyContext.computeIfAbsent(groupKey, k -> new HashSet<>()).add(connectionId);
-        // 2.add connectionIdContext
-        connectionIdContext.computeIfAbsent(connectionId, k -> new HashMap<>(16)).put(groupKey, md5);
+        groupKeyContext.compute(groupKey, (key, connectionIds) -> {
+            Set<String> result = null == connectionIds ? ConcurrentHashMap.newKeySet() : connectionIds;
+            result.add(connectionId);
+            return result;
+        });
+        // 2.add connectionIdContext, md5 of the config which client not cached yet may be null.
+        connectionIdContext.computeIfAbsent(connectionId, k -> new ConcurrentHashMap<>(16))
+                .put(groupKey, null == md5 ? NULL_MD5 : md5);
     }
     
     /**
@@ -65,52 +77,46 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connection id.
      */
-    public synchronized void removeListen(String groupKey, String connectionId) {
+    public void removeListen(String groupKey, String connectionId) {
         
         //1. remove groupKeyContext
-        Set<String> connectionIds = groupKeyContext.get(groupKey);
-        if (connectionIds != null) {
-            connectionIds.remove(connectionId);
-            if (connectionIds.isEmpty()) {
-                groupKeyContext.remove(groupKey);
-            }
-        }
+        removeConnectionId(groupKey, connectionId);
         
         //2.remove connectionIdContext
-        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
+        Map<String, String> groupKeys = connectionIdContext.get(connectionId);
         if (groupKeys != null) {
             groupKeys.remove(groupKey);
         }
     }
     
     /**
-     * get listeners of the group key.
+     * Remove connection id from listeners of group key, and remove the group key if no listener left.
      *
-     * @param groupKey groupKey.
-     * @return the copy of listeners, may be return null.
+     * <p>Removing the empty set inside {@code computeIfPresent} makes sure no concurrent {@link #addListen} adds
+     * connection id into a removed set.
      */
-    public synchronized Set<String> getListeners(String groupKey) {
-        
-        HashSet<String> strings = groupKeyContext.get(groupKey);
-        if (CollectionUtils.isNotEmpty(strings)) {
-            Set<String> listenConnections = new HashSet<>();
-            safeCopy(strings, listenConnections);
-            return listenConnections;
-        }
-        return null;
+    private void removeConnectionId(String groupKey, String connectionId) {
+        groupKeyContext.computeIfPresent(groupKey, (key, connectionIds) -> {
+            connectionIds.remove(connectionId);
+            return connectionIds.isEmpty() ? null : connectionIds;
+        });
     }
     
     /**
-     * copy collections.
+     * get listeners of the group key.
+     *
+     * <p>The result is an unmodifiable view instead of a copy, it is weakly consistent and can be iterated safely
+     * while the listeners are modified concurrently.
      *
-     * @param src  may be modified concurrently
-     * @param dest dest collection
+     * @param groupKey groupKey.
+     * @return the view of listeners, may be return null.
      */
-    private void safeCopy(Collection src, Collection dest) {
-        Iterator iterator = src.iterator();
-        while (iterator.hasNext()) {
-            dest.add(iterator.next());
+    public Set<String> getListeners(String groupKey) {
+        Set<String> connectionIds = groupKeyContext.get(groupKey);
+        if (null == connectionIds || connectionIds.isEmpty()) {
+            return null;
         }
+        return Collections.unmodifiableSet(connectionIds);
     }
     
     /**
@@ -118,28 +124,14 @@ public class ConfigChangeListenContext {
      *
      * @param connectionId connectionId.
      */
-    public synchronized void clearContextForConnectionId(final String connectionId) {
-        
-        Map<String, String> listenKeys = getListenKeys(connectionId);
-        
+    public void clearContextForConnectionId(final String connectionId) {
+        Map<String, String> listenKeys = connectionIdContext.remove(connectionId);
         if (listenKeys == null) {
-            connectionIdContext.remove(connectionId);
             return;
         }
-        for (Map.Entry<String, String> groupKey : listenKeys.entrySet()) {
-
-            Set<String> connectionIds = groupKeyContext.get(groupKey.getKey());
-            if (CollectionUtils.isNotEmpty(connectionIds)) {
-                connectionIds.remove(connectionId);
-                if (connectionIds.isEmpty()) {
-                    groupKeyContext.remove(groupKey.getKey());
-                }
-            } else {
-                groupKeyContext.remove(groupKey.getKey());
-            }
-
+        for (String groupKey : listenKeys.keySet()) {
+            removeConnectionId(groupKey, connectionId);
         }
-        connectionIdContext.remove(connectionId);
     }
     
     /**
@@ -148,9 +140,14 @@ public class ConfigChangeListenContext {
      * @param connectionId connection id.
      * @return listen group keys of the connection id, key:group key,value:md5
      */
-    public synchronized Map<String, String> getListenKeys(String connectionId) {
-        HashMap<String, String> stringStringHashMap = connectionIdContext.get(connectionId);
-        return stringStringHashMap == null ? null : new HashMap<>(stringStringHashMap);
+    public Map<String, String> getListenKeys(String connectionId) {
+        Map<String, String> listenKeys = connectionIdContext.get(connectionId);
+        if (listenKeys == null) {
+            return null;
+        }
+        Map<String, String> result = new HashMap<>(listenKeys.size());
+        listenKeys.forEach((groupKey, md5) -> result.put(groupKey, toMd5(md5)));
+        return result;
     }
     
     /**
@@ -161,7 +158,11 @@ public class ConfigChangeListenContext {
      */
     public String getListenKeyMd5(String connectionId, String groupKey) {
         Map<String, String> groupKeyContexts = connectionIdContext.get(connectionId);
-        return groupKeyContexts == null ? null : groupKeyContexts.get(groupKey);
+        return groupKeyContexts == null ? null : toMd5(groupKeyContexts.get(groupKey));
+    }
+    
+    private static String toMd5(String storedMd5) {
+        return NULL_MD5.equals(storedMd5) ? null : storedMd5;
     }
     
     /**
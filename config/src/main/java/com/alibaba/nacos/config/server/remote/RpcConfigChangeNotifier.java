@@ -16,8 +16,11 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.remote.AbstractPushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
@@ -39,8 +42,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -81,6 +88,11 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     @Autowired
     private ConnectionManager connectionManager;
     
+    /**
+     * connectionId -> pending batch of changed configs.
+     */
+    private final ConcurrentHashMap<String, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+    
     /**
      * adaptor to config module ,when server side config change ,invoke this method.
      *
@@ -109,16 +121,74 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
                 continue;
             }
             
-            ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
-            
-            RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest,
-                    ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), client, clientIp, metaInfo.getAppName());
-            push(rpcPushRetryTask, connectionManager);
+            if (isSupportBatchPush(connection)) {
+                addToPendingBatch(groupKey, dataId, group, tenant, client, clientIp, metaInfo.getAppName());
+            } else {
+                ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
+                RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest,
+                        ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), client, clientIp,
+                        metaInfo.getAppName());
+                push(rpcPushRetryTask, connectionManager);
+            }
             notifyClientCount++;
         }
         Loggers.REMOTE_PUSH.info("push [{}] clients, groupKey=[{}]", notifyClientCount, groupKey);
     }
     
+    private boolean isSupportBatchPush(Connection connection) {
+        if (!ConfigCommonConfig.getInstance().isBatchPushEnabled()) {
+            return false;
+        }
+        Map<String, Boolean> abilityTable = connection.getAbilityTable();
+        return null != abilityTable && Boolean.TRUE
+                .equals(abilityTable.get(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY.getName()));
+    }
+    
+    /**
+     * Coalesce the changed config into the pending batch of the connection.
+     *
+     * <p>The batch is pushed when it reaches the max size, or after the delay since the first config added into it,
+     * whichever comes first. All modifications of one batch happen inside {@link ConcurrentHashMap#compute}, so the
+     * batch is not modified any more after it is removed from the pending batches.
+     */
+    private void addToPendingBatch(String groupKey, String dataId, String group, String tenant, String connectionId,
+            String clientIp, String appName) {
+        ConfigCommonConfig config = ConfigCommonConfig.getInstance();
+        PendingBatch[] fullBatch = new PendingBatch[1];
+        boolean[] newBatch = new boolean[1];
+        PendingBatch batch = pendingBatches.compute(connectionId, (key, pending) -> {
+            PendingBatch result = pending;
+            if (null == result) {
+                result = new PendingBatch(connectionId, clientIp, appName);
+                newBatch[0] = true;
+            }
+            result.add(groupKey, dataId, group, tenant);
+            if (result.size() >= config.getBatchPushMaxSize()) {
+                fullBatch[0] = result;
+                return null;
+            }
+            return result;
+        });
+        if (null != fullBatch[0]) {
+            pushBatch(fullBatch[0]);
+        } else if (newBatch[0]) {
+            ConfigExecutor.scheduleClientConfigNotifier(() -> {
+                if (pendingBatches.remove(connectionId, batch)) {
+                    pushBatch(batch);
+                }
+            }, config.getBatchPushDelayMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private void pushBatch(PendingBatch batch) {
+        ConfigBatchChangeNotifyRequest notifyRequest = new ConfigBatchChangeNotifyRequest();
+        notifyRequest.setChangedConfigs(new ArrayList<>(batch.changedConfigs.values()));
+        RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest,
+                ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), batch.connectionId, batch.clientIp,
+                batch.appName);
+        push(rpcPushRetryTask, connectionManager);
+    }
+    
     @Override
     public void onEvent(LocalDataChangeEvent event) {
         String groupKey = event.groupKey;
@@ -141,7 +211,10 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     
     class RpcPushTask implements Runnable {
         
-        ConfigChangeNotifyRequest notifyRequest;
+        /**
+         * {@link ConfigChangeNotifyRequest} or {@link ConfigBatchChangeNotifyRequest}, the batch is retried as a unit.
+         */
+        ServerRequest notifyRequest;
         
         int maxRetryTimes = -1;
         
@@ -153,7 +226,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         
         String appName;
         
-        public RpcPushTask(ConfigChangeNotifyRequest notifyRequest, int maxRetryTimes, String connectionId,
+        public RpcPushTask(ServerRequest notifyRequest, int maxRetryTimes, String connectionId,
                 String clientIp, String appName) {
             this.notifyRequest = notifyRequest;
             this.maxRetryTimes = maxRetryTimes;
@@ -170,10 +243,27 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return tryTimes;
         }
         
-        public ConfigChangeNotifyRequest getNotifyRequest() {
+        public ServerRequest getNotifyRequest() {
             return notifyRequest;
         }
         
+        /**
+         * Get the changed configs of notify request for logging.
+         *
+         * @return description of changed configs
+         */
+        public String getChangedConfigs() {
+            if (notifyRequest instanceof ConfigChangeNotifyRequest) {
+                ConfigChangeNotifyRequest request = (ConfigChangeNotifyRequest) notifyRequest;
+                return "dataId=" + request.getDataId() + ", group=" + request.getGroup() + ", tenant="
+                        + request.getTenant();
+            }
+            if (notifyRequest instanceof ConfigBatchChangeNotifyRequest) {
+                return "changedConfigs=" + ((ConfigBatchChangeNotifyRequest) notifyRequest).getChangedConfigs();
+            }
+            return String.valueOf(notifyRequest);
+        }
+        
         public int getMaxRetryTimes() {
             return maxRetryTimes;
         }
@@ -206,6 +296,40 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         }
     }
     
+    /**
+     * The changed configs waiting to be pushed to one connection, the same config only be pushed once in one batch.
+     */
+    static class PendingBatch {
+        
+        private final String connectionId;
+        
+        private final String clientIp;
+        
+        private final String appName;
+        
+        private final Map<String, ConfigBatchChangeNotifyRequest.ConfigContext> changedConfigs = new LinkedHashMap<>();
+        
+        PendingBatch(String connectionId, String clientIp, String appName) {
+            this.connectionId = connectionId;
+            this.clientIp = clientIp;
+            this.appName = appName;
+        }
+        
+        void add(String groupKey, String dataId, String group, String tenant) {
+            changedConfigs.computeIfAbsent(groupKey, key -> {
+                ConfigBatchChangeNotifyRequest.ConfigContext result = new ConfigBatchChangeNotifyRequest.ConfigContext();
+                result.setDataId(dataId);
+                result.setGroup(group);
+                result.setTenant(tenant);
+                return result;
+            });
+        }
+        
+        int size() {
+            return changedConfigs.size();
+        }
+    }
+    
     static class RpcPushCallback extends AbstractPushCallBack {
         
         RpcPushTask rpcPushTask;
@@ -234,20 +358,16 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
             tpsCheckRequest.setPointName(POINT_CONFIG_PUSH_FAIL);
             tpsControlManager.check(tpsCheckRequest);
-            Loggers.REMOTE_PUSH.warn("Push fail, dataId={}, group={}, tenant={}, clientId={}",
-                    rpcPushTask.getNotifyRequest().getDataId(), rpcPushTask.getNotifyRequest().getGroup(),
-                    rpcPushTask.getNotifyRequest().getTenant(), rpcPushTask.getConnectionId(), e);
+            Loggers.REMOTE_PUSH.warn("Push fail, {}, clientId={}", rpcPushTask.getChangedConfigs(),
+                    rpcPushTask.getConnectionId(), e);
             push(rpcPushTask, connectionManager);
         }
     }
     
     private static void push(RpcPushTask retryTask, ConnectionManager connectionManager) {
-        ConfigChangeNotifyRequest notifyRequest = retryTask.getNotifyRequest();
         if (retryTask.isOverTimes()) {
-            Loggers.REMOTE_PUSH.warn(
-                    "push callback retry fail over times. dataId={},group={},tenant={},clientId={}, will unregister client.",
-                    notifyRequest.getDataId(), notifyRequest.getGroup(), notifyRequest.getTenant(),
-                    retryTask.getConnectionId());
+            Loggers.REMOTE_PUSH.warn("push callback retry fail over times. {},clientId={}, will unregister client.",
+                    retryTask.getChangedConfigs(), retryTask.getConnectionId());
             connectionManager.unregister(retryTask.getConnectionId());
         } else if (connectionManager.getConnection(retryTask.getConnectionId()) != null) {
             // first time:delay 0s; second time:delay 2s; third time:delay 4s
@@ -34,6 +34,7 @@ import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
@@ -449,7 +450,7 @@ public class ConfigCacheService {
      */
     public static void updateMd5(String groupKey, String md5Utf8, long lastModifiedTs, String encryptedDataKey) {
         CacheItem cache = makeSure(groupKey, encryptedDataKey);
-        if (cache.getConfigCache().getMd5Utf8() == null || !cache.getConfigCache().getMd5Utf8().equals(md5Utf8)) {
+        if (!cache.getConfigCache().isSameMd5(md5Utf8, ENCODE_UTF8)) {
             cache.getConfigCache().setMd5Utf8(md5Utf8);
             cache.getConfigCache().setLastModifiedTs(lastModifiedTs);
             cache.getConfigCache().setEncryptedDataKey(encryptedDataKey);
@@ -469,11 +470,10 @@ public class ConfigCacheService {
             String encryptedDataKey4Beta) {
         CacheItem cache = makeSure(groupKey, null);
         cache.initBetaCacheIfEmpty();
-        String betaMd5Utf8 = cache.getConfigCacheBeta().getMd5(ENCODE_UTF8);
-        if (betaMd5Utf8 == null || !betaMd5Utf8.equals(md5Utf8) || !CollectionUtils.isListEqual(ips4Beta,
-                cache.ips4Beta)) {
-            cache.isBeta = true;
-            cache.ips4Beta = ips4Beta;
+        if (!cache.getConfigCacheBeta().isSameMd5(md5Utf8, ENCODE_UTF8) || !CollectionUtils.isListEqual(ips4Beta,
+                cache.getIps4Beta())) {
+            cache.setBeta(true);
+            cache.setIps4Beta(ips4Beta);
             cache.getConfigCacheBeta().setMd5Utf8(md5Utf8);
             cache.getConfigCacheBeta().setLastModifiedTs(lastModifiedTs);
             cache.getConfigCacheBeta().setEncryptedDataKey(encryptedDataKey4Beta);
@@ -508,23 +508,33 @@ public class ConfigCacheService {
     }
     
     public static String getContentMd5(String groupKey, String ip, String tag) {
-        CacheItem item = CACHE.get(groupKey);
-        if (item != null && item.isBeta && item.ips4Beta != null && item.ips4Beta.contains(ip)
-                && item.getConfigCacheBeta() != null) {
-            return item.getConfigCacheBeta().getMd5(ENCODE_UTF8);
+        ConfigCache configCache = selectConfigCache(CACHE.get(groupKey), ip, tag);
+        return (null != configCache) ? configCache.getMd5(ENCODE_UTF8) : Constants.NULL;
+    }
+    
+    /**
+     * Select the config cache of the client by beta ips, tag and batch delimiter.
+     */
+    private static ConfigCache selectConfigCache(CacheItem item, String ip, String tag) {
+        if (null == item) {
+            return null;
+        }
+        List<String> ips4Beta = item.getIps4Beta();
+        if (item.isBeta() && ips4Beta != null && ips4Beta.contains(ip) && item.getConfigCacheBeta() != null) {
+            return item.getConfigCacheBeta();
         }
         
-        if (item != null && StringUtils.isNotBlank(tag) && item.getConfigCacheTags() != null
-                && item.getConfigCacheTags().containsKey(tag)) {
-            return item.getConfigCacheTags().get(tag).getMd5(ENCODE_UTF8);
+        Map<String, ConfigCache> configCacheTags = item.getConfigCacheTags();
+        if (StringUtils.isNotBlank(tag) && configCacheTags != null && configCacheTags.containsKey(tag)) {
+            return configCacheTags.get(tag);
         }
         
-        if (item != null && item.isBatch && item.delimiter >= InternetAddressUtil.ipToInt(ip)
+        if (item.isBatch() && item.getDelimiter() >= InternetAddressUtil.ipToInt(ip)
                 && item.getConfigCacheBatch() != null) {
-            return item.getConfigCacheBatch().getMd5(ENCODE_UTF8);
+            return item.getConfigCacheBatch();
         }
         
-        return (null != item) ? item.getConfigCache().getMd5(ENCODE_UTF8) : Constants.NULL;
+        return item.getConfigCache();
     }
     
     /**
@@ -610,13 +620,24 @@ public class ConfigCacheService {
     }
     
     public static boolean isUptodate(String groupKey, String md5) {
-        String serverMd5 = ConfigCacheService.getContentMd5(groupKey);
-        return StringUtils.equals(md5, serverMd5);
+        return isUptodate(groupKey, md5, "", "");
     }
     
+    /**
+     * Whether the md5 of client is the same as server, compares with the compact md5 without creating md5 string.
+     *
+     * @param groupKey groupKey
+     * @param md5      md5 of client
+     * @param ip       ip of client
+     * @param tag      tag of client
+     * @return {@code true} if client config is up to date
+     */
     public static boolean isUptodate(String groupKey, String md5, String ip, String tag) {
-        String serverMd5 = ConfigCacheService.getContentMd5(groupKey, ip, tag);
-        return StringUtils.equals(md5, serverMd5);
+        ConfigCache configCache = selectConfigCache(CACHE.get(groupKey), ip, tag);
+        if (null == configCache) {
+            return StringUtils.equals(md5, Constants.NULL);
+        }
+        return configCache.isSameMd5(md5, ENCODE_UTF8);
     }
     
     /**
@@ -0,0 +1,230 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in memory cache of config contents, the capacity is limited by the estimated bytes of contents.
+ *
+ * <p>Reading is lock free and only marks the entry as referenced. When the cache is full, entries are evicted by the
+ * CLOCK algorithm, which means the entries referenced since last sweep get a second chance.
+ *
+ * <p>To make sure never caching stale content, the loader should get a {@link #stamp()} before loading the content
+ * from disk, and the content is only cached when no invalidation happened during loading.
+ *
+ * @author Nacos
+ */
+public class ConfigContentCache {
+    
+    /**
+     * Estimated bytes of the entry, the string and the map node except the chars.
+     */
+    private static final int ENTRY_OVERHEAD = 128;
+    
+    /**
+     * The content larger than {@code 1/8} of capacity will not be cached, to avoid one big config flushing the cache.
+     */
+    private static final int MAX_ENTRY_RATIO = 8;
+    
+    private static final int MIN_GARBAGE_NODES = 64;
+    
+    private final long maxBytes;
+    
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>(16);
+    
+    /**
+     * The clock of entries, may contain the entries which have been removed from {@link #entries}.
+     */
+    private final Queue<Entry> clock = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger clockSize = new AtomicInteger();
+    
+    private final AtomicLong bytes = new AtomicLong();
+    
+    private final AtomicLong modifications = new AtomicLong();
+    
+    private final ReentrantLock sweepLock = new ReentrantLock();
+    
+    public ConfigContentCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+    
+    /**
+     * Get the content from cache.
+     *
+     * @param key cache key
+     * @return content, {@code null} if not cached
+     */
+    public String get(String key) {
+        Entry entry = entries.get(key);
+        if (null == entry) {
+            MetricsMonitor.getContentCacheMissMonitor().incrementAndGet();
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        MetricsMonitor.getContentCacheHitMonitor().incrementAndGet();
+        return entry.content;
+    }
+    
+    /**
+     * Get the current stamp of modification, which should be got before loading the content.
+     *
+     * @return current stamp
+     */
+    public long stamp() {
+        return modifications.get();
+    }
+    
+    /**
+     * Cache the loaded content if no invalidation happened since the stamp.
+     *
+     * @param key     cache key
+     * @param content loaded content
+     * @param stamp   the stamp got before loading
+     */
+    public void put(String key, String content, long stamp) {
+        long weight = weigh(content);
+        if (weight > maxBytes / MAX_ENTRY_RATIO || stamp != modifications.get()) {
+            return;
+        }
+        Entry entry = new Entry(key, content, weight);
+        Entry previous = entries.put(key, entry);
+        addBytes(weight - (null == previous ? 0 : previous.weight));
+        clock.offer(entry);
+        clockSize.incrementAndGet();
+        // The invalidation may happen between the stamp checking and putting, double check to remove it.
+        if (stamp != modifications.get()) {
+            removeEntry(key, entry);
+        }
+        sweepIfNecessary();
+    }
+    
+    /**
+     * Invalidate the cached content, should be called after the content on disk changed.
+     *
+     * @param key cache key
+     */
+    public void invalidate(String key) {
+        modifications.incrementAndGet();
+        Entry entry = entries.get(key);
+        if (null != entry) {
+            removeEntry(key, entry);
+        }
+    }
+    
+    /**
+     * Invalidate all cached contents.
+     */
+    public void invalidateAll() {
+        modifications.incrementAndGet();
+        for (Map.Entry<String, Entry> each : entries.entrySet()) {
+            removeEntry(each.getKey(), each.getValue());
+        }
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    public long getBytes() {
+        return bytes.get();
+    }
+    
+    private void removeEntry(String key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            addBytes(-entry.weight);
+        }
+    }
+    
+    private void addBytes(long delta) {
+        bytes.addAndGet(delta);
+        MetricsMonitor.getContentCacheBytesMonitor().addAndGet(delta);
+    }
+    
+    private boolean isSweepNecessary() {
+        return bytes.get() > maxBytes || clockSize.get() > entries.size() * 2 + MIN_GARBAGE_NODES;
+    }
+    
+    /**
+     * Sweep the clock to evict entries until the cache is not full, and drop the nodes of removed entries.
+     */
+    private void sweepIfNecessary() {
+        if (!isSweepNecessary() || !sweepLock.tryLock()) {
+            return;
+        }
+        try {
+            // At most two rounds, the second round must be able to evict the entries un-referenced by the first round.
+            int remaining = clockSize.get() * 2;
+            while (remaining-- > 0 && isSweepNecessary()) {
+                Entry entry = clock.poll();
+                if (null == entry) {
+                    break;
+                }
+                clockSize.decrementAndGet();
+                if (entries.get(entry.key) != entry) {
+                    continue;
+                }
+                if (bytes.get() > maxBytes && !entry.referenced) {
+                    if (entries.remove(entry.key, entry)) {
+                        addBytes(-entry.weight);
+                        MetricsMonitor.getContentCacheEvictionMonitor().incrementAndGet();
+                    }
+                    continue;
+                }
+                if (bytes.get() > maxBytes) {
+                    entry.referenced = false;
+                }
+                clock.offer(entry);
+                clockSize.incrementAndGet();
+            }
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+    
+    private static long weigh(String content) {
+        return ENTRY_OVERHEAD + 2L * content.length();
+    }
+    
+    private static class Entry {
+        
+        private final String key;
+        
+        private final String content;
+        
+        private final long weight;
+        
+        private volatile boolean referenced;
+        
+        private Entry(String key, String content, long weight) {
+            this.key = key;
+            this.content = content;
+            this.weight = weight;
+        }
+    }
+}
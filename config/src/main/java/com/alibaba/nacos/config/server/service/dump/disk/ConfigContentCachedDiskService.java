@@ -0,0 +1,191 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+
+import java.io.IOException;
+
+/**
+ * Config disk service with content cached in memory, to avoid reading disk for the hot configs.
+ *
+ * <p>The contents are only changed by {@link com.alibaba.nacos.config.server.service.ConfigCacheService} dump and
+ * remove through this service, so the cached content is invalidated after the content on disk changed.
+ *
+ * @author Nacos
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigContentCachedDiskService implements ConfigDiskService {
+    
+    private static final String FORMAL_PREFIX = "F";
+    
+    private static final String BETA_PREFIX = "B";
+    
+    private static final String TAG_PREFIX = "T";
+    
+    private final ConfigDiskService delegate;
+    
+    private final ConfigContentCache contentCache;
+    
+    public ConfigContentCachedDiskService(ConfigDiskService delegate, ConfigContentCache contentCache) {
+        this.delegate = delegate;
+        this.contentCache = contentCache;
+    }
+    
+    public ConfigDiskService getDelegate() {
+        return delegate;
+    }
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        try {
+            delegate.saveToDisk(dataId, group, tenant, content);
+        } finally {
+            contentCache.invalidate(formalKey(dataId, group, tenant));
+        }
+    }
+    
+    @Override
+    public void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        try {
+            delegate.saveBetaToDisk(dataId, group, tenant, content);
+        } finally {
+            contentCache.invalidate(betaKey(dataId, group, tenant));
+        }
+    }
+    
+    @Override
+    public void saveTagToDisk(String dataId, String group, String tenant, String tag, String content)
+            throws IOException {
+        try {
+            delegate.saveTagToDisk(dataId, group, tenant, tag, content);
+        } finally {
+            contentCache.invalidate(tagKey(dataId, group, tenant, tag));
+        }
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        try {
+            delegate.removeConfigInfo(dataId, group, tenant);
+        } finally {
+            contentCache.invalidate(formalKey(dataId, group, tenant));
+        }
+    }
+    
+    @Override
+    public void removeConfigInfo4Beta(String dataId, String group, String tenant) {
+        try {
+            delegate.removeConfigInfo4Beta(dataId, group, tenant);
+        } finally {
+            contentCache.invalidate(betaKey(dataId, group, tenant));
+        }
+    }
+    
+    @Override
+    public void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag) {
+        try {
+            delegate.removeConfigInfo4Tag(dataId, group, tenant, tag);
+        } finally {
+            contentCache.invalidate(tagKey(dataId, group, tenant, tag));
+        }
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) throws IOException {
+        String key = formalKey(dataId, group, tenant);
+        String content = contentCache.get(key);
+        if (null == content) {
+            long stamp = contentCache.stamp();
+            content = delegate.getContent(dataId, group, tenant);
+            cacheLoaded(key, content, stamp);
+        }
+        return content;
+    }
+    
+    @Override
+    public String getBetaContent(String dataId, String group, String tenant) throws IOException {
+        String key = betaKey(dataId, group, tenant);
+        String content = contentCache.get(key);
+        if (null == content) {
+            long stamp = contentCache.stamp();
+            content = delegate.getBetaContent(dataId, group, tenant);
+            cacheLoaded(key, content, stamp);
+        }
+        return content;
+    }
+    
+    @Override
+    public String getTagContent(String dataId, String group, String tenant, String tag) throws IOException {
+        String key = tagKey(dataId, group, tenant, tag);
+        String content = contentCache.get(key);
+        if (null == content) {
+            long stamp = contentCache.stamp();
+            content = delegate.getTagContent(dataId, group, tenant, tag);
+            cacheLoaded(key, content, stamp);
+        }
+        return content;
+    }
+    
+    @Override
+    public void clearAll() {
+        try {
+            delegate.clearAll();
+        } finally {
+            contentCache.invalidateAll();
+        }
+    }
+    
+    @Override
+    public void clearAllBeta() {
+        try {
+            delegate.clearAllBeta();
+        } finally {
+            contentCache.invalidateAll();
+        }
+    }
+    
+    @Override
+    public void clearAllTag() {
+        try {
+            delegate.clearAllTag();
+        } finally {
+            contentCache.invalidateAll();
+        }
+    }
+    
+    private void cacheLoaded(String key, String content, long stamp) {
+        if (null != content) {
+            contentCache.put(key, content, stamp);
+        }
+    }
+    
+    /**
+     * The group key has escaped the {@code +}, so the keys with different prefix never conflict.
+     */
+    private static String formalKey(String dataId, String group, String tenant) {
+        return FORMAL_PREFIX + GroupKey2.getKey(dataId, group, tenant);
+    }
+    
+    private static String betaKey(String dataId, String group, String tenant) {
+        return BETA_PREFIX + GroupKey2.getKey(dataId, group, tenant);
+    }
+    
+    private static String tagKey(String dataId, String group, String tenant, String tag) {
+        return TAG_PREFIX + GroupKey2.getKey(GroupKey2.getKey(dataId, group, tenant), tag);
+    }
+}
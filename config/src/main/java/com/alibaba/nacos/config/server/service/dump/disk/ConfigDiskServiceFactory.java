@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.config.server.service.dump.disk;
 
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+
 /**
  * config disk serve factory.
  *
@@ -29,6 +31,8 @@ public class ConfigDiskServiceFactory {
     
     private static final String TYPE_ROCKSDB = "rocksdb";
     
+    private static final String TYPE_SEGMENT = "segment";
+    
     /**
      * get disk service.
      *
@@ -39,11 +43,15 @@ public class ConfigDiskServiceFactory {
             synchronized (ConfigDiskServiceFactory.class) {
                 if (configDiskService == null) {
                     String type = System.getProperty("config_disk_type", TYPE_RAW_DISK);
+                    ConfigDiskService diskService;
                     if (type.equalsIgnoreCase(TYPE_ROCKSDB)) {
-                        configDiskService = new ConfigRocksDbDiskService();
+                        diskService = new ConfigRocksDbDiskService();
+                    } else if (type.equalsIgnoreCase(TYPE_SEGMENT)) {
+                        diskService = new ConfigSegmentDiskService();
                     } else {
-                        configDiskService = new ConfigRawDiskService();
+                        diskService = new ConfigRawDiskService();
                     }
+                    configDiskService = wrapContentCacheIfEnabled(diskService);
                 }
                 return configDiskService;
             }
@@ -51,4 +59,13 @@ public class ConfigDiskServiceFactory {
         return configDiskService;
     }
     
+    private static ConfigDiskService wrapContentCacheIfEnabled(ConfigDiskService diskService) {
+        ConfigCommonConfig commonConfig = ConfigCommonConfig.getInstance();
+        if (!commonConfig.isContentCacheEnabled() || commonConfig.getContentCacheMaxBytes() <= 0) {
+            return diskService;
+        }
+        return new ConfigContentCachedDiskService(diskService,
+                new ConfigContentCache(commonConfig.getContentCacheMaxBytes()));
+    }
+    
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * config segment disk service.
+ *
+ * <p>All the configs of one type are stored in the append only segment files instead of one file for each config, to
+ * avoid the open and stat system calls of huge number of small files.
+ *
+ * @author Nacos
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigSegmentDiskService implements ConfigDiskService {
+    
+    private static final String SEGMENT_DATA = File.separator + "data" + File.separator + "segment-data"
+            + File.separator;
+            
+    private static final String BASE_DIR = SEGMENT_DATA + "config-data";
+    
+    private static final String BETA_DIR = SEGMENT_DATA + "beta-data";
+    
+    private static final String TAG_DIR = SEGMENT_DATA + "tag-data";
+    
+    /**
+     * The max size of one segment file, the segments grow from a small size up to it.
+     */
+    private static final String SEGMENT_SIZE_PROPERTY = "config_disk_segment_size";
+    
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    
+    private static final long COMPACT_INTERVAL_MINUTES = 5L;
+    
+    private final ConfigSegmentStore configStore;
+    
+    private final ConfigSegmentStore betaStore;
+    
+    private final ConfigSegmentStore tagStore;
+    
+    public ConfigSegmentDiskService() {
+        this(EnvUtil.getNacosHome(), Integer.getInteger(SEGMENT_SIZE_PROPERTY, DEFAULT_SEGMENT_SIZE));
+        ConfigExecutor.scheduleConfigTask(this::compact, COMPACT_INTERVAL_MINUTES, COMPACT_INTERVAL_MINUTES,
+                TimeUnit.MINUTES);
+    }
+    
+    ConfigSegmentDiskService(String baseDir, int segmentSize) {
+        try {
+            configStore = new ConfigSegmentStore(new File(baseDir, BASE_DIR), segmentSize);
+            betaStore = new ConfigSegmentStore(new File(baseDir, BETA_DIR), segmentSize);
+            tagStore = new ConfigSegmentStore(new File(baseDir, TAG_DIR), segmentSize);
+        } catch (IOException e) {
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, "init config segment disk service failed.", e);
+        }
+    }
+    
+    /**
+     * Compact the segments with too much garbage of all types.
+     */
+    void compact() {
+        configStore.compact();
+        betaStore.compact();
+        tagStore.compact();
+    }
+    
+    private static String getKey(String dataId, String group, String tenant) {
+        return GroupKey2.getKey(dataId, group, tenant);
+    }
+    
+    /**
+     * The group key has escaped the {@code +}, so the tag key never conflicts.
+     */
+    private static String getTagKey(String dataId, String group, String tenant, String tag) {
+        return GroupKey2.getKey(getKey(dataId, group, tenant), tag);
+    }
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        configStore.put(getKey(dataId, group, tenant), content);
+    }
+    
+    @Override
+    public void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        betaStore.put(getKey(dataId, group, tenant), content);
+    }
+    
+    @Override
+    public void saveTagToDisk(String dataId, String group, String tenant, String tag, String content)
+            throws IOException {
+        tagStore.put(getTagKey(dataId, group, tenant, tag), content);
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        removeQuietly(configStore, getKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public void removeConfigInfo4Beta(String dataId, String group, String tenant) {
+        removeQuietly(betaStore, getKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag) {
+        removeQuietly(tagStore, getTagKey(dataId, group, tenant, tag));
+    }
+    
+    private void removeQuietly(ConfigSegmentStore store, String key) {
+        try {
+            store.remove(key);
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("Remove config {} from segment failed.", key, e);
+        }
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) {
+        return configStore.get(getKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public String getBetaContent(String dataId, String group, String tenant) {
+        return betaStore.get(getKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public String getTagContent(String dataId, String group, String tenant, String tag) {
+        return tagStore.get(getTagKey(dataId, group, tenant, tag));
+    }
+    
+    @Override
+    public void clearAll() {
+        configStore.clear();
+        LogUtil.DEFAULT_LOG.info("clear all config-info success.");
+    }
+    
+    @Override
+    public void clearAllBeta() {
+        betaStore.clear();
+        LogUtil.DEFAULT_LOG.info("clear all config-info-beta success.");
+    }
+    
+    @Override
+    public void clearAllTag() {
+        tagStore.clear();
+        LogUtil.DEFAULT_LOG.info("clear all config-info-tag success.");
+    }
+}
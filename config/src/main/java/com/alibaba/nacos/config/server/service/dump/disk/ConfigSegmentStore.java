@@ -0,0 +1,591 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Append only segment files of config contents, the location of each content is indexed in memory.
+ *
+ * <p>Each record is {@code magic | crc | keyLength | valueLength | key | value}, and the value length of a removed
+ * record is {@code -1}. Records are appended to the active segment and read through the mapped buffer of segment, so
+ * reading a content needs neither opening file nor system call. The records replaced or removed later become garbage,
+ * and the segment with too much garbage is compacted by copying its live records to the active segment.
+ *
+ * <p>The segments are created only when needed, the first segment is small and each new segment doubles the size of
+ * previous one until the max segment size, so a store with few configs doesn't occupy a large file. The compacted
+ * segment is unmapped and deleted after no reader is reading it.
+ *
+ * <p>Clearing the store records the first segment id after the clear in a mark file, so the segments which are not
+ * deleted yet when clearing are ignored by recovery.
+ *
+ * @author Nacos
+ */
+class ConfigSegmentStore {
+    
+    private static final int MAGIC = 0x4E435347;
+    
+    /**
+     * magic, crc, key length and value length.
+     */
+    private static final int HEADER_LENGTH = 16;
+    
+    private static final int REMOVED = -1;
+    
+    private static final String SEGMENT_SUFFIX = ".segment";
+    
+    private static final String CLEARED_MARK = "cleared.mark";
+    
+    private static final String TEMP_SUFFIX = ".tmp";
+    
+    private static final int COMPACT_GARBAGE_PERCENT = 50;
+    
+    private static final int PERCENT = 100;
+    
+    private static final int INITIAL_SEGMENT_SIZE = 1024 * 1024;
+    
+    private final File dir;
+    
+    private final int segmentSize;
+    
+    private final Map<String, RecordLocation> index = new ConcurrentHashMap<>(16);
+    
+    private final NavigableMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    
+    private final ReentrantLock writeLock = new ReentrantLock();
+    
+    /**
+     * The segments removed from the store but still being read, they are released in next compaction.
+     */
+    private final List<Segment> retiredSegments = new ArrayList<>();
+    
+    private Segment activeSegment;
+    
+    private int nextSegmentId;
+    
+    ConfigSegmentStore(File dir, int segmentSize) throws IOException {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        recover();
+    }
+    
+    /**
+     * Get the content of key.
+     *
+     * @param key key
+     * @return content, {@code null} if not exist
+     */
+    String get(String key) {
+        while (true) {
+            RecordLocation location = index.get(key);
+            if (null == location) {
+                return null;
+            }
+            Segment segment = location.segment;
+            if (!segment.retain()) {
+                // The segment has been compacted and released, the record has been moved to another segment.
+                continue;
+            }
+            try {
+                byte[] value = new byte[location.valueLength];
+                positioned(segment.buffer, location.valueOffset()).get(value);
+                return new String(value, UTF_8);
+            } finally {
+                segment.release();
+            }
+        }
+    }
+    
+    /**
+     * Append the content of key.
+     *
+     * @param key     key
+     * @param content content
+     * @throws IOException if create new segment failed
+     */
+    void put(String key, String content) throws IOException {
+        byte[] keyBytes = key.getBytes(UTF_8);
+        byte[] value = content.getBytes(UTF_8);
+        writeLock.lock();
+        try {
+            RecordLocation location = append(keyBytes, value);
+            markGarbage(index.put(key, location));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    /**
+     * Append a removed record of key if the key exists.
+     *
+     * @param key key
+     * @throws IOException if create new segment failed
+     */
+    void remove(String key) throws IOException {
+        writeLock.lock();
+        try {
+            RecordLocation previous = index.remove(key);
+            if (null == previous) {
+                return;
+            }
+            markGarbage(previous);
+            markGarbage(append(key.getBytes(UTF_8), null));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    /**
+     * Remove all the contents and segment files. The segments being read are deleted in next compaction.
+     */
+    void clear() {
+        writeLock.lock();
+        try {
+            if (!segments.isEmpty()) {
+                writeClearedMark(nextSegmentId);
+            }
+            index.clear();
+            retiredSegments.addAll(segments.values());
+            segments.clear();
+            activeSegment = null;
+            releaseRetiredSegments();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    /**
+     * Compact the sealed segments which have too much garbage.
+     */
+    void compact() {
+        writeLock.lock();
+        try {
+            releaseRetiredSegments();
+        } finally {
+            writeLock.unlock();
+        }
+        for (Segment each : new ArrayList<>(segments.values())) {
+            writeLock.lock();
+            try {
+                if (each == activeSegment || segments.get(each.id) != each || !each.isCompactable()) {
+                    continue;
+                }
+                compactSegment(each);
+            } catch (IOException e) {
+                LogUtil.DEFAULT_LOG.warn("Compact config segment {} failed.", each.file, e);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+    
+    int size() {
+        return index.size();
+    }
+    
+    int segmentCount() {
+        return segments.size();
+    }
+    
+    private void compactSegment(Segment segment) throws IOException {
+        boolean oldest = segments.firstKey() == segment.id;
+        for (Record each : segment.readRecords()) {
+            if (each.isRemoved()) {
+                // The previous records of key may still in the older segments, keep the removed record.
+                if (!oldest && !index.containsKey(each.key)) {
+                    markGarbage(append(each.keyBytes(), null));
+                }
+                continue;
+            }
+            RecordLocation current = index.get(each.key);
+            if (null != current && current.segment == segment && current.offset == each.offset) {
+                index.put(each.key, append(each.keyBytes(), each.value(segment)));
+            }
+        }
+        segments.remove(segment.id);
+        retiredSegments.add(segment);
+        releaseRetiredSegments();
+        LogUtil.DEFAULT_LOG.info("Compact config segment {} finished, {} bytes garbage released.", segment.file,
+                segment.garbageBytes);
+    }
+    
+    /**
+     * Unmap and delete the retired segments which are not being read.
+     *
+     * @return {@code true} if all the retired segments are released
+     */
+    private boolean releaseRetiredSegments() {
+        Iterator<Segment> iterator = retiredSegments.iterator();
+        while (iterator.hasNext()) {
+            Segment each = iterator.next();
+            if (!each.close()) {
+                continue;
+            }
+            iterator.remove();
+            if (each.file.exists() && !each.file.delete()) {
+                LogUtil.DEFAULT_LOG.warn("Delete released config segment {} failed.", each.file);
+            }
+        }
+        return retiredSegments.isEmpty();
+    }
+    
+    private RecordLocation append(byte[] key, byte[] value) throws IOException {
+        int valueLength = null == value ? REMOVED : value.length;
+        int recordLength = HEADER_LENGTH + key.length + Math.max(valueLength, 0);
+        Segment segment = ensureActiveSegment(recordLength);
+        int offset = segment.writePosition;
+        ByteBuffer buffer = positioned(segment.buffer, offset + 8);
+        buffer.putInt(key.length).putInt(valueLength).put(key);
+        if (null != value) {
+            buffer.put(value);
+        }
+        buffer.putInt(offset + 4, crc(key, value));
+        // Write magic at last, so a record partially written is never treated as a valid record.
+        buffer.putInt(offset, MAGIC);
+        segment.writePosition = offset + recordLength;
+        return new RecordLocation(segment, offset, key.length, valueLength);
+    }
+    
+    private Segment ensureActiveSegment(int recordLength) throws IOException {
+        if (null != activeSegment && activeSegment.remaining() >= recordLength) {
+            return activeSegment;
+        }
+        // The id is never reused, because the file of retired segment with the same id might not be deleted yet.
+        int id = nextSegmentId++;
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("Create config segment dir failed, " + dir);
+        }
+        Segment segment = Segment.open(new File(dir, id + SEGMENT_SUFFIX), id,
+                Math.max(nextSegmentCapacity(), recordLength));
+        segments.put(id, segment);
+        activeSegment = segment;
+        return segment;
+    }
+    
+    private int nextSegmentCapacity() {
+        if (null == activeSegment) {
+            return Math.min(segmentSize, INITIAL_SEGMENT_SIZE);
+        }
+        return (int) Math.min(segmentSize, Math.max((long) activeSegment.capacity << 1, INITIAL_SEGMENT_SIZE));
+    }
+    
+    /**
+     * Persist the first segment id after clear, the mark file is replaced atomically.
+     */
+    private void writeClearedMark(int firstSegmentId) {
+        File mark = new File(dir, CLEARED_MARK);
+        File temp = new File(dir, CLEARED_MARK + TEMP_SUFFIX);
+        try {
+            Files.write(temp.toPath(), String.valueOf(firstSegmentId).getBytes(UTF_8), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+            Files.move(temp.toPath(), mark.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.error("Write cleared mark of config segments {} failed.", dir, e);
+        }
+    }
+    
+    private int readClearedMark() throws IOException {
+        File mark = new File(dir, CLEARED_MARK);
+        if (!mark.exists()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(new String(Files.readAllBytes(mark.toPath()), UTF_8).trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid cleared mark of config segments " + mark, e);
+        }
+    }
+    
+    private void markGarbage(RecordLocation location) {
+        if (null != location) {
+            location.segment.garbageBytes += location.recordLength();
+        }
+    }
+    
+    /**
+     * Rebuild the index from the existing segment files, the records after the first invalid one are ignored.
+     */
+    private void recover() throws IOException {
+        File[] files = dir.listFiles((file, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (null == files) {
+            return;
+        }
+        int firstSegmentId = readClearedMark();
+        for (File each : files) {
+            String name = each.getName();
+            try {
+                int id = Integer.parseInt(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                if (id < firstSegmentId) {
+                    // The segment was cleared, but not deleted before shutdown.
+                    if (!each.delete()) {
+                        LogUtil.DEFAULT_LOG.warn("Delete cleared config segment {} failed.", each);
+                    }
+                    continue;
+                }
+                segments.put(id, Segment.open(each, id, (int) each.length()));
+            } catch (NumberFormatException e) {
+                LogUtil.DEFAULT_LOG.warn("Ignore unknown config segment file {}.", each);
+            }
+        }
+        for (Segment each : segments.values()) {
+            for (Record record : each.readRecords()) {
+                RecordLocation location = new RecordLocation(each, record.offset, record.keyLength,
+                        record.valueLength);
+                if (record.isRemoved()) {
+                    markGarbage(index.remove(record.key));
+                    markGarbage(location);
+                } else {
+                    markGarbage(index.put(record.key, location));
+                }
+            }
+        }
+        nextSegmentId = firstSegmentId;
+        if (!segments.isEmpty()) {
+            activeSegment = segments.lastEntry().getValue();
+            nextSegmentId = Math.max(firstSegmentId, segments.lastKey() + 1);
+        }
+        LogUtil.DEFAULT_LOG.info("Recover {} configs from {} segments in {}.", index.size(), segments.size(), dir);
+    }
+    
+    private static int crc(byte[] key, byte[] value) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(key);
+        if (null != value) {
+            crc32.update(value);
+        }
+        return (int) crc32.getValue();
+    }
+    
+    /**
+     * Get a duplicated buffer at position, the position is set through {@link Buffer} to keep compatible with JDK 8.
+     */
+    private static ByteBuffer positioned(MappedByteBuffer buffer, int position) {
+        ByteBuffer result = buffer.duplicate();
+        ((Buffer) result).position(position);
+        return result;
+    }
+    
+    private static class Segment {
+        
+        private final int id;
+        
+        private final File file;
+        
+        private final MappedByteBuffer buffer;
+        
+        private final int capacity;
+        
+        private volatile int writePosition;
+        
+        private long garbageBytes;
+        
+        /**
+         * The count of readers, {@code -1} means the segment is closed.
+         */
+        private final AtomicInteger references = new AtomicInteger();
+        
+        private Segment(int id, File file, MappedByteBuffer buffer, int capacity) {
+            this.id = id;
+            this.file = file;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+        
+        private static Segment open(File file, int id, int capacity) throws IOException {
+            // The mapped buffer is still valid after the channel closed.
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+                return new Segment(id, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), capacity);
+            }
+        }
+        
+        private int remaining() {
+            return capacity - writePosition;
+        }
+        
+        private boolean retain() {
+            while (true) {
+                int current = references.get();
+                if (current < 0) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+        
+        private void release() {
+            references.decrementAndGet();
+        }
+        
+        /**
+         * Close and unmap the segment if no reader is reading it.
+         *
+         * @return {@code true} if closed
+         */
+        private boolean close() {
+            if (!references.compareAndSet(0, -1)) {
+                return false;
+            }
+            unmap(buffer);
+            return true;
+        }
+        
+        private boolean isCompactable() {
+            return garbageBytes * PERCENT >= (long) writePosition * COMPACT_GARBAGE_PERCENT;
+        }
+        
+        /**
+         * Read the valid records of segment, and set the write position to the end of the valid records.
+         */
+        private List<Record> readRecords() {
+            List<Record> result = new ArrayList<>();
+            int offset = 0;
+            while (offset + HEADER_LENGTH <= capacity && buffer.getInt(offset) == MAGIC) {
+                int keyLength = buffer.getInt(offset + 8);
+                int valueLength = buffer.getInt(offset + 12);
+                long recordLength = (long) HEADER_LENGTH + keyLength + Math.max(valueLength, 0);
+                if (keyLength < 0 || valueLength < REMOVED || offset + recordLength > capacity) {
+                    break;
+                }
+                byte[] key = new byte[keyLength];
+                positioned(buffer, offset + HEADER_LENGTH).get(key);
+                byte[] value = null;
+                if (valueLength != REMOVED) {
+                    value = new byte[valueLength];
+                    positioned(buffer, offset + HEADER_LENGTH + keyLength).get(value);
+                }
+                if (buffer.getInt(offset + 4) != crc(key, value)) {
+                    break;
+                }
+                result.add(new Record(new String(key, UTF_8), offset, keyLength, valueLength));
+                offset += (int) recordLength;
+            }
+            writePosition = offset;
+            return result;
+        }
+    }
+    
+    /**
+     * Unmap the buffer eagerly instead of waiting for GC, otherwise the space of deleted segment file is not released.
+     * The buffer is unmapped by {@code Unsafe#invokeCleaner} since JDK 9 and by the cleaner of buffer in JDK 8.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+                return;
+            }
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (Exception e) {
+            LogUtil.DEFAULT_LOG.warn("Unmap config segment buffer failed, it will be released by GC.", e);
+        }
+    }
+    
+    private static class Record {
+        
+        private final String key;
+        
+        private final int offset;
+        
+        private final int keyLength;
+        
+        private final int valueLength;
+        
+        private Record(String key, int offset, int keyLength, int valueLength) {
+            this.key = key;
+            this.offset = offset;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+        }
+        
+        private boolean isRemoved() {
+            return REMOVED == valueLength;
+        }
+        
+        private byte[] keyBytes() {
+            return key.getBytes(UTF_8);
+        }
+        
+        private byte[] value(Segment segment) {
+            byte[] result = new byte[valueLength];
+            positioned(segment.buffer, offset + HEADER_LENGTH + keyLength).get(result);
+            return result;
+        }
+    }
+    
+    private static class RecordLocation {
+        
+        private final Segment segment;
+        
+        private final int offset;
+        
+        private final int keyLength;
+        
+        private final int valueLength;
+        
+        private RecordLocation(Segment segment, int offset, int keyLength, int valueLength) {
+            this.segment = segment;
+            this.offset = offset;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+        }
+        
+        private int valueOffset() {
+            return offset + HEADER_LENGTH + keyLength;
+        }
+        
+        private int recordLength() {
+            return HEADER_LENGTH + keyLength + Math.max(valueLength, 0);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.service.AggrWhitelist;
 import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
@@ -31,10 +32,11 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.persistence.model.Page;
 
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.SynchronousQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
@@ -42,11 +44,17 @@ import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 /**
  * Dump all processor.
  *
+ * <p>The configs are fetched page by page with the id of last config, and the next page is fetched while the configs
+ * of current page are dumping in parallel. The parallelism is {@link PropertyUtil#getDumpAllParallelism()} on startup,
+ * and {@code 1} for the periodic check to reduce the pressure of database.
+ *
  * @author Nacos
  * @date 2020/7/5 12:19 PM
  */
 public class DumpAllProcessor implements NacosTaskProcessor {
     
+    private static final long MILLIS_PER_SECOND = 1000L;
+    
     public DumpAllProcessor(ConfigInfoPersistService configInfoPersistService) {
         this.configInfoPersistService = configInfoPersistService;
     }
@@ -58,108 +66,149 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             return false;
         }
         DumpAllTask dumpAllTask = (DumpAllTask) task;
-        
-        long currentMaxId = configInfoPersistService.findConfigMaxId();
-        long lastMaxId = 0;
-        ThreadPoolExecutor executorService = null;
-        if (dumpAllTask.isStartUp()) {
-            executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
-                    Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
-                    new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
-        } else {
-            executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
+        int parallelism = dumpAllTask.isStartUp() ? Math.max(PropertyUtil.getDumpAllParallelism(), 1) : 1;
+        if (parallelism == 1) {
+            dumpAll(dumpAllTask, null);
+            return true;
         }
+        ForkJoinPool dumpPool = new ForkJoinPool(parallelism, DumpAllProcessor::newDumpThread, null, false);
+        try {
+            dumpAll(dumpAllTask, dumpPool);
+        } finally {
+            dumpPool.shutdown();
+        }
+        return true;
+    }
+    
+    /**
+     * Dump all configs, the configs are dumped in the calling thread if the dump pool is {@code null}.
+     */
+    private void dumpAll(DumpAllTask dumpAllTask, ForkJoinPool dumpPool) {
+        long currentMaxId = configInfoPersistService.findConfigMaxId();
+        int pageSize = PropertyUtil.getAllDumpPageSize();
+        DEFAULT_LOG.info("start dump all config-info, pageSize={}, parallelism={}", pageSize,
+                null == dumpPool ? 1 : dumpPool.getParallelism());
         
-        DEFAULT_LOG.info("start dump all config-info...");
-        
-        while (lastMaxId < currentMaxId) {
-            
-            long start = System.currentTimeMillis();
-            
-            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
-                    PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
-            long dbTimeStamp = System.currentTimeMillis();
-            if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
-                break;
+        long startTime = System.currentTimeMillis();
+        long lastMaxId = 0;
+        int total = 0;
+        AtomicInteger dumped = new AtomicInteger();
+        Page<ConfigInfoWrapper> page = fetchPage(lastMaxId, pageSize, dumpAllTask.isStartUp());
+        while (isNotEmpty(page)) {
+            List<ConfigInfoWrapper> configs = page.getPageItems();
+            for (ConfigInfoWrapper each : configs) {
+                lastMaxId = Math.max(lastMaxId, each.getId());
             }
-            
-            for (ConfigInfoWrapper cf : page.getPageItems()) {
-                lastMaxId = Math.max(cf.getId(), lastMaxId);
-                //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
-                if (!dumpAllTask.isStartUp()) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    //check md5 & update local disk cache.
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
-                                cf.getLastModified(), cf.getMd5());
-                        cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    } else {
-                        continue;
-                    }
-                }
-                
-                if (cf == null) {
-                    continue;
-                }
-                if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
-                    AggrWhitelist.load(cf.getContent());
-                }
-                
-                if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                    ClientIpWhiteList.load(cf.getContent());
-                }
-                
-                if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
-                    SwitchService.load(cf.getContent());
-                }
-                
-                final String content = cf.getContent();
-                final String dataId = cf.getDataId();
-                final String group = cf.getGroup();
-                final String tenant = cf.getTenant();
-                final long lastModified = cf.getLastModified();
-                final String type = cf.getType();
-                final String encryptedDataKey = cf.getEncryptedDataKey();
-                
-                executorService.execute(() -> {
-                    final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
-                    boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8,
-                            lastModified, type, encryptedDataKey);
-                    if (result) {
-                        LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}",
-                                GroupKey2.getKey(dataId, group), lastModified, content.length(), md5Utf8);
-                    } else {
-                        LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
-                    }
-                    
-                });
-                
+            ForkJoinTask<?> dumping = null;
+            if (null == dumpPool) {
+                configs.forEach(each -> dumpConfig(each, dumpAllTask.isStartUp(), dumped));
+            } else {
+                dumping = dumpPool.submit(
+                        () -> configs.parallelStream().forEach(each -> dumpConfig(each, dumpAllTask.isStartUp(),
+                                dumped)));
             }
-            
-            long diskStamp = System.currentTimeMillis();
-            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId, currentMaxId,
-                    (dbTimeStamp - start), (diskStamp - dbTimeStamp));
+            // fetch the next page from db during dumping current page.
+            long fetchStart = System.currentTimeMillis();
+            final Page<ConfigInfoWrapper> nextPage = lastMaxId < currentMaxId ? fetchPage(lastMaxId, pageSize,
+                    dumpAllTask.isStartUp()) : null;
+            long dbTime = System.currentTimeMillis() - fetchStart;
+            awaitDumping(dumping, lastMaxId);
+            total += configs.size();
+            DEFAULT_LOG.info("[all-dump] dump {} configs for {} / {}, dbTime={}, throughput={}/s", total, lastMaxId,
+                    currentMaxId, dbTime, throughput(total, startTime));
+            page = nextPage;
+        }
+        long throughput = throughput(total, startTime);
+        MetricsMonitor.getDumpAllThroughputMonitor().set(throughput);
+        DEFAULT_LOG.info("success to  dump all config-info, total={}, dumped={}, cost={}ms, throughput={}/s", total,
+                dumped.get(), System.currentTimeMillis() - startTime, throughput);
+    }
+    
+    private void awaitDumping(ForkJoinTask<?> dumping, long lastMaxId) {
+        if (null == dumping) {
+            return;
         }
-        
-        //wait all task are finished and then shutdown executor.
         try {
-            int unfinishedTaskCount = 0;
-            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
-                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
-                Thread.sleep(1000L);
-            }
-            executorService.shutdown();
-            
+            dumping.join();
         } catch (Exception e) {
-            DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
+            DEFAULT_LOG.error("[all-dump] dump page before {} error", lastMaxId, e);
         }
-        DEFAULT_LOG.info("success to  dump all config-info。");
-        return true;
+    }
+    
+    private Page<ConfigInfoWrapper> fetchPage(long lastMaxId, int pageSize, boolean needContent) {
+        return configInfoPersistService.findAllConfigInfoFragment(lastMaxId, pageSize, needContent);
+    }
+    
+    private static boolean isNotEmpty(Page<ConfigInfoWrapper> page) {
+        return page != null && page.getPageItems() != null && !page.getPageItems().isEmpty();
+    }
+    
+    private static long throughput(int total, long startTime) {
+        long cost = Math.max(System.currentTimeMillis() - startTime, 1L);
+        return total * MILLIS_PER_SECOND / cost;
+    }
+    
+    private static ForkJoinWorkerThread newDumpThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("dump all executor-" + thread.getPoolIndex());
+        return thread;
+    }
+    
+    /**
+     * Dump one config, if not start up, the page query does not return content, so check md5 and lastModified first,
+     * and query the single config with content to dump only if changed. The failure of one config is isolated and
+     * does not interrupt dumping the other configs of the same page.
+     */
+    private void dumpConfig(ConfigInfoWrapper cf, boolean startUp, AtomicInteger dumped) {
+        try {
+            if (dumpConfig(cf, startUp)) {
+                dumped.incrementAndGet();
+            }
+        } catch (Throwable e) {
+            String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            LogUtil.DUMP_LOG.error("[dump-all-error] {}", groupKey, e);
+        }
+    }
+    
+    private boolean dumpConfig(ConfigInfoWrapper cf, boolean startUp) {
+        if (!startUp) {
+            final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+            //check md5 & update local disk cache.
+            boolean md5Update = !ConfigCacheService.isUptodate(groupKey, cf.getMd5());
+            if (!newLastModified && !md5Update) {
+                return false;
+            }
+            LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey, cf.getLastModified(),
+                    cf.getMd5());
+            cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
+        }
+        if (cf == null) {
+            return false;
+        }
+        if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
+            AggrWhitelist.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+            SwitchService.load(cf.getContent());
+        }
+        
+        final String content = cf.getContent();
+        final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
+        boolean result = ConfigCacheService.dumpWithMd5(cf.getDataId(), cf.getGroup(), cf.getTenant(), content,
+                md5Utf8, cf.getLastModified(), cf.getType(), cf.getEncryptedDataKey());
+        if (result) {
+            LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}",
+                    GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(), content.length(), md5Utf8);
+        } else {
+            LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(cf.getDataId(), cf.getGroup()));
+        }
+        return result;
     }
     
     final ConfigInfoPersistService configInfoPersistService;
@@ -113,6 +113,11 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * The parallelism of dumping configs on startup, default is the count of processors.
+     */
+    private static int dumpAllParallelism = Runtime.getRuntime().availableProcessors();
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -129,6 +134,14 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.dumpChangeWorkerInterval = dumpChangeWorkerInterval;
     }
     
+    public static int getDumpAllParallelism() {
+        return dumpAllParallelism;
+    }
+    
+    public static void setDumpAllParallelism(int dumpAllParallelism) {
+        PropertyUtil.dumpAllParallelism = Math.max(dumpAllParallelism, 1);
+    }
+    
     public static int getNotifyConnectTimeout() {
         return notifyConnectTimeout;
     }
@@ -305,6 +318,11 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeOn(getBoolean(PropertiesConstant.DUMP_CHANGE_ON, dumpChangeOn));
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
+            setDumpAllParallelism(getInt(PropertiesConstant.DUMP_ALL_PARALLELISM, dumpAllParallelism));
+            int dumpAllPageSize = getInt(PropertiesConstant.DUMP_ALL_PAGE_SIZE, 0);
+            if (dumpAllPageSize > 0) {
+                setAllDumpPageSize(dumpAllPageSize);
+            }
         } catch (Exception e) {
             LOGGER.error("read application.properties failed", e);
             throw e;
@@ -351,13 +369,27 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
     
     private static final int PAGE_MEMORY_DIVIDE_MB = 512;
     
-    private static AtomicInteger allDumpPageSize;
+    /**
+     * The page size of dump all, {@code 0} means not calculated yet.
+     */
+    private static final AtomicInteger ALL_DUMP_PAGE_SIZE = new AtomicInteger();
     
     public static int getAllDumpPageSize() {
-        if (allDumpPageSize == null) {
-            allDumpPageSize = new AtomicInteger(initAllDumpPageSize());
+        int pageSize = ALL_DUMP_PAGE_SIZE.get();
+        if (pageSize > 0) {
+            return pageSize;
         }
-        return allDumpPageSize.get();
+        ALL_DUMP_PAGE_SIZE.compareAndSet(0, initAllDumpPageSize());
+        return ALL_DUMP_PAGE_SIZE.get();
+    }
+    
+    /**
+     * Set the page size of dump all instead of calculating by memory limit.
+     *
+     * @param pageSize page size
+     */
+    public static void setAllDumpPageSize(int pageSize) {
+        ALL_DUMP_PAGE_SIZE.set(pageSize);
     }
     
     static int initAllDumpPageSize() {
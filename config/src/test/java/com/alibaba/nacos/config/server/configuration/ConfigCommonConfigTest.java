@@ -73,9 +73,15 @@ class ConfigCommonConfigTest {
     void testUpgradeFromEvent() {
         environment.setProperty("nacos.config.push.maxRetryTime", "100");
         environment.setProperty("nacos.config.derby.ops.enabled", "true");
+        environment.setProperty("nacos.config.push.batch.enabled", "false");
+        environment.setProperty("nacos.config.push.batch.delayMs", "10");
+        environment.setProperty("nacos.config.push.batch.maxSize", "20");
         commonConfig.onEvent(ServerConfigChangeEvent.newEvent());
         assertEquals(100, commonConfig.getMaxPushRetryTimes());
         assertTrue(commonConfig.isDerbyOpsEnabled());
+        assertFalse(commonConfig.isBatchPushEnabled());
+        assertEquals(10L, commonConfig.getBatchPushDelayMs());
+        assertEquals(20, commonConfig.getBatchPushMaxSize());
     }
     
     @Test
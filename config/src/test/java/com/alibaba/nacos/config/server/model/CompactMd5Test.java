@@ -0,0 +1,70 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactMd5Test {
+    
+    @Test
+    void testValueOfNullOrEmpty() {
+        assertNull(CompactMd5.valueOf(null));
+        assertNull(CompactMd5.valueOf(""));
+    }
+    
+    @Test
+    void testHexRoundTrip() {
+        String md5 = MD5Utils.md5Hex("content", "UTF-8");
+        CompactMd5 compactMd5 = CompactMd5.valueOf(md5);
+        assertEquals(md5, compactMd5.toString());
+        assertTrue(compactMd5.isSame(md5));
+        assertFalse(compactMd5.isSame(MD5Utils.md5Hex("content2", "UTF-8")));
+        assertFalse(compactMd5.isSame(null));
+        assertFalse(compactMd5.isSame(""));
+        assertEquals("00000000000000000000000000000000",
+                CompactMd5.valueOf("00000000000000000000000000000000").toString());
+        assertEquals("ffffffffffffffffffffffffffffffff",
+                CompactMd5.valueOf("ffffffffffffffffffffffffffffffff").toString());
+    }
+    
+    @Test
+    void testNotLowerHexKeepRaw() {
+        String upperMd5 = MD5Utils.md5Hex("content", "UTF-8").toUpperCase();
+        CompactMd5 upper = CompactMd5.valueOf(upperMd5);
+        assertEquals(upperMd5, upper.toString());
+        assertTrue(upper.isSame(upperMd5));
+        assertFalse(upper.isSame(upperMd5.toLowerCase()));
+        CompactMd5 shortMd5 = CompactMd5.valueOf("abc");
+        assertEquals("abc", shortMd5.toString());
+        assertTrue(shortMd5.isSame("abc"));
+    }
+    
+    @Test
+    void testEqualsAndHashCode() {
+        String md5 = MD5Utils.md5Hex("content", "UTF-8");
+        assertEquals(CompactMd5.valueOf(md5), CompactMd5.valueOf(md5));
+        assertEquals(CompactMd5.valueOf(md5).hashCode(), CompactMd5.valueOf(md5).hashCode());
+        assertNotEquals(CompactMd5.valueOf(md5), CompactMd5.valueOf(md5.toUpperCase()));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ErrorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigBatchQueryRequestHandlerTest {
+    
+    private static final String GROUP = "group";
+    
+    private static final String TENANT = "tenant";
+    
+    private static final String TOKEN = "accessToken";
+    
+    @Mock
+    private ConfigQueryRequestHandler configQueryRequestHandler;
+    
+    private ConfigBatchQueryRequestHandler configBatchQueryRequestHandler;
+    
+    @BeforeEach
+    void setUp() {
+        configBatchQueryRequestHandler = new ConfigBatchQueryRequestHandler(configQueryRequestHandler);
+    }
+    
+    @Test
+    void testHandleWithPartialFailure() throws NacosException {
+        final RequestMeta meta = new RequestMeta();
+        ConfigQueryResponse success = ConfigQueryResponse.buildSuccessResponse("content");
+        success.setMd5("md5");
+        success.setContentType("yaml");
+        when(configQueryRequestHandler.handleRequest(argThat(queryOf("success")), any(RequestMeta.class)))
+                .thenReturn(success);
+        when(configQueryRequestHandler.handleRequest(argThat(queryOf("notFound")), any(RequestMeta.class))).thenReturn(
+                ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND, "config data not exist"));
+        when(configQueryRequestHandler.handleRequest(argThat(queryOf("noRight")), any(RequestMeta.class))).thenThrow(
+                new NacosException(NacosException.NO_RIGHT, "no right"));
+        when(configQueryRequestHandler.handleRequest(argThat(queryOf("error")), any(RequestMeta.class))).thenReturn(
+                ErrorResponse.build(NacosException.SERVER_ERROR, "error"));
+                
+        ConfigBatchQueryRequest request = ConfigBatchQueryRequest.build(
+                Arrays.asList("success", "notFound", "noRight", "error"), GROUP, TENANT);
+        request.putHeader(TOKEN, TOKEN);
+        ConfigBatchQueryResponse response = configBatchQueryRequestHandler.handle(request, meta);
+        assertTrue(response.isSuccess());
+        List<ConfigQueryResponse> actual = response.getConfigQueryResponses();
+        assertEquals(4, actual.size());
+        assertTrue(actual.get(0).isSuccess());
+        assertEquals("content", actual.get(0).getContent());
+        assertEquals("md5", actual.get(0).getMd5());
+        assertEquals("yaml", actual.get(0).getContentType());
+        assertFalse(actual.get(1).isSuccess());
+        assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, actual.get(1).getErrorCode());
+        assertFalse(actual.get(2).isSuccess());
+        assertEquals(NacosException.NO_RIGHT, actual.get(2).getErrorCode());
+        assertFalse(actual.get(3).isSuccess());
+        assertEquals(NacosException.SERVER_ERROR, actual.get(3).getErrorCode());
+    }
+    
+    private ArgumentMatcher<ConfigQueryRequest> queryOf(String dataId) {
+        return request -> null != request && dataId.equals(request.getDataId()) && GROUP.equals(request.getGroup())
+                && TENANT.equals(request.getTenant()) && TOKEN.equals(request.getHeader(TOKEN));
+    }
+}
@@ -21,12 +21,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeListenContextTest {
@@ -84,4 +91,56 @@ class ConfigChangeListenContextTest {
         assertEquals("md5", listenKeyMd5);
     }
     
-}
\ No newline at end of file
+    @Test
+    void testAddListenWithNullMd5() {
+        configChangeListenContext.addListen("groupKey", null, "connectionId");
+        configChangeListenContext.addListen("groupKey2", "", "connectionId");
+        assertNull(configChangeListenContext.getListenKeyMd5("connectionId", "groupKey"));
+        assertEquals("", configChangeListenContext.getListenKeyMd5("connectionId", "groupKey2"));
+        Map<String, String> listenKeys = configChangeListenContext.getListenKeys("connectionId");
+        assertEquals(2, listenKeys.size());
+        assertTrue(listenKeys.containsKey("groupKey"));
+        assertNull(listenKeys.get("groupKey"));
+    }
+    
+    @Test
+    void testGetListenersIsUnmodifiableView() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId");
+        Set<String> listeners = configChangeListenContext.getListeners("groupKey");
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId2");
+        assertEquals(2, listeners.size());
+        assertThrows(UnsupportedOperationException.class, () -> listeners.add("connectionId3"));
+    }
+    
+    @Test
+    void testClearContextForConnectionIdKeepOtherListeners() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId");
+        configChangeListenContext.addListen("groupKey2", "md5", "connectionId");
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId2");
+        configChangeListenContext.clearContextForConnectionId("connectionId");
+        assertEquals(Collections.singleton("connectionId2"), configChangeListenContext.getListeners("groupKey"));
+        assertNull(configChangeListenContext.getListeners("groupKey2"));
+        assertEquals(1, configChangeListenContext.getConnectionCount());
+    }
+    
+    @Test
+    void testConcurrentAddAndRemoveListen() throws InterruptedException {
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            String connectionId = "connectionId" + i;
+            executorService.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    configChangeListenContext.addListen("groupKey", "md5", connectionId);
+                    configChangeListenContext.removeListen("groupKey", connectionId);
+                }
+                configChangeListenContext.addListen("groupKey", "md5", connectionId);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        assertEquals(threadCount, configChangeListenContext.getListeners("groupKey").size());
+    }
+}
@@ -16,7 +16,10 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -33,6 +36,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -40,13 +44,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
@@ -144,6 +151,66 @@ class RpcConfigChangeNotifierTest {
         
     }
     
+    @Test
+    void testOnDataEventWithBatchPush() throws InterruptedException {
+        final GrpcConnection mockConn = mockBatchSupportedConnection("con1");
+        Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class))).thenReturn(new TpsCheckResponse(true, 200, "success"));
+        for (int i = 0; i < 3; i++) {
+            String groupKey = GroupKey2.getKey("dataId" + i, "group", "tenant");
+            Mockito.when(configChangeListenContext.getListeners(eq(groupKey))).thenReturn(Collections.singleton("con1"));
+            rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey));
+        }
+        // the same config changed again in the batch window should be pushed only once.
+        rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(GroupKey2.getKey("dataId0", "group", "tenant")));
+        ArgumentCaptor<ConfigBatchChangeNotifyRequest> captor = ArgumentCaptor.forClass(ConfigBatchChangeNotifyRequest.class);
+        Mockito.verify(rpcPushService, Mockito.timeout(3000L).times(1))
+                .pushWithCallback(eq("con1"), captor.capture(), any(RpcConfigChangeNotifier.RpcPushCallback.class), any(Executor.class));
+        assertEquals(3, captor.getValue().getChangedConfigs().size());
+        assertEquals("dataId0", captor.getValue().getChangedConfigs().get(0).getDataId());
+        Mockito.verify(rpcPushService, Mockito.never())
+                .pushWithCallback(eq("con1"), any(ConfigChangeNotifyRequest.class), any(RpcConfigChangeNotifier.RpcPushCallback.class),
+                        any(Executor.class));
+        Mockito.verify(mockConn, Mockito.atLeastOnce()).getAbilityTable();
+    }
+    
+    @Test
+    void testOnDataEventWithFullBatch() {
+        ConfigCommonConfig config = ConfigCommonConfig.getInstance();
+        int oldMaxSize = config.getBatchPushMaxSize();
+        long oldDelay = config.getBatchPushDelayMs();
+        config.setBatchPushMaxSize(2);
+        config.setBatchPushDelayMs(TimeUnit.MINUTES.toMillis(1));
+        try {
+            mockBatchSupportedConnection("con1");
+            Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class)))
+                    .thenReturn(new TpsCheckResponse(true, 200, "success"));
+            for (int i = 0; i < 5; i++) {
+                String groupKey = GroupKey2.getKey("dataId" + i, "group", "tenant");
+                Mockito.when(configChangeListenContext.getListeners(eq(groupKey))).thenReturn(Collections.singleton("con1"));
+                rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey));
+            }
+            // two full batches are pushed without waiting the delay, the last config is still pending.
+            Mockito.verify(rpcPushService, Mockito.timeout(3000L).times(2))
+                    .pushWithCallback(eq("con1"), any(ConfigBatchChangeNotifyRequest.class),
+                            any(RpcConfigChangeNotifier.RpcPushCallback.class), any(Executor.class));
+        } finally {
+            config.setBatchPushMaxSize(oldMaxSize);
+            config.setBatchPushDelayMs(oldDelay);
+        }
+    }
+    
+    private GrpcConnection mockBatchSupportedConnection(String connectionId) {
+        GrpcConnection result = Mockito.mock(GrpcConnection.class);
+        Mockito.when(connectionManager.getConnection(eq(connectionId))).thenReturn(result);
+        Mockito.when(result.getMetaInfo())
+                .thenReturn(new ConnectionMeta(connectionId, "192.168.0.1", "192.168.0.2", 34567, 9848, "GRPC", "2.4.3", null,
+                        new HashMap<>()));
+        Map<String, Boolean> abilityTable = new HashMap<>();
+        abilityTable.put(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY.getName(), true);
+        Mockito.when(result.getAbilityTable()).thenReturn(abilityTable);
+        return result;
+    }
+    
     @Test
     void testRpcCallBack() {
         MockedStatic<ConfigExecutor> configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
@@ -152,10 +219,7 @@ class RpcConfigChangeNotifierTest {
             
             Mockito.when(task.getConnectionId()).thenReturn("testconn1");
             Mockito.when(connectionManager.getConnection(eq("testconn1"))).thenReturn(Mockito.mock(GrpcConnection.class));
-            ConfigChangeNotifyRequest notifyRequest = new ConfigChangeNotifyRequest();
-            notifyRequest.setDataId("d1");
-            notifyRequest.setGroup("g1");
-            Mockito.when(task.getNotifyRequest()).thenReturn(notifyRequest);
+            Mockito.when(task.getChangedConfigs()).thenReturn("dataId=d1, group=g1, tenant=null");
             //mock task not overtimes and receive exception on callback
             Mockito.when(task.isOverTimes()).thenReturn(false);
             Mockito.when(task.getTryTimes()).thenReturn(2);
@@ -190,7 +190,7 @@ class DumpProcessorTest {
         CacheItem contentCache = ConfigCacheService.getContentCache(GroupKey2.getKey(dataId, group, tenant));
         assertEquals(MD5Utils.md5Hex(content, "UTF-8"), contentCache.getConfigCacheBeta().getMd5Utf8());
         assertEquals(time, contentCache.getConfigCacheBeta().getLastModifiedTs());
-        assertTrue(contentCache.ips4Beta.containsAll(Arrays.asList(betaIps.split(","))));
+        assertTrue(contentCache.getIps4Beta().containsAll(Arrays.asList(betaIps.split(","))));
         //check disk
         String contentFromDisk = ConfigDiskServiceFactory.getInstance().getBetaContent(dataId, group, tenant);
         assertEquals(content, contentFromDisk);
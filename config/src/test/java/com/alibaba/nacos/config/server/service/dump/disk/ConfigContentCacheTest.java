@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigContentCacheTest {
+    
+    @Test
+    void testPutAndGet() {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        assertNull(cache.get("key"));
+        cache.put("key", "content", cache.stamp());
+        assertEquals("content", cache.get("key"));
+        assertEquals(1, cache.size());
+        assertTrue(cache.getBytes() > 0);
+        
+        cache.put("key", "content2", cache.stamp());
+        assertEquals("content2", cache.get("key"));
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    void testInvalidate() {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        cache.put("key", "content", cache.stamp());
+        cache.put("key2", "content2", cache.stamp());
+        cache.invalidate("key");
+        assertNull(cache.get("key"));
+        assertEquals("content2", cache.get("key2"));
+        
+        cache.invalidateAll();
+        assertNull(cache.get("key2"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getBytes());
+    }
+    
+    @Test
+    void testNotCacheLoadedBeforeInvalidation() {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        long stamp = cache.stamp();
+        // content on disk changed during loading the old content.
+        cache.invalidate("key");
+        cache.put("key", "oldContent", stamp);
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.getBytes());
+    }
+    
+    @Test
+    void testNotCacheTooLargeContent() {
+        ConfigContentCache cache = new ConfigContentCache(1024);
+        cache.put("key", new String(new char[512]), cache.stamp());
+        assertNull(cache.get("key"));
+    }
+    
+    @Test
+    void testEvictByBytes() {
+        long maxBytes = 16 * 1024;
+        ConfigContentCache cache = new ConfigContentCache(maxBytes);
+        String content = new String(new char[512]);
+        for (int i = 0; i < 100; i++) {
+            cache.put("key" + i, content, cache.stamp());
+        }
+        assertTrue(cache.getBytes() <= maxBytes);
+        assertTrue(cache.size() < 100);
+        assertEquals(content, cache.get("key99"));
+    }
+    
+    @Test
+    void testReferencedEntrySurviveEviction() {
+        long maxBytes = 16 * 1024;
+        ConfigContentCache cache = new ConfigContentCache(maxBytes);
+        String content = new String(new char[512]);
+        cache.put("hot", content, cache.stamp());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(content, cache.get("hot"));
+            cache.put("key" + i, content, cache.stamp());
+        }
+        assertEquals(content, cache.get("hot"));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigContentCachedDiskServiceTest {
+    
+    @Mock
+    private ConfigDiskService delegate;
+    
+    private ConfigContentCachedDiskService diskService;
+    
+    @BeforeEach
+    void setUp() {
+        diskService = new ConfigContentCachedDiskService(delegate, new ConfigContentCache(1024 * 1024));
+    }
+    
+    @Test
+    void testGetContentCached() throws IOException {
+        when(delegate.getContent("dataId", "group", "tenant")).thenReturn("content");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        verify(delegate, times(1)).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    void testSaveInvalidateContent() throws IOException {
+        when(delegate.getContent("dataId", "group", "tenant")).thenReturn("content", "content2");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        diskService.saveToDisk("dataId", "group", "tenant", "content2");
+        verify(delegate).saveToDisk("dataId", "group", "tenant", "content2");
+        assertEquals("content2", diskService.getContent("dataId", "group", "tenant"));
+    }
+    
+    @Test
+    void testRemoveInvalidateContent() throws IOException {
+        when(delegate.getContent("dataId", "group", "tenant")).thenReturn("content", (String) null);
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        diskService.removeConfigInfo("dataId", "group", "tenant");
+        assertEquals(null, diskService.getContent("dataId", "group", "tenant"));
+    }
+    
+    @Test
+    void testBetaAndTagSeparated() throws IOException {
+        when(delegate.getContent("dataId", "group", "")).thenReturn("formal");
+        when(delegate.getBetaContent("dataId", "group", "")).thenReturn("beta", "beta2");
+        when(delegate.getTagContent("dataId", "group", "", "tag")).thenReturn("tag", "tag2");
+        assertEquals("formal", diskService.getContent("dataId", "group", ""));
+        assertEquals("beta", diskService.getBetaContent("dataId", "group", ""));
+        assertEquals("tag", diskService.getTagContent("dataId", "group", "", "tag"));
+        
+        diskService.removeConfigInfo4Beta("dataId", "group", "");
+        diskService.saveTagToDisk("dataId", "group", "", "tag", "tag2");
+        assertEquals("formal", diskService.getContent("dataId", "group", ""));
+        assertEquals("beta2", diskService.getBetaContent("dataId", "group", ""));
+        assertEquals("tag2", diskService.getTagContent("dataId", "group", "", "tag"));
+        verify(delegate, times(1)).getContent("dataId", "group", "");
+    }
+    
+    @Test
+    void testClearAll() throws IOException {
+        when(delegate.getContent("dataId", "group", "tenant")).thenReturn("content");
+        diskService.getContent("dataId", "group", "tenant");
+        diskService.clearAll();
+        verify(delegate).clearAll();
+        diskService.getContent("dataId", "group", "tenant");
+        verify(delegate, times(2)).getContent("dataId", "group", "tenant");
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.service.dump.disk;
 
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -53,6 +54,13 @@ class ConfigDiskServiceFactoryTest {
         assertTrue(instance instanceof ConfigRocksDbDiskService);
     }
     
+    @Test
+    void getSegmentDiskInstance() {
+        System.setProperty("config_disk_type", "segment");
+        ConfigDiskService instance = ConfigDiskServiceFactory.getInstance();
+        assertTrue(instance instanceof ConfigSegmentDiskService);
+    }
+    
     @Test
     void getDefaultRawDiskInstance() {
         System.setProperty("config_disk_type", "123");
@@ -60,6 +68,19 @@ class ConfigDiskServiceFactoryTest {
         assertTrue(instance instanceof ConfigRawDiskService);
     }
     
+    @Test
+    void getContentCachedDiskInstance() {
+        System.setProperty("config_disk_type", "rawdisk");
+        ConfigCommonConfig.getInstance().setContentCacheEnabled(true);
+        try {
+            ConfigDiskService instance = ConfigDiskServiceFactory.getInstance();
+            assertTrue(instance instanceof ConfigContentCachedDiskService);
+            assertTrue(((ConfigContentCachedDiskService) instance).getDelegate() instanceof ConfigRawDiskService);
+        } finally {
+            ConfigCommonConfig.getInstance().setContentCacheEnabled(false);
+        }
+    }
+    
     private void clearDiskInstance() throws Exception {
         Field configDiskService = ConfigDiskServiceFactory.class.getDeclaredField("configDiskService");
         configDiskService.setAccessible(true);
@@ -0,0 +1,209 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigSegmentDiskServiceTest {
+    
+    @TempDir
+    File baseDir;
+    
+    @Test
+    void testSaveAndGet() throws IOException {
+        ConfigSegmentDiskService diskService = new ConfigSegmentDiskService(baseDir.getPath(), 1024);
+        diskService.saveToDisk("dataId", "group", "", "content");
+        diskService.saveToDisk("dataId", "group", "tenant", "内容");
+        diskService.saveBetaToDisk("dataId", "group", "", "beta");
+        diskService.saveTagToDisk("dataId", "group", "", "tag", "tagContent");
+        assertEquals("content", diskService.getContent("dataId", "group", ""));
+        assertEquals("内容", diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("beta", diskService.getBetaContent("dataId", "group", ""));
+        assertEquals("tagContent", diskService.getTagContent("dataId", "group", "", "tag"));
+        assertNull(diskService.getContent("dataId2", "group", ""));
+        assertNull(diskService.getTagContent("dataId", "group", "", "tag2"));
+        
+        diskService.saveToDisk("dataId", "group", "", "content2");
+        assertEquals("content2", diskService.getContent("dataId", "group", ""));
+    }
+    
+    @Test
+    void testRemove() throws IOException {
+        ConfigSegmentDiskService diskService = new ConfigSegmentDiskService(baseDir.getPath(), 1024);
+        diskService.saveToDisk("dataId", "group", "", "content");
+        diskService.saveBetaToDisk("dataId", "group", "", "beta");
+        diskService.saveTagToDisk("dataId", "group", "", "tag", "tagContent");
+        diskService.removeConfigInfo("dataId", "group", "");
+        diskService.removeConfigInfo4Beta("dataId", "group", "");
+        diskService.removeConfigInfo4Tag("dataId", "group", "", "tag");
+        diskService.removeConfigInfo("dataId2", "group", "");
+        assertNull(diskService.getContent("dataId", "group", ""));
+        assertNull(diskService.getBetaContent("dataId", "group", ""));
+        assertNull(diskService.getTagContent("dataId", "group", "", "tag"));
+    }
+    
+    @Test
+    void testClear() throws IOException {
+        ConfigSegmentDiskService diskService = new ConfigSegmentDiskService(baseDir.getPath(), 1024);
+        diskService.saveToDisk("dataId", "group", "", "content");
+        diskService.saveBetaToDisk("dataId", "group", "", "beta");
+        diskService.clearAll();
+        assertNull(diskService.getContent("dataId", "group", ""));
+        assertEquals("beta", diskService.getBetaContent("dataId", "group", ""));
+        diskService.clearAllBeta();
+        assertNull(diskService.getBetaContent("dataId", "group", ""));
+        diskService.saveToDisk("dataId", "group", "", "content2");
+        assertEquals("content2", diskService.getContent("dataId", "group", ""));
+    }
+    
+    @Test
+    void testRecover() throws IOException {
+        ConfigSegmentDiskService diskService = new ConfigSegmentDiskService(baseDir.getPath(), 256);
+        for (int i = 0; i < 20; i++) {
+            diskService.saveToDisk("dataId" + i, "group", "", "content" + i);
+        }
+        diskService.saveToDisk("dataId0", "group", "", "newContent");
+        diskService.removeConfigInfo("dataId1", "group", "");
+        
+        ConfigSegmentDiskService recovered = new ConfigSegmentDiskService(baseDir.getPath(), 256);
+        assertEquals("newContent", recovered.getContent("dataId0", "group", ""));
+        assertNull(recovered.getContent("dataId1", "group", ""));
+        for (int i = 2; i < 20; i++) {
+            assertEquals("content" + i, recovered.getContent("dataId" + i, "group", ""));
+        }
+        recovered.saveToDisk("dataId20", "group", "", "content20");
+        assertEquals("content20", recovered.getContent("dataId20", "group", ""));
+    }
+    
+    @Test
+    void testRecoverIgnoreBrokenRecord() throws IOException {
+        ConfigSegmentDiskService diskService = new ConfigSegmentDiskService(baseDir.getPath(), 1024);
+        diskService.saveToDisk("dataId", "group", "", "content");
+        diskService.saveToDisk("dataId2", "group", "", "content2");
+        File segment = new File(baseDir, "data/segment-data/config-data/0.segment");
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            // break the last byte of the second record.
+            long lastByte = 16 * 2 + "dataId+group".length() + "dataId2+group".length() + "content".length()
+                    + "content2".length() - 1;
+            file.seek(lastByte);
+            file.write('x');
+        }
+        ConfigSegmentDiskService recovered = new ConfigSegmentDiskService(baseDir.getPath(), 1024);
+        assertEquals("content", recovered.getContent("dataId", "group", ""));
+        assertNull(recovered.getContent("dataId2", "group", ""));
+    }
+    
+    @Test
+    void testCompact() throws IOException {
+        ConfigSegmentStore store = new ConfigSegmentStore(new File(baseDir, "store"), 256);
+        for (int i = 0; i < 20; i++) {
+            store.put("key" + i, "content" + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            store.put("key" + i, "newContent" + i);
+        }
+        store.remove("key19");
+        int segmentCount = store.segmentCount();
+        store.compact();
+        assertTrue(store.segmentCount() < segmentCount);
+        // the compacted segments are unmapped and deleted.
+        assertEquals(store.segmentCount(), new File(baseDir, "store").list().length);
+        for (int i = 0; i < 10; i++) {
+            assertEquals("newContent" + i, store.get("key" + i));
+        }
+        for (int i = 10; i < 19; i++) {
+            assertEquals("content" + i, store.get("key" + i));
+        }
+        assertNull(store.get("key19"));
+        assertEquals(19, store.size());
+        
+        ConfigSegmentStore recovered = new ConfigSegmentStore(new File(baseDir, "store"), 256);
+        for (int i = 0; i < 10; i++) {
+            assertEquals("newContent" + i, recovered.get("key" + i));
+        }
+        assertNull(recovered.get("key19"));
+        assertEquals(19, recovered.size());
+    }
+    
+    @Test
+    void testRecoverAfterClearWithUndeletedSegment() throws IOException {
+        File dir = new File(baseDir, "store");
+        ConfigSegmentStore store = new ConfigSegmentStore(dir, 256);
+        for (int i = 0; i < 10; i++) {
+            store.put("key" + i, "content" + i);
+        }
+        File[] segments = dir.listFiles();
+        File backup = new File(baseDir, "backup");
+        for (File each : segments) {
+            FileUtils.copyFile(each, new File(backup, each.getName()));
+        }
+        store.clear();
+        store.put("newKey", "newContent");
+        // the segments failed to be deleted when clearing.
+        FileUtils.copyDirectory(backup, dir);
+        
+        ConfigSegmentStore recovered = new ConfigSegmentStore(dir, 256);
+        assertEquals(1, recovered.size());
+        assertEquals("newContent", recovered.get("newKey"));
+        for (int i = 0; i < 10; i++) {
+            assertNull(recovered.get("key" + i));
+        }
+        for (File each : segments) {
+            assertFalse(each.exists());
+        }
+        recovered.put("key0", "content0");
+        assertEquals("content0", new ConfigSegmentStore(dir, 256).get("key0"));
+    }
+    
+    @Test
+    void testSegmentGrowsUpToMaxSize() throws IOException {
+        File dir = new File(baseDir, "store");
+        ConfigSegmentStore store = new ConfigSegmentStore(dir, 4 * 1024 * 1024);
+        store.put("key", "content");
+        // the first segment is small even if the max segment size is large.
+        assertEquals(1024 * 1024, new File(dir, "0.segment").length());
+        String content = new String(new char[512 * 1024]).replace('\0', 'a');
+        for (int i = 0; i < 8; i++) {
+            store.put("key" + i, content);
+        }
+        assertEquals(2 * 1024 * 1024, new File(dir, "1.segment").length());
+        assertEquals(4 * 1024 * 1024, new File(dir, "2.segment").length());
+        assertEquals(content, store.get("key0"));
+        assertEquals(content, store.get("key7"));
+    }
+    
+    @Test
+    void testContentLargerThanSegment() throws IOException {
+        ConfigSegmentDiskService diskService = new ConfigSegmentDiskService(baseDir.getPath(), 64);
+        String content = new String(new char[1000]).replace('\0', 'a');
+        diskService.saveToDisk("dataId", "group", "", content);
+        diskService.saveToDisk("dataId2", "group", "", "content2");
+        assertEquals(content, diskService.getContent("dataId", "group", ""));
+        assertEquals("content2", diskService.getContent("dataId2", "group", ""));
+    }
+}
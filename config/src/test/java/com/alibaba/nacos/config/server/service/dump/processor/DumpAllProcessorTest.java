@@ -178,6 +178,61 @@ class DumpAllProcessorTest {
         assertEquals(configInfoWrapper2.getContent(), contentFromDisk2);
     }
     
+    @Test
+    void testDumpAllOnStartUpWithMultiPages() throws Exception {
+        List<ConfigInfoWrapper> configs = Arrays.asList(createNewConfig(1), createNewConfig(2), createNewConfig(3),
+                createNewConfig(4));
+        for (ConfigInfoWrapper each : configs) {
+            each.setLastModified(System.currentTimeMillis());
+        }
+        Page<ConfigInfoWrapper> page1 = new Page<>();
+        page1.setPageItems(configs.subList(0, 2));
+        Page<ConfigInfoWrapper> page2 = new Page<>();
+        page2.setPageItems(configs.subList(2, 4));
+        Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(4L);
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, PropertyUtil.getAllDumpPageSize(), true))
+                .thenReturn(page1);
+        // the next page is queried by the max id of previous page.
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(2, PropertyUtil.getAllDumpPageSize(), true))
+                .thenReturn(page2);
+        
+        assertTrue(dumpAllProcessor.process(new DumpAllTask(true)));
+        
+        for (ConfigInfoWrapper each : configs) {
+            CacheItem contentCache = ConfigCacheService.getContentCache(
+                    GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()));
+            assertEquals(MD5Utils.md5Hex(each.getContent(), "UTF-8"), contentCache.getConfigCache().getMd5Utf8());
+        }
+    }
+    
+    @Test
+    void testDumpAllWithFailedConfig() throws Exception {
+        List<ConfigInfoWrapper> configs = Arrays.asList(createNewConfig(1), createNewConfig(2), createNewConfig(3),
+                createNewConfig(4));
+        Page<ConfigInfoWrapper> page = new Page<>();
+        page.setPageItems(configs);
+        Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(4L);
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, PropertyUtil.getAllDumpPageSize(), false))
+                .thenReturn(page);
+        ConfigInfoWrapper failed = configs.get(0);
+        Mockito.when(configInfoPersistService.findConfigInfo(failed.getDataId(), failed.getGroup(), failed.getTenant()))
+                .thenThrow(new RuntimeException("test"));
+        for (ConfigInfoWrapper each : configs.subList(1, 4)) {
+            each.setLastModified(System.currentTimeMillis());
+            Mockito.when(configInfoPersistService.findConfigInfo(each.getDataId(), each.getGroup(), each.getTenant()))
+                    .thenReturn(each);
+        }
+        
+        assertTrue(dumpAllProcessor.process(new DumpAllTask(false)));
+        
+        // the failure of one config should not stop dumping the others of the same page.
+        for (ConfigInfoWrapper each : configs.subList(1, 4)) {
+            CacheItem contentCache = ConfigCacheService.getContentCache(
+                    GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()));
+            assertEquals(MD5Utils.md5Hex(each.getContent(), "UTF-8"), contentCache.getConfigCache().getMd5Utf8());
+        }
+    }
+    
     /**
      * test dump all for all check task.
      */
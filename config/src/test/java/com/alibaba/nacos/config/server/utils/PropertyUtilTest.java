@@ -29,6 +29,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.io.File;
 import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
@@ -73,9 +74,9 @@ class PropertyUtilTest {
     }
     
     private void clearAllDumpFiled() throws Exception {
-        Field allDumpPageSizeFiled = FieldUtils.getField(PropertyUtil.class, "allDumpPageSize");
+        Field allDumpPageSizeFiled = FieldUtils.getField(PropertyUtil.class, "ALL_DUMP_PAGE_SIZE");
         allDumpPageSizeFiled.setAccessible(true);
-        allDumpPageSizeFiled.set(null, null);
+        ((AtomicInteger) allDumpPageSizeFiled.get(null)).set(0);
     }
     
     @Test
@@ -107,6 +108,16 @@ class PropertyUtilTest {
         assertEquals(50, allDumpPageSizeUnderMin);
     }
     
+    @Test
+    void testSetAllDumpPageSize() throws Exception {
+        clearAllDumpFiled();
+        PropertyUtil.setAllDumpPageSize(300);
+        assertEquals(300, PropertyUtil.getAllDumpPageSize());
+        PropertyUtil.setAllDumpPageSize(400);
+        assertEquals(400, PropertyUtil.getAllDumpPageSize());
+        clearAllDumpFiled();
+    }
+    
     @Test
     void testGetAllDumpPageSizeWithJvmArgs() throws Exception {
         
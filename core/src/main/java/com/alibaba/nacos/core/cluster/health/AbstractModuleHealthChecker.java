@@ -34,6 +34,15 @@ public abstract class AbstractModuleHealthChecker {
      */
     public abstract boolean readiness();
     
+    /**
+     * Detail of readiness, such as the progress of loading data when module is not in readiness.
+     *
+     * @return detail of readiness, {@code null} if no detail
+     */
+    public String readinessDetail() {
+        return null;
+    }
+    
     /**
      * Module name.
      *
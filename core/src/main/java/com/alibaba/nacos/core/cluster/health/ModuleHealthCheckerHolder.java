@@ -54,7 +54,7 @@ public class ModuleHealthCheckerHolder {
         for (AbstractModuleHealthChecker each : this.moduleHealthCheckers) {
             boolean moduleReadiness = each.readiness();
             if (!moduleReadiness) {
-                readinessFailedModule.add(each.getModuleName());
+                readinessFailedModule.add(buildFailedModule(each));
             }
         }
         if (readinessFailedModule.isEmpty()) {
@@ -64,4 +64,15 @@ public class ModuleHealthCheckerHolder {
             return new ReadinessResult(false, String.format("%s not in readiness", modules));
         }
     }
+    
+    private String buildFailedModule(AbstractModuleHealthChecker checker) {
+        String detail;
+        try {
+            detail = checker.readinessDetail();
+        } catch (Exception e) {
+            detail = null;
+        }
+        return StringUtils.isBlank(detail) ? checker.getModuleName()
+                : String.format("%s(%s)", checker.getModuleName(), detail);
+    }
 }
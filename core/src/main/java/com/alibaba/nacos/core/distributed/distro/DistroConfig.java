@@ -36,14 +36,24 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long syncRetryDelayMillis = DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS;
     
+    private boolean syncBatchEnabled = DistroConstants.DEFAULT_DATA_SYNC_BATCH_ENABLED;
+    
+    private int syncBatchMaxBytes = DistroConstants.DEFAULT_DATA_SYNC_BATCH_MAX_BYTES;
+    
+    private boolean syncCompactEnabled = DistroConstants.DEFAULT_DATA_SYNC_COMPACT_ENABLED;
+    
     private long verifyIntervalMillis = DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS;
     
     private long verifyTimeoutMillis = DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS;
     
+    private boolean verifyDigestEnabled = DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED;
+    
     private long loadDataRetryDelayMillis = DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS;
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private int loadDataPageSize = DistroConstants.DEFAULT_DATA_LOAD_PAGE_SIZE;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -57,14 +67,24 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_SYNC_TIMEOUT_MILLISECONDS);
         syncRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS);
+        syncBatchEnabled = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_ENABLED);
+        syncBatchMaxBytes = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_MAX_BYTES, Integer.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_MAX_BYTES);
+        syncCompactEnabled = EnvUtil.getProperty(DistroConstants.DATA_SYNC_COMPACT_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_SYNC_COMPACT_ENABLED);
         verifyIntervalMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS);
         verifyTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS);
+        verifyDigestEnabled = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_DIGEST_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED);
         loadDataRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        loadDataPageSize = EnvUtil.getProperty(DistroConstants.DATA_LOAD_PAGE_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_PAGE_SIZE);
     }
     
     public static DistroConfig getInstance() {
@@ -95,6 +115,30 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.syncRetryDelayMillis = syncRetryDelayMillis;
     }
     
+    public boolean isSyncBatchEnabled() {
+        return syncBatchEnabled;
+    }
+    
+    public void setSyncBatchEnabled(boolean syncBatchEnabled) {
+        this.syncBatchEnabled = syncBatchEnabled;
+    }
+    
+    public int getSyncBatchMaxBytes() {
+        return syncBatchMaxBytes;
+    }
+    
+    public void setSyncBatchMaxBytes(int syncBatchMaxBytes) {
+        this.syncBatchMaxBytes = syncBatchMaxBytes;
+    }
+    
+    public boolean isSyncCompactEnabled() {
+        return syncCompactEnabled;
+    }
+    
+    public void setSyncCompactEnabled(boolean syncCompactEnabled) {
+        this.syncCompactEnabled = syncCompactEnabled;
+    }
+    
     public long getVerifyIntervalMillis() {
         return verifyIntervalMillis;
     }
@@ -111,6 +155,14 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.verifyTimeoutMillis = verifyTimeoutMillis;
     }
     
+    public boolean isVerifyDigestEnabled() {
+        return verifyDigestEnabled;
+    }
+    
+    public void setVerifyDigestEnabled(boolean verifyDigestEnabled) {
+        this.verifyDigestEnabled = verifyDigestEnabled;
+    }
+    
     public long getLoadDataRetryDelayMillis() {
         return loadDataRetryDelayMillis;
     }
@@ -127,11 +179,22 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public int getLoadDataPageSize() {
+        return loadDataPageSize;
+    }
+    
+    public void setLoadDataPageSize(int loadDataPageSize) {
+        this.loadDataPageSize = loadDataPageSize;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
-                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
-                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
-                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + '}';
+                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", syncBatchEnabled=" + syncBatchEnabled
+                + ", syncBatchMaxBytes=" + syncBatchMaxBytes + ", syncCompactEnabled=" + syncCompactEnabled
+                + ", verifyIntervalMillis=" + verifyIntervalMillis
+                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", verifyDigestEnabled=" + verifyDigestEnabled
+                + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis + ", loadDataTimeoutMillis="
+                + loadDataTimeoutMillis + ", loadDataPageSize=" + loadDataPageSize + '}';
     }
 }
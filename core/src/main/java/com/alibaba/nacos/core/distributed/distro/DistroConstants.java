@@ -43,6 +43,24 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS = 3000L;
     
+    public static final String DATA_SYNC_BATCH_ENABLED = "nacos.core.protocol.distro.data.sync.batch.enabled";
+    
+    public static final String DATA_SYNC_BATCH_ENABLED_STATE = "data_sync_batch_enabled";
+    
+    public static final boolean DEFAULT_DATA_SYNC_BATCH_ENABLED = false;
+    
+    public static final String DATA_SYNC_BATCH_MAX_BYTES = "nacos.core.protocol.distro.data.sync.batch.maxBytes";
+    
+    public static final String DATA_SYNC_BATCH_MAX_BYTES_STATE = "data_sync_batch_maxBytes";
+    
+    public static final int DEFAULT_DATA_SYNC_BATCH_MAX_BYTES = 1024 * 1024;
+    
+    public static final String DATA_SYNC_COMPACT_ENABLED = "nacos.core.protocol.distro.data.sync.compact.enabled";
+    
+    public static final String DATA_SYNC_COMPACT_ENABLED_STATE = "data_sync_compact_enabled";
+    
+    public static final boolean DEFAULT_DATA_SYNC_COMPACT_ENABLED = false;
+    
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS = "nacos.core.protocol.distro.data.verify.intervalMs";
     
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS_STATE = "data_verify_intervalMs";
@@ -55,6 +73,12 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS = 3000L;
     
+    public static final String DATA_VERIFY_DIGEST_ENABLED = "nacos.core.protocol.distro.data.verify.digest.enabled";
+    
+    public static final String DATA_VERIFY_DIGEST_ENABLED_STATE = "data_verify_digest_enabled";
+    
+    public static final boolean DEFAULT_DATA_VERIFY_DIGEST_ENABLED = false;
+    
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.load.retryDelayMs";
     
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE = "data_load_retryDelayMs";
@@ -67,4 +91,10 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_PAGE_SIZE = "nacos.core.protocol.distro.data.load.pageSize";
+    
+    public static final String DATA_LOAD_PAGE_SIZE_STATE = "data_load_pageSize";
+    
+    public static final int DEFAULT_DATA_LOAD_PAGE_SIZE = 0;
+    
 }
@@ -29,12 +29,16 @@ import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
 import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
 import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadDataTask;
+import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadProgress;
+import com.alibaba.nacos.core.distributed.distro.task.verify.DistroVerifyExecuteTask;
 import com.alibaba.nacos.core.distributed.distro.task.verify.DistroVerifyTimedTask;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Distro protocol.
  *
@@ -49,6 +53,8 @@ public class DistroProtocol {
     
     private final DistroTaskEngineHolder distroTaskEngineHolder;
     
+    private final DistroLoadProgress loadProgress = new DistroLoadProgress();
+    
     private volatile boolean isInitialized = false;
     
     public DistroProtocol(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
@@ -81,7 +87,8 @@ public class DistroProtocol {
             }
         };
         GlobalExecutor.submitLoadDataTask(
-                new DistroLoadDataTask(memberManager, distroComponentHolder, DistroConfig.getInstance(), loadCallback));
+                new DistroLoadDataTask(memberManager, distroComponentHolder, DistroConfig.getInstance(), loadCallback,
+                        loadProgress));
     }
     
     private void startVerifyTask() {
@@ -194,6 +201,40 @@ public class DistroProtocol {
         return dataProcessor.processVerifyData(distroData, sourceAddress);
     }
     
+    /**
+     * Receive verify digest, find processor to process.
+     *
+     * @param distroData    verify digest
+     * @param sourceAddress source server address
+     * @return digest of local data, {@code null} if can't process the verify digest
+     */
+    public DistroData onVerifyDigest(DistroData distroData, String sourceAddress) {
+        String resourceType = distroData.getDistroKey().getResourceType();
+        DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(resourceType);
+        if (null == dataProcessor) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find verify data process for received digest {}", resourceType);
+            return null;
+        }
+        return dataProcessor.processVerifyDigest(distroData, sourceAddress);
+    }
+    
+    /**
+     * Start to verify data to target server directly.
+     *
+     * @param type         type of verify data
+     * @param verifyData   verify data
+     * @param targetServer target server
+     */
+    public void verifyToTarget(String type, List<DistroData> verifyData, String targetServer) {
+        DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(type);
+        if (null == transportAgent) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find transport agent for key {}", type);
+            return;
+        }
+        distroTaskEngineHolder.getExecuteWorkersManager().addTask(targetServer + type,
+                new DistroVerifyExecuteTask(transportAgent, verifyData, targetServer, type));
+    }
+    
     /**
      * Query data of input distro key.
      *
@@ -224,4 +265,25 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query one page of datum snapshot.
+     *
+     * @param type     datum type
+     * @param cursor   cursor of page, {@code null} means the first page
+     * @param pageSize max size of datum in one page
+     * @return datum snapshot of one page, the resource key of distro key is the cursor of next page
+     */
+    public DistroData onSnapshot(String type, String cursor, int pageSize) {
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (null == distroDataStorage) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data storage for received key {}", type);
+            return new DistroData(new DistroKey(null, type), new byte[0]);
+        }
+        return distroDataStorage.getDatumSnapshot(cursor, pageSize);
+    }
+    
+    public DistroLoadProgress getLoadProgress() {
+        return loadProgress;
+    }
 }
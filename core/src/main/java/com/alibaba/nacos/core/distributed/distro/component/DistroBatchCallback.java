@@ -0,0 +1,48 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.component;
+
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+
+import java.util.List;
+
+/**
+ * Distro callback for syncing data in batch.
+ *
+ * @author Nacos
+ */
+public interface DistroBatchCallback {
+    
+    /**
+     * Callback when all data in batch synced successfully.
+     */
+    void onSuccess();
+    
+    /**
+     * Callback when some data in batch synced failed, the other data are synced successfully.
+     *
+     * @param failedData failed data in batch
+     * @param throwable  throwable if sync failed caused by exception
+     */
+    void onFailed(List<DistroData> failedData, Throwable throwable);
+    
+    /**
+     * Callback when the target server can't handle the data in batch, such as an old version server during rolling
+     * upgrade. The data in batch should be synced one by one instead.
+     */
+    void onBatchUnsupported();
+}
@@ -49,6 +49,20 @@ public interface DistroDataProcessor {
      */
     boolean processVerifyData(DistroData distroData, String sourceAddress);
     
+    /**
+     * Process received verify digest, which summarizes all data responsible by source server, such as a hash tree.
+     *
+     * <p>The processor should renew the data which match the digest, and return the digest of local data so that
+     * source server can find out the differences and verify them in detail.
+     *
+     * @param distroData    verify digest
+     * @param sourceAddress source server address
+     * @return digest of local data, {@code null} if not support verify digest
+     */
+    default DistroData processVerifyDigest(DistroData distroData, String sourceAddress) {
+        return null;
+    }
+    
     /**
      * Process snapshot data.
      *
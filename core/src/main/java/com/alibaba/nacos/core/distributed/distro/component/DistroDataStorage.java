@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.distributed.distro.component;
 
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 
@@ -57,6 +58,24 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get one page of distro datum snapshot, which contains the datum after the cursor.
+     *
+     * <p>The resource key of returned distro key is the cursor of next page, {@code null} means no more page. Default
+     * implementation returns all datum in one page.
+     *
+     * @param cursor   cursor of page, {@code null} means the first page
+     * @param pageSize max size of datum in one page
+     * @return datum of one page
+     */
+    default DistroData getDatumSnapshot(String cursor, int pageSize) {
+        DistroData snapshot = getDatumSnapshot();
+        DistroData result = new DistroData(new DistroKey(null, snapshot.getDistroKey().getResourceType()),
+                snapshot.getContent());
+        result.setType(DataOperation.SNAPSHOT);
+        return result;
+    }
+    
     /**
      * Get verify datum.
      *
@@ -19,6 +19,8 @@ package com.alibaba.nacos.core.distributed.distro.component;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 
+import java.util.List;
+
 /**
  * Distro transport agent.
  *
@@ -53,6 +55,28 @@ public interface DistroTransportAgent {
      */
     void syncData(DistroData data, String targetServer, DistroCallback callback);
     
+    /**
+     * Whether support transport data in batch with callback.
+     *
+     * @return true if support, otherwise false
+     */
+    default boolean supportBatchTransport() {
+        return false;
+    }
+    
+    /**
+     * Sync data in batch with callback.
+     *
+     * @param batchData    data in batch
+     * @param targetServer target server
+     * @param callback     callback
+     * @throws UnsupportedOperationException if method supportBatchTransport is false, should throw {@code
+     *                                       UnsupportedOperationException}
+     */
+    default void syncBatchData(List<DistroData> batchData, String targetServer, DistroBatchCallback callback) {
+        throw new UnsupportedOperationException("Sync data in batch is not supported");
+    }
+    
     /**
      * Sync verify data.
      *
@@ -82,6 +106,15 @@ public interface DistroTransportAgent {
      */
     DistroData getData(DistroKey key, String targetServer);
     
+    /**
+     * Whether support get datum snapshot by page.
+     *
+     * @return true if support, otherwise false
+     */
+    default boolean supportPagedSnapshot() {
+        return false;
+    }
+    
     /**
      * Get all datum snapshot from target server.
      *
@@ -89,4 +122,20 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Get one page of datum snapshot from target server.
+     *
+     * <p>The resource key of returned distro key is the cursor of next page, {@code null} or empty means no more page.
+     *
+     * @param targetServer target server
+     * @param cursor       cursor of page, {@code null} means the first page
+     * @param pageSize     max size of datum in one page
+     * @return distro data of one page
+     * @throws UnsupportedOperationException if method supportPagedSnapshot is false, should throw {@code
+     *                                       UnsupportedOperationException}
+     */
+    default DistroData getDatumSnapshot(String targetServer, String cursor, int pageSize) {
+        throw new UnsupportedOperationException("Get datum snapshot by page is not supported");
+    }
 }
@@ -22,6 +22,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
 import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
@@ -87,6 +88,13 @@ public abstract class AbstractDistroExecuteTask extends AbstractExecuteTask {
      */
     protected abstract DataOperation getDataOperation();
     
+    /**
+     * Get the data to sync for current task, which is used when syncing in batch.
+     *
+     * @return data to sync, {@code null} if no data need to sync
+     */
+    protected abstract DistroData getSyncData();
+    
     /**
      * Do execute for different sub class.
      *
@@ -16,9 +16,16 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.execute;
 
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
 import com.alibaba.nacos.common.task.engine.NacosExecuteTaskExecuteEngine;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.utils.Loggers;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Distro execute task execute engine.
  *
@@ -26,7 +33,45 @@ import com.alibaba.nacos.core.utils.Loggers;
  */
 public class DistroExecuteTaskExecuteEngine extends NacosExecuteTaskExecuteEngine {
     
+    private final ConcurrentMap<String, DistroSyncBatchTask> batchTasks = new ConcurrentHashMap<>(16);
+    
     public DistroExecuteTaskExecuteEngine() {
         super(DistroExecuteTaskExecuteEngine.class.getSimpleName(), Loggers.DISTRO);
     }
+    
+    /**
+     * Add task. If sync in batch is enabled and supported by transport agent, the sync tasks are collected into
+     * {@link DistroSyncBatchTask} of their target server, which is executed instead of them.
+     *
+     * @param tag  tag of task
+     * @param task task
+     */
+    @Override
+    public void addTask(Object tag, AbstractExecuteTask task) {
+        if (task instanceof AbstractDistroExecuteTask && isSyncInBatch((AbstractDistroExecuteTask) task)) {
+            addTaskIntoBatch((AbstractDistroExecuteTask) task);
+            return;
+        }
+        super.addTask(tag, task);
+    }
+    
+    private boolean isSyncInBatch(AbstractDistroExecuteTask task) {
+        if (!DistroConfig.getInstance().isSyncBatchEnabled()) {
+            return false;
+        }
+        DistroTransportAgent transportAgent = task.getDistroComponentHolder()
+                .findTransportAgent(task.getDistroKey().getResourceType());
+        return null != transportAgent && transportAgent.supportBatchTransport();
+    }
+    
+    private void addTaskIntoBatch(AbstractDistroExecuteTask task) {
+        DistroKey distroKey = task.getDistroKey();
+        String batchKey = distroKey.getTargetServer() + distroKey.getResourceType();
+        DistroSyncBatchTask batchTask = batchTasks.computeIfAbsent(batchKey,
+                key -> new DistroSyncBatchTask(distroKey.getTargetServer(), distroKey.getResourceType(),
+                        task.getDistroComponentHolder()));
+        if (batchTask.addTask(task)) {
+            super.addTask(batchKey, batchTask);
+        }
+    }
 }
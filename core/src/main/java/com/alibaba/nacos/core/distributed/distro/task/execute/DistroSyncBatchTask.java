@@ -0,0 +1,225 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroBatchCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Distro sync batch task.
+ *
+ * <p>The sync tasks to the same target server are collected into this task by {@link DistroExecuteTaskExecuteEngine},
+ * and the data of them are synced by as few requests as possible. Each request contains data not more than
+ * {@link DistroConfig#getSyncBatchMaxBytes()}, unless single data is larger than it.
+ *
+ * @author Nacos
+ */
+public class DistroSyncBatchTask extends AbstractExecuteTask {
+    
+    private static final int DEFAULT_DATA_BYTES = 64;
+    
+    /**
+     * How long to sync data one by one after the target server is found not supporting batch sync, the batch sync is
+     * tried again after it in case of the target server has been upgraded.
+     */
+    private static final long BATCH_UNSUPPORTED_BACKOFF_MILLIS = 60000L;
+    
+    private final String targetServer;
+    
+    private final String type;
+    
+    private final DistroComponentHolder distroComponentHolder;
+    
+    private final Queue<AbstractDistroExecuteTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    
+    private volatile long batchUnsupportedUntil;
+    
+    public DistroSyncBatchTask(String targetServer, String type, DistroComponentHolder distroComponentHolder) {
+        this.targetServer = targetServer;
+        this.type = type;
+        this.distroComponentHolder = distroComponentHolder;
+    }
+    
+    /**
+     * Add sync task into batch.
+     *
+     * @param task sync task
+     * @return {@code true} if this batch task need to be scheduled, otherwise it has been scheduled and not run yet
+     */
+    public boolean addTask(AbstractDistroExecuteTask task) {
+        pendingTasks.offer(task);
+        return scheduled.compareAndSet(false, true);
+    }
+    
+    public int pendingTaskCount() {
+        return pendingTasks.size();
+    }
+    
+    @Override
+    public void run() {
+        scheduled.set(false);
+        DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(type);
+        if (null == transportAgent) {
+            Loggers.DISTRO.warn("No found transport agent for type [{}]", type);
+            pendingTasks.clear();
+            return;
+        }
+        if (System.currentTimeMillis() < batchUnsupportedUntil) {
+            drainPendingTasks().values().forEach(AbstractDistroExecuteTask::run);
+            return;
+        }
+        int maxBytes = DistroConfig.getInstance().getSyncBatchMaxBytes();
+        List<DistroData> batchData = new LinkedList<>();
+        List<AbstractDistroExecuteTask> batchTasks = new LinkedList<>();
+        int batchBytes = 0;
+        for (AbstractDistroExecuteTask each : drainPendingTasks().values()) {
+            DistroData data = getSyncData(each);
+            if (null == data) {
+                continue;
+            }
+            int dataBytes = null == data.getContent() ? DEFAULT_DATA_BYTES : data.getContent().length;
+            if (!batchData.isEmpty() && batchBytes + dataBytes > maxBytes) {
+                syncBatchData(transportAgent, batchData, batchTasks);
+                batchData = new LinkedList<>();
+                batchTasks = new LinkedList<>();
+                batchBytes = 0;
+            }
+            batchData.add(data);
+            batchTasks.add(each);
+            batchBytes += dataBytes;
+        }
+        if (!batchData.isEmpty()) {
+            syncBatchData(transportAgent, batchData, batchTasks);
+        }
+    }
+    
+    /**
+     * Drain the pending tasks, only the latest task will be synced if there are several tasks for the same key.
+     */
+    private Map<DistroKey, AbstractDistroExecuteTask> drainPendingTasks() {
+        Map<DistroKey, AbstractDistroExecuteTask> result = new LinkedHashMap<>(pendingTasks.size() * 2);
+        AbstractDistroExecuteTask task;
+        while (null != (task = pendingTasks.poll())) {
+            result.put(task.getDistroKey(), task);
+        }
+        return result;
+    }
+    
+    private DistroData getSyncData(AbstractDistroExecuteTask task) {
+        try {
+            DistroData result = task.getSyncData();
+            if (null == result) {
+                Loggers.DISTRO.warn("[DISTRO] {} with null data to sync, skip", task.toString());
+            }
+            return result;
+        } catch (Exception e) {
+            Loggers.DISTRO.warn("[DISTRO] Get sync data failed. key: {}", task.getDistroKey(), e);
+            task.handleFailedTask();
+            return null;
+        }
+    }
+    
+    private void syncBatchData(DistroTransportAgent transportAgent, List<DistroData> batchData,
+            List<AbstractDistroExecuteTask> batchTasks) {
+        Loggers.DISTRO.info("[DISTRO-START] sync {} data of type {} to {} in batch", batchData.size(), type,
+                targetServer);
+        DistroBatchExecuteCallback callback = new DistroBatchExecuteCallback(batchData, batchTasks);
+        try {
+            transportAgent.syncBatchData(batchData, targetServer, callback);
+        } catch (Exception e) {
+            callback.onFailed(batchData, e);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "DistroSyncBatchTask for " + type + " to " + targetServer;
+    }
+    
+    private class DistroBatchExecuteCallback implements DistroBatchCallback {
+        
+        private final List<DistroData> batchData;
+        
+        private final List<AbstractDistroExecuteTask> batchTasks;
+        
+        private DistroBatchExecuteCallback(List<DistroData> batchData, List<AbstractDistroExecuteTask> batchTasks) {
+            this.batchData = batchData;
+            this.batchTasks = batchTasks;
+        }
+        
+        @Override
+        public void onSuccess() {
+            DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(type);
+            for (int i = 0; i < batchData.size(); i++) {
+                distroRecord.syncSuccess();
+            }
+            Loggers.DISTRO.info("[DISTRO-END] sync {} data of type {} to {} in batch result: true", batchData.size(),
+                    type, targetServer);
+        }
+        
+        @Override
+        public void onFailed(List<DistroData> failedData, Throwable throwable) {
+            DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(type);
+            for (int i = failedData.size(); i < batchData.size(); i++) {
+                distroRecord.syncSuccess();
+            }
+            if (null == throwable) {
+                Loggers.DISTRO.info("[DISTRO-END] sync {} data of type {} to {} in batch result: {} failed",
+                        batchData.size(), type, targetServer, failedData.size());
+            } else {
+                Loggers.DISTRO.warn("[DISTRO] Sync {} data of type {} to {} in batch failed.", batchData.size(), type,
+                        targetServer, throwable);
+            }
+            DistroFailedTaskHandler failedTaskHandler = distroComponentHolder.findFailedTaskHandler(type);
+            for (DistroData each : failedData) {
+                distroRecord.syncFail();
+                if (null == failedTaskHandler) {
+                    Loggers.DISTRO.warn("[DISTRO] Can't find failed task for type {}, so discarded", type);
+                    continue;
+                }
+                failedTaskHandler.retry(each.getDistroKey(), each.getType());
+            }
+        }
+        
+        @Override
+        public void onBatchUnsupported() {
+            batchUnsupportedUntil = System.currentTimeMillis() + BATCH_UNSUPPORTED_BACKOFF_MILLIS;
+            Loggers.DISTRO.warn("[DISTRO] {} does not support sync in batch, sync {} data of type {} one by one",
+                    targetServer, batchTasks.size(), type);
+            batchTasks.forEach(AbstractDistroExecuteTask::run);
+        }
+    }
+}
@@ -41,6 +41,11 @@ public class DistroSyncChangeTask extends AbstractDistroExecuteTask {
         return OPERATION;
     }
     
+    @Override
+    protected DistroData getSyncData() {
+        return getDistroData(getDistroKey().getResourceType());
+    }
+    
     @Override
     protected boolean doExecute() {
         String type = getDistroKey().getResourceType();
@@ -41,11 +41,17 @@ public class DistroSyncDeleteTask extends AbstractDistroExecuteTask {
     }
     
     @Override
-    protected boolean doExecute() {
-        String type = getDistroKey().getResourceType();
+    protected DistroData getSyncData() {
         DistroData distroData = new DistroData();
         distroData.setDistroKey(getDistroKey());
         distroData.setType(OPERATION);
+        return distroData;
+    }
+    
+    @Override
+    protected boolean doExecute() {
+        String type = getDistroKey().getResourceType();
+        DistroData distroData = getSyncData();
         return getDistroComponentHolder().findTransportAgent(type)
                 .syncData(distroData, getDistroKey().getTargetServer());
     }
@@ -53,9 +59,7 @@ public class DistroSyncDeleteTask extends AbstractDistroExecuteTask {
     @Override
     protected void doExecuteWithCallback(DistroCallback callback) {
         String type = getDistroKey().getResourceType();
-        DistroData distroData = new DistroData();
-        distroData.setDistroKey(getDistroKey());
-        distroData.setType(OPERATION);
+        DistroData distroData = getSyncData();
         getDistroComponentHolder().findTransportAgent(type)
                 .syncData(distroData, getDistroKey().getTargetServer(), callback);
     }
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -46,14 +47,22 @@ public class DistroLoadDataTask implements Runnable {
     
     private final DistroCallback loadCallback;
     
+    private final DistroLoadProgress loadProgress;
+    
     private final Map<String, Boolean> loadCompletedMap;
     
     public DistroLoadDataTask(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
             DistroConfig distroConfig, DistroCallback loadCallback) {
+        this(memberManager, distroComponentHolder, distroConfig, loadCallback, new DistroLoadProgress());
+    }
+    
+    public DistroLoadDataTask(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
+            DistroConfig distroConfig, DistroCallback loadCallback, DistroLoadProgress loadProgress) {
         this.memberManager = memberManager;
         this.distroComponentHolder = distroComponentHolder;
         this.distroConfig = distroConfig;
         this.loadCallback = loadCallback;
+        this.loadProgress = loadProgress;
         loadCompletedMap = new HashMap<>(1);
     }
     
@@ -98,14 +107,12 @@ public class DistroLoadDataTask implements Runnable {
             return false;
         }
         for (Member each : memberManager.allMembersWithoutSelf()) {
-            long startTime = System.currentTimeMillis();
             try {
                 Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} from {}", resourceType, each.getAddress());
-                DistroData distroData = transportAgent.getDatumSnapshot(each.getAddress());
-                Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} and snapshot size is {}.",
-                        System.currentTimeMillis() - startTime, resourceType, each.getAddress(),
-                        getDistroDataLength(distroData));
-                boolean result = dataProcessor.processSnapshot(distroData);
+                loadProgress.start(resourceType, each.getAddress());
+                boolean result = isLoadByPage(transportAgent) ? loadSnapshotByPage(transportAgent, dataProcessor,
+                        resourceType, each.getAddress())
+                        : loadSnapshot(transportAgent, dataProcessor, resourceType, each.getAddress());
                 Loggers.DISTRO
                         .info("[DISTRO-INIT] load snapshot {} from {} result: {}", resourceType, each.getAddress(),
                                 result);
@@ -115,11 +122,55 @@ public class DistroLoadDataTask implements Runnable {
                 }
             } catch (Exception e) {
                 Loggers.DISTRO.error("[DISTRO-INIT] load snapshot {} from {} failed.", resourceType, each.getAddress(), e);
+            } finally {
+                loadProgress.finish();
             }
         }
         return false;
     }
     
+    private boolean isLoadByPage(DistroTransportAgent transportAgent) {
+        return distroConfig.getLoadDataPageSize() > 0 && transportAgent.supportPagedSnapshot();
+    }
+    
+    private boolean loadSnapshot(DistroTransportAgent transportAgent, DistroDataProcessor dataProcessor,
+            String resourceType, String targetServer) {
+        long startTime = System.currentTimeMillis();
+        DistroData distroData = transportAgent.getDatumSnapshot(targetServer);
+        Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} and snapshot size is {}.",
+                System.currentTimeMillis() - startTime, resourceType, targetServer, getDistroDataLength(distroData));
+        boolean result = dataProcessor.processSnapshot(distroData);
+        loadProgress.pageLoaded(getDistroDataLength(distroData));
+        return result;
+    }
+    
+    /**
+     * Load snapshot page by page, each page is processed before requesting the next page, so only one page of
+     * snapshot is held in memory.
+     *
+     * <p>If one page failed, the snapshot will be reloaded from the first page of next server.
+     */
+    private boolean loadSnapshotByPage(DistroTransportAgent transportAgent, DistroDataProcessor dataProcessor,
+            String resourceType, String targetServer) {
+        long startTime = System.currentTimeMillis();
+        int pageSize = distroConfig.getLoadDataPageSize();
+        String cursor = null;
+        do {
+            DistroData distroData = transportAgent.getDatumSnapshot(targetServer, cursor, pageSize);
+            if (!dataProcessor.processSnapshot(distroData)) {
+                Loggers.DISTRO.warn("[DISTRO-INIT] process snapshot {} from {} failed at page after {}.",
+                        resourceType, targetServer, cursor);
+                return false;
+            }
+            loadProgress.pageLoaded(getDistroDataLength(distroData));
+            cursor = distroData.getDistroKey().getResourceKey();
+        } while (StringUtils.isNotEmpty(cursor));
+        Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} with {} pages and size is {}.",
+                System.currentTimeMillis() - startTime, resourceType, targetServer, loadProgress.getLoadedPages(),
+                loadProgress.getLoadedBytes());
+        return true;
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.load;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of loading distro datum snapshot from remote server.
+ *
+ * @author Nacos
+ */
+public class DistroLoadProgress {
+    
+    private final AtomicInteger loadedPages = new AtomicInteger();
+    
+    private final AtomicLong loadedBytes = new AtomicLong();
+    
+    private volatile String resourceType;
+    
+    private volatile String sourceServer;
+    
+    /**
+     * Start to load snapshot of resource type from source server, reset the loaded pages and bytes.
+     *
+     * @param resourceType resource type of snapshot
+     * @param sourceServer source server of snapshot
+     */
+    public void start(String resourceType, String sourceServer) {
+        this.resourceType = resourceType;
+        this.sourceServer = sourceServer;
+        loadedPages.set(0);
+        loadedBytes.set(0);
+    }
+    
+    /**
+     * One page of snapshot has been loaded.
+     *
+     * @param bytes size of snapshot page
+     */
+    public void pageLoaded(int bytes) {
+        loadedPages.incrementAndGet();
+        loadedBytes.addAndGet(bytes);
+    }
+    
+    /**
+     * Snapshot loading has finished, whether success or not.
+     */
+    public void finish() {
+        this.resourceType = null;
+        this.sourceServer = null;
+    }
+    
+    public boolean isLoading() {
+        return null != resourceType;
+    }
+    
+    public String getResourceType() {
+        return resourceType;
+    }
+    
+    public String getSourceServer() {
+        return sourceServer;
+    }
+    
+    public int getLoadedPages() {
+        return loadedPages.get();
+    }
+    
+    public long getLoadedBytes() {
+        return loadedBytes.get();
+    }
+    
+    @Override
+    public String toString() {
+        return "loading snapshot " + resourceType + " from " + sourceServer + ", " + loadedPages.get()
+                + " pages and " + loadedBytes.get() + " bytes loaded";
+    }
+}
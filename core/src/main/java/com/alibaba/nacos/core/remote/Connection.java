@@ -16,7 +16,13 @@
 
 package com.alibaba.nacos.core.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.Requester;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.ability.discover.NacosAbilityManagerHolder;
 
 import java.util.Map;
 
@@ -63,6 +69,38 @@ public abstract class Connection implements Requester {
         return this.abilityTable;
     }
     
+    /**
+     * Whether both the client of this connection and current server support binary codec for the body of grpc
+     * payload.
+     *
+     * @return {@code true} if supported, otherwise json is used
+     */
+    public boolean isSupportBinaryPayload() {
+        Map<String, Boolean> abilities = this.abilityTable;
+        if (null == abilities || !Boolean.TRUE.equals(
+                abilities.get(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD.getName()))) {
+            return false;
+        }
+        return AbilityStatus.SUPPORTED == NacosAbilityManagerHolder.getInstance()
+                .isCurrentNodeAbilityRunning(AbilityKey.SERVER_SUPPORT_BINARY_PAYLOAD);
+    }
+    
+    /**
+     * Async request with pre-serialized request body.
+     *
+     * <p>The pre-serialized body can be shared by multiple connections to avoid serializing the same content
+     * repeatedly. Connection which can't use the pre-serialized body will serialize the request itself.
+     *
+     * @param request         request
+     * @param serializedBody  pre-serialized request body without headers and request id
+     * @param requestCallBack callback of request
+     * @throws NacosException exception during request
+     */
+    public void asyncRequest(Request request, byte[] serializedBody, RequestCallBack requestCallBack)
+            throws NacosException {
+        asyncRequest(request, requestCallBack);
+    }
+    
     /**
      * check is connected.
      *
@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.AbstractRequestCallBack;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.core.utils.Loggers;
@@ -49,10 +50,24 @@ public class RpcPushService {
      */
     public void pushWithCallback(String connectionId, ServerRequest request, PushCallBack requestCallBack,
             Executor executor) {
+        pushWithCallback(connectionId, request, null, requestCallBack, executor);
+    }
+    
+    /**
+     * push request with pre-serialized request body.
+     *
+     * @param connectionId    connectionId.
+     * @param request         request.
+     * @param serializedBody  pre-serialized request body, {@code null} means serialize request when sending.
+     * @param requestCallBack requestCallBack.
+     * @param executor        executor to execute callback.
+     */
+    public void pushWithCallback(String connectionId, ServerRequest request, byte[] serializedBody,
+            PushCallBack requestCallBack, Executor executor) {
         Connection connection = connectionManager.getConnection(connectionId);
         if (connection != null) {
             try {
-                connection.asyncRequest(request, new AbstractRequestCallBack(requestCallBack.getTimeout()) {
+                RequestCallBack callBack = new AbstractRequestCallBack(requestCallBack.getTimeout()) {
                     
                     @Override
                     public Executor getExecutor() {
@@ -72,7 +87,12 @@ public class RpcPushService {
                     public void onException(Throwable e) {
                         requestCallBack.onFail(e);
                     }
-                });
+                };
+                if (null == serializedBody) {
+                    connection.asyncRequest(request, callBack);
+                } else {
+                    connection.asyncRequest(request, serializedBody, callBack);
+                }
             } catch (ConnectionAlreadyClosedException e) {
                 connectionManager.unregister(connectionId);
                 requestCallBack.onSuccess();
@@ -69,12 +69,17 @@ public class GrpcConnection extends Connection {
      * @throws NacosException NacosException
      */
     public void sendRequestNoAck(Request request) throws NacosException {
+        sendRequestNoAck(request, null);
+    }
+    
+    private void sendRequestNoAck(Request request, byte[] serializedBody) throws NacosException {
         sendQueueBlockCheck();
         Future<Boolean> executeFuture = this.channel.eventLoop().submit(() -> {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 try {
-                    Payload payload = GrpcUtils.convert(request);
+                    Payload payload = null == serializedBody ? GrpcUtils.convert(request, isSupportBinaryPayload())
+                            : GrpcUtils.convert(request, serializedBody);
                     traceIfNecessary(payload);
                     streamObserver.onNext(payload);
                     return true;
@@ -142,6 +147,11 @@ public class GrpcConnection extends Connection {
     }
     
     private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack) throws NacosException {
+        return sendRequestInner(request, null, callBack);
+    }
+    
+    private DefaultRequestFuture sendRequestInner(Request request, byte[] serializedBody, RequestCallBack callBack)
+            throws NacosException {
         final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
         request.setRequestId(requestId);
         
@@ -149,7 +159,7 @@ public class GrpcConnection extends Connection {
                 callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId));
         
         RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture);
-        sendRequestNoAck(request);
+        sendRequestNoAck(request, serializedBody);
         return defaultPushFuture;
     }
     
@@ -175,6 +185,12 @@ public class GrpcConnection extends Connection {
         sendRequestInner(request, requestCallBack);
     }
     
+    @Override
+    public void asyncRequest(Request request, byte[] serializedBody, RequestCallBack requestCallBack)
+            throws NacosException {
+        sendRequestInner(request, serializedBody, requestCallBack);
+    }
+    
     @Override
     public void close() {
         String connectionId = null;
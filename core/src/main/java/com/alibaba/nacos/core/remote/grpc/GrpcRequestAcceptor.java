@@ -193,7 +193,7 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             connectionManager.refreshActiveTime(requestMeta.getConnectionId());
             prepareRequestContext(request, requestMeta, connection);
             Response response = requestHandler.handleRequest(request, requestMeta);
-            Payload payloadResponse = GrpcUtils.convert(response);
+            Payload payloadResponse = GrpcUtils.convert(response, connection.isSupportBinaryPayload());
             traceIfNecessary(payloadResponse, false);
             if (response.getErrorCode() == NacosException.OVER_THRESHOLD) {
                 RpcScheduledExecutor.CONTROL_SCHEDULER.schedule(() -> {
@@ -55,13 +55,23 @@ class DistroModuleStateBuilderTest {
                 states.get(DistroConstants.DATA_SYNC_TIMEOUT_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS,
                 states.get(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_SYNC_BATCH_ENABLED,
+                states.get(DistroConstants.DATA_SYNC_BATCH_ENABLED_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_SYNC_BATCH_MAX_BYTES,
+                states.get(DistroConstants.DATA_SYNC_BATCH_MAX_BYTES_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_SYNC_COMPACT_ENABLED,
+                states.get(DistroConstants.DATA_SYNC_COMPACT_ENABLED_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS,
                 states.get(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS,
                 states.get(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED,
+                states.get(DistroConstants.DATA_VERIFY_DIGEST_ENABLED_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS,
                 states.get(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS,
                 states.get(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_LOAD_PAGE_SIZE,
+                states.get(DistroConstants.DATA_LOAD_PAGE_SIZE_STATE));
     }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroBatchCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroSyncBatchTaskTest {
+    
+    private static final String TYPE = "type";
+    
+    private static final String TARGET_SERVER = "1.1.1.1:8848";
+    
+    @Mock
+    private DistroTransportAgent transportAgent;
+    
+    @Mock
+    private DistroDataStorage dataStorage;
+    
+    @Mock
+    private DistroFailedTaskHandler failedTaskHandler;
+    
+    private DistroComponentHolder distroComponentHolder;
+    
+    private DistroSyncBatchTask batchTask;
+    
+    @BeforeEach
+    void setUp() {
+        distroComponentHolder = new DistroComponentHolder();
+        distroComponentHolder.registerTransportAgent(TYPE, transportAgent);
+        distroComponentHolder.registerDataStorage(TYPE, dataStorage);
+        distroComponentHolder.registerFailedTaskHandler(TYPE, failedTaskHandler);
+        batchTask = new DistroSyncBatchTask(TARGET_SERVER, TYPE, distroComponentHolder);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        DistroConfig.getInstance().setSyncBatchEnabled(false);
+        // the failed sync records are global, clear them to not affect other tests.
+        ((Map<?, ?>) ReflectionTestUtils.getField(DistroRecordsHolder.getInstance(), "distroRecords")).clear();
+    }
+    
+    private DistroKey mockKey(String resourceKey) {
+        DistroKey result = new DistroKey(resourceKey, TYPE, TARGET_SERVER);
+        when(dataStorage.getDistroData(result)).thenReturn(new DistroData(result, new byte[100]));
+        return result;
+    }
+    
+    @Test
+    void testAddTask() {
+        assertTrue(batchTask.addTask(new DistroSyncDeleteTask(new DistroKey("1", TYPE), distroComponentHolder)));
+        assertFalse(batchTask.addTask(new DistroSyncDeleteTask(new DistroKey("2", TYPE), distroComponentHolder)));
+        assertEquals(2, batchTask.pendingTaskCount());
+        batchTask.run();
+        assertEquals(0, batchTask.pendingTaskCount());
+        assertTrue(batchTask.addTask(new DistroSyncDeleteTask(new DistroKey("3", TYPE), distroComponentHolder)));
+    }
+    
+    @Test
+    void testRunWithMaxBytes() {
+        int originalMaxBytes = DistroConfig.getInstance().getSyncBatchMaxBytes();
+        DistroConfig.getInstance().setSyncBatchMaxBytes(250);
+        try {
+            for (int i = 0; i < 5; i++) {
+                batchTask.addTask(new DistroSyncChangeTask(mockKey(String.valueOf(i)), distroComponentHolder));
+            }
+            batchTask.run();
+            ArgumentCaptor<List<DistroData>> captor = ArgumentCaptor.forClass(List.class);
+            verify(transportAgent, times(3)).syncBatchData(captor.capture(), eq(TARGET_SERVER), any());
+            assertEquals(2, captor.getAllValues().get(0).size());
+            assertEquals(2, captor.getAllValues().get(1).size());
+            assertEquals(1, captor.getAllValues().get(2).size());
+        } finally {
+            DistroConfig.getInstance().setSyncBatchMaxBytes(originalMaxBytes);
+        }
+    }
+    
+    @Test
+    void testRunWithSameKey() {
+        DistroKey distroKey = new DistroKey("1", TYPE, TARGET_SERVER);
+        batchTask.addTask(new DistroSyncChangeTask(distroKey, distroComponentHolder));
+        batchTask.addTask(new DistroSyncDeleteTask(distroKey, distroComponentHolder));
+        batchTask.run();
+        ArgumentCaptor<List<DistroData>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transportAgent).syncBatchData(captor.capture(), eq(TARGET_SERVER), any());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(DataOperation.DELETE, captor.getValue().get(0).getType());
+    }
+    
+    @Test
+    void testRunWithFailedData() {
+        DistroKey successKey = mockKey("1");
+        DistroKey failedKey = mockKey("2");
+        doAnswer(invocationOnMock -> {
+            List<DistroData> batchData = invocationOnMock.getArgument(0);
+            DistroBatchCallback callback = invocationOnMock.getArgument(2);
+            callback.onFailed(Collections.singletonList(batchData.get(1)), null);
+            return null;
+        }).when(transportAgent).syncBatchData(any(), eq(TARGET_SERVER), any());
+        batchTask.addTask(new DistroSyncChangeTask(successKey, distroComponentHolder));
+        batchTask.addTask(new DistroSyncChangeTask(failedKey, distroComponentHolder));
+        batchTask.run();
+        verify(failedTaskHandler).retry(failedKey, DataOperation.CHANGE);
+        verify(failedTaskHandler, never()).retry(successKey, DataOperation.CHANGE);
+    }
+    
+    @Test
+    void testRunWithBatchUnsupported() {
+        when(transportAgent.supportCallbackTransport()).thenReturn(true);
+        DistroKey distroKey1 = mockKey("1");
+        DistroKey distroKey2 = mockKey("2");
+        doAnswer(invocationOnMock -> {
+            DistroBatchCallback callback = invocationOnMock.getArgument(2);
+            callback.onBatchUnsupported();
+            return null;
+        }).when(transportAgent).syncBatchData(any(), eq(TARGET_SERVER), any());
+        batchTask.addTask(new DistroSyncChangeTask(distroKey1, distroComponentHolder));
+        batchTask.addTask(new DistroSyncChangeTask(distroKey2, distroComponentHolder));
+        batchTask.run();
+        verify(transportAgent).syncBatchData(any(), eq(TARGET_SERVER), any());
+        verify(transportAgent, times(2)).syncData(any(), eq(TARGET_SERVER), any());
+        verify(failedTaskHandler, never()).retry(any(), any());
+        // sync one by one directly until the backoff expired.
+        batchTask.addTask(new DistroSyncChangeTask(distroKey1, distroComponentHolder));
+        batchTask.run();
+        verify(transportAgent).syncBatchData(any(), eq(TARGET_SERVER), any());
+        verify(transportAgent, times(3)).syncData(any(), eq(TARGET_SERVER), any());
+    }
+    
+    @Test
+    void testRunWithException() {
+        DistroKey distroKey = mockKey("1");
+        doAnswer(invocationOnMock -> {
+            throw new IllegalStateException("test");
+        }).when(transportAgent).syncBatchData(any(), eq(TARGET_SERVER), any());
+        batchTask.addTask(new DistroSyncChangeTask(distroKey, distroComponentHolder));
+        batchTask.run();
+        verify(failedTaskHandler).retry(distroKey, DataOperation.CHANGE);
+    }
+    
+    @Test
+    void testAddTaskIntoEngineInBatch() throws Exception {
+        DistroConfig.getInstance().setSyncBatchEnabled(true);
+        when(transportAgent.supportBatchTransport()).thenReturn(true);
+        DistroExecuteTaskExecuteEngine engine = new DistroExecuteTaskExecuteEngine();
+        try {
+            DistroKey distroKey = mockKey("1");
+            engine.addTask(distroKey, new DistroSyncChangeTask(distroKey, distroComponentHolder));
+            verify(transportAgent, timeout(1000)).syncBatchData(any(), eq(TARGET_SERVER), any());
+            verify(transportAgent, never()).syncData(any(), any(), any());
+        } finally {
+            engine.shutdown();
+        }
+    }
+}
@@ -26,12 +26,15 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -40,9 +43,17 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,8 +107,8 @@ class DistroLoadDataTaskTest {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
-        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
+        lenient().when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        lenient().when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
     
@@ -109,4 +120,45 @@ class DistroLoadDataTaskTest {
         assertTrue(loadCompletedMap.containsKey(type));
         verify(distroTransportAgent).getDatumSnapshot(any(String.class));
     }
+    
+    @Test
+    void testRunByPage() {
+        when(distroConfig.getLoadDataPageSize()).thenReturn(2);
+        when(distroTransportAgent.supportPagedSnapshot()).thenReturn(true);
+        DistroData firstPage = new DistroData(new DistroKey("2", type), new byte[2]);
+        DistroData lastPage = new DistroData(new DistroKey(null, type), new byte[1]);
+        when(distroTransportAgent.getDatumSnapshot("2.2.2.2:8848", null, 2)).thenReturn(firstPage);
+        when(distroTransportAgent.getDatumSnapshot("2.2.2.2:8848", "2", 2)).thenReturn(lastPage);
+        when(distroDataProcessor.processSnapshot(any(DistroData.class))).thenReturn(true);
+        DistroLoadProgress loadProgress = spy(new DistroLoadProgress());
+        distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback,
+                loadProgress);
+        distroLoadDataTask.run();
+        verify(distroDataProcessor).processSnapshot(firstPage);
+        verify(distroDataProcessor).processSnapshot(lastPage);
+        verify(distroTransportAgent, never()).getDatumSnapshot(any(String.class));
+        verify(loadProgress).start(type, "2.2.2.2:8848");
+        assertEquals(2, loadProgress.getLoadedPages());
+        assertEquals(3L, loadProgress.getLoadedBytes());
+        assertFalse(loadProgress.isLoading());
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+    }
+    
+    @Test
+    void testRunByPageFailed() {
+        when(distroConfig.getLoadDataPageSize()).thenReturn(2);
+        when(distroTransportAgent.supportPagedSnapshot()).thenReturn(true);
+        DistroData firstPage = new DistroData(new DistroKey("2", type), new byte[2]);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), eq(null), eq(2))).thenReturn(firstPage);
+        when(distroDataProcessor.processSnapshot(firstPage)).thenReturn(false);
+        try (MockedStatic<GlobalExecutor> mocked = mockStatic(GlobalExecutor.class)) {
+            distroLoadDataTask.run();
+            mocked.verify(() -> GlobalExecutor.submitLoadDataTask(eq(distroLoadDataTask), any(Long.class)));
+        }
+        verify(distroTransportAgent, times(2)).getDatumSnapshot(any(String.class), eq(null), eq(2));
+        verify(distroTransportAgent, never()).getDatumSnapshot(any(String.class), eq("2"), eq(2));
+        verify(distroDataStorage, never()).finishInitial();
+        verify(loadCallback, never()).onSuccess();
+    }
 }
@@ -16,10 +16,14 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+import com.alibaba.nacos.common.ability.AbstractAbilityControlManager;
+import com.alibaba.nacos.common.ability.discover.NacosAbilityManagerHolder;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
@@ -215,4 +219,23 @@ class GrpcConnectionTest {
         Mockito.verify(channel, Mockito.times(1)).close();
         
     }
+    
+    @Test
+    void testIsSupportBinaryPayload() {
+        assertFalse(connection.isSupportBinaryPayload());
+        Map<String, Boolean> abilityTable = new HashMap<>();
+        abilityTable.put(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD.getName(), true);
+        connection.setAbilityTable(abilityTable);
+        AbstractAbilityControlManager abilityControlManager = Mockito.mock(AbstractAbilityControlManager.class);
+        try (MockedStatic<NacosAbilityManagerHolder> holderMockedStatic = Mockito.mockStatic(
+                NacosAbilityManagerHolder.class)) {
+            holderMockedStatic.when(NacosAbilityManagerHolder::getInstance).thenReturn(abilityControlManager);
+            Mockito.when(abilityControlManager.isCurrentNodeAbilityRunning(AbilityKey.SERVER_SUPPORT_BINARY_PAYLOAD))
+                    .thenReturn(AbilityStatus.SUPPORTED);
+            assertTrue(connection.isSupportBinaryPayload());
+            Mockito.when(abilityControlManager.isCurrentNodeAbilityRunning(AbilityKey.SERVER_SUPPORT_BINARY_PAYLOAD))
+                    .thenReturn(AbilityStatus.NOT_SUPPORTED);
+            assertFalse(connection.isSupportBinaryPayload());
+        }
+    }
 }
@@ -19,6 +19,7 @@ package com.alibaba.nacos.naming.cluster;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.distributed.ProtocolManager;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadProgress;
 import com.alibaba.nacos.naming.misc.GlobalConfig;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
@@ -92,6 +93,10 @@ public class ServerStatusManager {
             return Optional.empty();
         }
         if (!distroProtocol.isInitialized()) {
+            DistroLoadProgress loadProgress = distroProtocol.getLoadProgress();
+            if (null != loadProgress && loadProgress.isLoading()) {
+                return Optional.of("Distro is " + loadProgress);
+            }
             return Optional.of(
                     "Distro snapshot load failed, please see logs `protocol-distro.log` or `naming-distro.log` to see details.");
         }
@@ -20,6 +20,8 @@ import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.remote.request.AbstractClusterRequest;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 
+import java.util.List;
+
 /**
  * Distro data request.
  *
@@ -31,6 +33,18 @@ public class DistroDataRequest extends AbstractClusterRequest {
     
     private DataOperation dataOperation;
     
+    /**
+     * Data synced in batch, if not {@code null}, {@link #distroData} is ignored.
+     */
+    private List<DistroData> batchDistroData;
+    
+    /**
+     * Page size of snapshot, if larger than {@code 0}, only snapshot datum after {@link #snapshotCursor} is returned.
+     */
+    private int snapshotPageSize;
+    
+    private String snapshotCursor;
+    
     public DistroDataRequest() {
     }
     
@@ -54,4 +68,28 @@ public class DistroDataRequest extends AbstractClusterRequest {
     public void setDataOperation(DataOperation dataOperation) {
         this.dataOperation = dataOperation;
     }
+    
+    public List<DistroData> getBatchDistroData() {
+        return batchDistroData;
+    }
+    
+    public void setBatchDistroData(List<DistroData> batchDistroData) {
+        this.batchDistroData = batchDistroData;
+    }
+    
+    public int getSnapshotPageSize() {
+        return snapshotPageSize;
+    }
+    
+    public void setSnapshotPageSize(int snapshotPageSize) {
+        this.snapshotPageSize = snapshotPageSize;
+    }
+    
+    public String getSnapshotCursor() {
+        return snapshotCursor;
+    }
+    
+    public void setSnapshotCursor(String snapshotCursor) {
+        this.snapshotCursor = snapshotCursor;
+    }
 }
@@ -18,6 +18,9 @@ package com.alibaba.nacos.naming.cluster.remote.response;
 
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+
+import java.util.List;
 
 /**
  * Distro data response.
@@ -28,6 +31,16 @@ public class DistroDataResponse extends Response {
     
     private DistroData distroData;
     
+    /**
+     * Keys of the data failed to be processed when syncing in batch.
+     */
+    private List<DistroKey> failedDistroKeys;
+    
+    /**
+     * Cursor of next snapshot page, {@code null} means no more page.
+     */
+    private String nextSnapshotCursor;
+    
     public DistroData getDistroData() {
         return distroData;
     }
@@ -35,4 +48,20 @@ public class DistroDataResponse extends Response {
     public void setDistroData(DistroData distroData) {
         this.distroData = distroData;
     }
+    
+    public List<DistroKey> getFailedDistroKeys() {
+        return failedDistroKeys;
+    }
+    
+    public void setFailedDistroKeys(List<DistroKey> failedDistroKeys) {
+        this.failedDistroKeys = failedDistroKeys;
+    }
+    
+    public String getNextSnapshotCursor() {
+        return nextSnapshotCursor;
+    }
+    
+    public void setNextSnapshotCursor(String nextSnapshotCursor) {
+        this.nextSnapshotCursor = nextSnapshotCursor;
+    }
 }
@@ -0,0 +1,511 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster.transport;
+
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.naming.core.v2.client.ClientAttributes;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncData;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncDatumSnapshot;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstanceData;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Compact binary serializer for distro client sync data.
+ *
+ * <p>{@link ClientSyncData} and {@link ClientSyncDatumSnapshot} are written as a versioned binary format when
+ * {@link DistroConfig#isSyncCompactEnabled()}, other data is still serialized by {@link JacksonSerializer}. The
+ * deserialization recognizes both formats, so the cluster can be upgraded before enabling the compact format.
+ *
+ * <p>The format is {@code magic, version, kind} followed by chunks, and ends with an empty chunk. Each chunk contains
+ * at most {@link #CHUNK_SIZE} clients, and is made of a string table and a columnar layout of the clients, services
+ * and instances in the chunk. Namespaces, groups, service names, ips, clusters and metadata are written as varint
+ * references of the string table, so the repeated strings only appear once in each chunk. Chunks are independent of
+ * each other, so the snapshot can be decoded chunk by chunk by {@link #deserializeSnapshot(byte[], Consumer)}.
+ *
+ * @author Nacos
+ */
+@Primary
+@Component
+public class CompactBinarySerializer implements Serializer {
+    
+    /**
+     * Json data never starts with {@code 0}, so the compact data can be recognized by the first byte.
+     */
+    static final int MAGIC = 0;
+    
+    static final int VERSION = 1;
+    
+    static final int KIND_CLIENT = 1;
+    
+    static final int KIND_SNAPSHOT = 2;
+    
+    static final int CHUNK_SIZE = 1024;
+    
+    private static final int HEADER_LENGTH = 3;
+    
+    private static final int TAG_NULL = 0;
+    
+    private static final int TAG_STRING = 1;
+    
+    private static final int TAG_INTEGRAL = 2;
+    
+    private static final int TAG_DOUBLE = 3;
+    
+    private static final int TAG_TRUE = 4;
+    
+    private static final int TAG_FALSE = 5;
+    
+    private static final int TAG_JSON = 6;
+    
+    private final Serializer delegate;
+    
+    public CompactBinarySerializer() {
+        this(new JacksonSerializer());
+    }
+    
+    CompactBinarySerializer(Serializer delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public <T> byte[] serialize(T data) {
+        if (!DistroConfig.getInstance().isSyncCompactEnabled()) {
+            return delegate.serialize(data);
+        }
+        if (data instanceof ClientSyncData) {
+            return serializeCompact(KIND_CLIENT, Collections.singletonList((ClientSyncData) data));
+        }
+        if (data instanceof ClientSyncDatumSnapshot) {
+            return serializeCompact(KIND_SNAPSHOT, ((ClientSyncDatumSnapshot) data).getClientSyncDataList());
+        }
+        return delegate.serialize(data);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(byte[] data, Class<T> clazz) {
+        if (!isCompact(data)) {
+            return delegate.deserialize(data, clazz);
+        }
+        if (ClientSyncData.class.equals(clazz)) {
+            List<ClientSyncData> result = new LinkedList<>();
+            deserializeSnapshot(data, result::add);
+            if (result.size() != 1) {
+                throw new NacosDeserializationException(clazz);
+            }
+            return (T) result.get(0);
+        }
+        if (ClientSyncDatumSnapshot.class.equals(clazz)) {
+            ClientSyncDatumSnapshot result = new ClientSyncDatumSnapshot();
+            deserializeSnapshot(data, result.getClientSyncDataList()::add);
+            return (T) result;
+        }
+        throw new NacosDeserializationException(clazz);
+    }
+    
+    /**
+     * Whether the data is written in compact binary format.
+     *
+     * @param data serialized data
+     * @return {@code true} if data is compact binary format, otherwise {@code false}
+     */
+    public static boolean isCompact(byte[] data) {
+        return null != data && data.length >= HEADER_LENGTH && MAGIC == data[0];
+    }
+    
+    /**
+     * Decode the compact data chunk by chunk, and pass each client sync data to consumer once its chunk decoded.
+     *
+     * <p>Only the clients of one chunk are held in memory at the same time, instead of the whole snapshot.
+     *
+     * @param data     compact binary data of client sync data or snapshot
+     * @param consumer consumer of each decoded client sync data
+     * @throws NacosDeserializationException if data is not compact binary format or is malformed
+     */
+    public static void deserializeSnapshot(byte[] data, Consumer<ClientSyncData> consumer) {
+        if (!isCompact(data)) {
+            throw new NacosDeserializationException(ClientSyncDatumSnapshot.class);
+        }
+        try {
+            CompactDataInput input = new CompactDataInput(data, 1);
+            int version = input.readByte();
+            if (version > VERSION) {
+                throw new IllegalStateException("Unsupported compact data version " + version);
+            }
+            input.readByte();
+            for (int count = input.readVarInt(); count > 0; count = input.readVarInt()) {
+                readChunk(input, count).forEach(consumer);
+            }
+        } catch (IllegalStateException e) {
+            throw new NacosDeserializationException(ClientSyncDatumSnapshot.class, e);
+        }
+    }
+    
+    private static byte[] serializeCompact(int kind, Collection<ClientSyncData> clientSyncDataList) {
+        CompactDataOutput output = new CompactDataOutput();
+        output.writeByte(MAGIC);
+        output.writeByte(VERSION);
+        output.writeByte(kind);
+        List<ClientSyncData> chunk = new ArrayList<>(Math.min(clientSyncDataList.size(), CHUNK_SIZE));
+        Iterator<ClientSyncData> iterator = clientSyncDataList.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() >= CHUNK_SIZE || !iterator.hasNext()) {
+                writeChunk(output, chunk);
+                chunk.clear();
+            }
+        }
+        output.writeVarInt(0);
+        return output.toByteArray();
+    }
+    
+    private static void writeChunk(CompactDataOutput output, List<ClientSyncData> chunk) {
+        CompactDataOutput columns = new CompactDataOutput(chunk.size() << 6);
+        List<InstancePublishInfo> instances = new ArrayList<>();
+        List<BatchInstanceData> batches = new ArrayList<>(chunk.size());
+        for (ClientSyncData each : chunk) {
+            columns.writeStringRef(each.getClientId());
+        }
+        for (ClientSyncData each : chunk) {
+            writeMap(columns, null == each.getAttributes() ? null : each.getAttributes().getClientAttributes());
+        }
+        for (ClientSyncData each : chunk) {
+            writeSize(columns, each.getInstancePublishInfos());
+            if (null != each.getInstancePublishInfos()) {
+                instances.addAll(each.getInstancePublishInfos());
+            }
+        }
+        for (ClientSyncData each : chunk) {
+            BatchInstanceData batchInstanceData = each.getBatchInstanceData();
+            writeSize(columns, null == batchInstanceData ? null : batchInstanceData.getBatchInstancePublishInfos());
+            columns.writeVarInt(null == batchInstanceData ? 0 : 1);
+            if (null != batchInstanceData && null != batchInstanceData.getBatchInstancePublishInfos()) {
+                batches.add(batchInstanceData);
+            }
+        }
+        for (ClientSyncData each : chunk) {
+            writeStringRefs(columns, each.getNamespaces(), each.getInstancePublishInfos());
+        }
+        for (ClientSyncData each : chunk) {
+            writeStringRefs(columns, each.getGroupNames(), each.getInstancePublishInfos());
+        }
+        for (ClientSyncData each : chunk) {
+            writeStringRefs(columns, each.getServiceNames(), each.getInstancePublishInfos());
+        }
+        for (BatchInstanceData each : batches) {
+            writeStringRefs(columns, each.getNamespaces(), each.getBatchInstancePublishInfos());
+        }
+        for (BatchInstanceData each : batches) {
+            writeStringRefs(columns, each.getGroupNames(), each.getBatchInstancePublishInfos());
+        }
+        for (BatchInstanceData each : batches) {
+            writeStringRefs(columns, each.getServiceNames(), each.getBatchInstancePublishInfos());
+        }
+        for (BatchInstanceData each : batches) {
+            for (BatchInstancePublishInfo batchInstance : each.getBatchInstancePublishInfos()) {
+                List<InstancePublishInfo> subInstances = null == batchInstance ? null
+                        : batchInstance.getInstancePublishInfos();
+                columns.writeVarInt(null == batchInstance ? 0 : 1);
+                writeSize(columns, subInstances);
+                if (null != subInstances) {
+                    instances.addAll(subInstances);
+                }
+            }
+        }
+        writeInstances(columns, instances);
+        output.writeVarInt(chunk.size());
+        columns.writeStringTable(output);
+        columns.writeTo(output);
+    }
+    
+    private static void writeInstances(CompactDataOutput columns, List<InstancePublishInfo> instances) {
+        for (InstancePublishInfo each : instances) {
+            columns.writeStringRef(each.getIp());
+        }
+        for (InstancePublishInfo each : instances) {
+            columns.writeVarInt(each.getPort());
+        }
+        int healthyBits = 0;
+        for (int i = 0; i < instances.size(); i++) {
+            if (instances.get(i).isHealthy()) {
+                healthyBits |= 1 << (i & 7);
+            }
+            if ((i & 7) == 7 || i == instances.size() - 1) {
+                columns.writeByte(healthyBits);
+                healthyBits = 0;
+            }
+        }
+        for (InstancePublishInfo each : instances) {
+            columns.writeStringRef(each.getCluster());
+        }
+        for (InstancePublishInfo each : instances) {
+            writeMap(columns, each.getExtendDatum());
+        }
+    }
+    
+    /**
+     * Write the size of collection, {@code 0} means {@code null}.
+     */
+    private static void writeSize(CompactDataOutput output, Collection<?> collection) {
+        output.writeVarInt(null == collection ? 0 : collection.size() + 1);
+    }
+    
+    /**
+     * Write the string list which is paired with instance list, its size is the same as the instance list.
+     */
+    private static void writeStringRefs(CompactDataOutput output, List<String> values, List<?> instances) {
+        if (null == instances) {
+            return;
+        }
+        Iterator<String> iterator = null == values ? Collections.emptyIterator() : values.iterator();
+        for (int i = 0; i < instances.size(); i++) {
+            output.writeStringRef(iterator.hasNext() ? iterator.next() : null);
+        }
+    }
+    
+    private static void writeMap(CompactDataOutput output, Map<String, Object> map) {
+        writeSize(output, null == map ? null : map.keySet());
+        if (null == map) {
+            return;
+        }
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            output.writeStringRef(entry.getKey());
+            writeValue(output, entry.getValue());
+        }
+    }
+    
+    private static void writeValue(CompactDataOutput output, Object value) {
+        if (null == value) {
+            output.writeByte(TAG_NULL);
+        } else if (value instanceof String) {
+            output.writeByte(TAG_STRING);
+            output.writeStringRef((String) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte) {
+            output.writeByte(TAG_INTEGRAL);
+            output.writeZigZagLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            output.writeByte(TAG_DOUBLE);
+            output.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            output.writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else {
+            byte[] json = JacksonUtils.toJsonBytes(value);
+            output.writeByte(TAG_JSON);
+            output.writeVarInt(json.length);
+            output.writeBytes(json, 0, json.length);
+        }
+    }
+    
+    private static List<ClientSyncData> readChunk(CompactDataInput input, int count) {
+        input.readStringTable();
+        List<ClientSyncData> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ClientSyncData clientSyncData = new ClientSyncData();
+            clientSyncData.setClientId(input.readStringRef());
+            result.add(clientSyncData);
+        }
+        for (ClientSyncData each : result) {
+            Map<String, Object> attributes = readMap(input);
+            if (null != attributes) {
+                each.setAttributes(new ClientAttributes());
+                each.getAttributes().setClientAttributes(attributes);
+            }
+        }
+        int[] instanceSizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            instanceSizes[i] = input.readVarInt();
+        }
+        int[] batchSizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            batchSizes[i] = input.readVarInt();
+            if (0 != input.readVarInt()) {
+                result.get(i).setBatchInstanceData(new BatchInstanceData());
+            }
+        }
+        List<InstancePublishInfo> instances = new ArrayList<>();
+        readServices(input, result, instanceSizes, instances);
+        readBatchServices(input, result, batchSizes, instances);
+        readInstances(input, instances);
+        return result;
+    }
+    
+    private static void readServices(CompactDataInput input, List<ClientSyncData> result, int[] sizes,
+            List<InstancePublishInfo> instances) {
+        for (int i = 0; i < result.size(); i++) {
+            result.get(i).setNamespaces(readStringRefs(input, sizes[i]));
+        }
+        for (int i = 0; i < result.size(); i++) {
+            result.get(i).setGroupNames(readStringRefs(input, sizes[i]));
+        }
+        for (int i = 0; i < result.size(); i++) {
+            result.get(i).setServiceNames(readStringRefs(input, sizes[i]));
+            List<InstancePublishInfo> clientInstances = newList(sizes[i]);
+            for (int j = 1; j < sizes[i]; j++) {
+                InstancePublishInfo instance = new InstancePublishInfo();
+                clientInstances.add(instance);
+                instances.add(instance);
+            }
+            result.get(i).setInstancePublishInfos(clientInstances);
+        }
+    }
+    
+    private static void readBatchServices(CompactDataInput input, List<ClientSyncData> result, int[] sizes,
+            List<InstancePublishInfo> instances) {
+        List<BatchInstanceData> batches = new ArrayList<>(result.size());
+        List<Integer> batchSizes = new ArrayList<>(result.size());
+        for (int i = 0; i < result.size(); i++) {
+            BatchInstanceData batchInstanceData = result.get(i).getBatchInstanceData();
+            if (null != batchInstanceData && 0 != sizes[i]) {
+                batches.add(batchInstanceData);
+                batchSizes.add(sizes[i]);
+            }
+        }
+        for (int i = 0; i < batches.size(); i++) {
+            batches.get(i).setNamespaces(readStringRefs(input, batchSizes.get(i)));
+        }
+        for (int i = 0; i < batches.size(); i++) {
+            batches.get(i).setGroupNames(readStringRefs(input, batchSizes.get(i)));
+        }
+        for (int i = 0; i < batches.size(); i++) {
+            batches.get(i).setServiceNames(readStringRefs(input, batchSizes.get(i)));
+        }
+        for (int i = 0; i < batches.size(); i++) {
+            List<BatchInstancePublishInfo> batchInstances = new ArrayList<>(batchSizes.get(i) - 1);
+            for (int j = 1; j < batchSizes.get(i); j++) {
+                batchInstances.add(readBatchInstance(input, instances));
+            }
+            batches.get(i).setBatchInstancePublishInfos(batchInstances);
+        }
+    }
+    
+    private static BatchInstancePublishInfo readBatchInstance(CompactDataInput input,
+            List<InstancePublishInfo> instances) {
+        boolean present = 0 != input.readVarInt();
+        int size = input.readVarInt();
+        List<InstancePublishInfo> subInstances = newList(size);
+        for (int i = 1; i < size; i++) {
+            InstancePublishInfo instance = new InstancePublishInfo();
+            subInstances.add(instance);
+            instances.add(instance);
+        }
+        if (!present) {
+            return null;
+        }
+        BatchInstancePublishInfo result = new BatchInstancePublishInfo();
+        result.setInstancePublishInfos(subInstances);
+        return result;
+    }
+    
+    private static void readInstances(CompactDataInput input, List<InstancePublishInfo> instances) {
+        for (InstancePublishInfo each : instances) {
+            each.setIp(input.readStringRef());
+        }
+        for (InstancePublishInfo each : instances) {
+            each.setPort(input.readVarInt());
+        }
+        int healthyBits = 0;
+        for (int i = 0; i < instances.size(); i++) {
+            if ((i & 7) == 0) {
+                healthyBits = input.readByte();
+            }
+            instances.get(i).setHealthy((healthyBits & (1 << (i & 7))) != 0);
+        }
+        for (InstancePublishInfo each : instances) {
+            each.setCluster(input.readStringRef());
+        }
+        for (InstancePublishInfo each : instances) {
+            each.setExtendDatum(readMap(input));
+        }
+    }
+    
+    /**
+     * Create list by the size written by {@link #writeSize(CompactDataOutput, Collection)}.
+     */
+    private static <T> List<T> newList(int size) {
+        return 0 == size ? null : new ArrayList<>(size - 1);
+    }
+    
+    private static List<String> readStringRefs(CompactDataInput input, int size) {
+        List<String> result = newList(size);
+        for (int i = 1; i < size; i++) {
+            result.add(input.readStringRef());
+        }
+        return result;
+    }
+    
+    private static Map<String, Object> readMap(CompactDataInput input) {
+        int size = input.readVarInt();
+        if (0 == size) {
+            return null;
+        }
+        Map<String, Object> result = new HashMap<>(size);
+        for (int i = 1; i < size; i++) {
+            String key = input.readStringRef();
+            result.put(key, readValue(input));
+        }
+        return result;
+    }
+    
+    /**
+     * Read value with the same type as {@link JacksonSerializer}, such as the integral value is {@link Integer} if
+     * it is in the range of int, otherwise {@link Long}.
+     */
+    private static Object readValue(CompactDataInput input) {
+        int tag = input.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return input.readStringRef();
+            case TAG_INTEGRAL:
+                return toIntegral(input.readZigZagLong());
+            case TAG_DOUBLE:
+                return input.readDouble();
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_JSON:
+                return JacksonUtils.toObj(input.readBytes(), Object.class);
+            default:
+                throw new IllegalStateException("Unknown value tag " + tag);
+        }
+    }
+    
+    private static Object toIntegral(long value) {
+        if (value == (int) value) {
+            return (int) value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster.transport;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reader of the bytes written by {@link CompactDataOutput}.
+ *
+ * @author Nacos
+ */
+class CompactDataInput {
+    
+    private static final int MAX_VARINT_SHIFT = 63;
+    
+    private static final int VARINT_BITS = 7;
+    
+    private final byte[] data;
+    
+    private int position;
+    
+    private String[] strings = new String[0];
+    
+    CompactDataInput(byte[] data, int position) {
+        this.data = data;
+        this.position = position;
+    }
+    
+    int readByte() {
+        checkRemaining(1);
+        return data[position++] & 0xFF;
+    }
+    
+    int readVarInt() {
+        long result = readVarLong();
+        if (result > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Varint overflow at position " + position);
+        }
+        return (int) result;
+    }
+    
+    long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += VARINT_BITS) {
+            int current = readByte();
+            result |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("Malformed varint at position " + position);
+    }
+    
+    long readZigZagLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+    
+    double readDouble() {
+        checkRemaining(Long.BYTES);
+        long bits = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            bits |= (long) (data[position++] & 0xFF) << (i * 8);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+    
+    byte[] readBytes() {
+        int length = readVarInt();
+        checkRemaining(length);
+        byte[] result = new byte[length];
+        System.arraycopy(data, position, result, 0, length);
+        position += length;
+        return result;
+    }
+    
+    String readUtf8() {
+        int length = readVarInt();
+        checkRemaining(length);
+        String result = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return result;
+    }
+    
+    /**
+     * Read the string table of current chunk, replace the string table of previous chunk.
+     */
+    void readStringTable() {
+        int count = readVarInt();
+        checkRemaining(count);
+        strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            strings[i] = readUtf8();
+        }
+    }
+    
+    String readStringRef() {
+        int index = readVarInt();
+        if (0 == index) {
+            return null;
+        }
+        if (index > strings.length) {
+            throw new IllegalStateException("Unknown string reference " + index + " at position " + position);
+        }
+        return strings[index - 1];
+    }
+    
+    private void checkRemaining(int length) {
+        if (length < 0 || length > data.length - position) {
+            throw new IllegalStateException("Unexpected end of data at position " + position);
+        }
+    }
+}
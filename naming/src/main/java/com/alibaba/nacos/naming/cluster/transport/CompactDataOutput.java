@@ -0,0 +1,147 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster.transport;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Growable byte buffer with varint encoding and string table for {@link CompactBinarySerializer}.
+ *
+ * @author Nacos
+ */
+class CompactDataOutput {
+    
+    private static final int DEFAULT_CAPACITY = 256;
+    
+    private static final long VARINT_MASK = 0x7FL;
+    
+    private byte[] buffer;
+    
+    private int size;
+    
+    private final Map<String, Integer> stringIndexes = new HashMap<>(DEFAULT_CAPACITY);
+    
+    private final List<String> strings = new LinkedList<>();
+    
+    CompactDataOutput() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    CompactDataOutput(int capacity) {
+        this.buffer = new byte[Math.max(capacity, DEFAULT_CAPACITY)];
+    }
+    
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+    
+    void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+    
+    /**
+     * Write an unsigned varint, 7 bits per byte with the highest bit as continuation flag.
+     */
+    void writeVarInt(int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+    
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~VARINT_MASK) != 0) {
+            buffer[size++] = (byte) ((value & VARINT_MASK) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+    
+    /**
+     * Write a signed long with zigzag encoding, so small negative numbers are short too.
+     */
+    void writeZigZagLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+    
+    void writeDouble(double value) {
+        long bits = Double.doubleToLongBits(value);
+        ensureCapacity(Long.BYTES);
+        for (int i = 0; i < Long.BYTES; i++) {
+            buffer[size++] = (byte) (bits >>> (i * 8));
+        }
+    }
+    
+    void writeUtf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+    
+    /**
+     * Write the reference of string in string table, {@code 0} means {@code null}.
+     */
+    void writeStringRef(String value) {
+        if (null == value) {
+            writeVarInt(0);
+            return;
+        }
+        Integer index = stringIndexes.get(value);
+        if (null == index) {
+            index = strings.size() + 1;
+            stringIndexes.put(value, index);
+            strings.add(value);
+        }
+        writeVarInt(index);
+    }
+    
+    /**
+     * Write the strings referenced by {@link #writeStringRef(String)} with order of reference.
+     *
+     * @param target target output
+     */
+    void writeStringTable(CompactDataOutput target) {
+        target.writeVarInt(strings.size());
+        for (String each : strings) {
+            target.writeUtf8(each);
+        }
+    }
+    
+    void writeTo(CompactDataOutput target) {
+        target.writeBytes(buffer, 0, size);
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+    
+    private void ensureCapacity(int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + length));
+        }
+    }
+}
@@ -20,11 +20,13 @@ import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.naming.cluster.transport.CompactBinarySerializer;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -45,10 +47,17 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Distro processor for v2.
@@ -59,12 +68,27 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     public static final String TYPE = "Nacos:Naming:v2:ClientData";
     
+    public static final String VERIFY_DIGEST_KEY = "Nacos:Naming:v2:ClientVerifyDigest";
+    
+    /**
+     * The sorted client ids for paged snapshot are rebuilt after expired, in case of no first page is requested.
+     */
+    private static final long SNAPSHOT_CLIENT_IDS_EXPIRE_MILLIS = 60000L;
+    
     private final ClientManager clientManager;
     
     private final DistroProtocol distroProtocol;
     
     private volatile boolean isFinishInitial;
     
+    /**
+     * The source server of clients synced from other servers, which is recorded by verify data. It is used to compute
+     * the digest of clients for each source server.
+     */
+    private final ConcurrentMap<String, String> clientSources = new ConcurrentHashMap<>(1024);
+    
+    private volatile SnapshotClientIds snapshotClientIds;
+    
     public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
         this.clientManager = clientManager;
         this.distroProtocol = distroProtocol;
@@ -87,6 +111,7 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         result.add(ClientEvent.ClientChangedEvent.class);
         result.add(ClientEvent.ClientDisconnectEvent.class);
         result.add(ClientEvent.ClientVerifyFailedEvent.class);
+        result.add(ClientEvent.ClientVerifyDigestFailedEvent.class);
         return result;
     }
     
@@ -95,8 +120,13 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         if (EnvUtil.getStandaloneMode()) {
             return;
         }
+        if (event instanceof ClientEvent.ClientDisconnectEvent && null != ((ClientEvent) event).getClient()) {
+            clientSources.remove(((ClientEvent) event).getClient().getClientId());
+        }
         if (event instanceof ClientEvent.ClientVerifyFailedEvent) {
             syncToVerifyFailedServer((ClientEvent.ClientVerifyFailedEvent) event);
+        } else if (event instanceof ClientEvent.ClientVerifyDigestFailedEvent) {
+            verifyToDigestFailedServer((ClientEvent.ClientVerifyDigestFailedEvent) event);
         } else {
             syncToAllServer((ClientEvent) event);
         }
@@ -112,6 +142,32 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         distroProtocol.syncToTarget(distroKey, DataOperation.ADD, event.getTargetServer(), 0L);
     }
     
+    /**
+     * Verify the clients in different leaves of hash tree to target server in detail. If target server does not support
+     * verify digest, verify all responsible clients.
+     */
+    private void verifyToDigestFailedServer(ClientEvent.ClientVerifyDigestFailedEvent event) {
+        List<Client> responsibleClients = getResponsibleClients();
+        List<DistroData> verifyData;
+        if (null == event.getTargetDigest()) {
+            verifyData = buildVerifyData(responsibleClients, null, null);
+        } else {
+            DistroClientVerifyDigest targetDigest = ApplicationUtils.getBean(Serializer.class)
+                    .deserialize(event.getTargetDigest(), DistroClientVerifyDigest.class);
+            if (!DistroClientHashTree.isValidDigest(targetDigest)) {
+                return;
+            }
+            DistroClientHashTree hashTree = buildHashTree(responsibleClients, targetDigest.getLeaves().length);
+            BitSet differentLeaves = hashTree.getDifferentLeaves(targetDigest);
+            Loggers.DISTRO.info("[DISTRO-VERIFY-DIGEST] {} leaves of {} are different with {}",
+                    differentLeaves.cardinality(), hashTree.getLeafCount(), event.getTargetServer());
+            verifyData = buildVerifyData(responsibleClients, hashTree, differentLeaves);
+        }
+        if (null != verifyData) {
+            distroProtocol.verifyToTarget(TYPE, verifyData, event.getTargetServer());
+        }
+    }
+    
     private void syncToAllServer(ClientEvent event) {
         Client client = event.getClient();
         if (isInvalidClient(client)) {
@@ -227,6 +283,7 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     public boolean processVerifyData(DistroData distroData, String sourceAddress) {
         DistroClientVerifyInfo verifyData = ApplicationUtils.getBean(Serializer.class)
                 .deserialize(distroData.getContent(), DistroClientVerifyInfo.class);
+        clientSources.put(verifyData.getClientId(), getSourceServer(distroData, sourceAddress));
         if (clientManager.verifyClient(verifyData)) {
             return true;
         }
@@ -234,8 +291,71 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         return false;
     }
     
+    /**
+     * Whether the distro data is verify digest.
+     *
+     * @param distroData distro data
+     * @return {@code true} if the distro data is verify digest of clients
+     */
+    public static boolean isVerifyDigest(DistroData distroData) {
+        return null != distroData && null != distroData.getDistroKey() && VERIFY_DIGEST_KEY
+                .equals(distroData.getDistroKey().getResourceKey());
+    }
+    
+    /**
+     * Renew the clients from source server in the same leaves of hash tree, other clients will be verified by source
+     * server in detail later.
+     */
+    @Override
+    public DistroData processVerifyDigest(DistroData distroData, String sourceAddress) {
+        DistroClientVerifyDigest sourceDigest = ApplicationUtils.getBean(Serializer.class)
+                .deserialize(distroData.getContent(), DistroClientVerifyDigest.class);
+        if (!DistroClientHashTree.isValidDigest(sourceDigest)) {
+            return null;
+        }
+        String sourceServer = getSourceServer(distroData, sourceAddress);
+        List<Client> clients = getClientsFromSource(sourceServer);
+        DistroClientHashTree hashTree = buildHashTree(clients, sourceDigest.getLeaves().length);
+        BitSet differentLeaves = hashTree.getDifferentLeaves(sourceDigest);
+        for (Client each : clients) {
+            if (!differentLeaves.get(hashTree.leafOf(each.getClientId()))) {
+                clientManager.verifyClient(new DistroClientVerifyInfo(each.getClientId(), each.getRevision()));
+            }
+        }
+        byte[] result = differentLeaves.isEmpty() ? new byte[0]
+                : ApplicationUtils.getBean(Serializer.class).serialize(hashTree.toDigest());
+        DistroData localDigest = new DistroData(distroData.getDistroKey(), result);
+        localDigest.setType(DataOperation.VERIFY);
+        return localDigest;
+    }
+    
+    private String getSourceServer(DistroData distroData, String sourceAddress) {
+        String targetServer = distroData.getDistroKey().getTargetServer();
+        return null == targetServer ? sourceAddress : targetServer;
+    }
+    
+    private List<Client> getClientsFromSource(String sourceServer) {
+        List<Client> result = new LinkedList<>();
+        for (Map.Entry<String, String> entry : clientSources.entrySet()) {
+            if (!sourceServer.equals(entry.getValue())) {
+                continue;
+            }
+            Client client = clientManager.getClient(entry.getKey());
+            if (null == client) {
+                clientSources.remove(entry.getKey(), sourceServer);
+            } else if (client.isEphemeral() && !clientManager.isResponsibleClient(client)) {
+                result.add(client);
+            }
+        }
+        return result;
+    }
+    
     @Override
     public boolean processSnapshot(DistroData distroData) {
+        if (CompactBinarySerializer.isCompact(distroData.getContent())) {
+            CompactBinarySerializer.deserializeSnapshot(distroData.getContent(), this::handlerClientSyncData);
+            return true;
+        }
         ClientSyncDatumSnapshot snapshot = ApplicationUtils.getBean(Serializer.class)
                 .deserialize(distroData.getContent(), ClientSyncDatumSnapshot.class);
         for (ClientSyncData each : snapshot.getClientSyncDataList()) {
@@ -270,27 +390,136 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), data);
     }
     
+    /**
+     * Get the snapshot of clients whose id is after the cursor in dictionary order.
+     *
+     * <p>The page is selected by client id instead of position, so the clients added or removed during loading do
+     * not shift the following pages. The changes of clients during loading are synced by distro sync and verify.
+     *
+     * <p>The client ids are sorted once when the first page is requested, the following pages seek the cursor in the
+     * sorted ids instead of scanning and sorting all the clients again.
+     */
+    @Override
+    public DistroData getDatumSnapshot(String cursor, int pageSize) {
+        String[] sortedClientIds = getSnapshotClientIds(null == cursor);
+        int index = 0;
+        if (null != cursor) {
+            int position = Arrays.binarySearch(sortedClientIds, cursor);
+            index = position >= 0 ? position + 1 : -position - 1;
+        }
+        List<ClientSyncData> datum = new LinkedList<>();
+        while (index < sortedClientIds.length && datum.size() < pageSize) {
+            Client client = clientManager.getClient(sortedClientIds[index++]);
+            if (null != client && client.isEphemeral()) {
+                datum.add(client.generateSyncData());
+            }
+        }
+        ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
+        snapshot.setClientSyncDataList(datum);
+        byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
+        String nextCursor = index < sortedClientIds.length ? sortedClientIds[index - 1] : null;
+        DistroData result = new DistroData(new DistroKey(nextCursor, TYPE), data);
+        result.setType(DataOperation.SNAPSHOT);
+        return result;
+    }
+    
+    private String[] getSnapshotClientIds(boolean firstPage) {
+        SnapshotClientIds current = snapshotClientIds;
+        if (!firstPage && null != current && !current.isExpired()) {
+            return current.clientIds;
+        }
+        List<String> clientIds = new ArrayList<>();
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (null != client && client.isEphemeral()) {
+                clientIds.add(each);
+            }
+        }
+        String[] sorted = clientIds.toArray(new String[0]);
+        Arrays.sort(sorted);
+        snapshotClientIds = new SnapshotClientIds(sorted);
+        return sorted;
+    }
+    
     @Override
     public List<DistroData> getVerifyData() {
-        List<DistroData> result = null;
+        List<Client> responsibleClients = getResponsibleClients();
+        if (responsibleClients.isEmpty()) {
+            return null;
+        }
+        if (!DistroConfig.getInstance().isVerifyDigestEnabled()) {
+            return buildVerifyData(responsibleClients, null, null);
+        }
+        DistroClientHashTree hashTree = buildHashTree(responsibleClients,
+                DistroClientHashTree.forClientCount(responsibleClients.size()).getLeafCount());
+        DistroKey distroKey = new DistroKey(VERIFY_DIGEST_KEY, TYPE);
+        DistroData data = new DistroData(distroKey,
+                ApplicationUtils.getBean(Serializer.class).serialize(hashTree.toDigest()));
+        data.setType(DataOperation.VERIFY);
+        return Collections.singletonList(data);
+    }
+    
+    private List<Client> getResponsibleClients() {
+        List<Client> result = new LinkedList<>();
         for (String each : clientManager.allClientId()) {
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
             }
             if (clientManager.isResponsibleClient(client)) {
-                DistroClientVerifyInfo verifyData = new DistroClientVerifyInfo(client.getClientId(),
-                        client.getRevision());
-                DistroKey distroKey = new DistroKey(client.getClientId(), TYPE);
-                DistroData data = new DistroData(distroKey,
-                        ApplicationUtils.getBean(Serializer.class).serialize(verifyData));
-                data.setType(DataOperation.VERIFY);
-                if (result == null) {
-                    result = new LinkedList<>();
-                }
-                result.add(data);
+                result.add(client);
             }
         }
         return result;
     }
+    
+    private DistroClientHashTree buildHashTree(List<Client> clients, int leafCount) {
+        DistroClientHashTree result = new DistroClientHashTree(leafCount);
+        for (Client each : clients) {
+            result.add(each.getClientId(), each.getRevision());
+        }
+        return result;
+    }
+    
+    /**
+     * Build verify data for clients, if leaves is not {@code null}, only build for the clients in these leaves.
+     */
+    private List<DistroData> buildVerifyData(List<Client> clients, DistroClientHashTree hashTree, BitSet leaves) {
+        List<DistroData> result = null;
+        for (Client each : clients) {
+            if (null != leaves && !leaves.get(hashTree.leafOf(each.getClientId()))) {
+                continue;
+            }
+            DistroClientVerifyInfo verifyData = new DistroClientVerifyInfo(each.getClientId(), each.getRevision());
+            DistroKey distroKey = new DistroKey(each.getClientId(), TYPE);
+            DistroData data = new DistroData(distroKey,
+                    ApplicationUtils.getBean(Serializer.class).serialize(verifyData));
+            data.setType(DataOperation.VERIFY);
+            if (result == null) {
+                result = new LinkedList<>();
+            }
+            result.add(data);
+        }
+        return result;
+    }
+    
+    /**
+     * The sorted client ids of one paged snapshot. The cursor is a client id, so the pages can be sought in the ids
+     * sorted by another snapshot.
+     */
+    private static class SnapshotClientIds {
+        
+        private final String[] clientIds;
+        
+        private final long createTime;
+        
+        private SnapshotClientIds(String[] clientIds) {
+            this.clientIds = clientIds;
+            this.createTime = System.currentTimeMillis();
+        }
+        
+        private boolean isExpired() {
+            return System.currentTimeMillis() - createTime > SNAPSHOT_CLIENT_IDS_EXPIRE_MILLIS;
+        }
+    }
 }
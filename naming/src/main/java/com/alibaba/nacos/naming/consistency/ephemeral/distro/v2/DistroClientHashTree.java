@@ -0,0 +1,144 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.util.BitSet;
+
+/**
+ * Hash tree of clients' revisions, which is used to find out the different clients between servers.
+ *
+ * <p>Clients are hashed into leaves by client id. The hash of each leaf is the sum of the hashes of client id and
+ * revision in it, so that it does not depend on the order of clients. The root is the hash of all leaves, servers only
+ * need to compare leaves when roots are different.
+ *
+ * @author Nacos
+ */
+class DistroClientHashTree {
+    
+    static final int CLIENTS_PER_LEAF = 32;
+    
+    static final int MAX_LEAF_COUNT = 1 << 16;
+    
+    private final long[] leaves;
+    
+    DistroClientHashTree(int leafCount) {
+        this.leaves = new long[leafCount];
+    }
+    
+    /**
+     * Create hash tree with enough leaves for clients.
+     *
+     * @param clientCount count of clients
+     * @return empty hash tree
+     */
+    static DistroClientHashTree forClientCount(int clientCount) {
+        int leafCount = 1;
+        while (leafCount < MAX_LEAF_COUNT && (long) leafCount * CLIENTS_PER_LEAF < clientCount) {
+            leafCount <<= 1;
+        }
+        return new DistroClientHashTree(leafCount);
+    }
+    
+    /**
+     * Whether the leaves of digest can build a hash tree.
+     *
+     * @param digest verify digest
+     * @return {@code true} if count of leaves is power of two and not more than {@link #MAX_LEAF_COUNT}
+     */
+    static boolean isValidDigest(DistroClientVerifyDigest digest) {
+        if (null == digest || null == digest.getLeaves()) {
+            return false;
+        }
+        int leafCount = digest.getLeaves().length;
+        return leafCount > 0 && leafCount <= MAX_LEAF_COUNT && (leafCount & (leafCount - 1)) == 0;
+    }
+    
+    /**
+     * Add client into hash tree.
+     *
+     * @param clientId client id
+     * @param revision revision of client
+     */
+    void add(String clientId, long revision) {
+        long clientHash = mix(clientId.hashCode());
+        leaves[leafOf(clientHash)] += mix(clientHash + revision);
+    }
+    
+    /**
+     * Get the leaf index of client.
+     *
+     * @param clientId client id
+     * @return leaf index
+     */
+    int leafOf(String clientId) {
+        return leafOf(mix(clientId.hashCode()));
+    }
+    
+    private int leafOf(long clientHash) {
+        return (int) (clientHash >>> Integer.SIZE) & (leaves.length - 1);
+    }
+    
+    long getRoot() {
+        long result = leaves.length;
+        for (long each : leaves) {
+            result = mix(result * 31 + each);
+        }
+        return result;
+    }
+    
+    int getLeafCount() {
+        return leaves.length;
+    }
+    
+    /**
+     * Find out the leaves which are different with target digest.
+     *
+     * @param targetDigest digest of target server
+     * @return indexes of different leaves
+     */
+    BitSet getDifferentLeaves(DistroClientVerifyDigest targetDigest) {
+        BitSet result = new BitSet(leaves.length);
+        if (targetDigest.getRoot() == getRoot()) {
+            return result;
+        }
+        long[] targetLeaves = targetDigest.getLeaves();
+        boolean comparable = null != targetLeaves && targetLeaves.length == leaves.length;
+        for (int i = 0; i < leaves.length; i++) {
+            if (!comparable || targetLeaves[i] != leaves[i]) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+    
+    DistroClientVerifyDigest toDigest() {
+        return new DistroClientVerifyDigest(getRoot(), leaves.clone());
+    }
+    
+    /**
+     * Finalization mix of murmur3, spread the bits of input.
+     */
+    private static long mix(long hash) {
+        long result = hash;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+}
@@ -27,6 +27,7 @@ import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroBatchCallback;
 import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
@@ -39,6 +40,10 @@ import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.monitor.NamingTpsMonitor;
 
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executor;
 
 /**
@@ -107,6 +112,35 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public boolean supportBatchTransport() {
+        return true;
+    }
+    
+    @Override
+    public void syncBatchData(List<DistroData> batchData, String targetServer, DistroBatchCallback callback) {
+        if (isNoExistTarget(targetServer)) {
+            callback.onSuccess();
+            return;
+        }
+        DistroDataRequest request = new DistroDataRequest();
+        request.setDataOperation(DataOperation.CHANGE);
+        request.setBatchDistroData(batchData);
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            Loggers.DISTRO.warn("[DISTRO] Cancel distro sync caused by target server {} unhealthy, batch size: {}",
+                    targetServer, batchData.size());
+            callback.onFailed(batchData, null);
+            return;
+        }
+        try {
+            clusterRpcClientProxy
+                    .asyncRequest(member, request, new DistroBatchRpcCallbackWrapper(batchData, callback, member));
+        } catch (NacosException nacosException) {
+            callback.onFailed(batchData, nacosException);
+        }
+    }
+    
     @Override
     public boolean syncVerifyData(DistroData verifyData, String targetServer) {
         if (isNoExistTarget(targetServer)) {
@@ -146,9 +180,13 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
             callback.onFailed(null);
             return;
         }
+        // replace target server as self server so that target server can know the source of clients.
+        verifyData.getDistroKey().setTargetServer(memberManager.getSelf().getAddress());
         try {
-            DistroVerifyCallbackWrapper wrapper = new DistroVerifyCallbackWrapper(targetServer,
-                    verifyData.getDistroKey().getResourceKey(), callback, member);
+            RequestCallBack<Response> wrapper = DistroClientDataProcessor.isVerifyDigest(verifyData)
+                    ? new DistroVerifyDigestCallbackWrapper(targetServer, callback, member)
+                    : new DistroVerifyCallbackWrapper(targetServer, verifyData.getDistroKey().getResourceKey(),
+                            callback, member);
             clusterRpcClientProxy.asyncRequest(member, request, wrapper);
         } catch (NacosException nacosException) {
             callback.onFailed(nacosException);
@@ -182,6 +220,11 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public boolean supportPagedSnapshot() {
+        return true;
+    }
+    
     @Override
     public DistroData getDatumSnapshot(String targetServer) {
         Member member = memberManager.find(targetServer);
@@ -206,6 +249,37 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public DistroData getDatumSnapshot(String targetServer, String cursor, int pageSize) {
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            throw new DistroException(
+                    String.format("[DISTRO] Cancel get snapshot caused by target server %s unhealthy", targetServer));
+        }
+        DistroDataRequest request = new DistroDataRequest();
+        request.setDataOperation(DataOperation.SNAPSHOT);
+        request.setSnapshotCursor(cursor);
+        request.setSnapshotPageSize(pageSize);
+        try {
+            Response response = clusterRpcClientProxy
+                    .sendRequest(member, request, DistroConfig.getInstance().getLoadDataTimeoutMillis());
+            if (!checkResponse(response)) {
+                throw new DistroException(
+                        String.format("[DISTRO-FAILED] Get snapshot page request to %s failed, code: %d, message: %s",
+                                targetServer, response.getErrorCode(), response.getMessage()));
+            }
+            // The server without paged snapshot ability returns all snapshot and no next cursor.
+            DistroDataResponse distroDataResponse = (DistroDataResponse) response;
+            DistroData result = new DistroData(
+                    new DistroKey(distroDataResponse.getNextSnapshotCursor(), DistroClientDataProcessor.TYPE),
+                    distroDataResponse.getDistroData().getContent());
+            result.setType(DataOperation.SNAPSHOT);
+            return result;
+        } catch (NacosException e) {
+            throw new DistroException("[DISTRO-FAILED] Get distro snapshot page failed! ", e);
+        }
+    }
+    
     private boolean isNoExistTarget(String target) {
         return !memberManager.hasMember(target);
     }
@@ -302,4 +376,114 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
             distroCallback.onFailed(e);
         }
     }
+    
+    private class DistroVerifyDigestCallbackWrapper implements RequestCallBack<Response> {
+        
+        private final String targetServer;
+        
+        private final DistroCallback distroCallback;
+        
+        private final Member member;
+        
+        private DistroVerifyDigestCallbackWrapper(String targetServer, DistroCallback distroCallback, Member member) {
+            this.targetServer = targetServer;
+            this.distroCallback = distroCallback;
+            this.member = member;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return GlobalExecutor.getCallbackExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return DistroConfig.getInstance().getVerifyTimeoutMillis();
+        }
+        
+        @Override
+        public void onResponse(Response response) {
+            if (!checkResponse(response)) {
+                Loggers.DISTRO.info("Target {} does not support verify digest, verify all clients", targetServer);
+                NotifyCenter.publishEvent(new ClientEvent.ClientVerifyDigestFailedEvent(targetServer, null));
+                NamingTpsMonitor.distroVerifyFail(member.getAddress(), member.getIp());
+                distroCallback.onFailed(null);
+                return;
+            }
+            DistroData targetDigest = ((DistroDataResponse) response).getDistroData();
+            if (null == targetDigest || null == targetDigest.getContent() || 0 == targetDigest.getContent().length) {
+                NamingTpsMonitor.distroVerifySuccess(member.getAddress(), member.getIp());
+                distroCallback.onSuccess();
+                return;
+            }
+            NotifyCenter.publishEvent(
+                    new ClientEvent.ClientVerifyDigestFailedEvent(targetServer, targetDigest.getContent()));
+            NamingTpsMonitor.distroVerifyFail(member.getAddress(), member.getIp());
+            distroCallback.onFailed(null);
+        }
+        
+        @Override
+        public void onException(Throwable e) {
+            distroCallback.onFailed(e);
+        }
+    }
+    
+    private class DistroBatchRpcCallbackWrapper implements RequestCallBack<Response> {
+        
+        private final List<DistroData> batchData;
+        
+        private final DistroBatchCallback distroCallback;
+        
+        private final Member member;
+        
+        private DistroBatchRpcCallbackWrapper(List<DistroData> batchData, DistroBatchCallback distroCallback,
+                Member member) {
+            this.batchData = batchData;
+            this.distroCallback = distroCallback;
+            this.member = member;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return GlobalExecutor.getCallbackExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return DistroConfig.getInstance().getSyncTimeoutMillis();
+        }
+        
+        @Override
+        public void onResponse(Response response) {
+            if (!checkResponse(response)) {
+                // the servers supporting batch sync always respond the failed keys, so the failed response means
+                // the target server ignores the batch data, such as an old version server.
+                Loggers.DISTRO.info("Target {} does not support sync data in batch, sync data one by one",
+                        member.getAddress());
+                NamingTpsMonitor.distroSyncFail(member.getAddress(), member.getIp());
+                distroCallback.onBatchUnsupported();
+                return;
+            }
+            List<DistroKey> failedDistroKeys = ((DistroDataResponse) response).getFailedDistroKeys();
+            if (null == failedDistroKeys || failedDistroKeys.isEmpty()) {
+                NamingTpsMonitor.distroSyncSuccess(member.getAddress(), member.getIp());
+                distroCallback.onSuccess();
+                return;
+            }
+            Set<DistroKey> failedKeys = new HashSet<>(failedDistroKeys);
+            List<DistroData> failedData = new LinkedList<>();
+            for (DistroData each : batchData) {
+                if (failedKeys.contains(each.getDistroKey())) {
+                    failedData.add(each);
+                }
+            }
+            NamingTpsMonitor.distroSyncFail(member.getAddress(), member.getIp());
+            distroCallback.onFailed(failedData, null);
+        }
+        
+        @Override
+        public void onException(Throwable e) {
+            distroCallback.onFailed(batchData, e);
+        }
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+
+/**
+ * Digest for verifying all clients responsible by one server.
+ *
+ * @author Nacos
+ */
+public class DistroClientVerifyDigest implements Serializable {
+    
+    private static final long serialVersionUID = -1829382553209431875L;
+    
+    private long root;
+    
+    private long[] leaves;
+    
+    public DistroClientVerifyDigest() {
+    }
+    
+    public DistroClientVerifyDigest(long root, long[] leaves) {
+        this.root = root;
+        this.leaves = leaves;
+    }
+    
+    public long getRoot() {
+        return root;
+    }
+    
+    public void setRoot(long root) {
+        this.root = root;
+    }
+    
+    public long[] getLeaves() {
+        return leaves;
+    }
+    
+    public void setLeaves(long[] leaves) {
+        this.leaves = leaves;
+    }
+}
@@ -31,6 +31,7 @@ import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.misc.ClientConfig;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import org.springframework.stereotype.Component;
@@ -50,6 +51,9 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     
     private final ConcurrentMap<String, ConnectionBasedClient> clients = new ConcurrentHashMap<>();
     
+    private final ExpiredClientWheel expiredClientWheel = new ExpiredClientWheel(
+            Constants.DEFAULT_HEART_BEAT_INTERVAL);
+            
     public ConnectionBasedClientManager() {
         GlobalExecutor
                 .scheduleExpiredClientCleaner(new ExpiredClientCleaner(this), 0, Constants.DEFAULT_HEART_BEAT_INTERVAL,
@@ -78,7 +82,9 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     public boolean clientConnected(final Client client) {
         clients.computeIfAbsent(client.getClientId(), s -> {
             Loggers.SRV_LOG.info("Client connection {} connect", client.getClientId());
-            return (ConnectionBasedClient) client;
+            ConnectionBasedClient connectionBasedClient = (ConnectionBasedClient) client;
+            scheduleExpireCheck(connectionBasedClient, System.currentTimeMillis());
+            return connectionBasedClient;
         });
         return true;
     }
@@ -145,7 +151,22 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
         return false;
     }
     
-    private static class ExpiredClientCleaner implements Runnable {
+    /**
+     * Schedule the client to be checked at the time it might expire. Native clients are removed when connection
+     * closed, so they don't need to be checked.
+     */
+    private void scheduleExpireCheck(ConnectionBasedClient client, long currentTime) {
+        if (client.isNative()) {
+            return;
+        }
+        long checkTime = client.getLastRenewTime() + ClientConfig.getInstance().getClientExpiredTime() + 1;
+        if (checkTime <= currentTime) {
+            checkTime = currentTime + Constants.DEFAULT_HEART_BEAT_INTERVAL;
+        }
+        expiredClientWheel.schedule(client.getClientId(), checkTime);
+    }
+    
+    static class ExpiredClientCleaner implements Runnable {
         
         private final ConnectionBasedClientManager clientManager;
         
@@ -155,11 +176,19 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
         
         @Override
         public void run() {
-            long currentTime = System.currentTimeMillis();
-            for (String each : clientManager.allClientId()) {
+            cleanExpiredClients(System.currentTimeMillis());
+        }
+        
+        void cleanExpiredClients(long currentTime) {
+            for (String each : clientManager.expiredClientWheel.poll(currentTime)) {
                 ConnectionBasedClient client = (ConnectionBasedClient) clientManager.getClient(each);
-                if (null != client && client.isExpire(currentTime)) {
+                if (null == client) {
+                    continue;
+                }
+                if (client.isExpire(currentTime)) {
                     clientManager.clientDisconnected(each);
+                } else {
+                    clientManager.scheduleExpireCheck(client, currentTime);
                 }
             }
         }
@@ -54,6 +54,9 @@ public class EphemeralIpPortClientManager implements ClientManager {
     
     private final ConcurrentMap<String, IpPortBasedClient> clients = new ConcurrentHashMap<>();
     
+    private final ExpiredClientWheel expiredClientWheel = new ExpiredClientWheel(
+            Constants.DEFAULT_HEART_BEAT_INTERVAL);
+            
     private final DistroMapper distroMapper;
     
     private final ClientFactory<IpPortBasedClient> clientFactory;
@@ -76,6 +79,7 @@ public class EphemeralIpPortClientManager implements ClientManager {
             Loggers.SRV_LOG.info("Client connection {} connect", client.getClientId());
             IpPortBasedClient ipPortBasedClient = (IpPortBasedClient) client;
             ipPortBasedClient.init();
+            scheduleExpireCheck(ipPortBasedClient, System.currentTimeMillis());
             return ipPortBasedClient;
         });
         return true;
@@ -141,7 +145,23 @@ public class EphemeralIpPortClientManager implements ClientManager {
         return false;
     }
     
-    private static class ExpiredClientCleaner implements Runnable {
+    /**
+     * Schedule the client to be checked at the earliest time it might expire.
+     *
+     * <p>After the client has not been updated for ip delete timeout, it might expire once its instances removed, so
+     * it should be checked every heartbeat interval.
+     */
+    private void scheduleExpireCheck(IpPortBasedClient client, long currentTime) {
+        long minExpiredTime = Math.min(Constants.DEFAULT_IP_DELETE_TIMEOUT,
+                ClientConfig.getInstance().getClientExpiredTime());
+        long checkTime = client.getLastUpdatedTime() + minExpiredTime + 1;
+        if (checkTime <= currentTime) {
+            checkTime = currentTime + Constants.DEFAULT_HEART_BEAT_INTERVAL;
+        }
+        expiredClientWheel.schedule(client.getClientId(), checkTime);
+    }
+    
+    static class ExpiredClientCleaner implements Runnable {
         
         private final EphemeralIpPortClientManager clientManager;
         
@@ -154,11 +174,19 @@ public class EphemeralIpPortClientManager implements ClientManager {
         
         @Override
         public void run() {
-            long currentTime = System.currentTimeMillis();
-            for (String each : clientManager.allClientId()) {
+            cleanExpiredClients(System.currentTimeMillis());
+        }
+        
+        void cleanExpiredClients(long currentTime) {
+            for (String each : clientManager.expiredClientWheel.poll(currentTime)) {
                 IpPortBasedClient client = (IpPortBasedClient) clientManager.getClient(each);
-                if (null != client && isExpireClient(currentTime, client)) {
+                if (null == client) {
+                    continue;
+                }
+                if (isExpireClient(currentTime, client)) {
                     clientManager.clientDisconnected(each);
+                } else {
+                    clientManager.scheduleExpireCheck(client, currentTime);
                 }
             }
         }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.client.manager.impl;
+
+import com.alibaba.nacos.common.task.engine.DelayTaskTimingWheel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timing wheel of the client ids which need be checked whether expired.
+ *
+ * <p>Each client is scheduled at the earliest time it might expire, so the expired client cleaner only checks the
+ * clients whose time comes instead of all clients. Heartbeat and renew of client only update the client itself, when
+ * the client is checked and not expired, it should be rescheduled by the latest update time.
+ *
+ * @author Nacos
+ */
+class ExpiredClientWheel {
+    
+    private static final int WHEEL_SIZE = 512;
+    
+    private final DelayTaskTimingWheel wheel;
+    
+    ExpiredClientWheel(long tickMillis) {
+        this.wheel = new DelayTaskTimingWheel(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+    
+    synchronized void schedule(String clientId, long checkTime) {
+        wheel.schedule(clientId, checkTime);
+    }
+    
+    /**
+     * Poll the client ids whose check time has come.
+     *
+     * @param currentTime current time
+     * @return client ids need be checked
+     */
+    synchronized List<String> poll(long currentTime) {
+        List<Object> expired = new ArrayList<>();
+        wheel.advance(currentTime, expired);
+        List<String> result = new ArrayList<>(expired.size());
+        for (Object each : expired) {
+            result.add((String) each);
+        }
+        return result;
+    }
+    
+    synchronized int size() {
+        return wheel.size();
+    }
+}
@@ -96,4 +96,34 @@ public class ClientEvent extends Event {
             return targetServer;
         }
     }
+    
+    /**
+     * Client verify digest failed event. Happened when the digest of clients is different with target server, or target
+     * server does not support verify digest.
+     */
+    public static class ClientVerifyDigestFailedEvent extends ClientEvent {
+        
+        private static final long serialVersionUID = -3154916287315066871L;
+        
+        private final String targetServer;
+        
+        /**
+         * Serialized digest of target server, {@code null} means target server does not support verify digest.
+         */
+        private final byte[] targetDigest;
+        
+        public ClientVerifyDigestFailedEvent(String targetServer, byte[] targetDigest) {
+            super(null);
+            this.targetServer = targetServer;
+            this.targetDigest = targetDigest;
+        }
+        
+        public String getTargetServer() {
+            return targetServer;
+        }
+        
+        public byte[] getTargetDigest() {
+            return targetDigest;
+        }
+    }
 }
@@ -46,6 +46,14 @@ public class ClientOperationEvent extends Event {
         return service;
     }
     
+    /**
+     * The operations of one client should be handled in order, such as register and release.
+     */
+    @Override
+    public Object partitionKey() {
+        return clientId;
+    }
+    
     /**
      * Client register service event.
      */
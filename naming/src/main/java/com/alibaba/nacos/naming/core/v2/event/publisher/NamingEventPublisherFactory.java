@@ -19,6 +19,8 @@ package com.alibaba.nacos.naming.core.v2.event.publisher;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.EventPublisherFactory;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.PartitionedEventPublisher;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,13 +32,22 @@ import java.util.concurrent.ConcurrentHashMap;
  * Some naming event is in order, so these event need publish by sync(with same thread and same queue).
  * </p>
  *
+ * <p>
+ * If the partition count of the event type is set, the events are published by several publishers, and the events with
+ * the same {@link Event#partitionKey()} are still in order. See {@link PartitionedEventPublisher}.
+ * </p>
+ *
+ * <p>
+ * If the ring buffer publisher is enabled, the events are published by {@link NamingRingBufferPublisher}.
+ * </p>
+ *
  * @author xiweng.yy
  */
 public class NamingEventPublisherFactory implements EventPublisherFactory {
     
     private static final NamingEventPublisherFactory INSTANCE = new NamingEventPublisherFactory();
     
-    private final Map<Class<? extends Event>, NamingEventPublisher> publisher;
+    private final Map<Class<? extends Event>, EventPublisher> publisher;
     
     private NamingEventPublisherFactory() {
         publisher = new ConcurrentHashMap<>();
@@ -52,17 +63,42 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
         Class<? extends Event> cachedEventType =
                 eventType.isMemberClass() ? (Class<? extends Event>) eventType.getEnclosingClass() : eventType;
         return publisher.computeIfAbsent(cachedEventType, eventClass -> {
-            NamingEventPublisher result = new NamingEventPublisher();
+            int partitionCount = PartitionedEventPublisher.getPartitionCount(eventClass);
+            EventPublisher result = partitionCount > 1 ? new PartitionedEventPublisher(partitionCount,
+                    this::newNamingEventPublisher) : createNamingEventPublisher();
             result.init(eventClass, maxQueueSize);
             return result;
         });
     }
     
+    private EventPublisher newNamingEventPublisher(Class<? extends Event> eventType, Integer maxQueueSize) {
+        EventPublisher result = createNamingEventPublisher();
+        result.init(eventType, maxQueueSize);
+        return result;
+    }
+    
+    private EventPublisher createNamingEventPublisher() {
+        return NotifyCenter.ringBufferPublisherEnabled ? new NamingRingBufferPublisher() : new NamingEventPublisher();
+    }
+    
     public String getAllPublisherStatues() {
         StringBuilder result = new StringBuilder("Naming event publisher statues:\n");
-        for (NamingEventPublisher each : publisher.values()) {
-            result.append('\t').append(each.getStatus()).append('\n');
+        for (EventPublisher each : publisher.values()) {
+            if (each instanceof PartitionedEventPublisher) {
+                for (EventPublisher partition : ((PartitionedEventPublisher) each).getPartitions()) {
+                    result.append('\t').append(getStatus(partition)).append('\n');
+                }
+            } else {
+                result.append('\t').append(getStatus(each)).append('\n');
+            }
         }
         return result.toString();
     }
+    
+    private String getStatus(EventPublisher publisher) {
+        if (publisher instanceof NamingRingBufferPublisher) {
+            return ((NamingRingBufferPublisher) publisher).getStatus();
+        }
+        return ((NamingEventPublisher) publisher).getStatus();
+    }
 }
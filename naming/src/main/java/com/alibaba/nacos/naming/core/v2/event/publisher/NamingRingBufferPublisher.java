@@ -0,0 +1,101 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.event.publisher;
+
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.RingBufferPublisher;
+import com.alibaba.nacos.common.notify.ShardedEventPublisher;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alipay.sofa.jraft.util.concurrent.ConcurrentHashSet;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ring buffer event publisher for naming event, which is used instead of {@link NamingEventPublisher} when the ring
+ * buffer publisher is enabled by {@code nacos.core.notify.ring-buffer-publisher.enabled}.
+ *
+ * <p>Same as {@link NamingEventPublisher}, one publisher handles different events, and the events are dispatched to
+ * the subscribers of the event type.
+ *
+ * @author Nacos
+ */
+public class NamingRingBufferPublisher extends RingBufferPublisher implements ShardedEventPublisher {
+    
+    private static final String THREAD_NAME = "naming.publisher-";
+    
+    private final Map<Class<? extends Event>, Set<Subscriber<? extends Event>>> subscribes = new ConcurrentHashMap<>();
+    
+    private String publisherName;
+    
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        this.publisherName = type.getSimpleName();
+        super.init(type, bufferSize);
+        setName(THREAD_NAME + this.publisherName);
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        addSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribes.computeIfAbsent(subscribeType, inputType -> new ConcurrentHashSet<>()).add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        removeSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribes.computeIfPresent(subscribeType, (inputType, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+    
+    @Override
+    protected boolean hasSubscriber() {
+        return !subscribes.isEmpty();
+    }
+    
+    @Override
+    protected void receiveEvent(Event event) {
+        Class<? extends Event> eventType = event.getClass();
+        Set<Subscriber<? extends Event>> subscribers = subscribes.get(eventType);
+        if (null == subscribers) {
+            if (Loggers.EVT_LOG.isDebugEnabled()) {
+                Loggers.EVT_LOG.debug("[NotifyCenter] No subscribers for slow event {}", eventType.getName());
+            }
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            notifySubscriber(subscriber, event);
+        }
+    }
+    
+    public String getStatus() {
+        return String.format("Publisher %-30s: shutdown=%5s, queue=%7d/%-7d", publisherName, isShutdown(),
+                currentEventSize(), getCapacity());
+    }
+}
@@ -38,6 +38,11 @@ public class ServiceEvent extends Event {
         return service;
     }
     
+    @Override
+    public Object partitionKey() {
+        return service;
+    }
+    
     /**
      * Service data changed event.
      */
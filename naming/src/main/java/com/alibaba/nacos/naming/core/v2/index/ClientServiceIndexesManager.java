@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Client and service index manager.
@@ -71,9 +72,7 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
      * @param service The service of the Nacos.
      */
     public void removePublisherIndexesByEmptyService(Service service) {
-        if (publisherIndexes.containsKey(service) && publisherIndexes.get(service).isEmpty()) {
-            publisherIndexes.remove(service);
-        }
+        publisherIndexes.computeIfPresent(service, (s, ids) -> ids.isEmpty() ? null : ids);
     }
     
     @Override
@@ -127,8 +126,16 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
         }
     }
     
+    /**
+     * The events of different clients might be handled concurrently by partitioned publisher, so the index set is
+     * updated inside {@code compute} to avoid racing with the removal of the empty set by other clients.
+     */
     private void addPublisherIndexes(Service service, String clientId) {
-        publisherIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>()).add(clientId);
+        publisherIndexes.compute(service, (s, ids) -> {
+            Set<String> result = null == ids ? new ConcurrentHashSet<>() : ids;
+            result.add(clientId);
+            return result;
+        });
         NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
     }
     
@@ -141,21 +148,22 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     }
     
     private void addSubscriberIndexes(Service service, String clientId) {
-        Set<String> clientIds = subscriberIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>());
+        AtomicBoolean added = new AtomicBoolean(false);
+        subscriberIndexes.compute(service, (s, ids) -> {
+            Set<String> result = null == ids ? new ConcurrentHashSet<>() : ids;
+            added.set(result.add(clientId));
+            return result;
+        });
         // Fix #5404, Only first time add need notify event.
-        if (clientIds.add(clientId)) {
+        if (added.get()) {
             NotifyCenter.publishEvent(new ServiceEvent.ServiceSubscribedEvent(service, clientId));
         }
     }
     
     private void removeSubscriberIndexes(Service service, String clientId) {
-        Set<String> clientIds = subscriberIndexes.get(service);
-        if (clientIds == null) {
-            return;
-        }
-        clientIds.remove(clientId);
-        if (clientIds.isEmpty()) {
-            subscriberIndexes.remove(service);
-        }
+        subscriberIndexes.computeIfPresent(service, (s, ids) -> {
+            ids.remove(clientId);
+            return ids.isEmpty() ? null : ids;
+        });
     }
 }
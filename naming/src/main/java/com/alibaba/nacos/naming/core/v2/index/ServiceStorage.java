@@ -18,10 +18,15 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
 import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
@@ -32,9 +37,13 @@ import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -46,7 +55,7 @@ import java.util.concurrent.ConcurrentMap;
  * @author xiweng.yy
  */
 @Component
-public class ServiceStorage {
+public class ServiceStorage extends SmartSubscriber {
     
     private final ClientServiceIndexesManager serviceIndexesManager;
     
@@ -60,6 +69,11 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    /**
+     * Parsed instances of each client for services, used to avoid parsing all instances again when service changed.
+     */
+    private final ConcurrentMap<Service, ConcurrentMap<String, List<ParsedInstance>>> parsedInstanceIndexes;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +82,8 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.parsedInstanceIndexes = new ConcurrentHashMap<>();
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
     public Set<String> getClusters(Service service) {
@@ -89,9 +105,15 @@ public class ServiceStorage {
         return result;
     }
     
+    /**
+     * Remove all cached data of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        parsedInstanceIndexes.remove(service);
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -104,44 +126,77 @@ public class ServiceStorage {
     }
     
     private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
+        ConcurrentMap<String, List<ParsedInstance>> parsedInstances = parsedInstanceIndexes
+                .computeIfAbsent(service, key -> new ConcurrentHashMap<>(16));
+        Map<String, Instance> result = new HashMap<>(Math.max(16, parsedInstances.size() * 2));
         Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
-            Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
-                }
+        Collection<String> registeredClients = serviceIndexesManager.getAllClientsRegisteredService(service);
+        for (String each : registeredClients) {
+            List<ParsedInstance> instances = refreshParsedInstances(service, each, parsedInstances);
+            if (null == instances) {
+                continue;
+            }
+            for (ParsedInstance parsedInstance : instances) {
+                result.putIfAbsent(parsedInstance.key, parsedInstance.instance);
+                clusters.add(parsedInstance.instance.getClusterName());
             }
         }
+        // drop the parsed instances of clients which are no longer publisher of this service
+        parsedInstances.keySet().retainAll(registeredClients);
         // cache clusters of this service
         serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
+        return new LinkedList<>(result.values());
     }
     
     /**
-     * Parse batch instance.
-     * @param service service
-     * @param batchInstancePublishInfo batchInstancePublishInfo
-     * @return batch instance list
+     * Refresh parsed instances of one client atomically.
+     *
+     * <p>The publish info is read again inside {@code compute}, so that a concurrent deregister or release of the
+     * client can't be overwritten by stale parsed instances.
+     *
+     * @param service         service
+     * @param clientId        client id
+     * @param parsedInstances parsed instances of the service
+     * @return parsed instances of client, {@code null} if client doesn't publish this service any more
+     */
+    private List<ParsedInstance> refreshParsedInstances(Service service, String clientId,
+            ConcurrentMap<String, List<ParsedInstance>> parsedInstances) {
+        return parsedInstances.compute(clientId, (key, current) -> {
+            Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(key, service);
+            return instancePublishInfo.map(info -> getParsedInstances(service, info, current)).orElse(null);
+        });
+    }
+    
+    /**
+     * Get parsed instances of one client, only the changed instances will be parsed again.
+     *
+     * <p>If it is a BatchInstancePublishInfo type, each instance in batch will be parsed and added to the instance list.
+     *
+     * @param service         service
+     * @param publishInfo     current publish info of client
+     * @param parsedInstances parsed instances of client last time, might be null
+     * @return parsed instances of client
      */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
-        List<Instance> resultInstanceList = new ArrayList<>();
-        List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
-        for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+    private List<ParsedInstance> getParsedInstances(Service service, InstancePublishInfo publishInfo,
+            List<ParsedInstance> parsedInstances) {
+        List<InstancePublishInfo> instancePublishInfos = publishInfo instanceof BatchInstancePublishInfo
+                ? ((BatchInstancePublishInfo) publishInfo).getInstancePublishInfos()
+                : Collections.singletonList(publishInfo);
+        boolean reusable = null != parsedInstances && parsedInstances.size() == instancePublishInfos.size();
+        List<ParsedInstance> result = new ArrayList<>(instancePublishInfos.size());
+        boolean changed = !reusable;
+        for (int i = 0; i < instancePublishInfos.size(); i++) {
+            InstancePublishInfo each = instancePublishInfos.get(i);
+            InstanceMetadata metadata = metadataManager.getInstanceMetadata(service, each.getMetadataId())
+                    .orElse(null);
+            ParsedInstance parsedInstance = reusable ? parsedInstances.get(i) : null;
+            if (null == parsedInstance || !parsedInstance.isParsedFrom(each, metadata)) {
+                parsedInstance = new ParsedInstance(each, metadata, parseInstance(service, each, metadata));
+                changed = true;
+            }
+            result.add(parsedInstance);
         }
-        return resultInstanceList;
+        return changed ? result : parsedInstances;
     }
     
     private Optional<InstancePublishInfo> getInstanceInfo(String clientId, Service service) {
@@ -152,11 +207,85 @@ public class ServiceStorage {
         return Optional.ofNullable(client.getInstancePublishInfo(service));
     }
     
-    private Instance parseInstance(Service service, InstancePublishInfo instanceInfo) {
+    private Instance parseInstance(Service service, InstancePublishInfo instanceInfo, InstanceMetadata metadata) {
         Instance result = InstanceUtil.parseToApiInstance(service, instanceInfo);
-        Optional<InstanceMetadata> metadata = metadataManager
-                .getInstanceMetadata(service, instanceInfo.getMetadataId());
-        metadata.ifPresent(instanceMetadata -> InstanceUtil.updateInstanceMetadata(result, instanceMetadata));
+        if (null != metadata) {
+            InstanceUtil.updateInstanceMetadata(result, metadata);
+        }
         return result;
     }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ClientOperationEvent.ClientRegisterServiceEvent.class);
+        result.add(ClientOperationEvent.ClientDeregisterServiceEvent.class);
+        result.add(ClientOperationEvent.ClientReleaseEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ClientOperationEvent.ClientReleaseEvent) {
+            Client client = ((ClientOperationEvent.ClientReleaseEvent) event).getClient();
+            for (Service each : client.getAllPublishedService()) {
+                removeParsedInstances(each, client.getClientId());
+            }
+        } else if (event instanceof ClientOperationEvent.ClientRegisterServiceEvent) {
+            ClientOperationEvent operationEvent = (ClientOperationEvent) event;
+            updateParsedInstances(operationEvent.getService(), operationEvent.getClientId());
+        } else if (event instanceof ClientOperationEvent.ClientDeregisterServiceEvent) {
+            ClientOperationEvent operationEvent = (ClientOperationEvent) event;
+            removeParsedInstances(operationEvent.getService(), operationEvent.getClientId());
+        }
+    }
+    
+    /**
+     * Parse the new registered instances in advance, so that the next push data generation doesn't need to parse them.
+     * Only services which have been generated data will be updated.
+     */
+    private void updateParsedInstances(Service service, String clientId) {
+        ConcurrentMap<String, List<ParsedInstance>> parsedInstances = parsedInstanceIndexes.get(service);
+        if (null != parsedInstances) {
+            refreshParsedInstances(service, clientId, parsedInstances);
+        }
+    }
+    
+    private void removeParsedInstances(Service service, String clientId) {
+        ConcurrentMap<String, List<ParsedInstance>> parsedInstances = parsedInstanceIndexes.get(service);
+        if (null != parsedInstances) {
+            parsedInstances.remove(clientId);
+        }
+    }
+    
+    /**
+     * Instance parsed from {@link InstancePublishInfo} and {@link InstanceMetadata}.
+     *
+     * <p>The health status of publish info might be changed in place by health checker, so it should be checked too.
+     */
+    private static class ParsedInstance {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final boolean healthy;
+        
+        private final InstanceMetadata metadata;
+        
+        private final Instance instance;
+        
+        private final String key;
+        
+        private ParsedInstance(InstancePublishInfo publishInfo, InstanceMetadata metadata, Instance instance) {
+            this.publishInfo = publishInfo;
+            this.healthy = publishInfo.isHealthy();
+            this.metadata = metadata;
+            this.instance = instance;
+            this.key = instance.toString();
+        }
+        
+        private boolean isParsedFrom(InstancePublishInfo publishInfo, InstanceMetadata metadata) {
+            return this.publishInfo == publishInfo && this.healthy == publishInfo.isHealthy()
+                    && this.metadata == metadata;
+        }
+    }
 }
@@ -77,6 +77,16 @@ public class MetricsMonitor {
     
     private final AtomicInteger pushPendingTaskCount = new AtomicInteger();
     
+    private final AtomicLong pushDelayTaskTickLag = new AtomicLong();
+    
+    private final AtomicLong pushDelayTaskAddedCount = new AtomicLong();
+    
+    private final AtomicLong pushDelayTaskMergedCount = new AtomicLong();
+    
+    private final AtomicLong pushPayloadCacheHit = new AtomicLong();
+    
+    private final AtomicLong pushPayloadCacheMiss = new AtomicLong();
+    
     /**
      * version -> naming subscriber count.
      */
@@ -178,6 +188,22 @@ public class MetricsMonitor {
         return INSTANCE.failedPush;
     }
     
+    public static AtomicLong getPushPayloadCacheHit() {
+        return INSTANCE.pushPayloadCacheHit;
+    }
+    
+    public static AtomicLong getPushPayloadCacheMiss() {
+        return INSTANCE.pushPayloadCacheMiss;
+    }
+    
+    public static void incrementPushPayloadCacheHit() {
+        INSTANCE.pushPayloadCacheHit.incrementAndGet();
+    }
+    
+    public static void incrementPushPayloadCacheMiss() {
+        INSTANCE.pushPayloadCacheMiss.incrementAndGet();
+    }
+    
     public static AtomicInteger getEmptyPushMonitor() {
         return INSTANCE.emptyPush;
     }
@@ -198,6 +224,18 @@ public class MetricsMonitor {
         return INSTANCE.pushPendingTaskCount;
     }
     
+    public static AtomicLong getPushDelayTaskTickLag() {
+        return INSTANCE.pushDelayTaskTickLag;
+    }
+    
+    public static AtomicLong getPushDelayTaskAddedCount() {
+        return INSTANCE.pushDelayTaskAddedCount;
+    }
+    
+    public static AtomicLong getPushDelayTaskMergedCount() {
+        return INSTANCE.pushDelayTaskMergedCount;
+    }
+    
     public static AtomicLong getTotalPushCostForAvg() {
         return INSTANCE.totalPushCostForAvg;
     }
@@ -318,5 +356,7 @@ public class MetricsMonitor {
         getTotalPushCountForAvg().set(0);
         getMaxPushCostMonitor().set(-1);
         getAvgPushCostMonitor().set(-1);
+        getPushPayloadCacheHit().set(0);
+        getPushPayloadCacheMiss().set(0);
     }
 }
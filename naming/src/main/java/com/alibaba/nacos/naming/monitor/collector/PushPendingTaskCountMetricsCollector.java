@@ -19,6 +19,7 @@ package com.alibaba.nacos.naming.monitor.collector;
 import com.alibaba.nacos.common.executor.ExecutorFactory;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.push.v2.NamingSubscriberServiceV2Impl;
+import com.alibaba.nacos.naming.push.v2.task.PushDelayTaskExecuteEngine;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -45,6 +46,10 @@ public class PushPendingTaskCountMetricsCollector {
     public PushPendingTaskCountMetricsCollector(NamingSubscriberServiceV2Impl namingSubscriberServiceV2) {
         executorService.scheduleWithFixedDelay(() -> {
             MetricsMonitor.getPushPendingTaskCount().set(namingSubscriberServiceV2.getPushPendingTaskCount());
+            PushDelayTaskExecuteEngine delayTaskEngine = namingSubscriberServiceV2.getPushDelayTaskEngine();
+            MetricsMonitor.getPushDelayTaskTickLag().set(delayTaskEngine.getTickLag());
+            MetricsMonitor.getPushDelayTaskAddedCount().set(delayTaskEngine.getAddedTaskCount());
+            MetricsMonitor.getPushDelayTaskMergedCount().set(delayTaskEngine.getMergedTaskCount());
         }, DELAY_SECONDS, DELAY_SECONDS, TimeUnit.SECONDS);
     }
 }
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.pojo;
 
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -46,6 +47,11 @@ public class Subscriber implements Serializable {
     
     private String cluster;
     
+    /**
+     * The revision of push data which has been pushed to this subscriber successfully, {@code 0} means unknown.
+     */
+    private transient volatile long pushedRevision;
+    
     public Subscriber() {
     }
     
@@ -130,6 +136,26 @@ public class Subscriber implements Serializable {
         this.cluster = cluster;
     }
     
+    @JsonIgnore
+    public long getPushedRevision() {
+        return pushedRevision;
+    }
+    
+    /**
+     * Update pushed revision, the revision will only be increased because the push callback might be out of order.
+     *
+     * @param revision new pushed revision
+     */
+    public synchronized void updatePushedRevision(long revision) {
+        if (revision > pushedRevision) {
+            pushedRevision = revision;
+        }
+    }
+    
+    public void resetPushedRevision() {
+        pushedRevision = 0L;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
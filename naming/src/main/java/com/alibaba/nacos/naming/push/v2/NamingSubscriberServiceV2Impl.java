@@ -22,6 +22,7 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
 import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
 import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
@@ -108,6 +109,7 @@ public class NamingSubscriberServiceV2Impl extends SmartSubscriber implements Na
         List<Class<? extends Event>> result = new LinkedList<>();
         result.add(ServiceEvent.ServiceChangedEvent.class);
         result.add(ServiceEvent.ServiceSubscribedEvent.class);
+        result.add(MetadataEvent.ServiceMetadataEvent.class);
         return result;
     }
     
@@ -125,6 +127,12 @@ public class NamingSubscriberServiceV2Impl extends SmartSubscriber implements Na
             Service service = subscribedEvent.getService();
             delayTaskEngine.addTask(service, new PushDelayTask(service, PushConfig.getInstance().getPushTaskDelay(),
                     subscribedEvent.getClientId()));
+        } else if (event instanceof MetadataEvent.ServiceMetadataEvent) {
+            // If service is removed, the push data for delta push should be removed too.
+            MetadataEvent.ServiceMetadataEvent metadataEvent = (MetadataEvent.ServiceMetadataEvent) event;
+            if (metadataEvent.isExpired()) {
+                delayTaskEngine.removePushData(metadataEvent.getService());
+            }
         }
     }
     
@@ -136,4 +144,8 @@ public class NamingSubscriberServiceV2Impl extends SmartSubscriber implements Na
     public int getPushPendingTaskCount() {
         return delayTaskEngine.size();
     }
+    
+    public PushDelayTaskExecuteEngine getPushDelayTaskEngine() {
+        return delayTaskEngine;
+    }
 }
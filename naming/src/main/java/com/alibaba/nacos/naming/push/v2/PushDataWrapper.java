@@ -19,9 +19,9 @@ package com.alibaba.nacos.naming.push.v2;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Nacos push data wrapper.
@@ -36,10 +36,25 @@ public class PushDataWrapper {
     
     private final Map<String, Object> processedDatum;
     
+    /**
+     * Push revision of this data, {@code 0} means no revision.
+     */
+    private final long revision;
+    
+    /**
+     * The push data of the previous revision, used to generate delta push data. Only keep one previous revision.
+     */
+    private PushDataWrapper previousData;
+    
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this(serviceMetadata, originalData, 0L);
+    }
+    
+    public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData, long revision) {
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
-        processedDatum = new HashMap<>(1);
+        this.revision = revision;
+        processedDatum = new ConcurrentHashMap<>(4);
     }
     
     public ServiceInfo getOriginalData() {
@@ -50,6 +65,18 @@ public class PushDataWrapper {
         return serviceMetadata;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public Optional<PushDataWrapper> getPreviousData() {
+        return Optional.ofNullable(previousData);
+    }
+    
+    public void setPreviousData(PushDataWrapper previousData) {
+        this.previousData = previousData;
+    }
+    
     public <T> Optional<T> getProcessedPushData(String key) {
         return Optional.ofNullable((T) processedDatum.get(key));
     }
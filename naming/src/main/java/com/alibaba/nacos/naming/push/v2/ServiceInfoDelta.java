@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The instances delta between two push revisions of one service.
+ *
+ * <p>Instances are identified by {@link Instance#toInetAddr()}, which is the same as client side.
+ *
+ * @author Nacos
+ */
+public class ServiceInfoDelta {
+    
+    private final List<Instance> changedHosts;
+    
+    private final List<Instance> removedHosts;
+    
+    private ServiceInfoDelta(List<Instance> changedHosts, List<Instance> removedHosts) {
+        this.changedHosts = changedHosts;
+        this.removedHosts = removedHosts;
+    }
+    
+    /**
+     * Calculate the delta from previous service info to current service info.
+     *
+     * @param previous previous service info
+     * @param current  current service info
+     * @return delta of instances
+     */
+    public static ServiceInfoDelta diff(ServiceInfo previous, ServiceInfo current) {
+        Map<String, Instance> previousHosts = new HashMap<>(previous.getHosts().size());
+        for (Instance each : previous.getHosts()) {
+            previousHosts.put(each.toInetAddr(), each);
+        }
+        List<Instance> changedHosts = new LinkedList<>();
+        for (Instance each : current.getHosts()) {
+            Instance previousHost = previousHosts.remove(each.toInetAddr());
+            if (null == previousHost || !previousHost.equals(each)) {
+                changedHosts.add(each);
+            }
+        }
+        return new ServiceInfoDelta(changedHosts, new LinkedList<>(previousHosts.values()));
+    }
+    
+    public List<Instance> getChangedHosts() {
+        return changedHosts;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+    
+    public int size() {
+        return changedHosts.size() + removedHosts.size();
+    }
+    
+    /**
+     * Whether push this delta is cheaper than push the full service info.
+     *
+     * @param current current full service info
+     * @return {@code true} if the delta contains less instances than full service info
+     */
+    public boolean isCheaperThan(ServiceInfo current) {
+        return size() < current.getHosts().size();
+    }
+    
+    /**
+     * Build the service info only contains changed instances, other fields are the same as current.
+     *
+     * @param current current full service info
+     * @return service info with changed instances
+     */
+    public ServiceInfo toServiceInfo(ServiceInfo current) {
+        ServiceInfo result = new ServiceInfo();
+        result.setName(current.getName());
+        result.setGroupName(current.getGroupName());
+        result.setClusters(current.getClusters());
+        result.setCacheMillis(current.getCacheMillis());
+        result.setLastRefTime(current.getLastRefTime());
+        result.setChecksum(current.getChecksum());
+        result.setAllIPs(current.isAllIPs());
+        result.setReachProtectionThreshold(current.isReachProtectionThreshold());
+        result.setHosts(changedHosts);
+        return result;
+    }
+}
@@ -16,16 +16,30 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.ServiceInfoDelta;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * Push execute service for rpc.
  *
@@ -34,10 +48,21 @@ import org.springframework.stereotype.Component;
 @Component
 public class PushExecutorRpcImpl implements PushExecutor {
     
+    private static final String SELECTED_DATA_PREFIX = "rpc.selected.";
+    
+    private static final String FULL_PAYLOAD_PREFIX = "rpc.full.";
+    
+    private static final String DELTA_PAYLOAD_PREFIX = "rpc.delta.";
+    
+    private static final String BINARY_PAYLOAD_PREFIX = "binary.";
+    
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final ConnectionManager connectionManager;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, ConnectionManager connectionManager) {
         this.pushService = pushService;
+        this.connectionManager = connectionManager;
     }
     
     @Override
@@ -49,10 +74,95 @@ public class PushExecutorRpcImpl implements PushExecutor {
     @Override
     public void doPushWithCallback(String clientId, Subscriber subscriber, PushDataWrapper data,
             NamingPushCallback callBack) {
-        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
-        callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        PushPayload payload = getPushPayload(clientId, subscriber, data);
+        callBack.setActualServiceInfo(payload.actualServiceInfo);
+        pushService.pushWithCallback(clientId, payload.newRequest(), payload.serializedBody, callBack,
+                GlobalExecutor.getCallbackExecutor());
+    }
+    
+    /**
+     * Get push payload for subscriber.
+     *
+     * <p>The subscribers with the same selection result share the same serialized push payload of one revision, so the
+     * push data only need to be selected and serialized once for them.
+     */
+    private PushPayload getPushPayload(String clientId, Subscriber subscriber, PushDataWrapper data) {
+        Connection connection = connectionManager.getConnection(clientId);
+        String selectionKey = getSelectionKey(data, subscriber);
+        boolean deltaPush = isDeltaPushAvailable(connection, subscriber, data);
+        boolean binary = null != connection && connection.isSupportBinaryPayload();
+        String payloadKey = (deltaPush ? DELTA_PAYLOAD_PREFIX : FULL_PAYLOAD_PREFIX) + (binary ? BINARY_PAYLOAD_PREFIX
+                : StringUtils.EMPTY) + selectionKey;
+        Optional<PushPayload> cached = data.getProcessedPushData(payloadKey);
+        if (cached.isPresent()) {
+            MetricsMonitor.incrementPushPayloadCacheHit();
+            return cached.get();
+        }
+        MetricsMonitor.incrementPushPayloadCacheMiss();
+        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber, selectionKey);
+        NotifySubscriberRequest request = deltaPush ? buildDeltaPushRequest(subscriber, data, actualServiceInfo)
+                : NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo, data.getRevision());
+        PushPayload result = new PushPayload(actualServiceInfo, request,
+                GrpcUtils.convertRequestBodyToByte(request, binary));
+        data.addProcessedPushData(payloadKey, result);
+        return result;
+    }
+    
+    /**
+     * If the subscriber support delta push and has received the previous revision, only push the delta of instances.
+     * Otherwise, fall back to push the full service info.
+     */
+    private boolean isDeltaPushAvailable(Connection connection, Subscriber subscriber, PushDataWrapper data) {
+        Optional<PushDataWrapper> previousData = data.getPreviousData();
+        return previousData.isPresent() && previousData.get().getRevision() == subscriber.getPushedRevision()
+                && isSupportDeltaPush(connection);
+    }
+    
+    private NotifySubscriberRequest buildDeltaPushRequest(Subscriber subscriber, PushDataWrapper data,
+            ServiceInfo actualServiceInfo) {
+        PushDataWrapper previousData = data.getPreviousData().get();
+        ServiceInfo previousServiceInfo = getServiceInfo(previousData, subscriber, getSelectionKey(previousData,
+                subscriber));
+        ServiceInfoDelta delta = ServiceInfoDelta.diff(previousServiceInfo, actualServiceInfo);
+        if (!delta.isCheaperThan(actualServiceInfo)) {
+            return NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo, data.getRevision());
+        }
+        return NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(delta.toServiceInfo(actualServiceInfo),
+                delta.getRemovedHosts(), previousData.getRevision(), data.getRevision());
+    }
+    
+    private boolean isSupportDeltaPush(Connection connection) {
+        if (!PushConfig.getInstance().isDeltaPushEnabled() || null == connection) {
+            return false;
+        }
+        Map<String, Boolean> abilityTable = connection.getAbilityTable();
+        return null != abilityTable && Boolean.TRUE
+                .equals(abilityTable.get(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_PUSH.getName()));
+    }
+    
+    /**
+     * The selection result of push data only depends on the clusters of subscriber, and the ip of subscriber if the
+     * service uses a selector.
+     */
+    private String getSelectionKey(PushDataWrapper data, Subscriber subscriber) {
+        String cluster = StringUtils.defaultIfEmpty(subscriber.getCluster(), StringUtils.EMPTY);
+        ServiceMetadata serviceMetadata = data.getServiceMetadata();
+        if (null == serviceMetadata || null == serviceMetadata.getSelector()
+                || serviceMetadata.getSelector() instanceof NoneSelector) {
+            return cluster;
+        }
+        return cluster + Constants.SERVICE_INFO_SPLITER + subscriber.getIp();
+    }
+    
+    private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber, String selectionKey) {
+        String key = SELECTED_DATA_PREFIX + selectionKey;
+        Optional<ServiceInfo> cached = data.getProcessedPushData(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        ServiceInfo result = getServiceInfo(data, subscriber);
+        data.addProcessedPushData(key, result);
+        return result;
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
@@ -60,4 +170,30 @@ public class PushExecutorRpcImpl implements PushExecutor {
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
                         subscriber);
     }
+    
+    private static class PushPayload {
+        
+        private final ServiceInfo actualServiceInfo;
+        
+        private final NotifySubscriberRequest request;
+        
+        private final byte[] serializedBody;
+        
+        private PushPayload(ServiceInfo actualServiceInfo, NotifySubscriberRequest request, byte[] serializedBody) {
+            this.actualServiceInfo = actualServiceInfo;
+            this.request = request;
+            this.serializedBody = serializedBody;
+        }
+        
+        /**
+         * Each push needs a new request object, because the request id and headers are different for each push.
+         */
+        private NotifySubscriberRequest newRequest() {
+            if (request.isDeltaPush()) {
+                return NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(request.getServiceInfo(),
+                        request.getRemovedHosts(), request.getBaseRevision(), request.getRevision());
+            }
+            return NotifySubscriberRequest.buildNotifySubscriberRequest(request.getServiceInfo(), request.getRevision());
+        }
+    }
 }
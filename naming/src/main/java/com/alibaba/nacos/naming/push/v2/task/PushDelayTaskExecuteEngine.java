@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.push.v2.task;
 
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
@@ -23,12 +24,19 @@ import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.NamingExecuteTaskDispatcher;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Nacos naming push delay task execute engine.
  *
@@ -48,6 +56,16 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     
     private final SwitchDomain switchDomain;
     
+    /**
+     * The latest push data of each service, used to generate delta push data for next revision.
+     */
+    private final ConcurrentMap<Service, PushDataWrapper> latestPushData;
+    
+    /**
+     * The revision generator is shared by all services, so the revision will not be reused after service removed.
+     */
+    private final AtomicLong pushRevision;
+    
     public PushDelayTaskExecuteEngine(ClientManager clientManager, ClientServiceIndexesManager indexesManager,
                                       ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
                                       PushExecutor pushExecutor, SwitchDomain switchDomain) {
@@ -58,6 +76,8 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         this.metadataManager = metadataManager;
         this.pushExecutor = pushExecutor;
         this.switchDomain = switchDomain;
+        this.latestPushData = new ConcurrentHashMap<>();
+        this.pushRevision = new AtomicLong();
         setDefaultTaskProcessor(new PushDelayTaskProcessor(this));
     }
     
@@ -81,6 +101,46 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         return pushExecutor;
     }
     
+    /**
+     * Record new push data of service with a new revision, and link it to the push data of previous revision.
+     *
+     * <p>Push execute tasks of the same service are executed in the same worker, so they are executed serially.
+     *
+     * <p>If the service data is the same as the latest push data, such as the push to new subscriber or the retry of
+     * failed push, the latest push data is reused, so the delta chain of other subscribers will not be broken.
+     *
+     * @param service         service
+     * @param serviceMetadata metadata of service
+     * @param serviceInfo     full service info
+     * @return push data wrapper of latest revision
+     */
+    public PushDataWrapper recordPushData(Service service, ServiceMetadata serviceMetadata, ServiceInfo serviceInfo) {
+        PushDataWrapper latest = latestPushData.get(service);
+        if (null != latest && isSameServiceData(latest, serviceMetadata, serviceInfo)) {
+            return latest;
+        }
+        PushDataWrapper result = new PushDataWrapper(serviceMetadata, serviceInfo, pushRevision.incrementAndGet());
+        PushDataWrapper previous = latestPushData.put(service, result);
+        if (null != previous) {
+            previous.setPreviousData(null);
+            result.setPreviousData(previous);
+        }
+        return result;
+    }
+    
+    private boolean isSameServiceData(PushDataWrapper latest, ServiceMetadata serviceMetadata,
+            ServiceInfo serviceInfo) {
+        ServiceInfo latestServiceInfo = latest.getOriginalData();
+        return Objects.equals(latest.getServiceMetadata(), serviceMetadata)
+                && latestServiceInfo.isReachProtectionThreshold() == serviceInfo.isReachProtectionThreshold()
+                && latestServiceInfo.getHosts().size() == serviceInfo.getHosts().size()
+                && latestServiceInfo.getHosts().equals(serviceInfo.getHosts());
+    }
+    
+    public void removePushData(Service service) {
+        latestPushData.remove(service);
+    }
+    
     @Override
     protected void processTasks() {
         if (!switchDomain.isPushEnabled()) {
@@ -70,7 +70,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
                     continue;
                 }
                 delayTaskEngine.getPushExecutor().doPushWithCallback(each, subscriber, wrapper,
-                        new ServicePushCallback(each, subscriber, wrapper.getOriginalData(), delayTask.isPushToAll()));
+                        new ServicePushCallback(each, subscriber, wrapper.getOriginalData(), wrapper.getRevision(),
+                                delayTask.isPushToAll()));
             }
         } catch (Exception e) {
             Loggers.PUSH.error("Push task for service" + service.getGroupedServiceName() + " execute failed ", e);
@@ -81,7 +82,7 @@ public class PushExecuteTask extends AbstractExecuteTask {
     private PushDataWrapper generatePushData() {
         ServiceInfo serviceInfo = delayTaskEngine.getServiceStorage().getPushData(service);
         ServiceMetadata serviceMetadata = delayTaskEngine.getMetadataManager().getServiceMetadata(service).orElse(null);
-        return new PushDataWrapper(serviceMetadata, serviceInfo);
+        return delayTaskEngine.recordPushData(service, serviceMetadata, serviceInfo);
     }
     
     private Collection<String> getTargetClientIds() {
@@ -97,6 +98,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
         
         private final ServiceInfo serviceInfo;
         
+        private final long revision;
+        
         /**
          * Record the push task execute start time.
          */
@@ -110,11 +113,12 @@ public class PushExecuteTask extends AbstractExecuteTask {
          */
         private ServiceInfo actualServiceInfo;
         
-        private ServicePushCallback(String clientId, Subscriber subscriber, ServiceInfo serviceInfo,
+        private ServicePushCallback(String clientId, Subscriber subscriber, ServiceInfo serviceInfo, long revision,
                 boolean isPushToAll) {
             this.clientId = clientId;
             this.subscriber = subscriber;
             this.serviceInfo = serviceInfo;
+            this.revision = revision;
             this.isPushToAll = isPushToAll;
             this.executeStartTime = System.currentTimeMillis();
             this.actualServiceInfo = serviceInfo;
@@ -127,6 +131,7 @@ public class PushExecuteTask extends AbstractExecuteTask {
         
         @Override
         public void onSuccess() {
+            subscriber.updatePushedRevision(revision);
             long pushFinishTime = System.currentTimeMillis();
             long pushCostTimeForNetWork = pushFinishTime - executeStartTime;
             long pushCostTimeForAll = pushFinishTime - delayTask.getLastProcessTime();
@@ -151,6 +156,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
         
         @Override
         public void onFail(Throwable e) {
+            // the subscriber might not apply the push data, so next push should be full push data.
+            subscriber.resetPushedRevision();
             long pushCostTime = System.currentTimeMillis() - executeStartTime;
             Loggers.PUSH.error("[PUSH-FAIL] {}ms, {}, reason={}, target={}", pushCostTime, service, e.getMessage(),
                     subscriber.getIp());
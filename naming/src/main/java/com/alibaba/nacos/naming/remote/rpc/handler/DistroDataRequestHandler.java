@@ -31,6 +31,9 @@ import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientData
 import com.alibaba.nacos.naming.misc.Loggers;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedList;
+import java.util.List;
+
 /**
  * Distro data request handler.
  *
@@ -53,11 +56,12 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
                 case VERIFY:
                     return handleVerify(request.getDistroData(), meta);
                 case SNAPSHOT:
-                    return handleSnapshot();
+                    return request.getSnapshotPageSize() > 0 ? handlePagedSnapshot(request) : handleSnapshot();
                 case ADD:
                 case CHANGE:
                 case DELETE:
-                    return handleSyncData(request.getDistroData());
+                    return null == request.getBatchDistroData() ? handleSyncData(request.getDistroData())
+                            : handleBatchSyncData(request.getBatchDistroData());
                 case QUERY:
                     return handleQueryData(request.getDistroData());
                 default:
@@ -74,6 +78,15 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
     
     private DistroDataResponse handleVerify(DistroData distroData, RequestMeta meta) {
         DistroDataResponse result = new DistroDataResponse();
+        if (DistroClientDataProcessor.isVerifyDigest(distroData)) {
+            DistroData localDigest = distroProtocol.onVerifyDigest(distroData, meta.getClientIp());
+            if (null == localDigest) {
+                result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] distro verify digest failed");
+            } else {
+                result.setDistroData(localDigest);
+            }
+            return result;
+        }
         if (!distroProtocol.onVerify(distroData, meta.getClientIp())) {
             result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] distro data verify failed");
         }
@@ -87,6 +100,15 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
+    private DistroDataResponse handlePagedSnapshot(DistroDataRequest request) {
+        DistroDataResponse result = new DistroDataResponse();
+        DistroData distroData = distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE, request.getSnapshotCursor(),
+                request.getSnapshotPageSize());
+        result.setDistroData(distroData);
+        result.setNextSnapshotCursor(distroData.getDistroKey().getResourceKey());
+        return result;
+    }
+    
     private DistroDataResponse handleSyncData(DistroData distroData) {
         DistroDataResponse result = new DistroDataResponse();
         if (!distroProtocol.onReceive(distroData)) {
@@ -96,6 +118,24 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
+    private DistroDataResponse handleBatchSyncData(List<DistroData> batchDistroData) {
+        List<DistroKey> failedDistroKeys = new LinkedList<>();
+        for (DistroData each : batchDistroData) {
+            try {
+                if (!distroProtocol.onReceive(each)) {
+                    failedDistroKeys.add(each.getDistroKey());
+                }
+            } catch (Exception e) {
+                Loggers.DISTRO.error("[DISTRO-FAILED] distro handle data {} in batch with exception",
+                        each.getDistroKey(), e);
+                failedDistroKeys.add(each.getDistroKey());
+            }
+        }
+        DistroDataResponse result = new DistroDataResponse();
+        result.setFailedDistroKeys(failedDistroKeys);
+        return result;
+    }
+    
     private DistroDataResponse handleQueryData(DistroData distroData) {
         DistroDataResponse result = new DistroDataResponse();
         DistroKey distroKey = distroData.getDistroKey();
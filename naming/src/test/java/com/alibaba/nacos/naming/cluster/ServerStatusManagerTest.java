@@ -21,6 +21,7 @@ package com.alibaba.nacos.naming.cluster;
 import com.alibaba.nacos.consistency.cp.CPProtocol;
 import com.alibaba.nacos.core.distributed.ProtocolManager;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadProgress;
 import com.alibaba.nacos.naming.misc.GlobalConfig;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
@@ -94,6 +95,21 @@ class ServerStatusManagerTest {
         assertTrue(errorMsg.get().contains("distro"));
     }
     
+    @Test
+    void testGetErrorMsgForDistroLoading() {
+        when(protocolManager.isCpInit()).thenReturn(true);
+        when(globalConfig.isDataWarmup()).thenReturn(true);
+        when(protocolManager.getCpProtocol()).thenReturn(cpProtocol);
+        when(distroProtocol.isInitialized()).thenReturn(false);
+        DistroLoadProgress loadProgress = new DistroLoadProgress();
+        loadProgress.start("testType", "1.1.1.1:8848");
+        loadProgress.pageLoaded(100);
+        when(distroProtocol.getLoadProgress()).thenReturn(loadProgress);
+        Optional<String> errorMsg = serverStatusManager.getErrorMsg();
+        assertTrue(errorMsg.isPresent());
+        assertTrue(errorMsg.get().contains("1 pages and 100 bytes loaded"));
+    }
+    
     @Test
     void testGetErrorMsgForRaft() {
         when(protocolManager.isCpInit()).thenReturn(true);
@@ -0,0 +1,181 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster.transport;
+
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.naming.constants.ClientConstants;
+import com.alibaba.nacos.naming.constants.Constants;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncData;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncDatumSnapshot;
+import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactBinarySerializerTest {
+    
+    private CompactBinarySerializer serializer;
+    
+    @BeforeEach
+    void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        DistroConfig.getInstance().setSyncCompactEnabled(true);
+        serializer = new CompactBinarySerializer();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        DistroConfig.getInstance().setSyncCompactEnabled(false);
+    }
+    
+    @Test
+    void testSerializeClientSyncData() {
+        ClientSyncData expected = mockClientSyncData("1.1.1.1:8848#true");
+        byte[] data = serializer.serialize(expected);
+        assertTrue(CompactBinarySerializer.isCompact(data));
+        assertTrue(data.length < new JacksonSerializer().serialize(expected).length);
+        ClientSyncData actual = serializer.deserialize(data, ClientSyncData.class);
+        assertEquals(expected.getClientId(), actual.getClientId());
+        assertEquals(100, (int) actual.getAttributes().getClientAttribute(ClientConstants.REVISION));
+        assertEquals(expected.getNamespaces(), actual.getNamespaces());
+        assertEquals(expected.getGroupNames(), actual.getGroupNames());
+        assertEquals(expected.getServiceNames(), actual.getServiceNames());
+        assertEquals(expected.getInstancePublishInfos(), actual.getInstancePublishInfos());
+        assertEquals("cluster", actual.getInstancePublishInfos().get(0).getCluster());
+        assertEquals(expected.getBatchInstanceData().getNamespaces(), actual.getBatchInstanceData().getNamespaces());
+        assertEquals(expected.getBatchInstanceData().getServiceNames(),
+                actual.getBatchInstanceData().getServiceNames());
+        assertEquals(expected.getBatchInstanceData().getBatchInstancePublishInfos(),
+                actual.getBatchInstanceData().getBatchInstancePublishInfos());
+    }
+    
+    @Test
+    void testSerializeValueTypeAsJackson() {
+        ClientSyncData expected = mockClientSyncData("1.1.1.1:8848#true");
+        expected.getAttributes().addClientAttribute("long", Long.MAX_VALUE);
+        expected.getAttributes().addClientAttribute("negative", -1L);
+        expected.getAttributes().addClientAttribute("object", Collections.singletonMap("key", "value"));
+        ClientSyncData json = new JacksonSerializer()
+                .deserialize(new JacksonSerializer().serialize(expected), ClientSyncData.class);
+        ClientSyncData actual = serializer.deserialize(serializer.serialize(expected), ClientSyncData.class);
+        assertEquals(json.getAttributes().getClientAttributes(), actual.getAttributes().getClientAttributes());
+        assertEquals(Integer.class, actual.getAttributes().getClientAttribute(ClientConstants.REVISION).getClass());
+        assertEquals(json.getInstancePublishInfos().get(0).getExtendDatum(),
+                actual.getInstancePublishInfos().get(0).getExtendDatum());
+    }
+    
+    @Test
+    void testSerializeEmptyClientSyncData() {
+        ClientSyncData expected = new ClientSyncData();
+        expected.setClientId("1.1.1.1:8848#true");
+        ClientSyncData actual = serializer.deserialize(serializer.serialize(expected), ClientSyncData.class);
+        assertEquals(expected.getClientId(), actual.getClientId());
+        assertNull(actual.getAttributes());
+        assertNull(actual.getInstancePublishInfos());
+        assertNull(actual.getBatchInstanceData());
+    }
+    
+    @Test
+    void testDeserializeSnapshotByChunk() {
+        int clientCount = CompactBinarySerializer.CHUNK_SIZE * 2 + 1;
+        ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
+        for (int i = 0; i < clientCount; i++) {
+            snapshot.getClientSyncDataList().add(mockClientSyncData("1.1.1.1:" + i + "#true"));
+        }
+        byte[] data = serializer.serialize(snapshot);
+        List<String> actual = new LinkedList<>();
+        CompactBinarySerializer.deserializeSnapshot(data, each -> actual.add(each.getClientId()));
+        assertEquals(clientCount, actual.size());
+        assertEquals("1.1.1.1:" + (clientCount - 1) + "#true", actual.get(clientCount - 1));
+        ClientSyncDatumSnapshot actualSnapshot = serializer.deserialize(data, ClientSyncDatumSnapshot.class);
+        assertEquals(clientCount, actualSnapshot.getClientSyncDataList().size());
+    }
+    
+    @Test
+    void testSerializeWithoutCompactEnabled() {
+        DistroConfig.getInstance().setSyncCompactEnabled(false);
+        ClientSyncData expected = mockClientSyncData("1.1.1.1:8848#true");
+        byte[] data = serializer.serialize(expected);
+        assertFalse(CompactBinarySerializer.isCompact(data));
+        assertArrayEquals(new JacksonSerializer().serialize(expected), data);
+        assertEquals(expected.getClientId(), serializer.deserialize(data, ClientSyncData.class).getClientId());
+    }
+    
+    @Test
+    void testSerializeOtherData() {
+        SwitchDomain switchDomain = new SwitchDomain();
+        byte[] data = serializer.serialize(switchDomain);
+        assertFalse(CompactBinarySerializer.isCompact(data));
+        assertEquals(switchDomain.getName(), serializer.deserialize(data, SwitchDomain.class).getName());
+    }
+    
+    @Test
+    void testDeserializeIllegalData() {
+        byte[] data = serializer.serialize(mockClientSyncData("1.1.1.1:8848#true"));
+        byte[] truncated = Arrays.copyOf(data, data.length / 2);
+        assertThrows(NacosDeserializationException.class,
+                () -> serializer.deserialize(truncated, ClientSyncData.class));
+        assertThrows(NacosDeserializationException.class, () -> serializer.deserialize(data, SwitchDomain.class));
+        byte[] newVersion = Arrays.copyOf(data, data.length);
+        newVersion[1] = CompactBinarySerializer.VERSION + 1;
+        assertThrows(NacosDeserializationException.class,
+                () -> serializer.deserialize(newVersion, ClientSyncData.class));
+    }
+    
+    private ClientSyncData mockClientSyncData(String clientId) {
+        final IpPortBasedClient client = new IpPortBasedClient(clientId, true);
+        InstancePublishInfo instance = new InstancePublishInfo("1.1.1.1", 8848);
+        instance.setHealthy(true);
+        instance.setCluster("cluster");
+        instance.getExtendDatum().put("key", "value");
+        instance.getExtendDatum().put(Constants.PUBLISH_INSTANCE_WEIGHT, 2.0D);
+        instance.getExtendDatum().put(Constants.PUBLISH_INSTANCE_ENABLE, false);
+        client.addServiceInstance(Service.newService("ns", "group", "service"), instance);
+        List<InstancePublishInfo> batchInstances = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            InstancePublishInfo each = new InstancePublishInfo("2.2.2." + i, 8080);
+            each.setHealthy(0 == i % 3);
+            each.setCluster("cluster");
+            batchInstances.add(each);
+        }
+        BatchInstancePublishInfo batchInstance = new BatchInstancePublishInfo();
+        batchInstance.setInstancePublishInfos(batchInstances);
+        client.addServiceInstance(Service.newService("ns", "group", "batchService"), batchInstance);
+        client.setRevision(100L);
+        return client.generateSyncData();
+    }
+}
@@ -18,9 +18,12 @@ package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
 
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.naming.cluster.transport.CompactBinarySerializer;
+import com.alibaba.nacos.naming.cluster.transport.JacksonSerializer;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -54,6 +57,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -61,6 +65,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -362,6 +367,23 @@ class DistroClientDataProcessorTest {
         assertEquals(1, client.getAllPublishedService().size());
     }
     
+    @Test
+    void testProcessCompactSnapshot() {
+        DistroConfig.getInstance().setSyncCompactEnabled(true);
+        try {
+            ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
+            snapshot.setClientSyncDataList(Collections.singletonList(clientSyncData));
+            distroData.setContent(new CompactBinarySerializer().serialize(snapshot));
+            distroClientDataProcessor.processSnapshot(distroData);
+            verify(serializer, never()).deserialize(any(), eq(ClientSyncDatumSnapshot.class));
+            verify(clientManager).syncClientConnected(eq(CLIENT_ID), any(ClientAttributes.class));
+            assertEquals(1L, client.getRevision());
+            assertEquals(1, client.getAllPublishedService().size());
+        } finally {
+            DistroConfig.getInstance().setSyncCompactEnabled(false);
+        }
+    }
+    
     @Test
     void testGetDistroData() {
         DistroData actual = distroClientDataProcessor.getDistroData(distroKey);
@@ -376,6 +398,32 @@ class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    void testGetDatumSnapshotByPage() {
+        when(applicationContext.getBean(Serializer.class)).thenReturn(new JacksonSerializer());
+        String secondClientId = CLIENT_ID + "2";
+        String thirdClientId = CLIENT_ID + "3";
+        when(clientManager.getClient(secondClientId)).thenReturn(new ConnectionBasedClient(secondClientId, true, 0L));
+        when(clientManager.getClient(thirdClientId)).thenReturn(new ConnectionBasedClient(thirdClientId, true, 0L));
+        when(clientManager.allClientId()).thenReturn(Arrays.asList(thirdClientId, CLIENT_ID, secondClientId));
+        DistroData firstPage = distroClientDataProcessor.getDatumSnapshot(null, 2);
+        assertEquals(DataOperation.SNAPSHOT, firstPage.getType());
+        assertEquals(secondClientId, firstPage.getDistroKey().getResourceKey());
+        List<ClientSyncData> clients = new JacksonSerializer()
+                .deserialize(firstPage.getContent(), ClientSyncDatumSnapshot.class).getClientSyncDataList();
+        assertEquals(2, clients.size());
+        assertEquals(CLIENT_ID, clients.get(0).getClientId());
+        assertEquals(secondClientId, clients.get(1).getClientId());
+        DistroData lastPage = distroClientDataProcessor.getDatumSnapshot(secondClientId, 2);
+        assertNull(lastPage.getDistroKey().getResourceKey());
+        clients = new JacksonSerializer().deserialize(lastPage.getContent(), ClientSyncDatumSnapshot.class)
+                .getClientSyncDataList();
+        assertEquals(1, clients.size());
+        assertEquals(thirdClientId, clients.get(0).getClientId());
+        // the following pages seek the client ids sorted by the first page.
+        verify(clientManager, times(1)).allClientId();
+    }
+    
     @Test
     void testGetVerifyData() {
         client.setRevision(10L);
@@ -386,4 +434,82 @@ class DistroClientDataProcessorTest {
         assertEquals(CLIENT_ID, list.iterator().next().getDistroKey().getResourceKey());
         assertEquals(DistroClientDataProcessor.TYPE, list.iterator().next().getDistroKey().getResourceType());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testGetVerifyDataWithDigest() {
+        DistroConfig.getInstance().setVerifyDigestEnabled(true);
+        try {
+            when(applicationContext.getBean(Serializer.class)).thenReturn(new JacksonSerializer());
+            client.setRevision(10L);
+            when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+            List<DistroData> list = distroClientDataProcessor.getVerifyData();
+            assertEquals(1, list.size());
+            assertEquals(DataOperation.VERIFY, list.get(0).getType());
+            assertTrue(DistroClientDataProcessor.isVerifyDigest(list.get(0)));
+            assertEquals(DistroClientDataProcessor.TYPE, list.get(0).getDistroKey().getResourceType());
+        } finally {
+            DistroConfig.getInstance().setVerifyDigestEnabled(false);
+        }
+    }
+    
+    @Test
+    void testProcessVerifyDigest() {
+        JacksonSerializer jacksonSerializer = new JacksonSerializer();
+        when(applicationContext.getBean(Serializer.class)).thenReturn(jacksonSerializer);
+        when(clientManager.isResponsibleClient(client)).thenReturn(false);
+        client.setRevision(10L);
+        DistroData verifyData = new DistroData(
+                new DistroKey(CLIENT_ID, DistroClientDataProcessor.TYPE, MOCK_TARGET_SERVER),
+                jacksonSerializer.serialize(new DistroClientVerifyInfo(CLIENT_ID, 10L)));
+        distroClientDataProcessor.processVerifyData(verifyData, "2.2.2.2");
+        verify(clientManager).verifyClient(any());
+        // same digest, renew the client from source server.
+        DistroClientHashTree sourceTree = new DistroClientHashTree(4);
+        sourceTree.add(CLIENT_ID, 10L);
+        DistroData actual = distroClientDataProcessor.processVerifyDigest(mockDigest(sourceTree), "2.2.2.2");
+        assertEquals(0, actual.getContent().length);
+        verify(clientManager, times(2)).verifyClient(any());
+        // different digest, return local digest and wait for verify data.
+        sourceTree.add(CLIENT_ID, 11L);
+        actual = distroClientDataProcessor.processVerifyDigest(mockDigest(sourceTree), "2.2.2.2");
+        DistroClientVerifyDigest localDigest = jacksonSerializer
+                .deserialize(actual.getContent(), DistroClientVerifyDigest.class);
+        assertEquals(4, localDigest.getLeaves().length);
+        assertEquals(1, sourceTree.getDifferentLeaves(localDigest).cardinality());
+        verify(clientManager, times(2)).verifyClient(any());
+    }
+    
+    @Test
+    void testProcessInvalidVerifyDigest() {
+        when(applicationContext.getBean(Serializer.class)).thenReturn(new JacksonSerializer());
+        assertNull(distroClientDataProcessor.processVerifyDigest(mockDigest(new DistroClientHashTree(3)), "2.2.2.2"));
+    }
+    
+    private DistroData mockDigest(DistroClientHashTree hashTree) {
+        DistroKey digestKey = new DistroKey(DistroClientDataProcessor.VERIFY_DIGEST_KEY, DistroClientDataProcessor.TYPE,
+                MOCK_TARGET_SERVER);
+        return new DistroData(digestKey, new JacksonSerializer().serialize(hashTree.toDigest()));
+    }
+    
+    @Test
+    void testOnClientVerifyDigestFailedEvent() {
+        JacksonSerializer jacksonSerializer = new JacksonSerializer();
+        when(applicationContext.getBean(Serializer.class)).thenReturn(jacksonSerializer);
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        distroClientDataProcessor.onEvent(new ClientEvent.ClientVerifyDigestFailedEvent(MOCK_TARGET_SERVER, null));
+        verify(distroProtocol).verifyToTarget(eq(DistroClientDataProcessor.TYPE), any(), eq(MOCK_TARGET_SERVER));
+        // same digest, no need to verify in detail
+        DistroClientHashTree targetTree = new DistroClientHashTree(4);
+        targetTree.add(CLIENT_ID, client.getRevision());
+        byte[] targetDigest = jacksonSerializer.serialize(targetTree.toDigest());
+        distroClientDataProcessor
+                .onEvent(new ClientEvent.ClientVerifyDigestFailedEvent(MOCK_TARGET_SERVER, targetDigest));
+        verify(distroProtocol).verifyToTarget(eq(DistroClientDataProcessor.TYPE), any(), eq(MOCK_TARGET_SERVER));
+        // different digest, verify the clients in different leaves
+        targetDigest = jacksonSerializer.serialize(new DistroClientHashTree(4).toDigest());
+        distroClientDataProcessor
+                .onEvent(new ClientEvent.ClientVerifyDigestFailedEvent(MOCK_TARGET_SERVER, targetDigest));
+        verify(distroProtocol, times(2))
+                .verifyToTarget(eq(DistroClientDataProcessor.TYPE), any(), eq(MOCK_TARGET_SERVER));
+    }
+}
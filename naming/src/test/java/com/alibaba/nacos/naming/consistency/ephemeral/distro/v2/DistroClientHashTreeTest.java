@@ -0,0 +1,85 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistroClientHashTreeTest {
+    
+    @Test
+    void testForClientCount() {
+        assertEquals(1, DistroClientHashTree.forClientCount(0).getLeafCount());
+        assertEquals(1, DistroClientHashTree.forClientCount(DistroClientHashTree.CLIENTS_PER_LEAF).getLeafCount());
+        assertEquals(2, DistroClientHashTree.forClientCount(DistroClientHashTree.CLIENTS_PER_LEAF + 1).getLeafCount());
+        assertEquals(4096, DistroClientHashTree.forClientCount(100000).getLeafCount());
+        assertEquals(DistroClientHashTree.MAX_LEAF_COUNT,
+                DistroClientHashTree.forClientCount(Integer.MAX_VALUE).getLeafCount());
+    }
+    
+    @Test
+    void testIsValidDigest() {
+        assertFalse(DistroClientHashTree.isValidDigest(null));
+        assertFalse(DistroClientHashTree.isValidDigest(new DistroClientVerifyDigest()));
+        assertFalse(DistroClientHashTree.isValidDigest(new DistroClientVerifyDigest(0L, new long[0])));
+        assertFalse(DistroClientHashTree.isValidDigest(new DistroClientVerifyDigest(0L, new long[3])));
+        assertTrue(DistroClientHashTree.isValidDigest(new DistroClientVerifyDigest(0L, new long[4])));
+    }
+    
+    @Test
+    void testSameClientsInDifferentOrder() {
+        DistroClientHashTree tree1 = new DistroClientHashTree(16);
+        DistroClientHashTree tree2 = new DistroClientHashTree(16);
+        for (int i = 0; i < 100; i++) {
+            tree1.add("client" + i, i);
+            tree2.add("client" + (99 - i), 99 - i);
+        }
+        assertEquals(tree1.getRoot(), tree2.getRoot());
+        assertTrue(tree1.getDifferentLeaves(tree2.toDigest()).isEmpty());
+    }
+    
+    @Test
+    void testGetDifferentLeaves() {
+        DistroClientHashTree tree1 = new DistroClientHashTree(16);
+        DistroClientHashTree tree2 = new DistroClientHashTree(16);
+        for (int i = 0; i < 100; i++) {
+            tree1.add("client" + i, i);
+            tree2.add("client" + i, 50 == i ? 0 : i);
+        }
+        tree2.add("client100", 100);
+        assertNotEquals(tree1.getRoot(), tree2.getRoot());
+        BitSet actual = tree1.getDifferentLeaves(tree2.toDigest());
+        BitSet expected = new BitSet();
+        expected.set(tree1.leafOf("client50"));
+        expected.set(tree1.leafOf("client100"));
+        assertEquals(expected, actual);
+    }
+    
+    @Test
+    void testGetDifferentLeavesWithoutLeaves() {
+        DistroClientHashTree tree = new DistroClientHashTree(4);
+        tree.add("client", 1L);
+        assertEquals(4, tree.getDifferentLeaves(new DistroClientVerifyDigest(0L, null)).cardinality());
+        assertEquals(4, tree.getDifferentLeaves(new DistroClientVerifyDigest(0L, new long[8])).cardinality());
+    }
+}
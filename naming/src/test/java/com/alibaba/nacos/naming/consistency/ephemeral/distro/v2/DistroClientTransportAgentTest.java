@@ -24,10 +24,12 @@ import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
+import com.alibaba.nacos.core.distributed.distro.component.DistroBatchCallback;
 import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
@@ -43,10 +45,17 @@ import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
@@ -71,6 +80,9 @@ class DistroClientTransportAgentTest {
     @Mock
     DistroCallback distroCallback;
     
+    @Mock
+    DistroBatchCallback distroBatchCallback;
+    
     @InjectMocks
     DistroClientTransportAgent transportAgent;
     
@@ -344,6 +356,44 @@ class DistroClientTransportAgentTest {
         verify(distroCallback).onFailed(null);
     }
     
+    @Test
+    void testSyncBatchData() throws NacosException {
+        DistroData successData = new DistroData(new DistroKey("1", DistroClientDataProcessor.TYPE), new byte[1]);
+        DistroData failedData = new DistroData(new DistroKey("2", DistroClientDataProcessor.TYPE), new byte[1]);
+        final List<DistroData> batchData = Arrays.asList(successData, failedData);
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        assertTrue(transportAgent.supportBatchTransport());
+        transportAgent.syncBatchData(batchData, member.getAddress(), distroBatchCallback);
+        verify(distroBatchCallback).onSuccess();
+        ((DistroDataResponse) response).setFailedDistroKeys(Collections.singletonList(failedData.getDistroKey()));
+        transportAgent.syncBatchData(batchData, member.getAddress(), distroBatchCallback);
+        verify(distroBatchCallback).onFailed(Collections.singletonList(failedData), null);
+        response.setErrorInfo(ResponseCode.FAIL.getCode(), "TEST");
+        transportAgent.syncBatchData(batchData, member.getAddress(), distroBatchCallback);
+        verify(distroBatchCallback).onBatchUnsupported();
+    }
+    
+    @Test
+    void testSyncVerifyDigestWithCallback() throws NacosException {
+        DistroData verifyDigest = new DistroData();
+        verifyDigest.setDistroKey(new DistroKey(DistroClientDataProcessor.VERIFY_DIGEST_KEY,
+                DistroClientDataProcessor.TYPE));
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        ((DistroDataResponse) response).setDistroData(new DistroData(verifyDigest.getDistroKey(), new byte[0]));
+        transportAgent.syncVerifyData(verifyDigest, member.getAddress(), distroCallback);
+        assertEquals(member.getAddress(), verifyDigest.getDistroKey().getTargetServer());
+        verify(distroCallback).onSuccess();
+        ((DistroDataResponse) response).setDistroData(new DistroData(verifyDigest.getDistroKey(), new byte[1]));
+        transportAgent.syncVerifyData(verifyDigest, member.getAddress(), distroCallback);
+        verify(distroCallback).onFailed(null);
+    }
+    
     @Test
     void testSyncVerifyDataWithCallbackException() throws NacosException {
         DistroData verifyData = new DistroData();
@@ -495,4 +545,26 @@ class DistroClientTransportAgentTest {
         when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
         transportAgent.getDatumSnapshot(member.getAddress());
     }
+    
+    @Test
+    void testGetDatumSnapshotByPage() throws NacosException {
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        ((DistroDataResponse) response).setDistroData(new DistroData(new DistroKey("2", DistroClientDataProcessor.TYPE),
+                new byte[1]));
+        ((DistroDataResponse) response).setNextSnapshotCursor("2");
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+        assertTrue(transportAgent.supportPagedSnapshot());
+        DistroData actual = transportAgent.getDatumSnapshot(member.getAddress(), "1", 2);
+        assertEquals("2", actual.getDistroKey().getResourceKey());
+        assertEquals(1, actual.getContent().length);
+        verify(clusterRpcClientProxy).sendRequest(eq(member), argThat(request -> {
+            DistroDataRequest distroDataRequest = (DistroDataRequest) request;
+            return "1".equals(distroDataRequest.getSnapshotCursor()) && 2 == distroDataRequest.getSnapshotPageSize();
+        }), any(Long.class));
+        // server without paged snapshot ability returns all snapshot without next cursor
+        ((DistroDataResponse) response).setNextSnapshotCursor(null);
+        assertNull(transportAgent.getDatumSnapshot(member.getAddress(), "1", 2).getDistroKey().getResourceKey());
+    }
 }
@@ -23,6 +23,7 @@ import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientVeri
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.client.ClientAttributes;
 import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.misc.ClientConfig;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -105,6 +106,18 @@ class ConnectionBasedClientManagerTest {
         assertTrue(connectionBasedClientManager.isResponsibleClient(client));
     }
     
+    @Test
+    void testCleanExpiredClients() {
+        ConnectionBasedClientManager.ExpiredClientCleaner cleaner =
+                new ConnectionBasedClientManager.ExpiredClientCleaner(connectionBasedClientManager);
+        long currentTime = System.currentTimeMillis();
+        cleaner.cleanExpiredClients(currentTime + 1000L);
+        assertTrue(connectionBasedClientManager.contains(connectionId));
+        // The synced client expires if not renewed by verify.
+        cleaner.cleanExpiredClients(currentTime + ClientConfig.getInstance().getClientExpiredTime() * 2);
+        assertFalse(connectionBasedClientManager.contains(connectionId));
+    }
+    
     @AfterEach
     void tearDown() {
         connectionBasedClientManager.clientDisConnected(connection);
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.core.v2.client.manager.impl;
 
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientVerifyInfo;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.DistroMapper;
@@ -114,4 +115,18 @@ class EphemeralIpPortClientManagerTest {
         assertFalse(ephemeralIpPortClientManager.verifyClient(new DistroClientVerifyInfo(syncedClientId, 1)));
         assertTrue(ephemeralIpPortClientManager.verifyClient(new DistroClientVerifyInfo(syncedClientId, 5120)));
     }
+    
+    @Test
+    void testCleanExpiredClients() {
+        EphemeralIpPortClientManager.ExpiredClientCleaner cleaner =
+                new EphemeralIpPortClientManager.ExpiredClientCleaner(ephemeralIpPortClientManager, switchDomain);
+        long currentTime = System.currentTimeMillis();
+        cleaner.cleanExpiredClients(currentTime + 1000L);
+        assertTrue(ephemeralIpPortClientManager.contains(syncedClientId));
+        // The synced client without any service expires after ip delete timeout.
+        cleaner.cleanExpiredClients(currentTime + Constants.DEFAULT_IP_DELETE_TIMEOUT * 2);
+        assertFalse(ephemeralIpPortClientManager.contains(syncedClientId));
+        // The mock client is not ephemeral, it won't expire.
+        assertTrue(ephemeralIpPortClientManager.contains(ephemeralIpPortId));
+    }
 }
@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.core.v2.event.publisher;
 
 import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.PartitionedEventPublisher;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,8 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NamingEventPublisherFactoryTest {
     
@@ -61,4 +64,22 @@ class NamingEventPublisherFactoryTest {
                 "Naming event publisher statues:\n" + "\tPublisher TestEvent                     : shutdown=false, queue=      0/8      \n";
         assertThat(NamingEventPublisherFactory.getInstance().getAllPublisherStatues(), is(expectedStatus));
     }
+    
+    @Test
+    void testApplyWithPartitions() {
+        String property = PartitionedEventPublisher.PARTITIONS_PROPERTY_PREFIX + TestEvent.class.getSimpleName();
+        System.setProperty(property, "2");
+        try {
+            EventPublisher publisher = NamingEventPublisherFactory.getInstance()
+                    .apply(TestEvent.TestEvent1.class, Byte.SIZE);
+            assertTrue(publisher instanceof PartitionedEventPublisher);
+            assertEquals(2, ((PartitionedEventPublisher) publisher).getPartitions().size());
+            String expectedStatus = "Naming event publisher statues:\n"
+                    + "\tPublisher TestEvent                     : shutdown=false, queue=      0/8      \n"
+                    + "\tPublisher TestEvent                     : shutdown=false, queue=      0/8      \n";
+            assertThat(NamingEventPublisherFactory.getInstance().getAllPublisherStatues(), is(expectedStatus));
+        } finally {
+            System.clearProperty(property);
+        }
+    }
 }
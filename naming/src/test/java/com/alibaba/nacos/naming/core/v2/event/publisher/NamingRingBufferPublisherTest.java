@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.event.publisher;
+
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NamingRingBufferPublisherTest {
+    
+    @Mock
+    private Subscriber subscriber;
+    
+    @Mock
+    private SmartSubscriber smartSubscriber;
+    
+    private NamingRingBufferPublisher publisher;
+    
+    @BeforeEach
+    void setUp() {
+        publisher = new NamingRingBufferPublisher();
+        publisher.init(TestEvent.class, Byte.SIZE);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+    
+    @Test
+    void testAddSubscriber() {
+        publisher.addSubscriber(subscriber, TestEvent.TestEvent1.class);
+        publisher.addSubscriber(smartSubscriber, TestEvent.TestEvent2.class);
+        TestEvent.TestEvent1 testEvent1 = new TestEvent.TestEvent1();
+        TestEvent.TestEvent2 testEvent2 = new TestEvent.TestEvent2();
+        publisher.publish(testEvent1);
+        publisher.publish(testEvent2);
+        verify(subscriber, timeout(2000L)).onEvent(testEvent1);
+        verify(smartSubscriber, timeout(2000L)).onEvent(testEvent2);
+        verify(subscriber, never()).onEvent(testEvent2);
+    }
+    
+    @Test
+    void testRemoveSubscriber() {
+        publisher.addSubscriber(subscriber, TestEvent.TestEvent1.class);
+        publisher.addSubscriber(smartSubscriber, TestEvent.TestEvent1.class);
+        TestEvent.TestEvent1 testEvent1 = new TestEvent.TestEvent1();
+        publisher.publish(testEvent1);
+        verify(subscriber, timeout(2000L)).onEvent(testEvent1);
+        verify(smartSubscriber, timeout(2000L)).onEvent(testEvent1);
+        publisher.removeSubscriber(smartSubscriber, TestEvent.TestEvent1.class);
+        TestEvent.TestEvent1 testEvent2 = new TestEvent.TestEvent1();
+        publisher.publish(testEvent2);
+        verify(subscriber, timeout(2000L)).onEvent(testEvent2);
+        verify(smartSubscriber, never()).onEvent(testEvent2);
+    }
+    
+    @Test
+    void testGetStatus() {
+        publisher.publish(new TestEvent());
+        publisher.publish(new TestEvent.TestEvent1());
+        String expectedStatus = "Publisher TestEvent                     : shutdown=false, queue=      2/8      ";
+        assertThat(publisher.getStatus(), is(expectedStatus));
+        publisher.addSubscriber(subscriber, TestEvent.TestEvent1.class);
+        ThreadUtils.sleep(2000L);
+        expectedStatus = "Publisher TestEvent                     : shutdown=false, queue=      0/8      ";
+        assertThat(publisher.getStatus(), is(expectedStatus));
+        publisher.shutdown();
+        expectedStatus = "Publisher TestEvent                     : shutdown= true, queue=      0/8      ";
+        assertThat(publisher.getStatus(), is(expectedStatus));
+    }
+}
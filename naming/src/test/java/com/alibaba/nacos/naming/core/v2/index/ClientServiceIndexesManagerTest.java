@@ -36,6 +36,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -195,4 +199,37 @@ class ClientServiceIndexesManagerTest {
         assertEquals(1, allClientsSubscribeService.size());
     }
     
-}
\ No newline at end of file
+    @Test
+    void testConcurrentOperationOfDifferentClients() throws InterruptedException {
+        Service concurrentService = Service.newService("namespace", "group", "concurrent");
+        int clientCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(clientCount);
+        CountDownLatch latch = new CountDownLatch(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            String keepClientId = "keep" + i;
+            String tempClientId = "temp" + i;
+            executor.execute(() -> {
+                clientServiceIndexesManager.onEvent(
+                        new ClientOperationEvent.ClientRegisterServiceEvent(concurrentService, keepClientId));
+                clientServiceIndexesManager.onEvent(
+                        new ClientOperationEvent.ClientSubscribeServiceEvent(concurrentService, keepClientId));
+                for (int j = 0; j < 200; j++) {
+                    clientServiceIndexesManager.onEvent(
+                            new ClientOperationEvent.ClientRegisterServiceEvent(concurrentService, tempClientId));
+                    clientServiceIndexesManager.onEvent(
+                            new ClientOperationEvent.ClientDeregisterServiceEvent(concurrentService, tempClientId));
+                    clientServiceIndexesManager.onEvent(
+                            new ClientOperationEvent.ClientSubscribeServiceEvent(concurrentService, tempClientId));
+                    clientServiceIndexesManager.onEvent(
+                            new ClientOperationEvent.ClientUnsubscribeServiceEvent(concurrentService, tempClientId));
+                    clientServiceIndexesManager.removePublisherIndexesByEmptyService(concurrentService);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdownNow();
+        assertEquals(clientCount, clientServiceIndexesManager.getAllClientsRegisteredService(concurrentService).size());
+        assertEquals(clientCount, clientServiceIndexesManager.getAllClientsSubscribeService(concurrentService).size());
+    }
+}
@@ -18,7 +18,10 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
@@ -43,6 +46,9 @@ import java.util.concurrent.ConcurrentMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceStorageTest {
@@ -155,12 +161,74 @@ class ServiceStorageTest {
     @Test
     void testParseInstance() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         Class<ServiceStorage> serviceStorageClass = ServiceStorage.class;
-        Method parseInstance = serviceStorageClass.getDeclaredMethod("parseInstance", Service.class, InstancePublishInfo.class);
+        Method parseInstance = serviceStorageClass.getDeclaredMethod("parseInstance", Service.class, InstancePublishInfo.class,
+                InstanceMetadata.class);
         parseInstance.setAccessible(true);
-        Instance instance = (Instance) parseInstance.invoke(serviceStorage, SERVICE, instancePublishInfo);
+        InstanceMetadata instanceMetadata = new InstanceMetadata();
+        instanceMetadata.setWeight(2.0D);
+        Instance instance = (Instance) parseInstance.invoke(serviceStorage, SERVICE, instancePublishInfo, instanceMetadata);
         
-        Mockito.verify(namingMetadataManager).getInstanceMetadata(SERVICE, instancePublishInfo.getMetadataId());
         assertNotNull(instance);
+        assertEquals(2.0D, instance.getWeight());
     }
     
-}
\ No newline at end of file
+    @Test
+    void testGetAllInstancesFromIndexReuseParsedInstance() throws Exception {
+        Method getAllInstancesFromIndex = ServiceStorage.class.getDeclaredMethod("getAllInstancesFromIndex", Service.class);
+        getAllInstancesFromIndex.setAccessible(true);
+        InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        Client client = Mockito.mock(Client.class);
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE)).thenReturn(Collections.singletonList(NACOS));
+        Mockito.when(clientManagerDelegate.getClient(NACOS)).thenReturn(client);
+        Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(publishInfo);
+        Mockito.when(namingMetadataManager.getInstanceMetadata(SERVICE, publishInfo.getMetadataId())).thenReturn(Optional.empty());
+        List<Instance> first = (List<Instance>) getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
+        List<Instance> second = (List<Instance>) getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
+        assertEquals(1, first.size());
+        assertSame(first.get(0), second.get(0));
+        
+        publishInfo.setHealthy(true);
+        List<Instance> third = (List<Instance>) getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
+        assertNotSame(first.get(0), third.get(0));
+        assertTrue(third.get(0).isHealthy());
+        
+        InstancePublishInfo newPublishInfo = new InstancePublishInfo("1.1.1.1", 8849);
+        Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(newPublishInfo);
+        serviceStorage.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(SERVICE, NACOS));
+        List<Instance> fourth = (List<Instance>) getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
+        assertEquals(8849, fourth.get(0).getPort());
+    }
+    
+    @Test
+    void testGetAllInstancesFromIndexDropRemovedClient() throws Exception {
+        Method getAllInstancesFromIndex = ServiceStorage.class.getDeclaredMethod("getAllInstancesFromIndex", Service.class);
+        getAllInstancesFromIndex.setAccessible(true);
+        Field parsedInstanceIndexes = ServiceStorage.class.getDeclaredField("parsedInstanceIndexes");
+        parsedInstanceIndexes.setAccessible(true);
+        final ConcurrentMap<Service, ConcurrentMap<String, ?>> indexes = (ConcurrentMap<Service, ConcurrentMap<String, ?>>) parsedInstanceIndexes
+                .get(serviceStorage);
+        InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        Client client = Mockito.mock(Client.class);
+        Set<String> registeredClients = new HashSet<>(Collections.singletonList(NACOS));
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE)).thenReturn(registeredClients);
+        Mockito.when(clientManagerDelegate.getClient(NACOS)).thenReturn(client);
+        Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(publishInfo);
+        Mockito.when(namingMetadataManager.getInstanceMetadata(SERVICE, publishInfo.getMetadataId())).thenReturn(Optional.empty());
+        getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
+        assertTrue(indexes.get(SERVICE).containsKey(NACOS));
+        
+        // client deregistered but the index of service has not been updated yet
+        Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(null);
+        List<Instance> instances = (List<Instance>) getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
+        assertTrue(instances.isEmpty());
+        assertFalse(indexes.get(SERVICE).containsKey(NACOS));
+        
+        // parsed instances of client which is not publisher any more should be dropped
+        Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(publishInfo);
+        serviceStorage.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(SERVICE, NACOS));
+        assertTrue(indexes.get(SERVICE).containsKey(NACOS));
+        registeredClients.clear();
+        getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
+        assertFalse(indexes.get(SERVICE).containsKey(NACOS));
+    }
+}
@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.push.v2;
 
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
 import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
@@ -41,6 +42,7 @@ import java.util.LinkedList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -120,4 +122,12 @@ class NamingSubscriberServiceV2ImplTest {
         subscriberService.onEvent(new ServiceEvent.ServiceChangedEvent(service));
         verify(delayTaskEngine).addTask(eq(service), any(PushDelayTask.class));
     }
+    
+    @Test
+    void onServiceRemovedEvent() {
+        subscriberService.onEvent(new MetadataEvent.ServiceMetadataEvent(service, false));
+        verify(delayTaskEngine, never()).removePushData(service);
+        subscriberService.onEvent(new MetadataEvent.ServiceMetadataEvent(service, true));
+        verify(delayTaskEngine).removePushData(service);
+    }
 }
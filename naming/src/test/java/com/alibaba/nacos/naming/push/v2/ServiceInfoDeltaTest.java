@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServiceInfoDeltaTest {
+    
+    @Test
+    void testDiff() {
+        Instance modifiedBefore = buildInstance("1.1.1.1", true);
+        Instance modifiedAfter = buildInstance("1.1.1.1", false);
+        Instance unchanged = buildInstance("2.2.2.2", true);
+        Instance removed = buildInstance("3.3.3.3", true);
+        Instance added = buildInstance("4.4.4.4", true);
+        ServiceInfo previous = buildServiceInfo(modifiedBefore, unchanged, removed);
+        ServiceInfo current = buildServiceInfo(modifiedAfter, unchanged, added);
+        current.setClusters("c1");
+        current.setReachProtectionThreshold(true);
+        ServiceInfoDelta delta = ServiceInfoDelta.diff(previous, current);
+        assertEquals(3, delta.size());
+        assertEquals(Arrays.asList(modifiedAfter, added), delta.getChangedHosts());
+        assertEquals(Arrays.asList(removed), delta.getRemovedHosts());
+        assertFalse(delta.isCheaperThan(current));
+        ServiceInfo actual = delta.toServiceInfo(current);
+        assertEquals(current.getKey(), actual.getKey());
+        assertTrue(actual.isReachProtectionThreshold());
+        assertEquals(2, actual.getHosts().size());
+    }
+    
+    @Test
+    void testDiffWithoutChange() {
+        ServiceInfo previous = buildServiceInfo(buildInstance("1.1.1.1", true));
+        ServiceInfo current = buildServiceInfo(buildInstance("1.1.1.1", true));
+        ServiceInfoDelta delta = ServiceInfoDelta.diff(previous, current);
+        assertEquals(0, delta.size());
+        assertTrue(delta.isCheaperThan(current));
+    }
+    
+    private ServiceInfo buildServiceInfo(Instance... instances) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        result.setHosts(new ArrayList<>(Arrays.asList(instances)));
+        return result;
+    }
+    
+    private Instance buildInstance(String ip, boolean healthy) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setHealthy(healthy);
+        return result;
+    }
+}
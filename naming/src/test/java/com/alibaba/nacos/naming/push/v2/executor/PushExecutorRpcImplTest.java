@@ -16,10 +16,13 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
@@ -32,6 +35,7 @@ import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -39,10 +43,17 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
@@ -69,6 +80,12 @@ class PushExecutorRpcImplTest {
     @Mock
     private ConfigurableApplicationContext context;
     
+    @Mock
+    private ConnectionManager connectionManager;
+    
+    @Mock
+    private Connection connection;
+    
     private PushDataWrapper pushData;
     
     private PushExecutorRpcImpl pushExecutor;
@@ -80,7 +97,7 @@ class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, connectionManager);
         EnvUtil.setEnvironment(new MockEnvironment());
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
@@ -97,19 +114,91 @@ class PushExecutorRpcImplTest {
     @Test
     void testDoPushWithCallback() {
         doAnswer(new CallbackAnswer()).when(pushService)
-                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), eq(pushCallBack),
+                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), any(byte[].class),
+                        eq(pushCallBack),
                         eq(GlobalExecutor.getCallbackExecutor()));
         pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushWithCallbackForDelta() {
+        Instance unchanged = buildInstance("1.1.1.1");
+        Instance removed = buildInstance("2.2.2.2");
+        Instance added = buildInstance("3.3.3.3");
+        ServiceInfo previousServiceInfo = new ServiceInfo("G@@S");
+        previousServiceInfo.setHosts(new ArrayList<>(Arrays.asList(unchanged, removed, buildInstance("4.4.4.4"),
+                buildInstance("5.5.5.5"))));
+        PushDataWrapper previous = new PushDataWrapper(serviceMetadata, previousServiceInfo, 1L);
+        ServiceInfo currentServiceInfo = new ServiceInfo("G@@S");
+        currentServiceInfo.setHosts(new ArrayList<>(Arrays.asList(unchanged, added, buildInstance("4.4.4.4"),
+                buildInstance("5.5.5.5"))));
+        PushDataWrapper current = new PushDataWrapper(serviceMetadata, currentServiceInfo, 2L);
+        current.setPreviousData(previous);
+        when(subscriber.getPushedRevision()).thenReturn(1L);
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        when(connection.getAbilityTable()).thenReturn(
+                Collections.singletonMap(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_PUSH.getName(), true));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, current, pushCallBack);
+        ArgumentCaptor<NotifySubscriberRequest> captor = ArgumentCaptor.forClass(NotifySubscriberRequest.class);
+        verify(pushService).pushWithCallback(eq(rpcClientId), captor.capture(), any(byte[].class),
+                eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+        NotifySubscriberRequest actual = captor.getValue();
+        assertTrue(actual.isDeltaPush());
+        assertEquals(1L, actual.getBaseRevision());
+        assertEquals(2L, actual.getRevision());
+        assertEquals(1, actual.getServiceInfo().getHosts().size());
+        assertEquals(added, actual.getServiceInfo().getHosts().get(0));
+        assertEquals(1, actual.getRemovedHosts().size());
+        assertEquals(removed, actual.getRemovedHosts().get(0));
+    }
+    
+    @Test
+    void testDoPushWithCallbackForFullWhenRevisionMismatch() {
+        PushDataWrapper previous = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"), 1L);
+        PushDataWrapper current = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"), 2L);
+        current.setPreviousData(previous);
+        when(subscriber.getPushedRevision()).thenReturn(0L);
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, current, pushCallBack);
+        ArgumentCaptor<NotifySubscriberRequest> captor = ArgumentCaptor.forClass(NotifySubscriberRequest.class);
+        verify(pushService).pushWithCallback(eq(rpcClientId), captor.capture(), any(byte[].class),
+                eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+        assertFalse(captor.getValue().isDeltaPush());
+        assertEquals(2L, captor.getValue().getRevision());
+    }
+    
+    @Test
+    void testDoPushWithCallbackShareSerializedPayload() {
+        Subscriber anotherSubscriber = new Subscriber("2.2.2.2:2222", "", "", "2.2.2.2", "", "G@@S", 2222);
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        pushExecutor.doPushWithCallback("anotherClientId", anotherSubscriber, pushData, pushCallBack);
+        ArgumentCaptor<NotifySubscriberRequest> requestCaptor = ArgumentCaptor.forClass(NotifySubscriberRequest.class);
+        ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(pushService).pushWithCallback(eq(rpcClientId), requestCaptor.capture(), bodyCaptor.capture(),
+                eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+        verify(pushService).pushWithCallback(eq("anotherClientId"), requestCaptor.capture(), bodyCaptor.capture(),
+                eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+        assertSame(bodyCaptor.getAllValues().get(0), bodyCaptor.getAllValues().get(1));
+        assertNotSame(requestCaptor.getAllValues().get(0), requestCaptor.getAllValues().get(1));
+        assertSame(requestCaptor.getAllValues().get(0).getServiceInfo(),
+                requestCaptor.getAllValues().get(1).getServiceInfo());
+        verify(selectorManager).select(any(), any(), any());
+    }
+    
+    private Instance buildInstance(String ip) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8848);
+        return result;
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
         public Void answer(InvocationOnMock invocationOnMock) throws Throwable {
             NotifySubscriberRequest pushRequest = invocationOnMock.getArgument(1);
             assertEquals(pushData.getOriginalData().toString(), pushRequest.getServiceInfo().toString());
-            PushCallBack callBack = invocationOnMock.getArgument(2);
+            PushCallBack callBack = invocationOnMock.getArgument(3);
             callBack.onSuccess();
             return null;
         }
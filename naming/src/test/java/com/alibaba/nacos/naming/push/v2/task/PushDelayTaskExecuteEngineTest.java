@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.push.v2.task;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
@@ -33,16 +34,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class PushDelayTaskExecuteEngineTest {
     
     private final Service service = Service.newService("N", "G", "S");
@@ -99,4 +112,71 @@ class PushDelayTaskExecuteEngineTest {
         verify(pushExecutor).doPushWithCallback(anyString(), any(Subscriber.class), any(PushDataWrapper.class),
                 any(NamingPushCallback.class));
     }
+    
+    @Test
+    void testRecordPushData() {
+        PushDataWrapper first = executeEngine.recordPushData(service, null, newServiceInfo("1.1.1.1"));
+        assertFalse(first.getPreviousData().isPresent());
+        PushDataWrapper second = executeEngine.recordPushData(service, null, newServiceInfo("1.1.1.1", "1.1.1.2"));
+        assertTrue(second.getRevision() > first.getRevision());
+        assertSame(first, second.getPreviousData().get());
+        PushDataWrapper third = executeEngine.recordPushData(service, null, newServiceInfo("1.1.1.2"));
+        assertSame(second, third.getPreviousData().get());
+        assertFalse(second.getPreviousData().isPresent());
+        executeEngine.removePushData(service);
+        assertFalse(executeEngine.recordPushData(service, null, newServiceInfo("1.1.1.2")).getPreviousData().isPresent());
+    }
+    
+    @Test
+    void testRecordPushDataWithoutChange() {
+        PushDataWrapper first = executeEngine.recordPushData(service, null, newServiceInfo("1.1.1.1"));
+        PushDataWrapper second = executeEngine.recordPushData(service, null, newServiceInfo("1.1.1.1"));
+        assertSame(first, second);
+        Instance changed = newInstance("1.1.1.1");
+        changed.setWeight(2.0D);
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        serviceInfo.addHost(changed);
+        PushDataWrapper third = executeEngine.recordPushData(service, null, serviceInfo);
+        assertNotSame(first, third);
+        assertSame(first, third.getPreviousData().get());
+    }
+    
+    @Test
+    void testSubscribeBetweenChangesKeepDeltaForOthers() throws InterruptedException {
+        String newClientId = "newClient";
+        Client newClient = mock(Client.class);
+        Subscriber newSubscriber = mock(Subscriber.class);
+        when(clientManager.getClient(newClientId)).thenReturn(newClient);
+        when(newClient.getSubscriber(service)).thenReturn(newSubscriber);
+        List<PushDataWrapper> pushedData = new CopyOnWriteArrayList<>();
+        doAnswer(invocationOnMock -> pushedData.add(invocationOnMock.getArgument(2))).when(pushExecutor)
+                .doPushWithCallback(anyString(), any(Subscriber.class), any(PushDataWrapper.class),
+                        any(NamingPushCallback.class));
+        when(serviceStorage.getPushData(service)).thenAnswer(invocationOnMock -> newServiceInfo("1.1.1.1"));
+        new PushExecuteTask(service, executeEngine, new PushDelayTask(service, 0L)).run();
+        new PushExecuteTask(service, executeEngine, new PushDelayTask(service, 0L, newClientId)).run();
+        when(serviceStorage.getPushData(service)).thenAnswer(invocationOnMock -> newServiceInfo("1.1.1.1", "1.1.1.2"));
+        new PushExecuteTask(service, executeEngine, new PushDelayTask(service, 0L)).run();
+        assertEquals(3, pushedData.size());
+        long firstRevision = pushedData.get(0).getRevision();
+        assertEquals(firstRevision, pushedData.get(1).getRevision());
+        PushDataWrapper changed = pushedData.get(2);
+        assertTrue(changed.getRevision() > firstRevision);
+        assertEquals(firstRevision, changed.getPreviousData().get().getRevision());
+    }
+    
+    private ServiceInfo newServiceInfo(String... ips) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        for (String each : ips) {
+            result.addHost(newInstance(each));
+        }
+        return result;
+    }
+    
+    private Instance newInstance(String ip) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8848);
+        return result;
+    }
 }
@@ -26,6 +26,7 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.NoRequiredRetryException;
+import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -96,6 +97,9 @@ class PushExecuteTaskTest {
         when(delayTaskExecuteEngine.getServiceStorage()).thenReturn(serviceStorage);
         when(delayTaskExecuteEngine.getMetadataManager()).thenReturn(metadataManager);
         when(metadataManager.getServiceMetadata(service)).thenReturn(Optional.empty());
+        when(delayTaskExecuteEngine.recordPushData(eq(service), any(), any())).thenAnswer(
+                invocationOnMock -> new PushDataWrapper(invocationOnMock.getArgument(1), invocationOnMock.getArgument(2),
+                        1L));
         ApplicationUtils.injectContext(context);
     }
     
@@ -105,6 +109,7 @@ class PushExecuteTaskTest {
         PushExecuteTask executeTask = new PushExecuteTask(service, delayTaskExecuteEngine, delayTask);
         executeTask.run();
         assertEquals(1, MetricsMonitor.getTotalPushMonitor().get());
+        verify(subscriber).updatePushedRevision(1L);
     }
     
     @Test
@@ -145,5 +150,6 @@ class PushExecuteTaskTest {
         executeTask.run();
         assertEquals(1, MetricsMonitor.getFailedPushMonitor().get());
         verify(delayTaskExecuteEngine).addTask(eq(service), any(PushDelayTask.class));
+        verify(subscriber).resetPushedRevision();
     }
 }
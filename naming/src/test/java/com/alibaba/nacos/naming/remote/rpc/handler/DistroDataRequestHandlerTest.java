@@ -22,8 +22,10 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -31,6 +33,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+
 import static com.alibaba.nacos.consistency.DataOperation.ADD;
 import static com.alibaba.nacos.consistency.DataOperation.DELETE;
 import static com.alibaba.nacos.consistency.DataOperation.QUERY;
@@ -84,4 +88,53 @@ class DistroDataRequestHandlerTest {
         DistroDataResponse response4 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         assertNull(response4.getDistroData());
     }
+    
+    @Test
+    void testHandleVerifyDigest() throws NacosException {
+        DistroData digest = new DistroData(new DistroKey(DistroClientDataProcessor.VERIFY_DIGEST_KEY,
+                DistroClientDataProcessor.TYPE), new byte[1]);
+        DistroDataRequest distroDataRequest = new DistroDataRequest(digest, VERIFY);
+        RequestMeta requestMeta = new RequestMeta();
+        requestMeta.setClientIp("1.1.1.1");
+        DistroDataResponse response = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        assertEquals(ResponseCode.FAIL.getCode(), response.getErrorCode());
+        
+        DistroData localDigest = new DistroData();
+        Mockito.when(distroProtocol.onVerifyDigest(digest, "1.1.1.1")).thenReturn(localDigest);
+        response = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        assertEquals(ResponseCode.SUCCESS.getCode(), response.getResultCode());
+        assertEquals(localDigest, response.getDistroData());
+        Mockito.verify(distroProtocol, Mockito.never()).onVerify(Mockito.any(), Mockito.anyString());
+    }
+    
+    @Test
+    void testHandleBatchSyncData() throws NacosException {
+        DistroData successData = new DistroData(new DistroKey("1", DistroClientDataProcessor.TYPE), new byte[1]);
+        DistroData failedData = new DistroData(new DistroKey("2", DistroClientDataProcessor.TYPE), new byte[1]);
+        DistroData exceptionData = new DistroData(new DistroKey("3", DistroClientDataProcessor.TYPE), new byte[1]);
+        Mockito.when(distroProtocol.onReceive(successData)).thenReturn(true);
+        Mockito.when(distroProtocol.onReceive(failedData)).thenReturn(false);
+        Mockito.when(distroProtocol.onReceive(exceptionData)).thenThrow(new IllegalStateException("test"));
+        DistroDataRequest distroDataRequest = new DistroDataRequest();
+        distroDataRequest.setDataOperation(ADD);
+        distroDataRequest.setBatchDistroData(Arrays.asList(successData, failedData, exceptionData));
+        DistroDataResponse response = distroDataRequestHandler.handle(distroDataRequest, new RequestMeta());
+        assertEquals(ResponseCode.SUCCESS.getCode(), response.getResultCode());
+        assertEquals(Arrays.asList(failedData.getDistroKey(), exceptionData.getDistroKey()),
+                response.getFailedDistroKeys());
+    }
+    
+    @Test
+    void testHandlePagedSnapshot() throws NacosException {
+        DistroData page = new DistroData(new DistroKey("2", DistroClientDataProcessor.TYPE), new byte[1]);
+        Mockito.when(distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE, "1", 2)).thenReturn(page);
+        DistroDataRequest distroDataRequest = new DistroDataRequest();
+        distroDataRequest.setDataOperation(SNAPSHOT);
+        distroDataRequest.setSnapshotCursor("1");
+        distroDataRequest.setSnapshotPageSize(2);
+        DistroDataResponse response = distroDataRequestHandler.handle(distroDataRequest, new RequestMeta());
+        assertEquals(page, response.getDistroData());
+        assertEquals("2", response.getNextSnapshotCursor());
+        Mockito.verify(distroProtocol, Mockito.never()).onSnapshot(Mockito.anyString());
+    }
 }